@@ -19,7 +19,17 @@ import io.gravitee.am.common.jwt.SignatureAlgorithm;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidKeyException;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.stream.Stream;
 
 /**
  * Utility class for securely generating {@link java.security.Key}s.
@@ -80,4 +90,95 @@ public final class Keys {
         }
         return SignatureAlgorithm.HS256;
     }
+
+    /**
+     * Get the ECDSA signature algorithm matching the curve of the specified public key.
+     *
+     * @param publicKey the EC public key
+     * @return the SignatureAlgorithm of the key curve
+     * @throws IllegalArgumentException if the key curve is not P-256, P-384 or P-521
+     */
+    public static SignatureAlgorithm ecSignatureAlgorithmFor(ECPublicKey publicKey) {
+        int fieldSize = publicKey.getParams().getCurve().getField().getFieldSize();
+        return SignatureAlgorithm.PREFERRED_EC_ALGS
+                .stream()
+                .filter(signatureAlgorithm -> signatureAlgorithm.getMinKeyLength() == fieldSize)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported EC key of " + fieldSize + " bits, a P-256, P-384 or P-521 key is required"));
+    }
+
+    /**
+     * Ensure the specified signing algorithm can be used with the specified public key :
+     * RSA keys require a RSA algorithm and EC keys require the ECDSA algorithm matching their curve.
+     *
+     * @param algorithm the JWA algorithm name
+     * @param publicKey the public key of the signing key pair
+     * @return the SignatureAlgorithm
+     * @throws IllegalArgumentException if the algorithm is unknown or does not match the key
+     */
+    public static SignatureAlgorithm checkSignatureAlgorithm(String algorithm, PublicKey publicKey) {
+        SignatureAlgorithm signatureAlgorithm = Stream.of(SignatureAlgorithm.values())
+                .filter(alg -> alg.getValue().equals(algorithm))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown signing algorithm " + algorithm));
+
+        if (publicKey instanceof ECPublicKey) {
+            SignatureAlgorithm expected = ecSignatureAlgorithmFor((ECPublicKey) publicKey);
+            if (signatureAlgorithm != expected) {
+                throw new IllegalArgumentException("Signing algorithm " + algorithm + " can't be used with the EC key, " + expected.getValue() + " is expected");
+            }
+        } else if (publicKey instanceof RSAPublicKey) {
+            if (!signatureAlgorithm.isRsa()) {
+                throw new IllegalArgumentException("Signing algorithm " + algorithm + " can't be used with the RSA key");
+            }
+        } else {
+            throw new IllegalArgumentException("A RSA or EC key is required to sign with " + algorithm);
+        }
+        return signatureAlgorithm;
+    }
+
+    /**
+     * Encode the specified EC public key using the OpenSSH public key format (RFC 5656).
+     *
+     * @param publicKey the EC public key
+     * @return the base64 encoded public key
+     */
+    public static String sshEcPublicKey(ECPublicKey publicKey) throws IOException {
+        int fieldSize = publicKey.getParams().getCurve().getField().getFieldSize();
+        String curveName = "nistp" + fieldSize;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        /* encode the "ecdsa-sha2-nistpXXX" string */
+        byte[] type = ("ecdsa-sha2-" + curveName).getBytes(StandardCharsets.US_ASCII);
+        encodeUInt32(type.length, out);
+        out.write(type);
+        /* encode the curve identifier */
+        byte[] curve = curveName.getBytes(StandardCharsets.US_ASCII);
+        encodeUInt32(curve.length, out);
+        out.write(curve);
+        /* encode the public point (uncompressed form) */
+        int length = (fieldSize + 7) / 8;
+        byte[] point = new byte[1 + 2 * length];
+        point[0] = 0x04;
+        copyUnsigned(publicKey.getW().getAffineX(), point, 1, length);
+        copyUnsigned(publicKey.getW().getAffineY(), point, 1 + length, length);
+        encodeUInt32(point.length, out);
+        out.write(point);
+        return Base64.getEncoder().encodeToString(out.toByteArray());
+    }
+
+    private static void copyUnsigned(BigInteger value, byte[] dest, int offset, int length) {
+        byte[] bytes = value.toByteArray();
+        int start = bytes.length > length ? bytes.length - length : 0;
+        int count = bytes.length - start;
+        System.arraycopy(bytes, start, dest, offset + length - count, count);
+    }
+
+    private static void encodeUInt32(int value, OutputStream out) throws IOException {
+        byte[] tmp = new byte[4];
+        tmp[0] = (byte)((value >>> 24) & 0xff);
+        tmp[1] = (byte)((value >>> 16) & 0xff);
+        tmp[2] = (byte)((value >>> 8) & 0xff);
+        tmp[3] = (byte)(value & 0xff);
+        out.write(tmp);
+    }
 }
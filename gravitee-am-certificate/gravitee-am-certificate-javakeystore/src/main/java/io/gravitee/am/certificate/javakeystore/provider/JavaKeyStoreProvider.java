@@ -19,8 +19,10 @@ import com.nimbusds.jose.jwk.JWKSet;
 import io.gravitee.am.certificate.api.CertificateMetadata;
 import io.gravitee.am.certificate.api.CertificateProvider;
 import io.gravitee.am.certificate.api.DefaultKey;
+import io.gravitee.am.certificate.api.Keys;
 import io.gravitee.am.certificate.javakeystore.JavaKeyStoreConfiguration;
 import io.gravitee.am.common.jwt.SignatureAlgorithm;
+import io.gravitee.am.model.jose.ECKey;
 import io.gravitee.am.model.jose.JWK;
 import io.gravitee.am.model.jose.RSAKey;
 import io.reactivex.Flowable;
@@ -33,6 +35,7 @@ import java.math.BigInteger;
 import java.security.*;
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.util.Base64;
 import java.util.Objects;
@@ -80,6 +83,14 @@ public class JavaKeyStoreProvider implements CertificateProvider, InitializingBe
             if (cert instanceof X509Certificate) {
                 signature = getSignature(((X509Certificate) cert).getSigAlgName());
             }
+            // EC keys can only be used with the ECDSA algorithm matching their curve (whatever the algorithm used to sign the certificate)
+            if (cert.getPublicKey() instanceof ECPublicKey) {
+                signature = Keys.ecSignatureAlgorithmFor((ECPublicKey) cert.getPublicKey());
+            }
+            // reject a configured algorithm which doesn't match the key type (or the curve of EC keys) now rather than on the first signature
+            if (configuration.getAlgorithm() != null) {
+                signature = Keys.checkSignatureAlgorithm(configuration.getAlgorithm(), cert.getPublicKey());
+            }
             certificateMetadata.getMetadata().put(CertificateMetadata.DIGEST_ALGORITHM_NAME, signature.getDigestName());
             // Get public key
             PublicKey publicKey = cert.getPublicKey();
@@ -90,7 +101,7 @@ public class JavaKeyStoreProvider implements CertificateProvider, InitializingBe
             // get public key
             this.publicKey = getPublicKey();
         } else {
-            throw new IllegalArgumentException("A RSA Signer must be supplied");
+            throw new IllegalArgumentException("A RSA or EC Signer must be supplied");
         }
     }
 
@@ -115,6 +126,9 @@ public class JavaKeyStoreProvider implements CertificateProvider, InitializingBe
     }
 
     private String getPublicKey() throws IOException {
+        if (keyPair.getPublic() instanceof ECPublicKey) {
+            return Keys.sshEcPublicKey((ECPublicKey) keyPair.getPublic());
+        }
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         /* encode the "ssh-rsa" string */
         byte[] sshrsa = new byte[]{0, 0, 0, 7, 's', 's', 'h', '-', 'r', 's', 'a'};
@@ -133,7 +147,11 @@ public class JavaKeyStoreProvider implements CertificateProvider, InitializingBe
     }
 
     private Set<JWK> getKeys() {
-        return jwkSet.toPublicJWKSet().getKeys().stream().map(this::convert).collect(Collectors.toSet());
+        return jwkSet.toPublicJWKSet().getKeys()
+                .stream()
+                .filter(jwk -> jwk instanceof com.nimbusds.jose.jwk.RSAKey || jwk instanceof com.nimbusds.jose.jwk.ECKey)
+                .map(this::convert)
+                .collect(Collectors.toSet());
     }
 
     private void encodeUInt32(int value, OutputStream out) throws IOException {
@@ -146,7 +164,8 @@ public class JavaKeyStoreProvider implements CertificateProvider, InitializingBe
     }
 
     private JWK convert(com.nimbusds.jose.jwk.JWK nimbusJwk) {
-        RSAKey jwk = new RSAKey();
+        JWK jwk = nimbusJwk instanceof com.nimbusds.jose.jwk.ECKey ?
+                convert((com.nimbusds.jose.jwk.ECKey) nimbusJwk) : convert((com.nimbusds.jose.jwk.RSAKey) nimbusJwk);
         if (nimbusJwk.getKeyType() != null) {
             jwk.setKty(nimbusJwk.getKeyType().getValue());
         }
@@ -175,15 +194,31 @@ public class JavaKeyStoreProvider implements CertificateProvider, InitializingBe
             jwk.setX5tS256(nimbusJwk.getX509CertSHA256Thumbprint().toString());
         }
 
-        // specific RSA Key
-        com.nimbusds.jose.jwk.RSAKey nimbusRSAJwk = (com.nimbusds.jose.jwk.RSAKey) nimbusJwk;
+        return jwk;
+    }
+
+    private RSAKey convert(com.nimbusds.jose.jwk.RSAKey nimbusRSAJwk) {
+        RSAKey jwk = new RSAKey();
         if (nimbusRSAJwk.getPublicExponent() != null) {
             jwk.setE(nimbusRSAJwk.getPublicExponent().toString());
         }
         if (nimbusRSAJwk.getModulus() != null) {
             jwk.setN(nimbusRSAJwk.getModulus().toString());
         }
+        return jwk;
+    }
 
+    private ECKey convert(com.nimbusds.jose.jwk.ECKey nimbusECJwk) {
+        ECKey jwk = new ECKey();
+        if (nimbusECJwk.getCurve() != null) {
+            jwk.setCrv(nimbusECJwk.getCurve().getName());
+        }
+        if (nimbusECJwk.getX() != null) {
+            jwk.setX(nimbusECJwk.getX().toString());
+        }
+        if (nimbusECJwk.getY() != null) {
+            jwk.setY(nimbusECJwk.getY().toString());
+        }
         return jwk;
     }
 
@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.common.jdbc;
+
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+/**
+ * Insert rows with multi-row INSERT statements, each statement binding at most <code>maxBindParameters</code> parameters.
+ *
+ * Shared by the JDBC repository and the JDBC reporter plugins, each one embedding this module.
+ *
+ * @author GraviteeSource Team
+ */
+public final class BulkInsert {
+
+    private BulkInsert() { }
+
+    /**
+     * Build the multi-row INSERT statement of the dialect, binding <code>:column_row</code> parameters.
+     */
+    @FunctionalInterface
+    public interface QueryBuilder {
+        String build(String table, List<String> columns, int rows);
+    }
+
+    /**
+     * @param dbClient the database client
+     * @param queryBuilder the INSERT statement builder of the dialect
+     * @param maxBindParameters the bind parameters limit of the database
+     * @param table the table name
+     * @param columns the column names with their type (used to bind null values), in the order of the row values
+     * @param rows the values of the rows to insert
+     */
+    public static Mono<Void> execute(DatabaseClient dbClient, QueryBuilder queryBuilder, int maxBindParameters,
+                                     String table, LinkedHashMap<String, Class<?>> columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return Mono.empty();
+        }
+
+        final List<String> names = new ArrayList<>(columns.keySet());
+        final List<Class<?>> types = new ArrayList<>(columns.values());
+        final int chunkSize = Math.max(1, maxBindParameters / names.size());
+        return Flux.range(0, (rows.size() + chunkSize - 1) / chunkSize)
+                .concatMap(chunk -> {
+                    final List<Object[]> chunkRows = rows.subList(chunk * chunkSize, Math.min(rows.size(), (chunk + 1) * chunkSize));
+                    DatabaseClient.GenericExecuteSpec insertSpec = dbClient.execute(queryBuilder.build(table, names, chunkRows.size()));
+                    for (int row = 0; row < chunkRows.size(); row++) {
+                        final Object[] values = chunkRows.get(row);
+                        for (int col = 0; col < names.size(); col++) {
+                            final String parameter = names.get(col) + "_" + row;
+                            insertSpec = values[col] == null ? insertSpec.bindNull(parameter, types.get(col)) : insertSpec.bind(parameter, values[col]);
+                        }
+                    }
+                    return insertSpec.then();
+                })
+                .then();
+    }
+}
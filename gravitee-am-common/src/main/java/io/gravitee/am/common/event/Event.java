@@ -72,6 +72,9 @@ public abstract class Event {
             case FLOW:
                 event1 =  FlowEvent.actionOf(action);
                 break;
+            case LOGIN_ATTEMPT:
+                event1 =  LoginAttemptEvent.actionOf(action);
+                break;
         }
 
         return event1;
@@ -37,5 +37,6 @@ public enum Type {
     MEMBERSHIP,
     GROUP,
     FACTOR,
-    FLOW
+    FLOW,
+    LOGIN_ATTEMPT
 }
@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.common.metrics;
+
+import io.micrometer.core.instrument.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Meters exposing the statistics of a component.
+ *
+ * Meters are registered in the global Micrometer registry which is published with the node metrics
+ * (see <code>services.metrics</code> in gravitee.yml), their value is read from the component each time the registry is scraped.
+ * Components registering meters per security domain or per plugin must {@link #close()} them once stopped.
+ *
+ * @author GraviteeSource Team
+ */
+public class Meters {
+
+    private final MeterRegistry registry;
+    private final Tags tags;
+    private final List<Meter> meters;
+
+    /**
+     * @param tags tags (key, value pairs) of the meters, e.g the security domain of the component
+     */
+    public Meters(String... tags) {
+        this(Metrics.globalRegistry, tags);
+    }
+
+    Meters(MeterRegistry registry, String... tags) {
+        this(registry, Tags.of(tags), new CopyOnWriteArrayList<>());
+    }
+
+    private Meters(MeterRegistry registry, Tags tags, List<Meter> meters) {
+        this.registry = registry;
+        this.tags = tags;
+        this.meters = meters;
+    }
+
+    /**
+     * @param tags additional tags (key, value pairs)
+     * @return meters with additional tags, they are removed when these meters are closed
+     */
+    public Meters tagged(String... tags) {
+        return new Meters(registry, this.tags.and(tags), meters);
+    }
+
+    /**
+     * Register a value which can go up and down (size, queue depth, ...).
+     */
+    public <T> Meters gauge(String name, T component, ToDoubleFunction<T> value) {
+        meters.add(Gauge.builder(name, component, value).tags(tags).register(registry));
+        return this;
+    }
+
+    /**
+     * Register a monotonically increasing value (hits, rejections, ...).
+     */
+    public <T> Meters counter(String name, T component, ToDoubleFunction<T> value) {
+        meters.add(FunctionCounter.builder(name, component, value).tags(tags).register(registry));
+        return this;
+    }
+
+    /**
+     * Remove the meters from the registry.
+     */
+    public void close() {
+        meters.forEach(registry::remove);
+        meters.clear();
+    }
+}
@@ -0,0 +1,265 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.common.pool;
+
+import io.gravitee.am.common.metrics.Meters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Reference counted clients and connection pools shared by the plugins (identity providers, reporters, ...)
+ * connecting to the same backend.
+ *
+ * Plugins are instantiated once per security domain (and again each time a domain is redeployed),
+ * plugins declaring the same connection settings get the same client instead of opening a new pool each time.
+ * The pool is closed when the last plugin using it releases it.
+ *
+ * @author GraviteeSource Team
+ */
+public final class ConnectionPoolRegistry {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionPoolRegistry.class);
+    private static final char SEPARATOR = '\u0000';
+    private static final Map<String, SharedPool<?>> POOLS = new HashMap<>();
+    private static final Map<Object, SharedPool<?>> REFERENCES = new IdentityHashMap<>();
+
+    private ConnectionPoolRegistry() {
+    }
+
+    /**
+     * Build a registry key from the connection settings of a plugin.
+     * Settings are normalized (null values are ignored, strings are trimmed and maps are sorted) and hashed
+     * so that credentials are not kept in clear text.
+     *
+     * @param type type of the pool (mongo, jdbc, ldap, ...)
+     * @param settings connection settings identifying the backend
+     * @return the registry key
+     */
+    public static String key(String type, Object... settings) {
+        StringBuilder sb = new StringBuilder();
+        for (Object setting : settings) {
+            sb.append(normalize(setting)).append(SEPARATOR);
+        }
+        return type + ":" + sha256(sb.toString());
+    }
+
+    /**
+     * Get the pool of the given key, the pool is created if it does not exist yet.
+     *
+     * @param key key identifying the connection settings, see {@link #key(String, Object...)}
+     * @param factory creates the pool
+     * @param closer closes the pool once it is not used anymore
+     * @return the shared pool
+     */
+    public static <T> T acquire(String key, Supplier<T> factory, Consumer<T> closer) {
+        return acquire(key, factory, closer, null);
+    }
+
+    /**
+     * Get the pool of the given key, the pool is created if it does not exist yet.
+     *
+     * @param key key identifying the connection settings, see {@link #key(String, Object...)}
+     * @param factory creates the pool
+     * @param closer closes the pool once it is not used anymore
+     * @param probe reads the connection counters of the pool, may be null
+     * @return the shared pool
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T acquire(String key, Supplier<T> factory, Consumer<T> closer, Probe<T> probe) {
+        SharedPool<T> sharedPool;
+        synchronized (ConnectionPoolRegistry.class) {
+            sharedPool = (SharedPool<T>) POOLS.computeIfAbsent(key, k -> new SharedPool<>(k, closer, probe));
+            sharedPool.references++;
+            sharedPool.acquisitions++;
+        }
+
+        // create the pool outside of the registry lock, opening connections may take a while
+        // and must not prevent other plugins from starting
+        synchronized (sharedPool) {
+            if (sharedPool.pool == null) {
+                try {
+                    T pool = factory.get();
+                    synchronized (ConnectionPoolRegistry.class) {
+                        sharedPool.pool = pool;
+                        REFERENCES.put(pool, sharedPool);
+                    }
+                    sharedPool.registerMeters();
+                    LOGGER.info("Connection pool {} created", key);
+                } catch (RuntimeException ex) {
+                    synchronized (ConnectionPoolRegistry.class) {
+                        if (--sharedPool.references == 0) {
+                            POOLS.remove(key);
+                        }
+                    }
+                    throw ex;
+                }
+            } else {
+                LOGGER.debug("Connection pool {} reused, {} references", key, sharedPool.references);
+            }
+            return sharedPool.pool;
+        }
+    }
+
+    /**
+     * Release a pool, the pool is closed once it is not used anymore.
+     *
+     * @param pool the pool to release
+     * @return <code>false</code> if the pool is not managed by the registry, <code>true</code> otherwise
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> boolean release(T pool) {
+        SharedPool<T> sharedPool;
+        synchronized (ConnectionPoolRegistry.class) {
+            sharedPool = (SharedPool<T>) REFERENCES.get(pool);
+            if (sharedPool == null) {
+                return false;
+            }
+            if (--sharedPool.references > 0) {
+                LOGGER.debug("Connection pool {} released, {} references left", sharedPool.key, sharedPool.references);
+                return true;
+            }
+            POOLS.remove(sharedPool.key);
+            REFERENCES.remove(pool);
+        }
+
+        sharedPool.meters.close();
+        try {
+            LOGGER.info("Closing connection pool {}, it is not used anymore", sharedPool.key);
+            sharedPool.closer.accept(pool);
+        } catch (Exception ex) {
+            LOGGER.error("An error has occurred while closing connection pool {}", sharedPool.key, ex);
+        }
+        return true;
+    }
+
+    /**
+     * @return the usage of the pools currently shared by the plugins
+     */
+    public static List<PoolMetrics> metrics() {
+        List<SharedPool<?>> pools;
+        synchronized (ConnectionPoolRegistry.class) {
+            pools = new ArrayList<>(POOLS.values());
+        }
+
+        List<PoolMetrics> metrics = new ArrayList<>(pools.size());
+        pools.forEach(sharedPool -> metrics.add(sharedPool.metrics()));
+        return metrics;
+    }
+
+    /**
+     * @return the number of pools currently opened
+     */
+    public static synchronized int size() {
+        return REFERENCES.size();
+    }
+
+    private static String normalize(Object setting) {
+        if (setting == null) {
+            return "";
+        }
+        if (setting instanceof Map) {
+            Map<String, String> sorted = new TreeMap<>();
+            ((Map<?, ?>) setting).forEach((k, v) -> sorted.put(normalize(k), normalize(v)));
+            return sorted.toString();
+        }
+        if (setting instanceof Collection) {
+            List<String> sorted = new ArrayList<>();
+            ((Collection<?>) setting).forEach(value -> sorted.add(normalize(value)));
+            Collections.sort(sorted);
+            return sorted.toString();
+        }
+        return String.valueOf(setting).trim();
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder();
+            for (byte b : hash) {
+                sb.append(String.format("%02x", b));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", e);
+        }
+    }
+
+    /**
+     * Read the connection counters of a pool.
+     */
+    public interface Probe<T> {
+
+        int active(T pool);
+
+        int idle(T pool);
+
+        int max(T pool);
+    }
+
+    private static class SharedPool<T> {
+
+        private final String key;
+        private final Consumer<T> closer;
+        private final Probe<T> probe;
+        private final Meters meters;
+        private volatile T pool;
+        private int references;
+        private long acquisitions;
+
+        private SharedPool(String key, Consumer<T> closer, Probe<T> probe) {
+            this.key = key;
+            this.closer = closer;
+            this.probe = probe;
+            this.meters = new Meters("pool", key);
+        }
+
+        private void registerMeters() {
+            meters.gauge("am.pool.references", this, sharedPool -> sharedPool.metrics().getReferences())
+                    .counter("am.pool.acquisitions", this, sharedPool -> sharedPool.metrics().getAcquisitions());
+            if (probe != null) {
+                meters.gauge("am.pool.connections.active", this, sharedPool -> sharedPool.metrics().getActive())
+                        .gauge("am.pool.connections.idle", this, sharedPool -> sharedPool.metrics().getIdle())
+                        .gauge("am.pool.connections.max", this, sharedPool -> sharedPool.metrics().getMax());
+            }
+        }
+
+        private PoolMetrics metrics() {
+            int active = PoolMetrics.UNKNOWN;
+            int idle = PoolMetrics.UNKNOWN;
+            int max = PoolMetrics.UNKNOWN;
+            T current = pool;
+            if (probe != null && current != null) {
+                try {
+                    active = probe.active(current);
+                    idle = probe.idle(current);
+                    max = probe.max(current);
+                } catch (Exception ex) {
+                    LOGGER.debug("Unable to read the usage of connection pool {}", key, ex);
+                }
+            }
+            synchronized (ConnectionPoolRegistry.class) {
+                return new PoolMetrics(key, references, acquisitions, active, idle, max);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.common.pool;
+
+/**
+ * Snapshot of the usage of a shared client or connection pool.
+ * Connection counters are set to {@link #UNKNOWN} when the underlying driver does not expose them.
+ *
+ * @author GraviteeSource Team
+ */
+public class PoolMetrics {
+
+    public static final int UNKNOWN = -1;
+
+    private final String key;
+    private final int references;
+    private final long acquisitions;
+    private final int active;
+    private final int idle;
+    private final int max;
+
+    public PoolMetrics(String key, int references, long acquisitions, int active, int idle, int max) {
+        this.key = key;
+        this.references = references;
+        this.acquisitions = acquisitions;
+        this.active = active;
+        this.idle = idle;
+        this.max = max;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return number of plugins currently using the pool
+     */
+    public int getReferences() {
+        return references;
+    }
+
+    /**
+     * @return number of times the pool has been acquired since its creation
+     */
+    public long getAcquisitions() {
+        return acquisitions;
+    }
+
+    public int getActive() {
+        return active;
+    }
+
+    public int getIdle() {
+        return idle;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    /**
+     * @return ratio of active connections over the maximum pool size, or {@link #UNKNOWN} if not available
+     */
+    public double getUtilization() {
+        if (active == UNKNOWN || max <= 0) {
+            return UNKNOWN;
+        }
+        return (double) active / max;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolMetrics{" +
+                "key='" + key + '\'' +
+                ", references=" + references +
+                ", acquisitions=" + acquisitions +
+                ", active=" + active +
+                ", idle=" + idle +
+                ", max=" + max +
+                '}';
+    }
+}
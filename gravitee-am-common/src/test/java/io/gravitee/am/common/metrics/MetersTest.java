@@ -0,0 +1,60 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.common.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class MetersTest {
+
+    @Test
+    public void shouldReadTheComponentValues() {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final AtomicLong value = new AtomicLong(5);
+
+        new Meters(registry, "domain", "my-domain")
+                .gauge("am.test.size", value, AtomicLong::get)
+                .counter("am.test.hits", value, AtomicLong::get);
+        value.set(10);
+
+        assertEquals(10, registry.get("am.test.size").tag("domain", "my-domain").gauge().value(), 0);
+        assertEquals(10, registry.get("am.test.hits").tag("domain", "my-domain").functionCounter().count(), 0);
+    }
+
+    @Test
+    public void shouldRemoveTheMetersOnClose() {
+        final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        final AtomicLong value = new AtomicLong(5);
+
+        Meters meters = new Meters(registry, "domain", "my-domain")
+                .gauge("am.test.size", value, AtomicLong::get)
+                .counter("am.test.hits", value, AtomicLong::get);
+        meters.tagged("provider", "my-provider").gauge("am.test.size", value, AtomicLong::get);
+        assertEquals(3, registry.getMeters().size());
+
+        meters.close();
+
+        assertTrue(registry.getMeters().isEmpty());
+    }
+}
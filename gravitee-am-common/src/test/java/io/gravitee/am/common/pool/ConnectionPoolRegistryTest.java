@@ -0,0 +1,226 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.common.pool;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ConnectionPoolRegistryTest {
+
+    private static final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<Object> acquired = new ArrayList<>();
+
+    @BeforeClass
+    public static void setUpMeterRegistry() {
+        Metrics.addRegistry(meterRegistry);
+    }
+
+    @AfterClass
+    public static void tearDownMeterRegistry() {
+        Metrics.removeRegistry(meterRegistry);
+    }
+
+    @After
+    public void tearDown() {
+        acquired.forEach(ConnectionPoolRegistry::release);
+    }
+
+    @Test
+    public void shouldReuseThePoolAcrossDomainRedeploys() {
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger closed = new AtomicInteger();
+        final String key = ConnectionPoolRegistry.key("test", "localhost", 27017, "user", "password");
+
+        // domain is deployed
+        Object first = ConnectionPoolRegistry.acquire(key, () -> new Pool(created.incrementAndGet()), pool -> closed.incrementAndGet());
+
+        // domain is redeployed, the new provider is started before the previous one is stopped
+        for (int i = 0; i < 10; i++) {
+            Object next = ConnectionPoolRegistry.acquire(key, () -> new Pool(created.incrementAndGet()), pool -> closed.incrementAndGet());
+            assertSame(first, next);
+            assertTrue(ConnectionPoolRegistry.release(first));
+            first = next;
+        }
+
+        assertEquals(1, created.get());
+        assertEquals(0, closed.get());
+        assertEquals(1, metrics(key).getReferences());
+        assertEquals(11, metrics(key).getAcquisitions());
+
+        // domain is undeployed
+        assertTrue(ConnectionPoolRegistry.release(first));
+        assertEquals(1, closed.get());
+        assertNull(metrics(key));
+    }
+
+    @Test
+    public void shouldShareThePoolBetweenDomains() {
+        final String key = ConnectionPoolRegistry.key("test", "localhost", 389);
+        final Set<Object> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (int i = 0; i < 100; i++) {
+            pools.add(acquire(key, new Pool(i)));
+        }
+
+        assertEquals(1, pools.size());
+        assertEquals(100, metrics(key).getReferences());
+    }
+
+    @Test
+    public void shouldNotShareThePoolWithDifferentSettings() {
+        Object first = acquire(ConnectionPoolRegistry.key("test", "host1", 5432), new Pool(1));
+        Object second = acquire(ConnectionPoolRegistry.key("test", "host2", 5432), new Pool(2));
+
+        assertNotSame(first, second);
+    }
+
+    @Test
+    public void shouldNormalizeSettings() {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("initialSize", "1");
+        options.put("maxSize", "10");
+        Map<String, String> reversedOptions = new LinkedHashMap<>();
+        reversedOptions.put("maxSize", "10");
+        reversedOptions.put("initialSize", "1");
+
+        assertEquals(ConnectionPoolRegistry.key("jdbc", " localhost ", null, options),
+                ConnectionPoolRegistry.key("jdbc", "localhost", null, reversedOptions));
+        assertNotEquals(ConnectionPoolRegistry.key("jdbc", "localhost", "password"),
+                ConnectionPoolRegistry.key("ldap", "localhost", "password"));
+        assertFalse(ConnectionPoolRegistry.key("jdbc", "localhost", "password").contains("password"));
+    }
+
+    @Test
+    public void shouldNotRegisterPoolOnFailure() {
+        final String key = ConnectionPoolRegistry.key("test", "unreachable");
+        try {
+            ConnectionPoolRegistry.acquire(key, () -> {
+                throw new IllegalStateException("unable to connect");
+            }, pool -> {});
+            fail();
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+
+        assertNull(metrics(key));
+        Pool pool = new Pool(1);
+        assertSame(pool, acquire(key, pool));
+    }
+
+    @Test
+    public void shouldNotReleaseUnmanagedPool() {
+        assertFalse(ConnectionPoolRegistry.release(new Pool(1)));
+    }
+
+    @Test
+    public void shouldReportPoolUsage() {
+        final String key = ConnectionPoolRegistry.key("test", "probe");
+        Pool pool = new Pool(1);
+        acquired.add(ConnectionPoolRegistry.acquire(key, () -> pool, p -> {}, new ConnectionPoolRegistry.Probe<Pool>() {
+            @Override
+            public int active(Pool pool) {
+                return 5;
+            }
+
+            @Override
+            public int idle(Pool pool) {
+                return 3;
+            }
+
+            @Override
+            public int max(Pool pool) {
+                return 10;
+            }
+        }));
+
+        PoolMetrics metrics = metrics(key);
+        assertEquals(5, metrics.getActive());
+        assertEquals(3, metrics.getIdle());
+        assertEquals(10, metrics.getMax());
+        assertEquals(0.5, metrics.getUtilization(), 0);
+        assertEquals(5, meterRegistry.get("am.pool.connections.active").tag("pool", key).gauge().value(), 0);
+        assertEquals(1, meterRegistry.get("am.pool.references").tag("pool", key).gauge().value(), 0);
+
+        // meters are removed with the pool
+        ConnectionPoolRegistry.release(acquired.remove(0));
+        assertNull(meterRegistry.find("am.pool.references").tag("pool", key).gauge());
+    }
+
+    @Test
+    public void shouldCreatePoolOnceOnConcurrentDeploys() throws Exception {
+        final String key = ConnectionPoolRegistry.key("test", "concurrent");
+        final AtomicInteger created = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Object>> futures = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                futures.add(executor.submit(() -> ConnectionPoolRegistry.acquire(key, () -> {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return new Pool(created.incrementAndGet());
+                }, pool -> {})));
+            }
+            for (Future<Object> future : futures) {
+                acquired.add(future.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, created.get());
+        assertEquals(50, metrics(key).getReferences());
+    }
+
+    private Object acquire(String key, Pool pool) {
+        Object shared = ConnectionPoolRegistry.acquire(key, () -> pool, p -> {});
+        acquired.add(shared);
+        return shared;
+    }
+
+    private static PoolMetrics metrics(String key) {
+        return ConnectionPoolRegistry.metrics()
+                .stream()
+                .filter(metrics -> metrics.getKey().equals(key))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private static class Pool {
+
+        private final int id;
+
+        private Pool(int id) {
+            this.id = id;
+        }
+    }
+}
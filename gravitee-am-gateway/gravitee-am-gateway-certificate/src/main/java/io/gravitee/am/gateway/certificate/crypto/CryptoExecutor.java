@@ -0,0 +1,184 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.certificate.crypto;
+
+import io.gravitee.am.common.metrics.Meters;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.reactivex.core.RxHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded worker pool dedicated to the cryptographic operations (JWT signature/verification, JWE encryption/decryption)
+ * so that CPU intensive algorithms (RSA, PS) are not executed on the Vert.x event loop threads.
+ *
+ * @author GraviteeSource Team
+ */
+public class CryptoExecutor implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(CryptoExecutor.class);
+    private static final String REJECTION_POLICY_CALLER_RUNS = "caller-runs";
+    private static final String REJECTION_POLICY_ABORT = "abort";
+
+    /**
+     * Number of crypto worker threads, 0 to execute the operations on the caller thread.
+     */
+    @Value("${crypto.executor.size:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}")
+    private int size;
+
+    @Value("${crypto.executor.queue:1000}")
+    private int queueSize;
+
+    /**
+     * Behavior when the queue is full : abort (fail the operation) or caller-runs (execute the operation on the caller thread,
+     * which may be an event loop thread).
+     */
+    @Value("${crypto.executor.rejectionPolicy:" + REJECTION_POLICY_ABORT + "}")
+    private String rejectionPolicy;
+
+    private final ConcurrentMap<String, CryptoStatistics> statistics = new ConcurrentHashMap<>();
+    private final Meters meters = new Meters();
+    private ThreadPoolExecutor executor;
+
+    public CryptoExecutor() {
+    }
+
+    public CryptoExecutor(int size, int queueSize, String rejectionPolicy) {
+        this.size = size;
+        this.queueSize = queueSize;
+        this.rejectionPolicy = rejectionPolicy;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        meters.gauge("am.crypto.executor.queue", this, CryptoExecutor::getQueueSize);
+        if (size <= 0) {
+            logger.info("Crypto executor disabled, cryptographic operations are executed on the caller thread");
+            return;
+        }
+
+        final AtomicInteger counter = new AtomicInteger();
+        executor = new ThreadPoolExecutor(size, size, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "crypto-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                REJECTION_POLICY_CALLER_RUNS.equalsIgnoreCase(rejectionPolicy) ? new ThreadPoolExecutor.CallerRunsPolicy() : new ThreadPoolExecutor.AbortPolicy());
+        logger.info("Crypto executor initialized with {} threads, a queue of {} tasks and the {} rejection policy", size, queueSize, rejectionPolicy);
+    }
+
+    @Override
+    public void destroy() {
+        meters.close();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Execute a cryptographic operation on the crypto worker pool.
+     * The result is emitted on the Vert.x context of the caller (if any) so that the callers keep running on their event loop.
+     *
+     * @param operation the operation name (sign, verify, encrypt, decrypt)
+     * @param algorithm the algorithm used by the operation, used to aggregate the statistics
+     * @param task the operation
+     * @return the result of the operation
+     */
+    public <T> Single<T> execute(String operation, String algorithm, Callable<T> task) {
+        final CryptoStatistics stats = statistics.computeIfAbsent(operation + ":" + algorithm, key -> statistics(operation, algorithm));
+        if (executor == null) {
+            return submit(operation, algorithm, stats, task);
+        }
+        return Single.defer(() -> {
+            final Scheduler callerScheduler = callerScheduler();
+            return submit(operation, algorithm, stats, task).observeOn(callerScheduler);
+        });
+    }
+
+    private <T> Single<T> submit(String operation, String algorithm, CryptoStatistics stats, Callable<T> task) {
+        return Single.create(emitter -> {
+            final long submittedAt = System.nanoTime();
+            final Runnable runnable = () -> {
+                final long startedAt = System.nanoTime();
+                try {
+                    T result = task.call();
+                    stats.record(startedAt - submittedAt, System.nanoTime() - startedAt);
+                    emitter.onSuccess(result);
+                } catch (Throwable throwable) {
+                    stats.record(startedAt - submittedAt, System.nanoTime() - startedAt);
+                    emitter.tryOnError(throwable);
+                }
+            };
+
+            if (executor == null) {
+                runnable.run();
+                return;
+            }
+
+            try {
+                Future<?> future = executor.submit(runnable);
+                emitter.setCancellable(() -> future.cancel(false));
+            } catch (RejectedExecutionException ex) {
+                stats.reject();
+                logger.warn("Crypto executor queue is full, {} operation with algorithm {} has been rejected", operation, algorithm);
+                emitter.tryOnError(ex);
+            }
+        });
+    }
+
+    private CryptoStatistics statistics(String operation, String algorithm) {
+        CryptoStatistics stats = new CryptoStatistics();
+        meters.tagged("operation", operation, "algorithm", String.valueOf(algorithm))
+                .counter("am.crypto.operations", stats, CryptoStatistics::getCount)
+                .counter("am.crypto.rejected", stats, CryptoStatistics::getRejected)
+                .counter("am.crypto.queue.wait.micros", stats, CryptoStatistics::getQueueWaitMicros)
+                .counter("am.crypto.execution.micros", stats, CryptoStatistics::getExecutionMicros);
+        return stats;
+    }
+
+    private static Scheduler callerScheduler() {
+        final Context context = Vertx.currentContext();
+        return context != null ? RxHelper.scheduler(context) : Schedulers.trampoline();
+    }
+
+    /**
+     * @return the number of operations waiting for a crypto worker thread
+     */
+    public int getQueueSize() {
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+
+    /**
+     * @return the statistics by operation and algorithm (e.g sign:RS256)
+     */
+    public Map<String, CryptoStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.certificate.crypto;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Statistics of the cryptographic operations executed for a given operation and algorithm.
+ *
+ * @author GraviteeSource Team
+ */
+public class CryptoStatistics {
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder executionNanos = new LongAdder();
+
+    void record(long queueWait, long execution) {
+        count.increment();
+        queueWaitNanos.add(queueWait);
+        executionNanos.add(execution);
+    }
+
+    void reject() {
+        rejected.increment();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getQueueWaitMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(queueWaitNanos.sum());
+    }
+
+    public long getExecutionMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(executionNanos.sum());
+    }
+
+    @Override
+    public String toString() {
+        return "{count=" + getCount() + ", rejected=" + getRejected() + ", queueWait=" + getQueueWaitMicros() + "us, execution=" + getExecutionMicros() + "us}";
+    }
+}
@@ -17,6 +17,7 @@ package io.gravitee.am.gateway.certificate.spring;
 
 import io.gravitee.am.gateway.certificate.CertificateProviderManager;
 import io.gravitee.am.gateway.certificate.DefaultCertificateManager;
+import io.gravitee.am.gateway.certificate.crypto.CryptoExecutor;
 import io.gravitee.am.gateway.certificate.impl.CertificateProviderManagerImpl;
 import io.gravitee.am.gateway.core.manager.EntityManager;
 import org.springframework.context.annotation.Bean;
@@ -38,4 +39,9 @@ public class CertificateConfiguration {
     public EntityManager certificateManager() {
         return new DefaultCertificateManager();
     }
+
+    @Bean
+    public CryptoExecutor cryptoExecutor() {
+        return new CryptoExecutor();
+    }
 }
@@ -0,0 +1,125 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.certificate.crypto;
+
+import io.reactivex.observers.TestObserver;
+import io.vertx.core.Vertx;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class CryptoExecutorTest {
+
+    private CryptoExecutor cryptoExecutor;
+
+    @After
+    public void tearDown() {
+        cryptoExecutor.destroy();
+    }
+
+    @Test
+    public void shouldExecuteOnCryptoThread() throws Exception {
+        cryptoExecutor = new CryptoExecutor(1, 10, "abort");
+        cryptoExecutor.afterPropertiesSet();
+
+        TestObserver<String> observer = cryptoExecutor.execute("sign", "RS256", () -> Thread.currentThread().getName()).test();
+        observer.await(5, TimeUnit.SECONDS);
+        observer.assertValue(threadName -> threadName.startsWith("crypto-"));
+        assertEquals(1, cryptoExecutor.getStatistics().get("sign:RS256").getCount());
+    }
+
+    @Test
+    public void shouldEmitOnCallerContext() throws Exception {
+        cryptoExecutor = new CryptoExecutor(1, 10, "abort");
+        cryptoExecutor.afterPropertiesSet();
+
+        Vertx vertx = Vertx.vertx();
+        try {
+            CompletableFuture<String> executedOn = new CompletableFuture<>();
+            CompletableFuture<String> emittedOn = new CompletableFuture<>();
+            vertx.runOnContext(v -> cryptoExecutor.execute("sign", "RS256", () -> Thread.currentThread().getName())
+                    .subscribe(threadName -> {
+                        executedOn.complete(threadName);
+                        emittedOn.complete(Thread.currentThread().getName());
+                    }, emittedOn::completeExceptionally));
+
+            assertTrue(emittedOn.get(5, TimeUnit.SECONDS).startsWith("vert.x-eventloop-thread"));
+            assertTrue(executedOn.get().startsWith("crypto-"));
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test
+    public void shouldRejectByDefault() throws Exception {
+        cryptoExecutor = new CryptoExecutor(1, 1, null);
+        cryptoExecutor.afterPropertiesSet();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        cryptoExecutor.execute("sign", "RS256", () -> latch.await(5, TimeUnit.SECONDS)).subscribe();
+        cryptoExecutor.execute("sign", "RS256", () -> true).subscribe();
+
+        cryptoExecutor.execute("sign", "RS256", () -> true).test().assertError(RejectedExecutionException.class);
+        latch.countDown();
+    }
+
+    @Test
+    public void shouldExecuteOnCallerThread_disabled() {
+        cryptoExecutor = new CryptoExecutor(0, 0, null);
+        cryptoExecutor.afterPropertiesSet();
+
+        TestObserver<String> observer = cryptoExecutor.execute("sign", "HS256", () -> Thread.currentThread().getName()).test();
+        observer.assertValue(Thread.currentThread().getName());
+    }
+
+    @Test
+    public void shouldPropagateError() throws Exception {
+        cryptoExecutor = new CryptoExecutor(1, 10, "abort");
+        cryptoExecutor.afterPropertiesSet();
+
+        TestObserver<Object> observer = cryptoExecutor.execute("verify", "RS256", () -> {
+            throw new IllegalStateException("invalid signature");
+        }).test();
+        observer.await(5, TimeUnit.SECONDS);
+        observer.assertError(IllegalStateException.class);
+    }
+
+    @Test
+    public void shouldRejectWhenQueueIsFull() throws Exception {
+        cryptoExecutor = new CryptoExecutor(1, 1, "abort");
+        cryptoExecutor.afterPropertiesSet();
+
+        CountDownLatch latch = new CountDownLatch(1);
+        // occupy the single worker thread and the single queue slot
+        cryptoExecutor.execute("sign", "RS256", () -> latch.await(5, TimeUnit.SECONDS)).subscribe();
+        cryptoExecutor.execute("sign", "RS256", () -> true).subscribe();
+
+        TestObserver<Boolean> observer = cryptoExecutor.execute("sign", "RS256", () -> true).test();
+        observer.assertError(RejectedExecutionException.class);
+        assertTrue(cryptoExecutor.getStatistics().get("sign:RS256").getRejected() > 0);
+        latch.countDown();
+    }
+}
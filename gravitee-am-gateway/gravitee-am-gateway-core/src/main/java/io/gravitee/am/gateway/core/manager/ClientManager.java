@@ -0,0 +1,49 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.core.manager;
+
+import io.gravitee.am.model.oidc.Client;
+
+import java.util.Collection;
+
+/**
+ * Client registry which keeps deployed clients indexed by domain to avoid scanning every deployed entity on lookup.
+ *
+ * @author GraviteeSource Team
+ */
+public interface ClientManager extends EntityManager<Client> {
+
+    /**
+     * Initialize the registry with the given clients.
+     * @param clients clients to register.
+     */
+    void init(Collection<Client> clients);
+
+    /**
+     * Retrieve a deployed (non template) {@link Client} using its domain and its client_id.
+     * @param domain The domain of the client.
+     * @param clientId The client_id of the client.
+     * @return A deployed {@link Client} or <code>null</code> if none
+     */
+    Client findByDomainAndClientId(String domain, String clientId);
+
+    /**
+     * Returns the deployed templates of a domain.
+     * @param domain The domain of the templates.
+     * @return A collection of deployed template {@link Client}s.
+     */
+    Collection<Client> findTemplates(String domain);
+}
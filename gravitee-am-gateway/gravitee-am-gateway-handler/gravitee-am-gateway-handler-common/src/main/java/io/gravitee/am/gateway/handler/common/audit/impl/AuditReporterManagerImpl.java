@@ -22,7 +22,7 @@ import io.gravitee.am.model.Domain;
 import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.Reporter;
 import io.gravitee.am.model.common.event.Payload;
-import io.gravitee.am.plugins.reporter.core.ReporterPluginManager;
+import io.gravitee.am.plugins.reporter.core.ReporterInstanceRegistry;
 import io.gravitee.am.repository.management.api.ReporterRepository;
 import io.gravitee.am.service.reporter.impl.AuditReporterVerticle;
 import io.gravitee.am.service.reporter.vertx.EventBusReporterWrapper;
@@ -57,7 +57,7 @@ public class AuditReporterManagerImpl extends AbstractService implements AuditRe
     private ReporterRepository reporterRepository;
 
     @Autowired
-    private ReporterPluginManager reporterPluginManager;
+    private ReporterInstanceRegistry reporterInstanceRegistry;
 
     @Autowired
     private Vertx vertx;
@@ -174,7 +174,8 @@ public class AuditReporterManagerImpl extends AbstractService implements AuditRe
 
     private void startReporterProvider(Reporter reporter) {
         logger.info("\tInitializing reporter: {} [{}]", reporter.getName(), reporter.getType());
-        io.gravitee.am.reporter.api.provider.Reporter reporterProvider = reporterPluginManager.create(reporter.getType(), reporter.getConfiguration());
+        // the domains with the same reporter configuration share the same reporter instance
+        io.gravitee.am.reporter.api.provider.Reporter reporterProvider = reporterInstanceRegistry.acquire(reporter.getType(), reporter.getConfiguration());
 
         if (reporterProvider != null) {
             try {
@@ -184,6 +185,7 @@ public class AuditReporterManagerImpl extends AbstractService implements AuditRe
                 reporters.put(reporter.getId(), eventBusReporter);
             } catch (Exception ex) {
                 logger.error("Unexpected error while starting reporter", ex);
+                stopReporterProvider(reporter.getId(), reporterProvider);
             }
 
         }
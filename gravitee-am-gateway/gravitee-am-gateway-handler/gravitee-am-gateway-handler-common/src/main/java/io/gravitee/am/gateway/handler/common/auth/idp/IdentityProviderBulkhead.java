@@ -0,0 +1,300 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.auth.idp;
+
+import io.gravitee.am.common.exception.authentication.AuthenticationException;
+import io.gravitee.am.common.exception.authentication.InternalAuthenticationServiceException;
+import io.gravitee.am.common.metrics.Meters;
+import io.gravitee.am.service.authentication.crypto.password.PasswordHashingExecutor;
+import io.reactivex.Maybe;
+import io.reactivex.Scheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded worker pool isolating the calls to an identity provider performing blocking I/O (e.g LDAP binds)
+ * so that a slow backend neither blocks the Vert.x event loop threads nor the other identity providers.
+ *
+ * Calls are rejected when the queue is full, fail after a timeout and are short-circuited while the backend
+ * keeps failing (the circuit is opened after <code>failureThreshold</code> consecutive failures and a single call is let
+ * through after <code>openDuration</code> milliseconds to check if the backend is back).
+ *
+ * @author GraviteeSource Team
+ */
+public class IdentityProviderBulkhead {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdentityProviderBulkhead.class);
+    private static final long CLOSED = -1L;
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private enum Permission {
+        GRANTED, TRIAL, DENIED
+    }
+
+    private final String name;
+    private final long timeout;
+    private final int failureThreshold;
+    private final long openDuration;
+    private final ThreadPoolExecutor executor;
+    private final Meters meters;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong lastQueueWait = new AtomicLong();
+    private final AtomicLong maxQueueWait = new AtomicLong();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean trialCall = new AtomicBoolean();
+    private volatile long openedAt = CLOSED;
+
+    public IdentityProviderBulkhead(String name, int size, int queueSize, long timeout, int failureThreshold, long openDuration) {
+        this.name = name;
+        this.timeout = timeout;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+
+        final AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(Math.max(1, size), Math.max(1, size), 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "idp-" + name + "-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        // do not keep threads for the identity providers which are not used
+        this.executor.allowCoreThreadTimeOut(true);
+
+        this.meters = new Meters("provider", name)
+                .gauge("am.idp.bulkhead.inflight", this, IdentityProviderBulkhead::getInFlight)
+                .gauge("am.idp.bulkhead.queue", this, IdentityProviderBulkhead::getQueueSize)
+                .counter("am.idp.bulkhead.rejected", this, IdentityProviderBulkhead::getRejected)
+                .counter("am.idp.bulkhead.timeouts", this, IdentityProviderBulkhead::getTimeouts)
+                .gauge("am.idp.bulkhead.queue.wait.max.millis", this, IdentityProviderBulkhead::getMaxQueueWait)
+                .gauge("am.idp.bulkhead.open", this, bulkhead -> bulkhead.getState() == State.CLOSED ? 0 : 1);
+    }
+
+    /**
+     * Subscribe to the identity provider call on the bulkhead worker pool, the result is emitted back on the context
+     * of the subscriber.
+     *
+     * @param source the identity provider call
+     * @return the result of the call
+     */
+    public <T> Maybe<T> execute(Maybe<T> source) {
+        return Maybe.defer(() -> {
+            final Scheduler callerScheduler = PasswordHashingExecutor.callerScheduler();
+            return withTimeout(submit(source)).observeOn(callerScheduler);
+        });
+    }
+
+    private <T> Maybe<T> submit(Maybe<T> source) {
+        return Maybe.create(emitter -> {
+            final Permission permission = tryAcquirePermission();
+            if (permission == Permission.DENIED) {
+                rejected.incrementAndGet();
+                emitter.tryOnError(new InternalAuthenticationServiceException("Identity provider " + name + " is unavailable"));
+                return;
+            }
+
+            // released at most once, the cancellation and the worker may both try
+            final AtomicBoolean trial = new AtomicBoolean(permission == Permission.TRIAL);
+            final AtomicBoolean completed = new AtomicBoolean();
+            final long submittedAt = System.nanoTime();
+            try {
+                Future<?> future = executor.submit(() -> {
+                    recordQueueWait(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAt));
+                    T value = null;
+                    Throwable error = null;
+                    inFlight.incrementAndGet();
+                    try {
+                        value = source.blockingGet();
+                    } catch (Throwable throwable) {
+                        error = throwable;
+                    } finally {
+                        inFlight.decrementAndGet();
+                    }
+
+                    completed.set(true);
+                    if (error == null) {
+                        onSuccess();
+                        if (value == null) {
+                            emitter.onComplete();
+                        } else {
+                            emitter.onSuccess(value);
+                        }
+                    } else if (emitter.isDisposed()) {
+                        // timed out (already counted) or cancelled, let another call check the identity provider
+                        releaseTrial(trial);
+                    } else {
+                        if (isBackendFailure(error)) {
+                            onFailure();
+                        } else {
+                            onSuccess();
+                        }
+                        emitter.tryOnError(error);
+                    }
+                });
+                emitter.setCancellable(() -> {
+                    if (!completed.get()) {
+                        future.cancel(true);
+                        // the call may never run, do not keep the circuit waiting for its outcome
+                        releaseTrial(trial);
+                    }
+                });
+            } catch (RejectedExecutionException ex) {
+                rejected.incrementAndGet();
+                releaseTrial(trial);
+                logger.warn("Identity provider {} queue is full, the call has been rejected", name);
+                emitter.tryOnError(new InternalAuthenticationServiceException("Identity provider " + name + " is overloaded", ex));
+            }
+        });
+    }
+
+    private <T> Maybe<T> withTimeout(Maybe<T> call) {
+        if (timeout <= 0) {
+            return call;
+        }
+
+        return call
+                .timeout(timeout, TimeUnit.MILLISECONDS)
+                .onErrorResumeNext(throwable -> {
+                    if (throwable instanceof TimeoutException) {
+                        timeouts.incrementAndGet();
+                        onFailure();
+                        logger.warn("Identity provider {} did not respond within {} ms", name, timeout);
+                        return Maybe.error(new InternalAuthenticationServiceException("Identity provider " + name + " did not respond in time", throwable));
+                    }
+                    return Maybe.error(throwable);
+                });
+    }
+
+    public void shutdown() {
+        meters.close();
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return the number of calls currently executed
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return the number of calls waiting for a worker thread
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * @return the number of calls rejected because the queue was full or the circuit was open
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    public long getTimeouts() {
+        return timeouts.get();
+    }
+
+    /**
+     * @return the time spent in the queue by the last call, in milliseconds
+     */
+    public long getLastQueueWait() {
+        return lastQueueWait.get();
+    }
+
+    /**
+     * @return the longest time spent in the queue by a call, in milliseconds
+     */
+    public long getMaxQueueWait() {
+        return maxQueueWait.get();
+    }
+
+    public State getState() {
+        long opened = openedAt;
+        if (opened == CLOSED) {
+            return State.CLOSED;
+        }
+        return System.currentTimeMillis() - opened < openDuration ? State.OPEN : State.HALF_OPEN;
+    }
+
+    private Permission tryAcquirePermission() {
+        long opened = openedAt;
+        if (opened == CLOSED) {
+            return Permission.GRANTED;
+        }
+        if (System.currentTimeMillis() - opened < openDuration) {
+            return Permission.DENIED;
+        }
+        // half open, let a single call check if the identity provider is back
+        return trialCall.compareAndSet(false, true) ? Permission.TRIAL : Permission.DENIED;
+    }
+
+    private void releaseTrial(AtomicBoolean trial) {
+        if (trial.compareAndSet(true, false)) {
+            trialCall.set(false);
+        }
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (openedAt != CLOSED) {
+            openedAt = CLOSED;
+            trialCall.set(false);
+            logger.info("Identity provider {} is available again, circuit closed", name);
+        }
+    }
+
+    private void onFailure() {
+        if (failureThreshold <= 0) {
+            return;
+        }
+        if (openedAt != CLOSED) {
+            // the trial call failed, keep the circuit open
+            openedAt = System.currentTimeMillis();
+            trialCall.set(false);
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            openedAt = System.currentTimeMillis();
+            logger.warn("Identity provider {} failed {} times in a row, circuit opened for {} ms", name, failureThreshold, openDuration);
+        }
+    }
+
+    private void recordQueueWait(long wait) {
+        lastQueueWait.set(wait);
+        maxQueueWait.accumulateAndGet(wait, Math::max);
+    }
+
+    /**
+     * Authentication failures (bad credentials, unknown user, locked account...) are answers of the identity provider,
+     * only the technical errors are taken into account to open the circuit.
+     */
+    private static boolean isBackendFailure(Throwable throwable) {
+        return !(throwable instanceof AuthenticationException) || throwable instanceof InternalAuthenticationServiceException;
+    }
+}
@@ -33,4 +33,10 @@ public interface IdentityProviderManager extends Service {
     IdentityProvider getIdentityProvider(String id);
 
     Maybe<UserProvider> getUserProvider(String id);
+
+    /**
+     * @param id identity provider id
+     * @return the worker pool of the identity provider if it performs blocking I/O, <code>null</code> otherwise
+     */
+    IdentityProviderBulkhead getBulkhead(String id);
 }
@@ -17,6 +17,7 @@ package io.gravitee.am.gateway.handler.common.auth.idp.impl;
 
 import io.gravitee.am.common.event.EventManager;
 import io.gravitee.am.common.event.IdentityProviderEvent;
+import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderBulkhead;
 import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderManager;
 import io.gravitee.am.gateway.handler.common.certificate.CertificateManager;
 import io.gravitee.am.gateway.handler.context.provider.UserProperties;
@@ -36,6 +37,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -65,9 +67,25 @@ public class IdentityProviderManagerImpl extends AbstractService implements Iden
     @Autowired
     private CertificateManager certificateManager;
 
+    @Value("${identityProviders.bulkhead.size:10}")
+    private int bulkheadSize = 10;
+
+    @Value("${identityProviders.bulkhead.queue:100}")
+    private int bulkheadQueueSize = 100;
+
+    @Value("${identityProviders.bulkhead.timeout:10000}")
+    private long bulkheadTimeout = 10000;
+
+    @Value("${identityProviders.bulkhead.failureThreshold:5}")
+    private int bulkheadFailureThreshold = 5;
+
+    @Value("${identityProviders.bulkhead.openDuration:30000}")
+    private long bulkheadOpenDuration = 30000;
+
     private ConcurrentMap<String, AuthenticationProvider> providers = new ConcurrentHashMap<>();
     private ConcurrentMap<String, IdentityProvider> identities = new ConcurrentHashMap<>();
     private ConcurrentMap<String, UserProvider> userProviders = new ConcurrentHashMap<>();
+    private ConcurrentMap<String, IdentityProviderBulkhead> bulkheads = new ConcurrentHashMap<>();
 
     @Override
     public Maybe<AuthenticationProvider> get(String id) {
@@ -86,6 +104,11 @@ public class IdentityProviderManagerImpl extends AbstractService implements Iden
         return (userProvider != null) ? Maybe.just(userProvider) : Maybe.empty();
     }
 
+    @Override
+    public IdentityProviderBulkhead getBulkhead(String id) {
+        return bulkheads.get(id);
+    }
+
     @Override
     public void afterPropertiesSet() {
         logger.info("Initializing identity providers for domain {}", domain.getName());
@@ -166,6 +189,10 @@ public class IdentityProviderManagerImpl extends AbstractService implements Iden
                         identityProviderPluginManager.create(identityProvider.getType(), identityProvider.getConfiguration());
                 providers.put(identityProvider.getId(), authenticationProvider);
                 identities.put(identityProvider.getId(), identityProvider);
+                if (authenticationProvider.isBlocking()) {
+                    bulkheads.put(identityProvider.getId(), new IdentityProviderBulkhead(identityProvider.getId(),
+                            bulkheadSize, bulkheadQueueSize, bulkheadTimeout, bulkheadFailureThreshold, bulkheadOpenDuration));
+                }
                 if (userProvider != null) {
                     // start the user provider
                     userProvider.start();
@@ -189,6 +216,10 @@ public class IdentityProviderManagerImpl extends AbstractService implements Iden
         AuthenticationProvider authenticationProvider = providers.remove(identityProviderId);
         UserProvider userProvider = userProviders.remove(identityProviderId);
         identities.remove(identityProviderId);
+        IdentityProviderBulkhead bulkhead = bulkheads.remove(identityProviderId);
+        if (bulkhead != null) {
+            bulkhead.shutdown();
+        }
         if (authenticationProvider != null) {
             // stop the authentication provider
             try {
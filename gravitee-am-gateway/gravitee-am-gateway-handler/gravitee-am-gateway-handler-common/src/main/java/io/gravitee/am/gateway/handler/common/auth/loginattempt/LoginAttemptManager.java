@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.auth.loginattempt;
+
+import io.gravitee.am.model.LoginAttempt;
+import io.gravitee.am.model.account.AccountSettings;
+import io.gravitee.am.repository.management.api.search.LoginAttemptCriteria;
+import io.gravitee.common.service.Service;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+
+/**
+ * Track the failed login attempts of the security domain to detect brute force attacks.
+ *
+ * @author GraviteeSource Team
+ */
+public interface LoginAttemptManager extends Service {
+
+    Maybe<LoginAttempt> checkAccount(LoginAttemptCriteria criteria, AccountSettings accountSettings);
+
+    Single<LoginAttempt> loginFailed(LoginAttemptCriteria criteria, AccountSettings accountSettings);
+
+    Completable loginSucceeded(LoginAttemptCriteria criteria);
+
+    Completable reset(LoginAttemptCriteria criteria);
+}
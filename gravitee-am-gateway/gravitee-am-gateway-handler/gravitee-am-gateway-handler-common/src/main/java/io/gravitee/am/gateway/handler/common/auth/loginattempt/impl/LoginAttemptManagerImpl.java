@@ -0,0 +1,672 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.auth.loginattempt.impl;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.EventManager;
+import io.gravitee.am.common.event.LoginAttemptEvent;
+import io.gravitee.am.common.event.Type;
+import io.gravitee.am.common.metrics.Meters;
+import io.gravitee.am.common.utils.RandomString;
+import io.gravitee.am.gateway.handler.common.auth.loginattempt.LoginAttemptManager;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.LoginAttempt;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.account.AccountSettings;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.repository.management.api.LoginAttemptRepository;
+import io.gravitee.am.repository.management.api.search.LoginAttemptCriteria;
+import io.gravitee.am.service.EventService;
+import io.gravitee.am.service.LoginAttemptService;
+import io.gravitee.am.service.utils.LoginAttemptPayloadUtils;
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.service.AbstractService;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import io.vertx.reactivex.core.Vertx;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In memory store of the login attempts of the security domain.
+ *
+ * Failed attempts are counted over a sliding window of {@link AccountSettings#getLoginAttemptsResetTime()} seconds and
+ * the lock checks are answered from memory, the repository is only read the first time an account is seen (or once its
+ * entry has been evicted). Updates are coalesced per account and written behind to the repository, only the account
+ * locks are written immediately and propagated to the other gateways through the login attempt events.
+ *
+ * The accounts are kept in a bounded LRU cache, entries evicted with a pending update are written through. Each write
+ * re-reads the stored login attempt and adds the local failures to the ones recorded by the other gateways.
+ *
+ * @author GraviteeSource Team
+ */
+public class LoginAttemptManagerImpl extends AbstractService implements LoginAttemptManager, EventListener<LoginAttemptEvent, Payload> {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptManagerImpl.class);
+
+    @Value("${loginAttempts.store.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${loginAttempts.store.maxSize:100000}")
+    private int maxSize = 100000;
+
+    /**
+     * Time in milliseconds after which an entry without pending update is evicted and reloaded from the repository,
+     * it bounds the delay before the attempts made on the other gateways are taken into account.
+     */
+    @Value("${loginAttempts.store.ttl:60000}")
+    private long ttl = 60000;
+
+    @Value("${loginAttempts.store.flushInterval:1000}")
+    private long flushInterval = 1000;
+
+    @Value("${loginAttempts.store.flushConcurrency:16}")
+    private int flushConcurrency = 16;
+
+    @Value("${loginAttempts.store.propagation:true}")
+    private boolean propagation = true;
+
+    /**
+     * Time in milliseconds to wait for the pending updates to be written when the domain is stopped.
+     */
+    @Value("${loginAttempts.store.stopTimeout:5000}")
+    private long stopTimeout = 5000;
+
+    @Autowired
+    private Domain domain;
+
+    @Autowired
+    private Vertx vertx;
+
+    @Autowired
+    private EventManager eventManager;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private LoginAttemptService loginAttemptService;
+
+    @Lazy
+    @Autowired
+    private LoginAttemptRepository loginAttemptRepository;
+
+    private final String origin = RandomString.generate();
+    private volatile Cache<String, Entry> entries;
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder locks = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder writeErrors = new LongAdder();
+    private final LongAdder evictedWrites = new LongAdder();
+    private long timerId = -1;
+    private Meters meters;
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (enabled) {
+            logger.info("Register event listener for login attempt events for domain {}", domain.getName());
+            eventManager.subscribeForEvents(this, LoginAttemptEvent.class, domain.getId());
+            timerId = vertx.setPeriodic(flushInterval, id -> flush().subscribe());
+            meters = new Meters("domain", domain.getId())
+                    .gauge("am.login.attempts.size", this, LoginAttemptManagerImpl::size)
+                    .gauge("am.login.attempts.pending.writes", this, LoginAttemptManagerImpl::getPendingWrites)
+                    .counter("am.login.attempts.hits", this, LoginAttemptManagerImpl::getHits)
+                    .counter("am.login.attempts.loads", this, LoginAttemptManagerImpl::getLoads)
+                    .counter("am.login.attempts.locks", this, LoginAttemptManagerImpl::getLocks)
+                    .counter("am.login.attempts.writes", this, LoginAttemptManagerImpl::getWrites)
+                    .counter("am.login.attempts.write.errors", this, LoginAttemptManagerImpl::getWriteErrors)
+                    .counter("am.login.attempts.evicted.writes", this, LoginAttemptManagerImpl::getEvictedWrites);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (enabled) {
+            logger.info("Dispose event listener for login attempt events for domain {}", domain.getName());
+            eventManager.unsubscribeForEvents(this, LoginAttemptEvent.class, domain.getId());
+            if (meters != null) {
+                meters.close();
+            }
+            if (timerId != -1) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+            }
+            // write the pending updates before leaving, even if a periodic flush is running
+            try {
+                if (!flush0().blockingAwait(stopTimeout, TimeUnit.MILLISECONDS)) {
+                    logger.warn("{} login attempts not written after {} ms for domain {}", getPendingWrites(), stopTimeout, domain.getName());
+                }
+            } catch (Exception ex) {
+                logger.error("An error occurs while writing the pending login attempts for domain {}", domain.getName(), ex);
+            }
+            entries().invalidateAll();
+        }
+    }
+
+    @Override
+    public void onEvent(Event<LoginAttemptEvent, Payload> event) {
+        final Payload payload = event.content();
+        if (payload.getReferenceType() != ReferenceType.DOMAIN || !domain.getId().equals(payload.getReferenceId())) {
+            return;
+        }
+
+        final LoginAttemptCriteria criteria = LoginAttemptPayloadUtils.criteria(payload);
+        switch (event.type()) {
+            case LOCK:
+                if (origin.equals(LoginAttemptPayloadUtils.origin(payload))) {
+                    return;
+                }
+                final Entry entry = entries().getIfPresent(key(criteria));
+                if (entry != null) {
+                    logger.debug("Account locked by another gateway for {}", criteria);
+                    entry.lock(LoginAttemptPayloadUtils.expireAt(payload));
+                }
+                break;
+            case RESET:
+                logger.debug("Login attempts reset for {}", criteria);
+                invalidate(criteria);
+                break;
+        }
+    }
+
+    @Override
+    public Maybe<LoginAttempt> checkAccount(LoginAttemptCriteria criteria, AccountSettings accountSettings) {
+        if (!enabled) {
+            return loginAttemptService.checkAccount(criteria, accountSettings);
+        }
+        return getEntry(criteria, accountSettings)
+                .flatMapMaybe(entry -> {
+                    LoginAttempt loginAttempt = entry.toLoginAttempt(System.currentTimeMillis(), accountSettings);
+                    return loginAttempt != null ? Maybe.just(loginAttempt) : Maybe.empty();
+                });
+    }
+
+    @Override
+    public Single<LoginAttempt> loginFailed(LoginAttemptCriteria criteria, AccountSettings accountSettings) {
+        if (!enabled) {
+            return loginAttemptService.loginFailed(criteria, accountSettings);
+        }
+        return getEntry(criteria, accountSettings)
+                .flatMap(entry -> {
+                    final long now = System.currentTimeMillis();
+                    final boolean locked = entry.failed(now, accountSettings);
+                    final LoginAttempt loginAttempt = entry.toLoginAttempt(now, accountSettings);
+                    if (!locked) {
+                        // the entry may have been evicted in the meantime, write the attempt through
+                        return isStored(criteria, entry) ? Single.just(loginAttempt) : write(entry).onErrorComplete().andThen(Single.just(loginAttempt));
+                    }
+                    // the lock must be visible to the other gateways, do not wait for the next flush
+                    locks.increment();
+                    return write(entry)
+                            .onErrorComplete()
+                            .andThen(propagate(criteria, loginAttempt))
+                            .andThen(Single.just(loginAttempt));
+                });
+    }
+
+    @Override
+    public Completable loginSucceeded(LoginAttemptCriteria criteria) {
+        if (!enabled) {
+            return loginAttemptService.loginSucceeded(criteria);
+        }
+        final Entry entry = entries().getIfPresent(key(criteria));
+        if (entry != null) {
+            // the entry is deleted from the repository by the next flush, if it has ever been written
+            entry.succeeded();
+            return Completable.complete();
+        }
+        return loginAttemptService.loginSucceeded(criteria);
+    }
+
+    @Override
+    public Completable reset(LoginAttemptCriteria criteria) {
+        if (enabled) {
+            invalidate(criteria);
+        }
+        return loginAttemptService.reset(criteria);
+    }
+
+    /**
+     * Write the pending updates to the repository and evict the outdated entries.
+     */
+    public Completable flush() {
+        return Completable.defer(() -> {
+            if (!flushing.compareAndSet(false, true)) {
+                return Completable.complete();
+            }
+            return flush0();
+        });
+    }
+
+    private Completable flush0() {
+        final long start = System.currentTimeMillis();
+        final List<Entry> dirtyEntries = new ArrayList<>();
+        for (Entry entry : entries().asMap().values()) {
+            if (entry.isDirty()) {
+                dirtyEntries.add(entry);
+            }
+        }
+        // evict the outdated entries even if the cache is not accessed
+        entries().cleanUp();
+
+        return Flowable.fromIterable(dirtyEntries)
+                .flatMapCompletable(entry -> write(entry).onErrorComplete(), false, flushConcurrency)
+                .doFinally(() -> {
+                    flushing.set(false);
+                    if (!dirtyEntries.isEmpty()) {
+                        logger.debug("{} login attempts written in {} ms, {} accounts in memory for domain {}",
+                                dirtyEntries.size(), System.currentTimeMillis() - start, entries().size(), domain.getName());
+                    }
+                });
+    }
+
+    public long size() {
+        return entries().size();
+    }
+
+    public long getPendingWrites() {
+        return entries().asMap().values().stream().filter(Entry::isDirty).count();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getLocks() {
+        return locks.sum();
+    }
+
+    public long getWrites() {
+        return writes.sum();
+    }
+
+    public long getWriteErrors() {
+        return writeErrors.sum();
+    }
+
+    /**
+     * @return the number of accounts evicted with a pending update, which has then been written through
+     */
+    public long getEvictedWrites() {
+        return evictedWrites.sum();
+    }
+
+    private Cache<String, Entry> entries() {
+        Cache<String, Entry> cache = entries;
+        if (cache == null) {
+            synchronized (this) {
+                cache = entries;
+                if (cache == null) {
+                    cache = CacheBuilder.newBuilder()
+                            .maximumSize(maxSize)
+                            .expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+                            .removalListener(this::onRemoval)
+                            .build();
+                    entries = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    private void onRemoval(RemovalNotification<String, Entry> notification) {
+        final Entry entry = notification.getValue();
+        if (notification.wasEvicted() && entry != null && entry.isDirty()) {
+            // do not lose the pending update of an entry evicted before the next flush
+            evictedWrites.increment();
+            write(entry).onErrorComplete().subscribe();
+        }
+    }
+
+    private void invalidate(LoginAttemptCriteria criteria) {
+        if (isComplete(criteria)) {
+            entries().invalidate(key(criteria));
+        } else {
+            entries().asMap().values().removeIf(entry -> entry.matches(criteria));
+        }
+    }
+
+    private Single<Entry> getEntry(LoginAttemptCriteria criteria, AccountSettings accountSettings) {
+        final String key = key(criteria);
+        final Entry entry = entries().getIfPresent(key);
+        if (entry != null) {
+            hits.increment();
+            return Single.just(entry);
+        }
+
+        loads.increment();
+        return loginAttemptRepository.findByCriteria(criteria)
+                .map(loginAttempt -> Entry.of(criteria, loginAttempt, System.currentTimeMillis(), accountSettings))
+                .defaultIfEmpty(new Entry(criteria))
+                .toSingle()
+                .map(loadedEntry -> {
+                    // another request may have loaded the entry in the meantime
+                    final Entry current = entries().asMap().putIfAbsent(key, loadedEntry);
+                    return current != null ? current : loadedEntry;
+                });
+    }
+
+    private boolean isStored(LoginAttemptCriteria criteria, Entry entry) {
+        return entries().getIfPresent(key(criteria)) == entry;
+    }
+
+    private Completable write(Entry entry) {
+        final Entry.Write write = entry.prepareWrite(System.currentTimeMillis());
+        if (write == null) {
+            return Completable.complete();
+        }
+
+        final Completable operation;
+        if (write.loginAttempt == null) {
+            operation = loginAttemptRepository.delete(entry.criteria);
+        } else {
+            // the other gateways may have written attempts for the same account since it has been loaded, merge them
+            // rather than overwriting them
+            operation = loginAttemptRepository.findByCriteria(entry.criteria)
+                    .flatMapSingleElement(stored -> {
+                        final LoginAttempt merged = merge(write, stored, System.currentTimeMillis());
+                        entry.merged(merged);
+                        // the login attempt may have been removed once expired
+                        return loginAttemptRepository.update(merged)
+                                .onErrorResumeNext(ex -> ex instanceof NoSuchElementException ? loginAttemptRepository.create(merged) : Single.error(ex));
+                    })
+                    .switchIfEmpty(Single.defer(() -> loginAttemptRepository.create(write.loginAttempt)))
+                    .ignoreElement();
+        }
+        return operation
+                .doOnComplete(() -> {
+                    writes.increment();
+                    entry.written(write);
+                })
+                .doOnError(ex -> {
+                    writeErrors.increment();
+                    entry.writeFailed(write);
+                    logger.error("An error occurs while writing the login attempts of {}", entry.criteria, ex);
+                });
+    }
+
+    private Completable propagate(LoginAttemptCriteria criteria, LoginAttempt loginAttempt) {
+        if (!propagation) {
+            return Completable.complete();
+        }
+        final Payload payload = LoginAttemptPayloadUtils.create(criteria, Action.UPDATE, loginAttempt.getExpireAt().getTime(), origin);
+        return eventService.create(new io.gravitee.am.model.common.event.Event(Type.LOGIN_ATTEMPT, payload))
+                .ignoreElement()
+                .doOnError(ex -> logger.error("An error occurs while propagating the account lock of {}", criteria, ex))
+                .onErrorComplete();
+    }
+
+    /**
+     * Add the failures recorded since the last write to the stored login attempt, unless it has expired.
+     */
+    private static LoginAttempt merge(Entry.Write write, LoginAttempt stored, long now) {
+        final LoginAttempt loginAttempt = write.loginAttempt;
+        if (stored.getExpireAt() != null && stored.getExpireAt().getTime() > now) {
+            loginAttempt.setAttempts(Math.max(loginAttempt.getAttempts(), stored.getAttempts() + write.failures));
+            if (stored.getExpireAt().after(loginAttempt.getExpireAt())) {
+                loginAttempt.setExpireAt(stored.getExpireAt());
+            }
+        }
+        loginAttempt.setId(stored.getId());
+        loginAttempt.setCreatedAt(stored.getCreatedAt());
+        return loginAttempt;
+    }
+
+    private static boolean isComplete(LoginAttemptCriteria criteria) {
+        return !StringUtils.isEmpty(criteria.domain())
+                && !StringUtils.isEmpty(criteria.client())
+                && !StringUtils.isEmpty(criteria.identityProvider())
+                && !StringUtils.isEmpty(criteria.username());
+    }
+
+    private static String key(LoginAttemptCriteria criteria) {
+        return criteria.domain() + '\u0000' + criteria.client() + '\u0000' + criteria.identityProvider() + '\u0000' + criteria.username();
+    }
+
+    /**
+     * Login attempts of an account, the entries are guarded by their own monitor so that concurrent logins only
+     * contend when they target the same account.
+     */
+    static class Entry {
+
+        private final LoginAttemptCriteria criteria;
+        private final Deque<Long> failures = new ArrayDeque<>();
+        private String id;
+        private Date createdAt;
+        private long lockedUntil;
+        private int lockedAttempts;
+        private long resetTime;
+        private boolean persisted;
+        private boolean dirty;
+        private boolean writing;
+        /**
+         * Failures recorded since the last write, added to the ones written by the other gateways.
+         */
+        private int pendingFailures;
+
+        Entry(LoginAttemptCriteria criteria) {
+            this.criteria = criteria;
+        }
+
+        static Entry of(LoginAttemptCriteria criteria, LoginAttempt loginAttempt, long now, AccountSettings accountSettings) {
+            final Entry entry = new Entry(criteria);
+            entry.id = loginAttempt.getId();
+            entry.createdAt = loginAttempt.getCreatedAt();
+            entry.persisted = true;
+            entry.resetTime = accountSettings.getLoginAttemptsResetTime() * 1000L;
+            final long expireAt = loginAttempt.getExpireAt() != null ? loginAttempt.getExpireAt().getTime() : now;
+            if (expireAt > now) {
+                if (loginAttempt.isAccountLocked(accountSettings.getMaxLoginAttempts())) {
+                    entry.lockedUntil = expireAt;
+                    entry.lockedAttempts = loginAttempt.getAttempts();
+                } else {
+                    // the stored attempts leave the window when the login attempt expires
+                    for (int i = 0; i < loginAttempt.getAttempts(); i++) {
+                        entry.failures.add(expireAt - entry.resetTime);
+                    }
+                }
+            }
+            return entry;
+        }
+
+        synchronized boolean failed(long now, AccountSettings accountSettings) {
+            resetTime = accountSettings.getLoginAttemptsResetTime() * 1000L;
+            expire(now);
+            if (lockedUntil > 0) {
+                return false;
+            }
+            final int maxAttempts = accountSettings.getMaxLoginAttempts();
+            failures.addLast(now);
+            pendingFailures++;
+            while (failures.size() > maxAttempts) {
+                failures.removeFirst();
+            }
+            dirty = true;
+            if (failures.size() >= maxAttempts) {
+                lockedUntil = now + accountSettings.getAccountBlockedDuration() * 1000L;
+                lockedAttempts = failures.size();
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void succeeded() {
+            failures.clear();
+            lockedUntil = 0;
+            lockedAttempts = 0;
+            pendingFailures = 0;
+            dirty = persisted || writing;
+        }
+
+        synchronized void lock(long until) {
+            if (until > lockedUntil) {
+                lockedUntil = until;
+                lockedAttempts = Math.max(lockedAttempts, failures.size());
+                // the gateway which has locked the account has already written it
+                persisted = true;
+            }
+        }
+
+        /**
+         * @return the login attempt of the account, null if there is no attempt in the window
+         */
+        synchronized LoginAttempt toLoginAttempt(long now, AccountSettings accountSettings) {
+            resetTime = accountSettings.getLoginAttemptsResetTime() * 1000L;
+            expire(now);
+            if (lockedUntil > 0) {
+                return loginAttempt(Math.max(lockedAttempts, accountSettings.getMaxLoginAttempts()), lockedUntil);
+            }
+            if (failures.isEmpty()) {
+                return null;
+            }
+            return loginAttempt(failures.size(), failures.peekFirst() + resetTime);
+        }
+
+        synchronized Write prepareWrite(long now) {
+            if (!dirty || writing) {
+                return null;
+            }
+            expire(now);
+            dirty = false;
+            LoginAttempt loginAttempt = null;
+            if (lockedUntil > 0) {
+                loginAttempt = loginAttempt(lockedAttempts, lockedUntil);
+            } else if (!failures.isEmpty()) {
+                loginAttempt = loginAttempt(failures.size(), failures.peekFirst() + resetTime);
+            } else if (!persisted) {
+                // nothing has ever been written
+                return null;
+            }
+            if (loginAttempt != null && id == null) {
+                id = RandomString.generate();
+                loginAttempt.setId(id);
+                createdAt = loginAttempt.getCreatedAt();
+            }
+            writing = true;
+            final Write write = new Write(loginAttempt, pendingFailures);
+            pendingFailures = 0;
+            return write;
+        }
+
+        /**
+         * Take into account the login attempt merged with the one written by the other gateways.
+         */
+        synchronized void merged(LoginAttempt loginAttempt) {
+            id = loginAttempt.getId();
+            createdAt = loginAttempt.getCreatedAt();
+            if (lockedUntil > 0) {
+                return;
+            }
+            final long failedAt = loginAttempt.getExpireAt().getTime() - resetTime;
+            while (failures.size() < loginAttempt.getAttempts()) {
+                failures.addFirst(failures.isEmpty() ? failedAt : Math.min(failedAt, failures.peekFirst()));
+            }
+        }
+
+        synchronized void written(Write write) {
+            writing = false;
+            persisted = write.loginAttempt != null;
+            if (!persisted) {
+                id = null;
+                createdAt = null;
+            }
+        }
+
+        synchronized void writeFailed(Write write) {
+            writing = false;
+            dirty = true;
+            pendingFailures += write.failures;
+        }
+
+        synchronized boolean isDirty() {
+            return dirty;
+        }
+
+        boolean matches(LoginAttemptCriteria other) {
+            return matches(other.domain(), criteria.domain())
+                    && matches(other.client(), criteria.client())
+                    && matches(other.identityProvider(), criteria.identityProvider())
+                    && matches(other.username(), criteria.username());
+        }
+
+        private static boolean matches(String expected, String value) {
+            return expected == null || expected.isEmpty() || expected.equals(value);
+        }
+
+        private void expire(long now) {
+            if (lockedUntil > 0) {
+                if (lockedUntil > now) {
+                    return;
+                }
+                lockedUntil = 0;
+                lockedAttempts = 0;
+                failures.clear();
+            }
+            while (!failures.isEmpty() && failures.peekFirst() + resetTime <= now) {
+                failures.removeFirst();
+            }
+        }
+
+        private LoginAttempt loginAttempt(int attempts, long expireAt) {
+            final LoginAttempt loginAttempt = new LoginAttempt();
+            loginAttempt.setId(id);
+            loginAttempt.setDomain(criteria.domain());
+            loginAttempt.setClient(criteria.client());
+            loginAttempt.setIdentityProvider(criteria.identityProvider());
+            loginAttempt.setUsername(criteria.username());
+            loginAttempt.setAttempts(attempts);
+            loginAttempt.setExpireAt(new Date(expireAt));
+            loginAttempt.setCreatedAt(createdAt != null ? createdAt : new Date());
+            loginAttempt.setUpdatedAt(new Date());
+            return loginAttempt;
+        }
+
+        static class Write {
+            private final LoginAttempt loginAttempt;
+            private final int failures;
+
+            Write(LoginAttempt loginAttempt, int failures) {
+                this.loginAttempt = loginAttempt;
+                this.failures = failures;
+            }
+        }
+    }
+}
@@ -19,7 +19,9 @@ import io.gravitee.am.common.exception.authentication.*;
 import io.gravitee.am.common.oauth2.Parameters;
 import io.gravitee.am.gateway.handler.common.auth.AuthenticationDetails;
 import io.gravitee.am.gateway.handler.common.auth.event.AuthenticationEvent;
+import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderBulkhead;
 import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderManager;
+import io.gravitee.am.gateway.handler.common.auth.loginattempt.LoginAttemptManager;
 import io.gravitee.am.gateway.handler.common.auth.user.EndUserAuthentication;
 import io.gravitee.am.gateway.handler.common.auth.user.UserAuthenticationManager;
 import io.gravitee.am.gateway.handler.common.auth.user.UserAuthenticationService;
@@ -31,7 +33,6 @@ import io.gravitee.am.model.User;
 import io.gravitee.am.model.account.AccountSettings;
 import io.gravitee.am.model.oidc.Client;
 import io.gravitee.am.repository.management.api.search.LoginAttemptCriteria;
-import io.gravitee.am.service.LoginAttemptService;
 import io.gravitee.common.event.EventManager;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
@@ -66,7 +67,7 @@ public class UserAuthenticationManagerImpl implements UserAuthenticationManager
     private EventManager eventManager;
 
     @Autowired
-    private LoginAttemptService loginAttemptService;
+    private LoginAttemptManager loginAttemptManager;
 
     @Autowired
     private UserAuthenticationService userAuthenticationService;
@@ -193,14 +194,17 @@ public class UserAuthenticationManagerImpl implements UserAuthenticationManager
                 .switchIfEmpty(Maybe.error(new BadCredentialsException("Unable to load authentication provider " + authProvider + ", an error occurred during the initialization stage")))
                 .flatMap(authenticationProvider -> {
                     logger.debug("Authentication attempt using identity provider {} ({})", authenticationProvider, authenticationProvider.getClass().getName());
-                    return Maybe.just(preAuthenticated)
+                    Maybe<io.gravitee.am.identityprovider.api.User> userSource = Maybe.just(preAuthenticated)
                             .flatMap(preAuth -> {
                                 if (preAuth) {
                                     return authenticationProvider.loadUserByUsername(authentication.getPrincipal().toString());
                                 } else {
                                     return authenticationProvider.loadUserByUsername(authentication);
                                 }
-                            })
+                            });
+                    // blocking identity providers are called on their own worker pool
+                    IdentityProviderBulkhead bulkhead = identityProviderManager.getBulkhead(authProvider);
+                    return (bulkhead != null ? bulkhead.execute(userSource) : userSource)
                             .switchIfEmpty(Maybe.error(new UsernameNotFoundException(authentication.getPrincipal().toString())));
                 })
                 .map(user -> {
@@ -234,7 +238,7 @@ public class UserAuthenticationManagerImpl implements UserAuthenticationManager
                     .identityProvider(source)
                     .username(username)
                     .build();
-            return loginAttemptService
+            return loginAttemptManager
                     .checkAccount(criteria, accountSettings)
                     .map(Optional::of)
                     .defaultIfEmpty(Optional.empty())
@@ -261,9 +265,9 @@ public class UserAuthenticationManagerImpl implements UserAuthenticationManager
                     .build();
             // no exception clear login attempt
             if (userAuthentication.getLastException() == null) {
-                return loginAttemptService.loginSucceeded(criteria);
+                return loginAttemptManager.loginSucceeded(criteria);
             } else if (userAuthentication.getLastException() instanceof BadCredentialsException){
-                return loginAttemptService.loginFailed(criteria, accountSettings)
+                return loginAttemptManager.loginFailed(criteria, accountSettings)
                         .flatMapCompletable(loginAttempt -> {
                             if (loginAttempt.isAccountLocked(accountSettings.getMaxLoginAttempts())) {
                                 return userAuthenticationService.lockAccount(criteria, accountSettings, client);
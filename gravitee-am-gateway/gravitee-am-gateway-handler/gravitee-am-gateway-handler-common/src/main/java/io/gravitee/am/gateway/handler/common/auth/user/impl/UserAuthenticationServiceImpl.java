@@ -20,6 +20,7 @@ import io.gravitee.am.common.exception.authentication.AccountDisabledException;
 import io.gravitee.am.common.oauth2.Parameters;
 import io.gravitee.am.common.oidc.StandardClaims;
 import io.gravitee.am.common.oidc.idtoken.Claims;
+import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderBulkhead;
 import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderManager;
 import io.gravitee.am.gateway.handler.common.auth.user.UserAuthenticationService;
 import io.gravitee.am.gateway.handler.common.email.EmailService;
@@ -89,7 +90,12 @@ public class UserAuthenticationServiceImpl implements UserAuthenticationService
                 .switchIfEmpty(Maybe.error(new UserNotFoundException(subject)))
                 .flatMap(user -> identityProviderManager.get(user.getSource())
                         // if the user has been found, try to load user information from its latest identity provider
-                        .flatMap(authenticationProvider -> authenticationProvider.loadUserByUsername(user.getUsername()))
+                        .flatMap(authenticationProvider -> {
+                            // blocking identity providers are called on their own worker pool
+                            Maybe<io.gravitee.am.identityprovider.api.User> userSource = authenticationProvider.loadUserByUsername(user.getUsername());
+                            IdentityProviderBulkhead bulkhead = identityProviderManager.getBulkhead(user.getSource());
+                            return bulkhead != null ? bulkhead.execute(userSource) : userSource;
+                        })
                         .flatMap(idpUser -> {
                             // retrieve information from the idp user and update the user
                             Map<String, Object> additionalInformation = idpUser.getAdditionalInformation() == null ? new HashMap<>() : new HashMap<>(idpUser.getAdditionalInformation());
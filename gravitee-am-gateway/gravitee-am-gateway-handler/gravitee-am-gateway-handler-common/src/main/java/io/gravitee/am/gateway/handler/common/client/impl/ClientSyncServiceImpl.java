@@ -15,7 +15,7 @@
  */
 package io.gravitee.am.gateway.handler.common.client.impl;
 
-import io.gravitee.am.gateway.core.manager.EntityManager;
+import io.gravitee.am.gateway.core.manager.ClientManager;
 import io.gravitee.am.gateway.handler.common.client.ClientSyncService;
 import io.gravitee.am.model.oidc.Client;
 import io.gravitee.am.model.Domain;
@@ -23,9 +23,8 @@ import io.reactivex.Maybe;
 import io.reactivex.Single;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -39,7 +38,7 @@ public class ClientSyncServiceImpl implements ClientSyncService {
     private Domain domain;
 
     @Autowired
-    private EntityManager<Client> clientManager;
+    private ClientManager clientManager;
 
     @Override
     public Maybe<Client> findById(String id) {
@@ -54,19 +53,13 @@ public class ClientSyncServiceImpl implements ClientSyncService {
 
     @Override
     public Maybe<Client> findByDomainAndClientId(String domain, String clientId) {
-        final Optional<Client> optClient = clientManager.entities()
-                .stream()
-                .filter(client -> !client.isTemplate() && client.getDomain().equals(domain) && client.getClientId().equals(clientId))
-                .findFirst();
-        return optClient.isPresent() ? Maybe.just(optClient.get()) : Maybe.empty();
+        final Client client = clientManager.findByDomainAndClientId(domain, clientId);
+        return client != null ? Maybe.just(client) : Maybe.empty();
     }
 
     @Override
     public Single<List<Client>> findTemplates() {
-        final List<Client> templates = clientManager.entities()
-                .stream()
-                .filter(client -> client.isTemplate() && client.getDomain().equals(domain.getId()))
-                .collect(Collectors.toList());
+        final List<Client> templates = new ArrayList<>(clientManager.findTemplates(domain.getId()));
         return Single.just(templates);
     }
 
@@ -0,0 +1,234 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.group.impl;
+
+import io.gravitee.am.common.event.EventManager;
+import io.gravitee.am.common.event.GroupEvent;
+import io.gravitee.am.common.metrics.Meters;
+import io.gravitee.am.gateway.handler.common.group.GroupManager;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.Group;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.service.GroupService;
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.service.AbstractService;
+import io.reactivex.Single;
+import io.reactivex.disposables.Disposable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Groups of the security domain indexed by member. The groups are loaded once when the domain is deployed, then
+ * refreshed from the group events received by the sync process. Until the initial load is done, the lookups are
+ * delegated to the repository and the load is retried if it fails.
+ *
+ * @author GraviteeSource Team
+ */
+public class GroupManagerImpl extends AbstractService implements GroupManager, EventListener<GroupEvent, Payload> {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupManagerImpl.class);
+    private static final long LOAD_RETRY_DELAY = 5000;
+
+    @Autowired
+    private Domain domain;
+
+    @Autowired
+    private EventManager eventManager;
+
+    @Autowired
+    private GroupService groupService;
+
+    private final ConcurrentMap<String, Group> groups = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Set<String>> memberIndex = new ConcurrentHashMap<>();
+    /**
+     * Groups removed through the events while loading, they must not be restored by the initial load.
+     */
+    private final Set<String> tombstones = new HashSet<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private volatile boolean loaded;
+    private Disposable loading;
+    private Meters meters;
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        logger.info("Register event listener for group events for domain {}", domain.getName());
+        eventManager.subscribeForEvents(this, GroupEvent.class, domain.getId());
+        meters = new Meters("domain", domain.getId())
+                .gauge("am.group.cache.size", this, GroupManagerImpl::size)
+                .counter("am.group.cache.hits", this, GroupManagerImpl::getHits)
+                .counter("am.group.cache.misses", this, GroupManagerImpl::getMisses);
+
+        logger.info("Initializing groups for domain {}", domain.getName());
+        loading = Single.defer(() -> groupService.findByDomain(domain.getId()))
+                .retryWhen(errors -> errors
+                        .doOnNext(error -> logger.error("Unable to initialize groups for domain {}, retry in {} ms", domain.getName(), LOAD_RETRY_DELAY, error))
+                        .delay(LOAD_RETRY_DELAY, TimeUnit.MILLISECONDS))
+                .subscribe(
+                        domainGroups -> {
+                            synchronized (this) {
+                                // groups received through the events while loading are more recent, keep them
+                                domainGroups.forEach(group -> store(group, false));
+                                tombstones.clear();
+                                loaded = true;
+                            }
+                            logger.info("Groups loaded for domain {}", domain.getName());
+                        },
+                        error -> logger.error("Unable to initialize groups for domain {}", domain.getName(), error));
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        logger.info("Dispose event listener for group events for domain {}", domain.getName());
+        eventManager.unsubscribeForEvents(this, GroupEvent.class, domain.getId());
+        if (meters != null) {
+            meters.close();
+        }
+        if (loading != null) {
+            loading.dispose();
+        }
+        loaded = false;
+        synchronized (this) {
+            groups.clear();
+            memberIndex.clear();
+            tombstones.clear();
+        }
+        logger.info("Group cache of domain {} stopped (hits: {}, misses: {})", domain.getName(), getHits(), getMisses());
+    }
+
+    @Override
+    public void onEvent(Event<GroupEvent, Payload> event) {
+        if (event.content().getReferenceType() == ReferenceType.DOMAIN && domain.getId().equals(event.content().getReferenceId())) {
+            switch (event.type()) {
+                case DEPLOY:
+                case UPDATE:
+                    updateGroup(event.content().getId(), event.type());
+                    break;
+                case UNDEPLOY:
+                    removeGroup(event.content().getId());
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public Single<List<Group>> findByMember(String userId) {
+        if (!loaded) {
+            misses.increment();
+            return groupService.findByMember(userId);
+        }
+
+        hits.increment();
+        Set<String> groupIds = memberIndex.get(userId);
+        if (groupIds == null) {
+            return Single.just(Collections.emptyList());
+        }
+        return Single.just(groupIds
+                .stream()
+                .map(groups::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+
+    public int size() {
+        return groups.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private void updateGroup(String groupId, GroupEvent groupEvent) {
+        final String eventType = groupEvent.toString().toLowerCase();
+        logger.info("Domain {} has received {} group event for {}", domain.getName(), eventType, groupId);
+        groupService.findById(groupId)
+                .subscribe(
+                        group -> {
+                            store(group, true);
+                            logger.info("Group {} {}d for domain {}", groupId, eventType, domain.getName());
+                        },
+                        error -> logger.error("Unable to {} group for domain {}", eventType, domain.getName(), error),
+                        () -> {
+                            removeGroup(groupId);
+                            logger.error("No group found with id {}", groupId);
+                        });
+    }
+
+    private void removeGroup(String groupId) {
+        logger.info("Domain {} has received group event, delete group {}", domain.getName(), groupId);
+        synchronized (this) {
+            Group previous = groups.remove(groupId);
+            if (previous != null) {
+                unindex(previous);
+            }
+            if (!loaded) {
+                tombstones.add(groupId);
+            }
+        }
+    }
+
+    private synchronized void store(Group group, boolean overwrite) {
+        if (overwrite) {
+            tombstones.remove(group.getId());
+        } else if (tombstones.contains(group.getId())) {
+            return;
+        }
+        Group previous = groups.get(group.getId());
+        if (previous != null) {
+            if (!overwrite) {
+                return;
+            }
+            unindex(previous);
+        }
+        groups.put(group.getId(), group);
+        if (group.getMembers() != null) {
+            group.getMembers().forEach(member -> memberIndex.computeIfAbsent(member, k -> ConcurrentHashMap.newKeySet()).add(group.getId()));
+        }
+    }
+
+    private void unindex(Group group) {
+        if (group.getMembers() != null) {
+            group.getMembers().forEach(member -> memberIndex.computeIfPresent(member, (k, groupIds) -> {
+                groupIds.remove(group.getId());
+                return groupIds.isEmpty() ? null : groupIds;
+            }));
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.nimbusds.jose.JWSAlgorithm;
 import io.gravitee.am.common.exception.oauth2.InvalidTokenException;
 import io.gravitee.am.common.jwt.JWT;
 import io.gravitee.am.gateway.certificate.CertificateProvider;
+import io.gravitee.am.gateway.certificate.crypto.CryptoExecutor;
 import io.gravitee.am.gateway.handler.common.certificate.CertificateManager;
 import io.gravitee.am.gateway.handler.common.jwt.JWTService;
 import io.gravitee.am.model.oidc.Client;
@@ -47,6 +48,9 @@ public class JWTServiceImpl implements JWTService {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private CryptoExecutor cryptoExecutor;
+
     @Override
     public Single<String> encode(JWT jwt, CertificateProvider certificateProvider) {
         Objects.requireNonNull(certificateProvider, "Certificate provider is required to sign JWT");
@@ -118,27 +122,23 @@ public class JWTServiceImpl implements JWTService {
     }
 
     private Single<String> sign(CertificateProvider certificateProvider, JWT jwt) {
-        return Single.create(emitter -> {
-            try {
-                String encodedToken = certificateProvider.getJwtBuilder().sign(jwt);
-                emitter.onSuccess(encodedToken);
-            } catch (Exception ex) {
-                logger.error("Failed to sign JWT", ex);
-                emitter.onError(new InvalidTokenException("The JWT token couldn't be signed", ex));
-            }
-        });
+        return cryptoExecutor.execute("sign", algorithm(certificateProvider), () -> certificateProvider.getJwtBuilder().sign(jwt))
+                .onErrorResumeNext(ex -> {
+                    logger.error("Failed to sign JWT", ex);
+                    return Single.error(new InvalidTokenException("The JWT token couldn't be signed", ex));
+                });
     }
 
     private Single<Map<String, Object>> decode(CertificateProvider certificateProvider, String payload) {
-        return Single.create(emitter -> {
-            try {
-                Map<String, Object> decodedPayload = certificateProvider.getJwtParser().parse(payload);
-                emitter.onSuccess(decodedPayload);
-            } catch (Exception ex) {
-                logger.error("Failed to decode JWT", ex);
-                emitter.onError(new InvalidTokenException("The access token is invalid", ex));
-            }
-        });
+        return cryptoExecutor.<Map<String, Object>>execute("verify", algorithm(certificateProvider), () -> certificateProvider.getJwtParser().parse(payload))
+                .onErrorResumeNext(ex -> {
+                    logger.error("Failed to decode JWT", ex);
+                    return Single.error(new InvalidTokenException("The access token is invalid", ex));
+                });
+    }
+
+    private static String algorithm(CertificateProvider certificateProvider) {
+        return certificateProvider.getProvider() != null ? certificateProvider.getProvider().signatureAlgorithm() : null;
     }
 
 }
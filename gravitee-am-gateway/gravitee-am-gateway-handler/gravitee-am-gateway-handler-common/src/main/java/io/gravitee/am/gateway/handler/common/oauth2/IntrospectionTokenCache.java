@@ -0,0 +1,272 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.oauth2;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import io.gravitee.am.common.jwt.JWT;
+import io.gravitee.am.common.metrics.Meters;
+import io.gravitee.am.model.Domain;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of the access tokens already verified by the introspection service.
+ *
+ * Entries are keyed by the SHA-256 hash of the token (raw tokens are never kept in memory) and expire
+ * at the earliest of the token expiration time and the configured time to live. When the cache is full,
+ * the least recently used entries are evicted. The keys are also indexed by token identifier so that a
+ * revoked token is invalidated without scanning the cache.
+ *
+ * @author GraviteeSource Team
+ */
+public class IntrospectionTokenCache implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(IntrospectionTokenCache.class);
+
+    @Value("${oauth2.introspection.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${oauth2.introspection.cache.maxSize:10000}")
+    private int maxSize = 10000;
+
+    /**
+     * Time to live of an entry in milliseconds, it also bounds the delay before a token revoked from another node is rejected.
+     */
+    @Value("${oauth2.introspection.cache.ttl:10000}")
+    private long ttl = 10000;
+
+    @Autowired
+    private Domain domain;
+
+    private Meters meters;
+    private volatile Cache<String, Entry> entries;
+    private final ConcurrentMap<String, Set<String>> keysByJti = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public IntrospectionTokenCache() {
+    }
+
+    public IntrospectionTokenCache(boolean enabled, int maxSize, long ttl) {
+        this.enabled = enabled;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        meters = new Meters("domain", domain.getId())
+                .gauge("am.introspection.cache.size", this, IntrospectionTokenCache::size)
+                .counter("am.introspection.cache.hits", this, IntrospectionTokenCache::getHits)
+                .counter("am.introspection.cache.misses", this, IntrospectionTokenCache::getMisses)
+                .counter("am.introspection.cache.evictions", this, IntrospectionTokenCache::getEvictions);
+    }
+
+    @Override
+    public void destroy() {
+        if (meters != null) {
+            meters.close();
+        }
+    }
+
+    public Entry get(String token) {
+        if (!isEnabled()) {
+            return null;
+        }
+
+        final String key = hash(token);
+        final Entry entry = entries().getIfPresent(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries().invalidate(key);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry;
+    }
+
+    public void put(String token, JWT jwt, Status status) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        long expireAt = now + ttl;
+        if (jwt.getExp() > 0) {
+            expireAt = Math.min(expireAt, jwt.getExp() * 1000);
+        }
+        if (expireAt <= now) {
+            return;
+        }
+
+        final String key = hash(token);
+        final Entry entry = new Entry(new JWT(jwt), status, expireAt);
+        entries().put(key, entry);
+        // index once the entry is in the cache so that the removal of a replaced entry does not drop the key
+        if (entry.jwt.getJti() != null) {
+            keysByJti.compute(entry.jwt.getJti(), (jti, keys) -> {
+                Set<String> jtiKeys = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+                jtiKeys.add(key);
+                return jtiKeys;
+            });
+        }
+    }
+
+    /**
+     * Remove all the entries related to the given token identifier (e.g when the token has been revoked).
+     *
+     * @param jti the token identifier
+     */
+    public void invalidate(String jti) {
+        if (jti == null) {
+            return;
+        }
+        final Set<String> keys = keysByJti.remove(jti);
+        if (keys != null) {
+            entries().invalidateAll(keys);
+        }
+    }
+
+    public void clear() {
+        entries().invalidateAll();
+        keysByJti.clear();
+    }
+
+    public long size() {
+        return entries().size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    private boolean isEnabled() {
+        return enabled && maxSize > 0 && ttl > 0;
+    }
+
+    private Cache<String, Entry> entries() {
+        Cache<String, Entry> cache = entries;
+        if (cache == null) {
+            synchronized (this) {
+                cache = entries;
+                if (cache == null) {
+                    // the cache is built on first use, once the settings have been injected
+                    cache = CacheBuilder.newBuilder()
+                            .maximumSize(Math.max(maxSize, 0))
+                            .expireAfterWrite(Math.max(ttl, 0), TimeUnit.MILLISECONDS)
+                            .removalListener(this::onRemoval)
+                            .build();
+                    entries = cache;
+                }
+            }
+        }
+        return cache;
+    }
+
+    private void onRemoval(RemovalNotification<String, Entry> notification) {
+        if (notification.getCause() == RemovalCause.SIZE) {
+            evictions.increment();
+        }
+        // a replaced entry has the same key and token identifier as the new one, keep it indexed
+        final Entry entry = notification.getValue();
+        if (notification.getCause() != RemovalCause.REPLACED && entry != null && entry.jwt.getJti() != null) {
+            keysByJti.computeIfPresent(entry.jwt.getJti(), (jti, keys) -> {
+                keys.remove(notification.getKey());
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            logger.error("Unable to hash the token with SHA-256", e);
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public enum Status {
+        /**
+         * Signature and claims have been verified, the token store has not been checked yet.
+         */
+        VERIFIED,
+        /**
+         * The token has been found in the token store.
+         */
+        ACTIVE,
+        /**
+         * The token has not been found in the token store.
+         */
+        REVOKED
+    }
+
+    public static class Entry {
+
+        private final JWT jwt;
+        private final Status status;
+        private final long expireAt;
+
+        Entry(JWT jwt, Status status, long expireAt) {
+            this.jwt = jwt;
+            this.status = status;
+            this.expireAt = expireAt;
+        }
+
+        public JWT getJwt() {
+            return new JWT(jwt);
+        }
+
+        public Status getStatus() {
+            return status;
+        }
+
+        boolean isExpired(long now) {
+            return expireAt <= now;
+        }
+    }
+}
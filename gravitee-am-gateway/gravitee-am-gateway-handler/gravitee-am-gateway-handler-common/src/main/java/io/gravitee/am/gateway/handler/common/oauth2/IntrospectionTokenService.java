@@ -25,4 +25,11 @@ import io.reactivex.Single;
 public interface IntrospectionTokenService {
 
     Single<JWT> introspect(String token, boolean offlineVerification);
+
+    /**
+     * Discard the cached introspection results of a token (e.g when the token has been revoked).
+     *
+     * @param jti the token identifier
+     */
+    void invalidate(String jti);
 }
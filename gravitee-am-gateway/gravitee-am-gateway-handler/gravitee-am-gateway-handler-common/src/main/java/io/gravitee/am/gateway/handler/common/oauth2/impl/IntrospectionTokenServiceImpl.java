@@ -20,8 +20,10 @@ import io.gravitee.am.common.exception.oauth2.InvalidTokenException;
 import io.gravitee.am.common.jwt.JWT;
 import io.gravitee.am.gateway.handler.common.client.ClientSyncService;
 import io.gravitee.am.gateway.handler.common.jwt.JWTService;
+import io.gravitee.am.gateway.handler.common.oauth2.IntrospectionTokenCache;
 import io.gravitee.am.gateway.handler.common.oauth2.IntrospectionTokenService;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import org.slf4j.Logger;
@@ -51,28 +53,14 @@ public class IntrospectionTokenServiceImpl implements IntrospectionTokenService
     @Autowired
     private AccessTokenRepository accessTokenRepository;
 
+    @Autowired
+    private IntrospectionTokenCache introspectionTokenCache;
+
     @Override
     public Single<JWT> introspect(String token, boolean offlineVerification) {
-        return jwtService.decode(token)
-                .flatMapMaybe(jwt -> clientService.findByDomainAndClientId(jwt.getDomain(), jwt.getAud()))
-                .switchIfEmpty(Maybe.error(new InvalidTokenException("Invalid or unknown client for this token")))
-                .flatMapSingle(client -> jwtService.decodeAndVerify(token, client))
-                .flatMap(jwt -> {
-                    // Just check the JWT signature and JWT validity if offline verification option is enabled
-                    // or if the token has just been created (could not be in database so far because of async database storing process delay)
-                    if (offlineVerification || Instant.now().isBefore(Instant.ofEpochSecond(jwt.getIat() + OFFLINE_VERIFICATION_TIMER_SECONDS))) {
-                        return Single.just(jwt);
-                    }
-
-                    // check if token is not revoked
-                    return accessTokenRepository.findByToken(jwt.getJti())
-                            .switchIfEmpty(Single.error(new InvalidTokenException("The token is invalid", "Token with JTI [" + jwt.getJti() + "] not found in the database", jwt)))
-                            .map(accessToken -> {
-                                if (accessToken.getExpireAt().before(new Date())) {
-                                    throw new InvalidTokenException("The token expired", "Token with JTI [" + jwt.getJti() + "] is expired", jwt);
-                                }
-                                return jwt;
-                            });
+        return Single.defer(() -> {
+                    final IntrospectionTokenCache.Entry cachedEntry = introspectionTokenCache.get(token);
+                    return cachedEntry != null ? fromCache(token, cachedEntry, offlineVerification) : verify(token, offlineVerification);
                 })
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof JWTException) {
@@ -89,4 +77,61 @@ public class IntrospectionTokenServiceImpl implements IntrospectionTokenService
                     return Single.error(ex);
                 });
     }
+
+    @Override
+    public void invalidate(String jti) {
+        introspectionTokenCache.invalidate(jti);
+    }
+
+    private Single<JWT> verify(String token, boolean offlineVerification) {
+        return jwtService.decode(token)
+                .flatMapMaybe(jwt -> clientService.findByDomainAndClientId(jwt.getDomain(), jwt.getAud()))
+                .switchIfEmpty(Maybe.error(new InvalidTokenException("Invalid or unknown client for this token")))
+                .flatMapSingle(client -> jwtService.decodeAndVerify(token, client))
+                .flatMap(jwt -> {
+                    // Just check the JWT signature and JWT validity if offline verification option is enabled
+                    // or if the token has just been created (could not be in database so far because of async database storing process delay)
+                    if (offlineVerification || isRecent(jwt)) {
+                        introspectionTokenCache.put(token, jwt, IntrospectionTokenCache.Status.VERIFIED);
+                        return Single.just(jwt);
+                    }
+                    return checkTokenStore(token, jwt);
+                });
+    }
+
+    private Single<JWT> fromCache(String token, IntrospectionTokenCache.Entry entry, boolean offlineVerification) {
+        final JWT jwt = entry.getJwt();
+        switch (entry.getStatus()) {
+            case REVOKED:
+                return Single.error(new InvalidTokenException("The token is invalid", "Token with JTI [" + jwt.getJti() + "] not found in the database", jwt));
+            case ACTIVE:
+                return Single.just(jwt);
+            default:
+                // signature already verified, only the token store may still need to be checked
+                if (offlineVerification || isRecent(jwt)) {
+                    return Single.just(jwt);
+                }
+                return checkTokenStore(token, jwt);
+        }
+    }
+
+    private Single<JWT> checkTokenStore(String token, JWT jwt) {
+        // check if token is not revoked
+        return accessTokenRepository.findByToken(jwt.getJti())
+                .switchIfEmpty(Single.defer(() -> {
+                    introspectionTokenCache.put(token, jwt, IntrospectionTokenCache.Status.REVOKED);
+                    return Single.<AccessToken>error(new InvalidTokenException("The token is invalid", "Token with JTI [" + jwt.getJti() + "] not found in the database", jwt));
+                }))
+                .map(accessToken -> {
+                    if (accessToken.getExpireAt().before(new Date())) {
+                        throw new InvalidTokenException("The token expired", "Token with JTI [" + jwt.getJti() + "] is expired", jwt);
+                    }
+                    return jwt;
+                })
+                .doOnSuccess(jwt1 -> introspectionTokenCache.put(token, jwt1, IntrospectionTokenCache.Status.ACTIVE));
+    }
+
+    private static boolean isRecent(JWT jwt) {
+        return Instant.now().isBefore(Instant.ofEpochSecond(jwt.getIat() + OFFLINE_VERIFICATION_TIMER_SECONDS));
+    }
 }
@@ -0,0 +1,33 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.role;
+
+import io.gravitee.am.model.Role;
+import io.gravitee.common.service.Service;
+import io.reactivex.Single;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In memory catalog of the roles of the security domain, kept up to date by the role events.
+ *
+ * @author GraviteeSource Team
+ */
+public interface RoleManager extends Service {
+
+    Single<Set<Role>> findByIdIn(List<String> ids);
+}
@@ -0,0 +1,190 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.role.impl;
+
+import io.gravitee.am.common.event.EventManager;
+import io.gravitee.am.common.event.RoleEvent;
+import io.gravitee.am.common.metrics.Meters;
+import io.gravitee.am.gateway.handler.common.role.RoleManager;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.Role;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.service.RoleService;
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.service.AbstractService;
+import io.reactivex.Single;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Roles of the security domain are loaded once when the domain is deployed, then refreshed from the role events
+ * received by the sync process. Roles that are not known (yet) are read from the repository.
+ *
+ * @author GraviteeSource Team
+ */
+public class RoleManagerImpl extends AbstractService implements RoleManager, EventListener<RoleEvent, Payload> {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoleManagerImpl.class);
+
+    @Autowired
+    private Domain domain;
+
+    @Autowired
+    private EventManager eventManager;
+
+    @Autowired
+    private RoleService roleService;
+
+    private final ConcurrentMap<String, Role> roles = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private Meters meters;
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        logger.info("Register event listener for role events for domain {}", domain.getName());
+        eventManager.subscribeForEvents(this, RoleEvent.class, domain.getId());
+        meters = new Meters("domain", domain.getId())
+                .gauge("am.role.cache.size", this, RoleManagerImpl::size)
+                .counter("am.role.cache.hits", this, RoleManagerImpl::getHits)
+                .counter("am.role.cache.misses", this, RoleManagerImpl::getMisses);
+
+        logger.info("Initializing roles for domain {}", domain.getName());
+        roleService.findByDomain(domain.getId())
+                .subscribe(
+                        domainRoles -> {
+                            // roles received through the events while loading are more recent, keep them
+                            domainRoles.forEach(role -> roles.putIfAbsent(role.getId(), role));
+                            logger.info("Roles loaded for domain {}", domain.getName());
+                        },
+                        error -> logger.error("Unable to initialize roles for domain {}", domain.getName(), error));
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        logger.info("Dispose event listener for role events for domain {}", domain.getName());
+        eventManager.unsubscribeForEvents(this, RoleEvent.class, domain.getId());
+        if (meters != null) {
+            meters.close();
+        }
+        roles.clear();
+        logger.info("Role cache of domain {} stopped (hits: {}, misses: {})", domain.getName(), getHits(), getMisses());
+    }
+
+    @Override
+    public void onEvent(Event<RoleEvent, Payload> event) {
+        if (event.content().getReferenceType() == ReferenceType.DOMAIN && domain.getId().equals(event.content().getReferenceId())) {
+            switch (event.type()) {
+                case DEPLOY:
+                case UPDATE:
+                    updateRole(event.content().getId(), event.type());
+                    break;
+                case UNDEPLOY:
+                    removeRole(event.content().getId());
+                    break;
+            }
+        }
+    }
+
+    @Override
+    public Single<Set<Role>> findByIdIn(List<String> ids) {
+        Set<Role> found = new HashSet<>();
+        List<String> missing = new ArrayList<>();
+        for (String id : ids) {
+            Role role = roles.get(id);
+            if (role != null) {
+                found.add(role);
+            } else {
+                missing.add(id);
+            }
+        }
+
+        if (missing.isEmpty()) {
+            hits.increment();
+            return Single.just(found);
+        }
+
+        misses.increment();
+        logger.debug("Roles {} not found in the cache of domain {}, fetch them from the repository", missing, domain.getName());
+        return roleService.findByIdIn(missing)
+                .map(fetchedRoles -> {
+                    fetchedRoles
+                            .stream()
+                            .filter(this::belongsToDomain)
+                            .forEach(role -> roles.putIfAbsent(role.getId(), role));
+                    found.addAll(fetchedRoles);
+                    return found;
+                });
+    }
+
+    public int size() {
+        return roles.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private void updateRole(String roleId, RoleEvent roleEvent) {
+        final String eventType = roleEvent.toString().toLowerCase();
+        logger.info("Domain {} has received {} role event for {}", domain.getName(), eventType, roleId);
+        roleService.findById(roleId)
+                .subscribe(
+                        role -> {
+                            roles.put(role.getId(), role);
+                            logger.info("Role {} {}d for domain {}", roleId, eventType, domain.getName());
+                        },
+                        error -> logger.error("Unable to {} role for domain {}", eventType, domain.getName(), error),
+                        () -> {
+                            roles.remove(roleId);
+                            logger.error("No role found with id {}", roleId);
+                        });
+    }
+
+    private void removeRole(String roleId) {
+        logger.info("Domain {} has received role event, delete role {}", domain.getName(), roleId);
+        roles.remove(roleId);
+    }
+
+    private boolean belongsToDomain(Role role) {
+        return role.getReferenceType() == ReferenceType.DOMAIN && domain.getId().equals(role.getReferenceId());
+    }
+}
@@ -20,6 +20,8 @@ import io.gravitee.am.gateway.handler.common.audit.impl.AuditReporterManagerImpl
 import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderManager;
 import io.gravitee.am.gateway.handler.common.auth.idp.impl.IdentityProviderManagerImpl;
 import io.gravitee.am.gateway.handler.common.auth.listener.AuthenticationEventListener;
+import io.gravitee.am.gateway.handler.common.auth.loginattempt.LoginAttemptManager;
+import io.gravitee.am.gateway.handler.common.auth.loginattempt.impl.LoginAttemptManagerImpl;
 import io.gravitee.am.gateway.handler.common.auth.user.UserAuthenticationManager;
 import io.gravitee.am.gateway.handler.common.auth.user.UserAuthenticationService;
 import io.gravitee.am.gateway.handler.common.auth.user.impl.UserAuthenticationManagerImpl;
@@ -34,17 +36,24 @@ import io.gravitee.am.gateway.handler.common.email.impl.EmailManagerImpl;
 import io.gravitee.am.gateway.handler.common.email.impl.EmailServiceImpl;
 import io.gravitee.am.gateway.handler.common.flow.FlowManager;
 import io.gravitee.am.gateway.handler.common.flow.impl.FlowManagerImpl;
+import io.gravitee.am.gateway.handler.common.group.GroupManager;
+import io.gravitee.am.gateway.handler.common.group.impl.GroupManagerImpl;
 import io.gravitee.am.gateway.handler.common.jwt.JWTService;
 import io.gravitee.am.gateway.handler.common.jwt.impl.JWTServiceImpl;
+import io.gravitee.am.gateway.handler.common.oauth2.IntrospectionTokenCache;
 import io.gravitee.am.gateway.handler.common.oauth2.IntrospectionTokenService;
 import io.gravitee.am.gateway.handler.common.oauth2.impl.IntrospectionTokenServiceImpl;
 import io.gravitee.am.gateway.handler.common.policy.PolicyManager;
 import io.gravitee.am.gateway.handler.common.policy.impl.PolicyManagerImpl;
+import io.gravitee.am.gateway.handler.common.role.RoleManager;
+import io.gravitee.am.gateway.handler.common.role.impl.RoleManagerImpl;
 import io.gravitee.am.gateway.handler.common.spring.web.WebConfiguration;
+import io.gravitee.am.gateway.handler.common.user.SessionUserCache;
 import io.gravitee.am.gateway.handler.common.user.UserManager;
 import io.gravitee.am.gateway.handler.common.user.UserService;
 import io.gravitee.am.gateway.handler.common.user.UserStore;
 import io.gravitee.am.gateway.handler.common.user.impl.InMemoryUserStore;
+import io.gravitee.am.gateway.handler.common.user.impl.SessionUserCacheImpl;
 import io.gravitee.am.gateway.handler.common.user.impl.UserManagerImpl;
 import io.gravitee.am.gateway.handler.common.user.impl.UserServiceImpl;
 import io.gravitee.am.gateway.handler.common.vertx.web.auth.provider.OAuth2AuthProvider;
@@ -100,6 +109,11 @@ public class CommonConfiguration {
         return new UserAuthenticationManagerImpl();
     }
 
+    @Bean
+    public LoginAttemptManager loginAttemptManager() {
+        return new LoginAttemptManagerImpl();
+    }
+
     @Bean
     public UserAuthenticationService userAuthenticationService() {
         return new UserAuthenticationServiceImpl();
@@ -160,6 +174,11 @@ public class CommonConfiguration {
         return new TemplateVariableProviderFactory();
     }
 
+    @Bean
+    public IntrospectionTokenCache introspectionTokenCache() {
+        return new IntrospectionTokenCache();
+    }
+
     @Bean
     public IntrospectionTokenService introspectiontokenservice() {
         return new IntrospectionTokenServiceImpl();
@@ -176,6 +195,21 @@ public class CommonConfiguration {
         return new UserManagerImpl(userStore);
     }
 
+    @Bean
+    public SessionUserCache sessionUserCache() {
+        return new SessionUserCacheImpl();
+    }
+
+    @Bean
+    public RoleManager roleManager() {
+        return new RoleManagerImpl();
+    }
+
+    @Bean
+    public GroupManager groupManager() {
+        return new GroupManagerImpl();
+    }
+
     @Bean
     public EmailService emailService() {
         return new EmailServiceImpl();
@@ -17,12 +17,13 @@ package io.gravitee.am.gateway.handler.common.spring.web;
 
 import io.gravitee.am.gateway.handler.common.certificate.CertificateManager;
 import io.gravitee.am.gateway.handler.common.jwt.JWTService;
+import io.gravitee.am.gateway.handler.common.user.SessionUserCache;
+import io.gravitee.am.gateway.handler.common.user.UserService;
 import io.gravitee.am.gateway.handler.common.vertx.web.handler.*;
 import io.gravitee.am.gateway.handler.common.vertx.web.handler.impl.AuthenticationFlowHandlerImpl;
 import io.gravitee.am.gateway.handler.common.vertx.web.handler.impl.CookieHandler;
 import io.gravitee.am.gateway.handler.common.vertx.web.handler.impl.CookieSessionHandler;
 import io.gravitee.am.gateway.handler.common.vertx.web.handler.impl.PolicyChainHandlerImpl;
-import io.gravitee.am.service.UserService;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -40,8 +41,8 @@ public class WebConfiguration {
     }
 
     @Bean
-    public CookieSessionHandler sessionHandler(JWTService jwtService, CertificateManager certificateManager, UserService userService) {
-        return new CookieSessionHandler(jwtService, certificateManager, userService);
+    public CookieSessionHandler sessionHandler(JWTService jwtService, CertificateManager certificateManager, UserService userService, SessionUserCache sessionUserCache) {
+        return new CookieSessionHandler(jwtService, certificateManager, userService, sessionUserCache);
     }
 
     @Bean
@@ -0,0 +1,34 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.user;
+
+import io.gravitee.am.model.User;
+import io.gravitee.common.service.Service;
+import io.reactivex.Maybe;
+
+/**
+ * Short-lived cache of the users restored from the session cookies, keyed by user id and cookie issue time.
+ *
+ * @author GraviteeSource Team
+ */
+public interface SessionUserCache extends Service {
+
+    Maybe<User> get(String userId, long issuedAt);
+
+    void put(String userId, long issuedAt, User user);
+
+    void invalidate(String userId);
+}
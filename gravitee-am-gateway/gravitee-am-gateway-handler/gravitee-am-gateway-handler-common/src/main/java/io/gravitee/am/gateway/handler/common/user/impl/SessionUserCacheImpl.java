@@ -0,0 +1,189 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.user.impl;
+
+import io.gravitee.am.common.event.EventManager;
+import io.gravitee.am.common.event.UserEvent;
+import io.gravitee.am.gateway.handler.common.user.SessionUserCache;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.User;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.service.AbstractService;
+import io.reactivex.Maybe;
+import io.vertx.reactivex.core.Vertx;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Users restored from the session cookies are kept for a few seconds so that the pages of the login flows do not
+ * reload and enhance the user on each request. Entries are bound to the cookie issue time (a new cookie means a new
+ * entry) and are dropped as soon as a user event is received for the user or the user is updated by this gateway.
+ *
+ * @author GraviteeSource Team
+ */
+public class SessionUserCacheImpl extends AbstractService implements SessionUserCache, EventListener<UserEvent, Payload> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionUserCacheImpl.class);
+
+    @Value("${http.cookie.session.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${http.cookie.session.cache.ttl:30000}")
+    private long ttl = 30000;
+
+    @Value("${http.cookie.session.cache.maxSize:10000}")
+    private int maxSize = 10000;
+
+    @Autowired
+    private Domain domain;
+
+    @Autowired
+    private EventManager eventManager;
+
+    @Autowired
+    private Vertx vertx;
+
+    private final ConcurrentMap<String, Entry> users = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long timerId = -1;
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (enabled) {
+            logger.info("Register event listener for user events for the session cache of domain {}", domain.getName());
+            eventManager.subscribeForEvents(this, UserEvent.class, domain.getId());
+            timerId = vertx.setPeriodic(ttl, id -> purge());
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (enabled) {
+            logger.info("Dispose event listener for user events for the session cache of domain {}", domain.getName());
+            eventManager.unsubscribeForEvents(this, UserEvent.class, domain.getId());
+            if (timerId != -1) {
+                vertx.cancelTimer(timerId);
+                timerId = -1;
+            }
+        }
+        users.clear();
+        logger.info("Session cache of domain {} stopped (hits: {}, misses: {})", domain.getName(), getHits(), getMisses());
+    }
+
+    @Override
+    public void onEvent(Event<UserEvent, Payload> event) {
+        if (event.content().getReferenceType() == ReferenceType.DOMAIN && domain.getId().equals(event.content().getReferenceId())) {
+            invalidate(event.content().getId());
+        }
+    }
+
+    @Override
+    public Maybe<User> get(String userId, long issuedAt) {
+        if (!enabled) {
+            return Maybe.empty();
+        }
+
+        String key = key(userId, issuedAt);
+        Entry entry = users.get(key);
+        if (entry == null || entry.isExpired(System.currentTimeMillis())) {
+            if (entry != null) {
+                users.remove(key, entry);
+            }
+            misses.increment();
+            return Maybe.empty();
+        }
+        hits.increment();
+        // the user may be modified while handling the request, never share the cached instance
+        return Maybe.just(new User(entry.user));
+    }
+
+    @Override
+    public void put(String userId, long issuedAt, User user) {
+        if (!enabled) {
+            return;
+        }
+
+        if (users.size() >= maxSize) {
+            purge();
+            if (users.size() >= maxSize) {
+                logger.debug("Session cache of domain {} is full, user {} is not cached", domain.getName(), userId);
+                return;
+            }
+        }
+        users.put(key(userId, issuedAt), new Entry(new User(user), System.currentTimeMillis() + ttl));
+    }
+
+    @Override
+    public void invalidate(String userId) {
+        String prefix = userId + ":";
+        users.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private void purge() {
+        long now = System.currentTimeMillis();
+        users.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    private static String key(String userId, long issuedAt) {
+        return userId + ":" + issuedAt;
+    }
+
+    private static class Entry {
+        private final User user;
+        private final long expireAt;
+
+        Entry(User user, long expireAt) {
+            this.user = user;
+            this.expireAt = expireAt;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expireAt;
+        }
+    }
+}
@@ -15,9 +15,13 @@
  */
 package io.gravitee.am.gateway.handler.common.user.impl;
 
+import io.gravitee.am.gateway.handler.common.group.GroupManager;
+import io.gravitee.am.gateway.handler.common.role.RoleManager;
+import io.gravitee.am.gateway.handler.common.user.SessionUserCache;
 import io.gravitee.am.gateway.handler.common.user.UserService;
 import io.gravitee.am.model.User;
 import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.service.utils.UserEnhancer;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,6 +37,15 @@ public class UserServiceImpl implements UserService {
     @Autowired
     private io.gravitee.am.service.UserService userService;
 
+    @Autowired
+    private GroupManager groupManager;
+
+    @Autowired
+    private RoleManager roleManager;
+
+    @Autowired
+    private SessionUserCache sessionUserCache;
+
     @Override
     public Maybe<User> findById(String id) {
         return userService.findById(id);
@@ -60,11 +73,13 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Single<User> update(User user) {
-        return userService.update(user);
+        return userService.update(user)
+                .doOnSuccess(user1 -> sessionUserCache.invalidate(user1.getId()));
     }
 
     @Override
     public Single<User> enhance(User user) {
-        return userService.enhance(user);
+        // groups and roles are resolved from the domain caches
+        return UserEnhancer.enhance(user, groupManager::findByMember, roleManager::findByIdIn);
     }
 }
@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.vertx.utils;
+
+import io.gravitee.am.gateway.handler.common.vertx.web.auth.user.User;
+import io.gravitee.am.gateway.handler.common.vertx.web.handler.impl.CookieSession;
+import io.reactivex.Completable;
+import io.vertx.ext.web.Session;
+import io.vertx.reactivex.ext.web.RoutingContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static io.gravitee.am.gateway.handler.common.utils.ConstantKeys.USER_ID_KEY;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class SessionUtils {
+
+    private static final Logger logger = LoggerFactory.getLogger(SessionUtils.class);
+
+    /**
+     * Sign the session cookie once a route has changed the session or the authenticated user.
+     * It must be awaited before ending the response (or invoking the next handler) since the cookie is not signed when
+     * the response headers are written. Signing errors are logged and the cookie is then not re-issued.
+     *
+     * @param context the routing context holding the session.
+     * @return a completable completing once the session cookie is signed.
+     */
+    public static Completable sign(RoutingContext context) {
+        final Session session = context.getDelegate().session();
+        if (!(session instanceof CookieSession) || session.isDestroyed()) {
+            return Completable.complete();
+        }
+
+        final io.vertx.ext.auth.User user = context.getDelegate().user();
+        if (user instanceof User) {
+            session.put(USER_ID_KEY, ((User) user).getUser().getId());
+        }
+
+        return ((CookieSession) session).sign()
+                .doOnError(ex -> logger.warn("Unable to sign the session cookie", ex))
+                .onErrorComplete();
+    }
+}
@@ -15,19 +15,27 @@
  */
 package io.gravitee.am.gateway.handler.common.vertx.web.handler.impl;
 
+import io.gravitee.am.common.jwt.Claims;
 import io.gravitee.am.common.jwt.JWT;
 import io.gravitee.am.gateway.certificate.CertificateProvider;
 import io.gravitee.am.gateway.handler.common.jwt.JWTService;
+import io.reactivex.Completable;
 import io.reactivex.Single;
 import io.vertx.ext.web.Session;
 import io.vertx.ext.web.sstore.AbstractSession;
 import org.springframework.util.StringUtils;
 
 import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Manage the session data using JWT cookie.
  *
+ * The claims restored from the cookie are kept so that the cookie is only re-issued when the session data has changed
+ * or when it is about to expire. The new cookie value is signed through the {@link JWTService} by {@link #sign()}, which
+ * the routes changing the session await before ending the response, so that nothing is signed nor awaited when the
+ * response headers are written.
+ *
  * @author Jeoffrey HAEYAERT (jeoffrey.haeyaert at graviteesource.com)
  * @author GraviteeSource Team
  */
@@ -35,6 +43,12 @@ public class CookieSession extends AbstractSession {
 
     private final JWTService jwtService;
     private final CertificateProvider certificateProvider;
+    private Map<String, Object> restoredData;
+    private long issuedAt;
+    private long expireAt;
+    private volatile Map<String, Object> signedData;
+    private Single<String> signedValue;
+    private volatile String signedCookie;
 
     public CookieSession(JWTService jwtService, CertificateProvider certificateProvider, long timeout) {
         this.jwtService = jwtService;
@@ -42,11 +56,55 @@ public class CookieSession extends AbstractSession {
         this.setTimeout(timeout);
     }
 
+    /**
+     * @return the cookie value signed for the current session data, <code>null</code> if it has not been signed (yet).
+     */
     @Override
     public String value() {
-        JWT jwt = new JWT(this.data());
-        jwt.setExp((System.currentTimeMillis() + this.timeout()) / 1000);
-        return this.jwtService.encode(jwt, certificateProvider).blockingGet();
+        return isSigned() ? signedCookie : null;
+    }
+
+    /**
+     * Sign the cookie value for the current session data, the pending signature is reused if the data did not change.
+     */
+    public Completable sign() {
+        if (!isModified()) {
+            // the cookie sent by the browser is still valid
+            return Completable.complete();
+        }
+        if (signedValue == null || !signedData.equals(sessionData(this.data()))) {
+            doSign();
+        }
+        return signedValue.ignoreElement();
+    }
+
+    /**
+     * Sign a new cookie value with the restored session data, it is used by {@link #value()} if the session data does
+     * not change in the meantime.
+     */
+    protected Single<CookieSession> renew() {
+        return doSign().map(value -> this);
+    }
+
+    /**
+     * @return true if the session data differs from the data restored from the cookie (or if there was no cookie).
+     */
+    protected boolean isModified() {
+        return restoredData == null || !restoredData.equals(sessionData(this.data()));
+    }
+
+    /**
+     * @return true if the restored cookie expires in less than the given delay (in milliseconds).
+     */
+    protected boolean isExpiringWithin(long delay) {
+        return expireAt - System.currentTimeMillis() < delay;
+    }
+
+    /**
+     * @return the issue time (in seconds) of the restored cookie, 0 if unknown.
+     */
+    protected long getIssuedAt() {
+        return issuedAt;
     }
 
     @Override
@@ -61,7 +119,46 @@ public class CookieSession extends AbstractSession {
         }
 
         return this.jwtService.decodeAndVerify(payload, certificateProvider)
-                .doOnSuccess(this::setData)
+                .doOnSuccess(jwt -> {
+                    setData(jwt);
+                    restoredData = sessionData(jwt);
+                    issuedAt = jwt.getIat();
+                    expireAt = jwt.getExp() * 1000;
+                })
                 .map(jwt -> this);
     }
+
+    private boolean isSigned() {
+        return signedCookie != null && signedData.equals(sessionData(this.data()));
+    }
+
+    private Single<String> doSign() {
+        final Map<String, Object> data = sessionData(this.data());
+        signedData = data;
+        signedCookie = null;
+        signedValue = this.jwtService.encode(newJWT(), certificateProvider)
+                .doOnSuccess(value -> {
+                    // ignore the signature if the session data has been signed again in the meantime
+                    if (signedData == data) {
+                        signedCookie = value;
+                    }
+                })
+                .cache();
+        return signedValue;
+    }
+
+    private JWT newJWT() {
+        JWT jwt = new JWT(this.data());
+        long now = System.currentTimeMillis();
+        jwt.setIat(now / 1000);
+        jwt.setExp((now + this.timeout()) / 1000);
+        return jwt;
+    }
+
+    private static Map<String, Object> sessionData(Map<String, Object> data) {
+        Map<String, Object> sessionData = new HashMap<>(data);
+        sessionData.remove(Claims.iat);
+        sessionData.remove(Claims.exp);
+        return sessionData;
+    }
 }
\ No newline at end of file
@@ -17,8 +17,11 @@ package io.gravitee.am.gateway.handler.common.vertx.web.handler.impl;
 
 import io.gravitee.am.gateway.handler.common.certificate.CertificateManager;
 import io.gravitee.am.gateway.handler.common.jwt.JWTService;
+import io.gravitee.am.gateway.handler.common.user.SessionUserCache;
+import io.gravitee.am.gateway.handler.common.user.UserService;
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
 import io.gravitee.am.gateway.handler.common.vertx.web.auth.user.User;
-import io.gravitee.am.service.UserService;
+import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.vertx.core.Handler;
 import io.vertx.core.logging.Logger;
@@ -38,6 +41,10 @@ import static io.vertx.ext.web.handler.SessionHandler.DEFAULT_SESSION_TIMEOUT;
  * This session handler is also responsible to automatically fetch the current user if a USER_ID_KEY is present in the session.
  * Once loaded, the user is put into the current routing context.
  *
+ * Loaded users are cached for the lifetime of the cookie they come from (see {@link SessionUserCache}) and the cookie
+ * is only re-issued when the session data has changed or when it expires in less than the renewal delay.
+ * Routes changing the session must sign it (see {@link SessionUtils#sign(RoutingContext)}) before ending the response.
+ *
  * @author Jeoffrey HAEYAERT (jeoffrey.haeyaert at graviteesource.com)
  * @author GraviteeSource Team
  */
@@ -49,6 +56,7 @@ public class CookieSessionHandler implements Handler<RoutingContext> {
     private final JWTService jwtService;
     private final CertificateManager certificateManager;
     private final UserService userService;
+    private final SessionUserCache sessionUserCache;
 
     @Value("${http.cookie.session.name:" + DEFAULT_SESSION_COOKIE_NAME + "}")
     private String cookieName;
@@ -56,10 +64,18 @@ public class CookieSessionHandler implements Handler<RoutingContext> {
     @Value("${http.cookie.session.timeout:" + DEFAULT_SESSION_TIMEOUT + "}")
     private long timeout;
 
-    public CookieSessionHandler(JWTService jwtService, CertificateManager certificateManager, UserService userService) {
+    /**
+     * Delay (in milliseconds) before the cookie expiration under which an unchanged session cookie is re-issued,
+     * a negative value means half of the session timeout.
+     */
+    @Value("${http.cookie.session.renewBefore:-1}")
+    private long renewBefore = -1;
+
+    public CookieSessionHandler(JWTService jwtService, CertificateManager certificateManager, UserService userService, SessionUserCache sessionUserCache) {
         this.jwtService = jwtService;
         this.certificateManager = certificateManager;
         this.userService = userService;
+        this.sessionUserCache = sessionUserCache;
     }
 
     @Override
@@ -85,15 +101,25 @@ public class CookieSessionHandler implements Handler<RoutingContext> {
                         String userId = currentSession.get(USER_ID_KEY);
                         if (!StringUtils.isEmpty(userId)) {
                             // Load the user and put it back in the context.
-                            return userService.findById(userId)
+                            return loadUser(userId, currentSession.getIssuedAt())
                                     .doOnSuccess(user -> context.getDelegate().setUser(new User(user)))
-                                    .flatMap(user -> userService.enhance(user).toMaybe())
                                     .map(user -> currentSession)
                                     .switchIfEmpty(cleanupSession(currentSession))
                                     .onErrorResumeNext(cleanupSession(currentSession));
                         } else {
                             return Single.just(currentSession);
                         }
+                    })
+                    .flatMap(currentSession -> {
+                        // sign the renewed cookie now rather than from the headers end handler
+                        if (timeout >= 0 && !currentSession.isDestroyed() && currentSession.isExpiringWithin(renewBefore())) {
+                            return currentSession.renew()
+                                    .onErrorResumeNext(ex -> {
+                                        logger.warn("Unable to renew the session cookie", ex);
+                                        return Single.just(currentSession);
+                                    });
+                        }
+                        return Single.just(currentSession);
                     });
         }
 
@@ -104,6 +130,13 @@ public class CookieSessionHandler implements Handler<RoutingContext> {
                 .subscribe();
     }
 
+    private Maybe<io.gravitee.am.model.User> loadUser(String userId, long issuedAt) {
+        return sessionUserCache.get(userId, issuedAt)
+                .switchIfEmpty(Maybe.defer(() -> userService.findById(userId)
+                        .flatMap(user -> userService.enhance(user).toMaybe())
+                        .doOnSuccess(user -> sessionUserCache.put(userId, issuedAt, user))));
+    }
+
     private Single<CookieSession> cleanupSession(CookieSession currentSession) {
         return Single.defer(() -> {
             // Empty the session to avoid using data of another user (mainly used if user has not been found or in case of error).
@@ -141,7 +174,19 @@ public class CookieSessionHandler implements Handler<RoutingContext> {
             session.put(USER_ID_KEY, ((User) user).getUser().getId());
         }
 
-        Cookie cookie = Cookie.cookie(cookieName, session.value());
+        // the cookie sent by the browser is still valid, no need to issue a new one
+        if (timeout >= 0 && !session.isModified() && !session.isExpiringWithin(renewBefore())) {
+            return;
+        }
+
+        // the cookie is signed by the routes changing the session, nothing is signed while the headers are written
+        final String value = session.value();
+        if (value == null) {
+            logger.warn("The session has been changed without being signed, the session cookie is not re-issued");
+            return;
+        }
+
+        Cookie cookie = Cookie.cookie(cookieName, value);
 
         // set max age if user requested it - else it's a session cookie
         if (timeout >= 0) {
@@ -151,6 +196,10 @@ public class CookieSessionHandler implements Handler<RoutingContext> {
         // All other cookie's properties are managed by a dedicated CookieHandler.
         context.addCookie(cookie);
     }
+
+    private long renewBefore() {
+        return renewBefore < 0 ? timeout / 2 : renewBefore;
+    }
 }
 
 
@@ -0,0 +1,202 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.auth;
+
+import io.gravitee.am.common.exception.authentication.BadCredentialsException;
+import io.gravitee.am.common.exception.authentication.InternalAuthenticationServiceException;
+import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderBulkhead;
+import io.reactivex.Maybe;
+import io.reactivex.observers.TestObserver;
+import io.vertx.core.Vertx;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class IdentityProviderBulkheadTest {
+
+    private IdentityProviderBulkhead bulkhead;
+
+    @After
+    public void tearDown() {
+        if (bulkhead != null) {
+            bulkhead.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldExecuteOnWorkerThread() {
+        bulkhead = new IdentityProviderBulkhead("idp", 1, 10, 5000, 5, 30000);
+
+        TestObserver<String> observer = bulkhead.execute(Maybe.fromCallable(() -> Thread.currentThread().getName())).test();
+        observer.awaitTerminalEvent();
+
+        observer.assertComplete();
+        observer.assertValue(thread -> thread.startsWith("idp-idp-"));
+        assertEquals(0, bulkhead.getInFlight());
+    }
+
+    @Test
+    public void shouldComplete_emptyResult() {
+        bulkhead = new IdentityProviderBulkhead("idp", 1, 10, 5000, 5, 30000);
+
+        TestObserver<Object> observer = bulkhead.execute(Maybe.empty()).test();
+        observer.awaitTerminalEvent();
+
+        observer.assertComplete();
+        observer.assertNoValues();
+    }
+
+    @Test
+    public void shouldRejectWhenQueueIsFull() throws Exception {
+        bulkhead = new IdentityProviderBulkhead("idp", 1, 1, 0, 5, 30000);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        TestObserver<String> running = bulkhead.execute(Maybe.fromCallable(() -> {
+            started.countDown();
+            release.await();
+            return "running";
+        })).test();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        TestObserver<String> queued = bulkhead.execute(Maybe.just("queued")).test();
+        TestObserver<String> rejected = bulkhead.execute(Maybe.just("rejected")).test();
+
+        rejected.assertError(InternalAuthenticationServiceException.class);
+        assertEquals(1, bulkhead.getRejected());
+        assertEquals(1, bulkhead.getInFlight());
+        assertEquals(1, bulkhead.getQueueSize());
+
+        release.countDown();
+        running.awaitTerminalEvent();
+        running.assertValue("running");
+        queued.awaitTerminalEvent();
+        queued.assertValue("queued");
+    }
+
+    @Test
+    public void shouldTimeout() {
+        bulkhead = new IdentityProviderBulkhead("idp", 1, 10, 100, 5, 30000);
+
+        TestObserver<String> observer = bulkhead.execute(Maybe.fromCallable(() -> {
+            Thread.sleep(5000);
+            return "too late";
+        })).test();
+        observer.awaitTerminalEvent();
+
+        observer.assertError(InternalAuthenticationServiceException.class);
+        assertEquals(1, bulkhead.getTimeouts());
+    }
+
+    @Test
+    public void shouldOpenCircuit_consecutiveFailures() {
+        bulkhead = new IdentityProviderBulkhead("idp", 1, 10, 5000, 2, 60000);
+        AtomicInteger calls = new AtomicInteger();
+        Maybe<String> failing = Maybe.fromCallable(() -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("directory unavailable");
+        });
+
+        for (int i = 0; i < 2; i++) {
+            TestObserver<String> observer = bulkhead.execute(failing).test();
+            observer.awaitTerminalEvent();
+            observer.assertError(IllegalStateException.class);
+        }
+        assertEquals(IdentityProviderBulkhead.State.OPEN, bulkhead.getState());
+
+        TestObserver<String> observer = bulkhead.execute(failing).test();
+        observer.awaitTerminalEvent();
+        observer.assertError(InternalAuthenticationServiceException.class);
+        assertEquals(2, calls.get());
+        assertEquals(1, bulkhead.getRejected());
+    }
+
+    @Test
+    public void shouldNotOpenCircuit_badCredentials() {
+        bulkhead = new IdentityProviderBulkhead("idp", 1, 10, 5000, 1, 60000);
+
+        TestObserver<String> observer = bulkhead.execute(Maybe.<String>error(new BadCredentialsException("bad credentials"))).test();
+        observer.awaitTerminalEvent();
+
+        observer.assertError(BadCredentialsException.class);
+        assertEquals(IdentityProviderBulkhead.State.CLOSED, bulkhead.getState());
+    }
+
+    @Test
+    public void shouldCloseCircuit_successfulTrialCall() throws Exception {
+        bulkhead = new IdentityProviderBulkhead("idp", 1, 10, 5000, 1, 100);
+
+        TestObserver<String> observer = bulkhead.execute(Maybe.<String>error(new IllegalStateException("directory unavailable"))).test();
+        observer.awaitTerminalEvent();
+        assertEquals(IdentityProviderBulkhead.State.OPEN, bulkhead.getState());
+
+        Thread.sleep(200);
+        assertEquals(IdentityProviderBulkhead.State.HALF_OPEN, bulkhead.getState());
+
+        observer = bulkhead.execute(Maybe.just("available")).test();
+        observer.awaitTerminalEvent();
+        observer.assertValue("available");
+        assertEquals(IdentityProviderBulkhead.State.CLOSED, bulkhead.getState());
+    }
+
+    @Test
+    public void shouldEmitOnCallerContext() throws Exception {
+        bulkhead = new IdentityProviderBulkhead("idp", 1, 10, 5000, 5, 30000);
+        Vertx vertx = Vertx.vertx();
+        try {
+            CompletableFuture<String> thread = new CompletableFuture<>();
+            vertx.runOnContext(v -> bulkhead.execute(Maybe.just("value"))
+                    .subscribe(value -> thread.complete(Thread.currentThread().getName()), thread::completeExceptionally));
+
+            assertTrue(thread.get(5, TimeUnit.SECONDS).startsWith("vert.x-eventloop-thread"));
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test
+    public void shouldReleaseTrialCall_disposed() throws Exception {
+        bulkhead = new IdentityProviderBulkhead("idp", 1, 10, 0, 1, 100);
+
+        bulkhead.execute(Maybe.<String>error(new IllegalStateException("directory unavailable"))).test().awaitTerminalEvent();
+        Thread.sleep(200);
+        assertEquals(IdentityProviderBulkhead.State.HALF_OPEN, bulkhead.getState());
+
+        // the trial call is disposed by its caller before the identity provider answers
+        CountDownLatch started = new CountDownLatch(1);
+        TestObserver<String> trial = bulkhead.execute(Maybe.fromCallable(() -> {
+            started.countDown();
+            Thread.sleep(5000);
+            return "too late";
+        })).test();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        trial.dispose();
+
+        TestObserver<String> observer = bulkhead.execute(Maybe.just("available")).test();
+        observer.awaitTerminalEvent();
+        observer.assertValue("available");
+        assertEquals(IdentityProviderBulkhead.State.CLOSED, bulkhead.getState());
+    }
+}
@@ -0,0 +1,244 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.auth;
+
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.EventManager;
+import io.gravitee.am.common.event.LoginAttemptEvent;
+import io.gravitee.am.gateway.handler.common.auth.loginattempt.impl.LoginAttemptManagerImpl;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.LoginAttempt;
+import io.gravitee.am.model.account.AccountSettings;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.repository.management.api.LoginAttemptRepository;
+import io.gravitee.am.repository.management.api.search.LoginAttemptCriteria;
+import io.gravitee.am.service.EventService;
+import io.gravitee.am.service.LoginAttemptService;
+import io.gravitee.am.service.utils.LoginAttemptPayloadUtils;
+import io.gravitee.common.event.impl.SimpleEvent;
+import io.reactivex.Completable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LoginAttemptManagerTest {
+
+    private static final String DOMAIN = "domain";
+
+    @InjectMocks
+    private LoginAttemptManagerImpl loginAttemptManager = new LoginAttemptManagerImpl();
+
+    @Mock
+    private Domain domain;
+
+    @Mock
+    private EventService eventService;
+
+    @Mock
+    private EventManager eventManager;
+
+    @Mock
+    private LoginAttemptService loginAttemptService;
+
+    @Mock
+    private LoginAttemptRepository loginAttemptRepository;
+
+    private LoginAttemptCriteria criteria;
+
+    private AccountSettings accountSettings;
+
+    @Before
+    public void setUp() {
+        criteria = new LoginAttemptCriteria.Builder()
+                .domain(DOMAIN)
+                .client("client")
+                .identityProvider("idp")
+                .username("username")
+                .build();
+        accountSettings = new AccountSettings();
+        accountSettings.setLoginAttemptsDetectionEnabled(true);
+        accountSettings.setMaxLoginAttempts(3);
+        accountSettings.setLoginAttemptsResetTime(60);
+        accountSettings.setAccountBlockedDuration(120);
+    }
+
+    @Test
+    public void shouldAnswerLockChecksFromMemory() {
+        when(loginAttemptRepository.findByCriteria(criteria)).thenReturn(Maybe.empty());
+
+        loginAttemptManager.checkAccount(criteria, accountSettings).test().assertComplete().assertNoValues();
+        loginAttemptManager.checkAccount(criteria, accountSettings).test().assertComplete().assertNoValues();
+
+        verify(loginAttemptRepository, times(1)).findByCriteria(criteria);
+        Assert.assertEquals(1, loginAttemptManager.getLoads());
+        Assert.assertEquals(1, loginAttemptManager.getHits());
+    }
+
+    @Test
+    public void shouldCoalesceFailedAttempts() {
+        when(loginAttemptRepository.findByCriteria(criteria)).thenReturn(Maybe.empty());
+        when(loginAttemptRepository.create(any())).thenAnswer(invocation -> Single.just(invocation.getArgument(0)));
+
+        loginAttemptManager.loginFailed(criteria, accountSettings).test().assertValue(loginAttempt -> loginAttempt.getAttempts() == 1);
+        loginAttemptManager.loginFailed(criteria, accountSettings).test().assertValue(loginAttempt -> loginAttempt.getAttempts() == 2);
+        verify(loginAttemptRepository, never()).create(any());
+        Assert.assertEquals(1, loginAttemptManager.getPendingWrites());
+
+        loginAttemptManager.flush().test().assertComplete();
+        loginAttemptManager.flush().test().assertComplete();
+
+        verify(loginAttemptRepository, times(1)).create(argThat(loginAttempt -> loginAttempt.getAttempts() == 2));
+        Assert.assertEquals(0, loginAttemptManager.getPendingWrites());
+    }
+
+    @Test
+    public void shouldLockAccount_writeAndPropagateImmediately() {
+        when(loginAttemptRepository.findByCriteria(criteria)).thenReturn(Maybe.empty());
+        when(loginAttemptRepository.create(any())).thenAnswer(invocation -> Single.just(invocation.getArgument(0)));
+        when(eventService.create(any())).thenReturn(Single.just(new Event()));
+
+        loginAttemptManager.loginFailed(criteria, accountSettings).test();
+        loginAttemptManager.loginFailed(criteria, accountSettings).test();
+        TestObserver<LoginAttempt> observer = loginAttemptManager.loginFailed(criteria, accountSettings).test();
+
+        observer.assertValue(loginAttempt -> loginAttempt.isAccountLocked(accountSettings.getMaxLoginAttempts()));
+        verify(loginAttemptRepository, times(1)).create(any());
+        verify(eventService, times(1)).create(any());
+        loginAttemptManager.checkAccount(criteria, accountSettings).test()
+                .assertValue(loginAttempt -> loginAttempt.isAccountLocked(accountSettings.getMaxLoginAttempts()));
+        Assert.assertEquals(1, loginAttemptManager.getLocks());
+    }
+
+    @Test
+    public void shouldNotWrite_successfulLoginOfUnknownAccount() {
+        when(loginAttemptRepository.findByCriteria(criteria)).thenReturn(Maybe.empty());
+
+        loginAttemptManager.checkAccount(criteria, accountSettings).test();
+        loginAttemptManager.loginSucceeded(criteria).test().assertComplete();
+        loginAttemptManager.flush().test().assertComplete();
+
+        verify(loginAttemptRepository, never()).delete(any(LoginAttemptCriteria.class));
+        verify(loginAttemptService, never()).loginSucceeded(any());
+    }
+
+    @Test
+    public void shouldDelete_successfulLoginOfPersistedAccount() {
+        LoginAttempt loginAttempt = new LoginAttempt();
+        loginAttempt.setId("id");
+        loginAttempt.setAttempts(2);
+        loginAttempt.setExpireAt(new Date(System.currentTimeMillis() + 30000));
+        when(loginAttemptRepository.findByCriteria(criteria)).thenReturn(Maybe.just(loginAttempt));
+        when(loginAttemptRepository.delete(criteria)).thenReturn(Completable.complete());
+
+        loginAttemptManager.checkAccount(criteria, accountSettings).test().assertValue(attempt -> attempt.getAttempts() == 2);
+        loginAttemptManager.loginSucceeded(criteria).test().assertComplete();
+        loginAttemptManager.checkAccount(criteria, accountSettings).test().assertNoValues();
+        loginAttemptManager.flush().test().assertComplete();
+
+        verify(loginAttemptRepository, times(1)).delete(criteria);
+    }
+
+    @Test
+    public void shouldApplyEventsFromOtherGateways() {
+        when(domain.getId()).thenReturn(DOMAIN);
+        when(loginAttemptRepository.findByCriteria(criteria)).thenReturn(Maybe.empty());
+        loginAttemptManager.checkAccount(criteria, accountSettings).test().assertNoValues();
+
+        // account locked by another gateway
+        loginAttemptManager.onEvent(new SimpleEvent<>(LoginAttemptEvent.LOCK,
+                LoginAttemptPayloadUtils.create(criteria, Action.UPDATE, System.currentTimeMillis() + 60000, "other")));
+        loginAttemptManager.checkAccount(criteria, accountSettings).test()
+                .assertValue(loginAttempt -> loginAttempt.isAccountLocked(accountSettings.getMaxLoginAttempts()));
+
+        // account unlocked from the management API
+        loginAttemptManager.onEvent(new SimpleEvent<>(LoginAttemptEvent.RESET,
+                LoginAttemptPayloadUtils.create(new LoginAttemptCriteria.Builder().domain(DOMAIN).username("username").build(), Action.DELETE)));
+        Assert.assertEquals(0, loginAttemptManager.size());
+    }
+
+    @Test
+    public void shouldWriteThrough_evictedEntry() {
+        ReflectionTestUtils.setField(loginAttemptManager, "maxSize", 1);
+        final LoginAttemptCriteria otherCriteria = new LoginAttemptCriteria.Builder()
+                .domain(DOMAIN)
+                .client("client")
+                .identityProvider("idp")
+                .username("other")
+                .build();
+        when(loginAttemptRepository.findByCriteria(any())).thenReturn(Maybe.empty());
+        when(loginAttemptRepository.create(any())).thenAnswer(invocation -> Single.just(invocation.getArgument(0)));
+
+        // the least recently used account is evicted, its pending update is written
+        loginAttemptManager.loginFailed(criteria, accountSettings).test().assertValue(loginAttempt -> loginAttempt.getAttempts() == 1);
+        loginAttemptManager.loginFailed(otherCriteria, accountSettings).test().assertValue(loginAttempt -> loginAttempt.getAttempts() == 1);
+
+        Assert.assertEquals(1, loginAttemptManager.size());
+        Assert.assertEquals(1, loginAttemptManager.getEvictedWrites());
+        verify(loginAttemptRepository, times(1)).create(argThat(loginAttempt -> "username".equals(loginAttempt.getUsername())));
+        verify(loginAttemptRepository, never()).create(argThat(loginAttempt -> "other".equals(loginAttempt.getUsername())));
+    }
+
+    @Test
+    public void shouldMergeAttemptsOfOtherGateways() {
+        LoginAttempt stored = new LoginAttempt();
+        stored.setId("stored-id");
+        stored.setAttempts(1);
+        stored.setCreatedAt(new Date());
+        stored.setExpireAt(new Date(System.currentTimeMillis() + 30000));
+        // the account is unknown when loaded, another gateway has recorded a failure before the flush
+        when(loginAttemptRepository.findByCriteria(criteria)).thenReturn(Maybe.empty(), Maybe.just(stored));
+        when(loginAttemptRepository.update(any())).thenAnswer(invocation -> Single.just(invocation.getArgument(0)));
+
+        loginAttemptManager.loginFailed(criteria, accountSettings).test().assertValue(loginAttempt -> loginAttempt.getAttempts() == 1);
+        loginAttemptManager.flush().test().assertComplete();
+
+        verify(loginAttemptRepository, times(1)).update(argThat(loginAttempt -> "stored-id".equals(loginAttempt.getId()) && loginAttempt.getAttempts() == 2));
+        verify(loginAttemptRepository, never()).create(any());
+        loginAttemptManager.checkAccount(criteria, accountSettings).test().assertValue(loginAttempt -> loginAttempt.getAttempts() == 2);
+    }
+
+    @Test
+    public void shouldWritePendingUpdates_onStop() {
+        when(loginAttemptRepository.findByCriteria(criteria)).thenReturn(Maybe.empty());
+        when(loginAttemptRepository.create(any())).thenAnswer(invocation ->
+                Single.timer(200, TimeUnit.MILLISECONDS).map(tick -> invocation.getArgument(0)));
+
+        loginAttemptManager.loginFailed(criteria, accountSettings).test();
+        ReflectionTestUtils.invokeMethod(loginAttemptManager, "doStop");
+
+        // the pending update has been written before the manager is stopped
+        Assert.assertEquals(1, loginAttemptManager.getWrites());
+        Assert.assertEquals(0, loginAttemptManager.size());
+    }
+}
@@ -15,7 +15,7 @@
  */
 package io.gravitee.am.gateway.handler.common.client;
 
-import io.gravitee.am.gateway.core.manager.EntityManager;
+import io.gravitee.am.gateway.core.manager.ClientManager;
 import io.gravitee.am.gateway.handler.common.client.impl.ClientSyncServiceImpl;
 import io.gravitee.am.model.oidc.Client;
 import io.gravitee.am.model.Domain;
@@ -28,6 +28,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -51,7 +52,7 @@ public class ClientSyncServiceTest {
     private Domain domain;
 
     @Mock
-    private EntityManager<Client> clientManager;
+    private ClientManager clientManager;
 
     @BeforeClass
     public static void initializeClients() {
@@ -102,12 +103,11 @@ public class ClientSyncServiceTest {
     @Before
     public void setUp() {
         when(domain.getId()).thenReturn("domainA");
-        when(clientManager.entities()).thenReturn(clientSet);
     }
 
     @Test
     public void findById_clientFound() {
-        when(clientManager.get("aa")).thenReturn(clientSet.stream().filter(c -> c.getId().equals("aa")).findFirst().get());
+        when(clientManager.get("aa")).thenReturn(findClient("aa"));
         TestObserver<Client> test = clientSyncService.findById("aa").test();
         test.assertComplete().assertNoErrors();
         test.assertValue(client -> client.getClientId().equals("domainAClientA"));
@@ -121,6 +121,7 @@ public class ClientSyncServiceTest {
 
     @Test
     public void findByClientId_clientFound() {
+        when(clientManager.findByDomainAndClientId("domainA", "domainAClientA")).thenReturn(findClient("aa"));
         TestObserver<Client> test = clientSyncService.findByClientId("domainAClientA").test();
         test.assertComplete().assertNoErrors();
         test.assertValue(client -> client.getClientId().equals("domainAClientA"));
@@ -134,6 +135,7 @@ public class ClientSyncServiceTest {
 
     @Test
     public void findTemplates() {
+        when(clientManager.findTemplates("domainA")).thenReturn(Arrays.asList(findClient("ab"), findClient("ac")));
         TestObserver<List<Client>> test = clientSyncService.findTemplates().test();
         test.assertComplete().assertNoErrors();
         test.assertValue(clients -> clients!=null && clients.size()==2);
@@ -148,6 +150,9 @@ public class ClientSyncServiceTest {
         existingClient.setClientId("domainAClientA");
 
         clientSyncService.addDynamicClientRegistred(existingClient);
+        verify(clientManager, times(1)).deploy(existingClient);
+
+        when(clientManager.findByDomainAndClientId("domainA", "domainAClientA")).thenReturn(existingClient);
         TestObserver<Client> test = clientSyncService.findByClientId("domainAClientA").test();
         test.assertComplete().assertNoErrors();
         test.assertValue(client -> client.getClientId().equals("domainAClientA"));
@@ -176,4 +181,8 @@ public class ClientSyncServiceTest {
         clientSyncService.removeDynamicClientRegistred(client);
         verify(clientManager, times(1)).undeploy(client.getId());
     }
+
+    private static Client findClient(String id) {
+        return clientSet.stream().filter(c -> c.getId().equals(id)).findFirst().get();
+    }
 }
@@ -0,0 +1,168 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.group;
+
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.EventManager;
+import io.gravitee.am.common.event.GroupEvent;
+import io.gravitee.am.gateway.handler.common.group.impl.GroupManagerImpl;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.Group;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.service.GroupService;
+import io.gravitee.common.event.impl.SimpleEvent;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import io.reactivex.plugins.RxJavaPlugins;
+import io.reactivex.schedulers.TestScheduler;
+import io.reactivex.subjects.SingleSubject;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class GroupManagerTest {
+
+    private static final String DOMAIN = "domain";
+
+    @InjectMocks
+    private GroupManagerImpl groupManager = new GroupManagerImpl();
+
+    @Mock
+    private Domain domain;
+
+    @Mock
+    private EventManager eventManager;
+
+    @Mock
+    private GroupService groupService;
+
+    @Before
+    public void setUp() {
+        when(domain.getId()).thenReturn(DOMAIN);
+    }
+
+    @After
+    public void tearDown() {
+        RxJavaPlugins.reset();
+    }
+
+    @Test
+    public void shouldFindByMember_fromIndex() throws Exception {
+        when(groupService.findByDomain(DOMAIN)).thenReturn(Single.just(Arrays.asList(
+                group("group-1", "user-1", "user-2"),
+                group("group-2", "user-2"))));
+        groupManager.start();
+
+        groupManager.findByMember("user-1").test().assertValue(groups -> groups.size() == 1);
+        groupManager.findByMember("user-2").test().assertValue(groups -> groups.size() == 2);
+        groupManager.findByMember("user-3").test().assertValue(List::isEmpty);
+
+        verify(groupService, never()).findByMember(any());
+        Assert.assertEquals(1, groupManager.getHitRate(), 0);
+    }
+
+    @Test
+    public void shouldFindByMember_notLoaded() throws Exception {
+        when(groupService.findByDomain(DOMAIN)).thenReturn(Single.error(new RuntimeException()));
+        when(groupService.findByMember("user-1")).thenReturn(Single.just(Collections.singletonList(group("group-1", "user-1"))));
+        groupManager.start();
+
+        groupManager.findByMember("user-1").test().assertValue(groups -> groups.size() == 1);
+        Assert.assertEquals(1, groupManager.getMisses());
+    }
+
+    @Test
+    public void shouldRetryInitialLoad() throws Exception {
+        TestScheduler scheduler = new TestScheduler();
+        RxJavaPlugins.setComputationSchedulerHandler(ignore -> scheduler);
+        when(groupService.findByDomain(DOMAIN)).thenReturn(
+                Single.error(new RuntimeException()),
+                Single.just(Collections.singletonList(group("group-1", "user-1"))));
+        groupManager.start();
+        Assert.assertEquals(0, groupManager.size());
+
+        scheduler.advanceTimeBy(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(1, groupManager.size());
+        groupManager.findByMember("user-1").test().assertValue(groups -> groups.size() == 1);
+        verify(groupService, times(2)).findByDomain(DOMAIN);
+        verify(groupService, never()).findByMember(any());
+    }
+
+    @Test
+    public void shouldNotRestoreGroup_removedWhileLoading() throws Exception {
+        SingleSubject<List<Group>> load = SingleSubject.create();
+        when(groupService.findByDomain(DOMAIN)).thenReturn(load);
+        groupManager.start();
+
+        groupManager.onEvent(new SimpleEvent<>(GroupEvent.UNDEPLOY, new Payload("group-1", ReferenceType.DOMAIN, DOMAIN, Action.DELETE)));
+        load.onSuccess(Arrays.asList(group("group-1", "user-1"), group("group-2", "user-1")));
+
+        groupManager.findByMember("user-1").test().assertValue(groups -> groups.size() == 1 && "group-2".equals(groups.get(0).getId()));
+        Assert.assertEquals(1, groupManager.size());
+    }
+
+    @Test
+    public void shouldUpdateMembers() throws Exception {
+        when(groupService.findByDomain(DOMAIN)).thenReturn(Single.just(Collections.singletonList(group("group-1", "user-1"))));
+        when(groupService.findById("group-1")).thenReturn(Maybe.just(group("group-1", "user-2")));
+        groupManager.start();
+
+        groupManager.onEvent(new SimpleEvent<>(GroupEvent.UPDATE, new Payload("group-1", ReferenceType.DOMAIN, DOMAIN, Action.UPDATE)));
+
+        groupManager.findByMember("user-1").test().assertValue(List::isEmpty);
+        groupManager.findByMember("user-2").test().assertValue(groups -> groups.size() == 1);
+    }
+
+    @Test
+    public void shouldRemoveGroup() throws Exception {
+        when(groupService.findByDomain(DOMAIN)).thenReturn(Single.just(Collections.singletonList(group("group-1", "user-1"))));
+        groupManager.start();
+
+        groupManager.onEvent(new SimpleEvent<>(GroupEvent.UNDEPLOY, new Payload("group-1", ReferenceType.DOMAIN, DOMAIN, Action.DELETE)));
+
+        groupManager.findByMember("user-1").test().assertValue(List::isEmpty);
+        Assert.assertEquals(0, groupManager.size());
+    }
+
+    private Group group(String id, String... members) {
+        Group group = new Group();
+        group.setId(id);
+        group.setName(id);
+        group.setReferenceType(ReferenceType.DOMAIN);
+        group.setReferenceId(DOMAIN);
+        group.setMembers(Arrays.asList(members));
+        return group;
+    }
+}
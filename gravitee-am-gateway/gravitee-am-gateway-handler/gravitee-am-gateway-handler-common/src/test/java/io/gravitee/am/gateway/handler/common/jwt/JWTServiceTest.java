@@ -16,6 +16,7 @@
 package io.gravitee.am.gateway.handler.common.jwt;
 
 import io.gravitee.am.common.jwt.JWT;
+import io.gravitee.am.gateway.certificate.crypto.CryptoExecutor;
 import io.gravitee.am.jwt.JWTBuilder;
 import io.gravitee.am.gateway.handler.common.certificate.CertificateManager;
 import io.gravitee.am.gateway.handler.common.jwt.impl.JWTServiceImpl;
@@ -27,6 +28,7 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -45,6 +47,9 @@ public class JWTServiceTest {
     @Mock
     private CertificateManager certificateManager;
 
+    @Spy
+    private CryptoExecutor cryptoExecutor = new CryptoExecutor(0, 0, null);
+
     @Before
     public void setUp() {
         JWTBuilder rs256JWTBuilder = mock(JWTBuilder.class);
@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.oauth2;
+
+import io.gravitee.am.common.jwt.JWT;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class IntrospectionTokenCacheTest {
+
+    private final IntrospectionTokenCache introspectionTokenCache = new IntrospectionTokenCache(true, 2, 60000);
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntry() {
+        introspectionTokenCache.put("token-1", jwt("jti-1"), IntrospectionTokenCache.Status.ACTIVE);
+        introspectionTokenCache.put("token-2", jwt("jti-2"), IntrospectionTokenCache.Status.ACTIVE);
+        assertNotNull(introspectionTokenCache.get("token-1"));
+
+        introspectionTokenCache.put("token-3", jwt("jti-3"), IntrospectionTokenCache.Status.ACTIVE);
+
+        assertEquals(2, introspectionTokenCache.size());
+        assertEquals(1, introspectionTokenCache.getEvictions());
+        assertNotNull(introspectionTokenCache.get("token-1"));
+        assertNull(introspectionTokenCache.get("token-2"));
+        assertNotNull(introspectionTokenCache.get("token-3"));
+    }
+
+    @Test
+    public void shouldInvalidateByJti() {
+        introspectionTokenCache.put("token-1", jwt("jti-1"), IntrospectionTokenCache.Status.ACTIVE);
+        introspectionTokenCache.put("token-2", jwt("jti-2"), IntrospectionTokenCache.Status.ACTIVE);
+
+        introspectionTokenCache.invalidate("jti-1");
+
+        assertNull(introspectionTokenCache.get("token-1"));
+        assertNotNull(introspectionTokenCache.get("token-2"));
+    }
+
+    @Test
+    public void shouldInvalidateByJti_entryReplaced() {
+        introspectionTokenCache.put("token-1", jwt("jti-1"), IntrospectionTokenCache.Status.VERIFIED);
+        introspectionTokenCache.put("token-1", jwt("jti-1"), IntrospectionTokenCache.Status.ACTIVE);
+        assertEquals(IntrospectionTokenCache.Status.ACTIVE, introspectionTokenCache.get("token-1").getStatus());
+
+        introspectionTokenCache.invalidate("jti-1");
+
+        assertNull(introspectionTokenCache.get("token-1"));
+    }
+
+    private static JWT jwt(String jti) {
+        JWT jwt = new JWT();
+        jwt.setJti(jti);
+        return jwt;
+    }
+}
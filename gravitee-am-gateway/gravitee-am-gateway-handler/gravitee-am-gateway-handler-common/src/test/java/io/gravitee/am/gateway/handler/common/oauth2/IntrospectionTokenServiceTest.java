@@ -31,12 +31,14 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
 
+import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.*;
 
 /**
@@ -58,6 +60,9 @@ public class IntrospectionTokenServiceTest {
     @Mock
     private AccessTokenRepository accessTokenRepository;
 
+    @Spy
+    private IntrospectionTokenCache introspectionTokenCache = new IntrospectionTokenCache(true, 100, 60000);
+
     @Test
     public void shouldIntrospect_validToken_offline_verification() {
         final String token = "token";
@@ -191,4 +196,108 @@ public class IntrospectionTokenServiceTest {
         testObserver.assertError(InvalidTokenException.class);
         verify(accessTokenRepository, times(1)).findByToken(jwt.getJti());
     }
+
+    @Test
+    public void shouldIntrospect_validToken_fromCache() {
+        final String token = "token";
+        final JWT jwt = new JWT();
+        jwt.setJti("jti");
+        jwt.setDomain("domain");
+        jwt.setAud("client");
+        jwt.setIat(Instant.now().minus(1, ChronoUnit.DAYS).getEpochSecond());
+        jwt.setExp(Instant.now().plus(1, ChronoUnit.DAYS).getEpochSecond());
+        final Client client = new Client();
+        client.setClientId("client-id");
+
+        final AccessToken accessToken = new AccessToken();
+        accessToken.setExpireAt(new Date(Instant.now().plus(1, ChronoUnit.DAYS).toEpochMilli()));
+
+        when(jwtService.decode(token)).thenReturn(Single.just(jwt));
+        when(clientService.findByDomainAndClientId(jwt.getDomain(), jwt.getAud())).thenReturn(Maybe.just(client));
+        when(jwtService.decodeAndVerify(token, client)).thenReturn(Single.just(jwt));
+        when(accessTokenRepository.findByToken(jwt.getJti())).thenReturn(Maybe.just(accessToken));
+
+        introspectionTokenService.introspect(token, false).test().assertValue(jwt1 -> "jti".equals(jwt1.getJti()));
+        introspectionTokenService.introspect(token, false).test().assertValue(jwt1 -> "jti".equals(jwt1.getJti()));
+
+        verify(jwtService, times(1)).decodeAndVerify(token, client);
+        verify(accessTokenRepository, times(1)).findByToken(jwt.getJti());
+        assertEquals(1, introspectionTokenCache.getHits());
+        assertEquals(1, introspectionTokenCache.getMisses());
+    }
+
+    @Test
+    public void shouldIntrospect_offlineVerifiedToken_fromCache_checkTokenStore() {
+        final String token = "token";
+        final JWT jwt = new JWT();
+        jwt.setJti("jti");
+        jwt.setDomain("domain");
+        jwt.setAud("client");
+        jwt.setIat(Instant.now().minus(1, ChronoUnit.DAYS).getEpochSecond());
+        final Client client = new Client();
+        client.setClientId("client-id");
+
+        final AccessToken accessToken = new AccessToken();
+        accessToken.setExpireAt(new Date(Instant.now().plus(1, ChronoUnit.DAYS).toEpochMilli()));
+
+        when(jwtService.decode(token)).thenReturn(Single.just(jwt));
+        when(clientService.findByDomainAndClientId(jwt.getDomain(), jwt.getAud())).thenReturn(Maybe.just(client));
+        when(jwtService.decodeAndVerify(token, client)).thenReturn(Single.just(jwt));
+        when(accessTokenRepository.findByToken(jwt.getJti())).thenReturn(Maybe.just(accessToken));
+
+        introspectionTokenService.introspect(token, true).test().assertComplete();
+        // signature already verified, only the token store is checked
+        introspectionTokenService.introspect(token, false).test().assertComplete();
+
+        verify(jwtService, times(1)).decodeAndVerify(token, client);
+        verify(accessTokenRepository, times(1)).findByToken(jwt.getJti());
+    }
+
+    @Test
+    public void shouldIntrospect_invalidValidToken_token_revoked_fromCache() {
+        final String token = "token";
+        final JWT jwt = new JWT();
+        jwt.setJti("jti");
+        jwt.setDomain("domain");
+        jwt.setAud("client");
+        jwt.setIat(Instant.now().minus(1, ChronoUnit.DAYS).getEpochSecond());
+        final Client client = new Client();
+        client.setClientId("client-id");
+
+        when(jwtService.decode(token)).thenReturn(Single.just(jwt));
+        when(clientService.findByDomainAndClientId(jwt.getDomain(), jwt.getAud())).thenReturn(Maybe.just(client));
+        when(jwtService.decodeAndVerify(token, client)).thenReturn(Single.just(jwt));
+        when(accessTokenRepository.findByToken(jwt.getJti())).thenReturn(Maybe.empty());
+
+        introspectionTokenService.introspect(token, false).test().assertError(InvalidTokenException.class);
+        introspectionTokenService.introspect(token, false).test().assertError(InvalidTokenException.class);
+
+        verify(accessTokenRepository, times(1)).findByToken(jwt.getJti());
+    }
+
+    @Test
+    public void shouldIntrospect_invalidValidToken_revokedAfterCaching() {
+        final String token = "token";
+        final JWT jwt = new JWT();
+        jwt.setJti("jti");
+        jwt.setDomain("domain");
+        jwt.setAud("client");
+        jwt.setIat(Instant.now().minus(1, ChronoUnit.DAYS).getEpochSecond());
+        final Client client = new Client();
+        client.setClientId("client-id");
+
+        final AccessToken accessToken = new AccessToken();
+        accessToken.setExpireAt(new Date(Instant.now().plus(1, ChronoUnit.DAYS).toEpochMilli()));
+
+        when(jwtService.decode(token)).thenReturn(Single.just(jwt));
+        when(clientService.findByDomainAndClientId(jwt.getDomain(), jwt.getAud())).thenReturn(Maybe.just(client));
+        when(jwtService.decodeAndVerify(token, client)).thenReturn(Single.just(jwt));
+        when(accessTokenRepository.findByToken(jwt.getJti())).thenReturn(Maybe.just(accessToken), Maybe.empty());
+
+        introspectionTokenService.introspect(token, false).test().assertComplete();
+        introspectionTokenService.invalidate(jwt.getJti());
+        introspectionTokenService.introspect(token, false).test().assertError(InvalidTokenException.class);
+
+        verify(accessTokenRepository, times(2)).findByToken(jwt.getJti());
+    }
 }
@@ -0,0 +1,147 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.role;
+
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.EventManager;
+import io.gravitee.am.common.event.RoleEvent;
+import io.gravitee.am.gateway.handler.common.role.impl.RoleManagerImpl;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.Role;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.service.RoleService;
+import io.gravitee.common.event.impl.SimpleEvent;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RoleManagerTest {
+
+    private static final String DOMAIN = "domain";
+
+    @InjectMocks
+    private RoleManagerImpl roleManager = new RoleManagerImpl();
+
+    @Mock
+    private Domain domain;
+
+    @Mock
+    private EventManager eventManager;
+
+    @Mock
+    private RoleService roleService;
+
+    @Before
+    public void setUp() {
+        when(domain.getId()).thenReturn(DOMAIN);
+    }
+
+    @Test
+    public void shouldFindRoles_fromCache() throws Exception {
+        when(roleService.findByDomain(DOMAIN)).thenReturn(Single.just(new HashSet<>(Arrays.asList(role("role-1", "read"), role("role-2", "write")))));
+        roleManager.start();
+
+        TestObserver<Set<Role>> testObserver = roleManager.findByIdIn(Arrays.asList("role-1", "role-2")).test();
+        testObserver.assertComplete();
+        testObserver.assertValue(roles -> roles.size() == 2);
+
+        verify(roleService, never()).findByIdIn(any());
+        Assert.assertEquals(1, roleManager.getHits());
+        Assert.assertEquals(0, roleManager.getMisses());
+    }
+
+    @Test
+    public void shouldFindRoles_missingRoleFetchedOnce() throws Exception {
+        when(roleService.findByDomain(DOMAIN)).thenReturn(Single.just(Collections.emptySet()));
+        when(roleService.findByIdIn(Collections.singletonList("role-1"))).thenReturn(Single.just(Collections.singleton(role("role-1", "read"))));
+        roleManager.start();
+
+        roleManager.findByIdIn(Collections.singletonList("role-1")).test().assertValue(roles -> roles.size() == 1);
+        roleManager.findByIdIn(Collections.singletonList("role-1")).test().assertValue(roles -> roles.size() == 1);
+
+        verify(roleService, times(1)).findByIdIn(any());
+        Assert.assertEquals(0.5, roleManager.getHitRate(), 0);
+    }
+
+    @Test
+    public void shouldPropagateRoleUpdate_withinOneSyncCycle() throws Exception {
+        when(roleService.findByDomain(DOMAIN)).thenReturn(Single.just(Collections.singleton(role("role-1", "read"))));
+        when(roleService.findById("role-1")).thenReturn(Maybe.just(role("role-1", "write")));
+        roleManager.start();
+
+        roleManager.findByIdIn(Collections.singletonList("role-1")).test()
+                .assertValue(roles -> roles.iterator().next().getOauthScopes().contains("read"));
+
+        // event published by the sync process after the role has been updated
+        roleManager.onEvent(new SimpleEvent<>(RoleEvent.UPDATE, new Payload("role-1", ReferenceType.DOMAIN, DOMAIN, Action.UPDATE)));
+
+        roleManager.findByIdIn(Collections.singletonList("role-1")).test()
+                .assertValue(roles -> roles.iterator().next().getOauthScopes().contains("write"));
+        verify(roleService, never()).findByIdIn(any());
+    }
+
+    @Test
+    public void shouldRemoveRole() throws Exception {
+        when(roleService.findByDomain(DOMAIN)).thenReturn(Single.just(Collections.singleton(role("role-1", "read"))));
+        when(roleService.findByIdIn(Collections.singletonList("role-1"))).thenReturn(Single.just(Collections.emptySet()));
+        roleManager.start();
+
+        roleManager.onEvent(new SimpleEvent<>(RoleEvent.UNDEPLOY, new Payload("role-1", ReferenceType.DOMAIN, DOMAIN, Action.DELETE)));
+
+        roleManager.findByIdIn(Collections.singletonList("role-1")).test().assertValue(Set::isEmpty);
+        Assert.assertEquals(0, roleManager.size());
+    }
+
+    @Test
+    public void shouldIgnoreEvent_otherDomain() throws Exception {
+        when(roleService.findByDomain(DOMAIN)).thenReturn(Single.just(Collections.singleton(role("role-1", "read"))));
+        roleManager.start();
+
+        roleManager.onEvent(new SimpleEvent<>(RoleEvent.UNDEPLOY, new Payload("role-1", ReferenceType.DOMAIN, "other-domain", Action.DELETE)));
+
+        Assert.assertEquals(1, roleManager.size());
+        verify(roleService, never()).findById(any(String.class));
+    }
+
+    private Role role(String id, String scope) {
+        Role role = new Role();
+        role.setId(id);
+        role.setReferenceType(ReferenceType.DOMAIN);
+        role.setReferenceId(DOMAIN);
+        role.setOauthScopes(Collections.singletonList(scope));
+        return role;
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.user;
+
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.EventManager;
+import io.gravitee.am.common.event.UserEvent;
+import io.gravitee.am.gateway.handler.common.user.impl.SessionUserCacheImpl;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.User;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.common.event.impl.SimpleEvent;
+import io.vertx.reactivex.core.Vertx;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.when;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SessionUserCacheTest {
+
+    private static final String DOMAIN = "domain";
+
+    @InjectMocks
+    private SessionUserCacheImpl sessionUserCache = new SessionUserCacheImpl();
+
+    @Mock
+    private Domain domain;
+
+    @Mock
+    private EventManager eventManager;
+
+    @Mock
+    private Vertx vertx;
+
+    @Test
+    public void shouldGetUser_sameCookie() {
+        sessionUserCache.put("user-id", 1000L, user("user-id"));
+
+        sessionUserCache.get("user-id", 1000L).test().assertValue(user -> user.getGroups().contains("group"));
+        sessionUserCache.get("user-id", 2000L).test().assertNoValues();
+
+        Assert.assertEquals(1, sessionUserCache.getHits());
+        Assert.assertEquals(1, sessionUserCache.getMisses());
+    }
+
+    @Test
+    public void shouldNotShareCachedInstance() {
+        User user = user("user-id");
+        sessionUserCache.put("user-id", 1000L, user);
+        user.setUsername("updated");
+
+        User cachedUser = sessionUserCache.get("user-id", 1000L).blockingGet();
+        Assert.assertEquals("username", cachedUser.getUsername());
+        cachedUser.setUsername("updated");
+        Assert.assertEquals("username", sessionUserCache.get("user-id", 1000L).blockingGet().getUsername());
+    }
+
+    @Test
+    public void shouldInvalidateUser_userEvent() {
+        when(domain.getId()).thenReturn(DOMAIN);
+        sessionUserCache.put("user-id", 1000L, user("user-id"));
+        sessionUserCache.put("user-id", 2000L, user("user-id"));
+        sessionUserCache.put("other-user-id", 1000L, user("other-user-id"));
+
+        sessionUserCache.onEvent(new SimpleEvent<>(UserEvent.UPDATE, new Payload("user-id", ReferenceType.DOMAIN, DOMAIN, Action.UPDATE)));
+
+        sessionUserCache.get("user-id", 1000L).test().assertNoValues();
+        sessionUserCache.get("user-id", 2000L).test().assertNoValues();
+        sessionUserCache.get("other-user-id", 1000L).test().assertValueCount(1);
+        Assert.assertEquals(1, sessionUserCache.size());
+    }
+
+    private User user(String id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("username");
+        user.setGroups(Collections.singletonList("group"));
+        return user;
+    }
+}
@@ -0,0 +1,186 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.common.vertx.web.handler;
+
+import io.gravitee.am.common.jwt.JWT;
+import io.gravitee.am.gateway.certificate.CertificateProvider;
+import io.gravitee.am.gateway.handler.common.certificate.CertificateManager;
+import io.gravitee.am.gateway.handler.common.jwt.JWTService;
+import io.gravitee.am.gateway.handler.common.user.SessionUserCache;
+import io.gravitee.am.gateway.handler.common.user.UserService;
+import io.gravitee.am.gateway.handler.common.vertx.RxWebTestBase;
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
+import io.gravitee.am.gateway.handler.common.vertx.web.handler.impl.CookieSessionHandler;
+import io.gravitee.common.http.HttpStatusCode;
+import io.reactivex.Single;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.reactivex.ext.web.handler.CookieHandler;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CookieSessionHandlerTest extends RxWebTestBase {
+
+    private static final String COOKIE_NAME = "GRAVITEE_IO_AM_SESSION";
+
+    @Mock
+    private JWTService jwtService;
+
+    @Mock
+    private CertificateManager certificateManager;
+
+    @Mock
+    private CertificateProvider certificateProvider;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private SessionUserCache sessionUserCache;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        CookieSessionHandler cookieSessionHandler = new CookieSessionHandler(jwtService, certificateManager, userService, sessionUserCache);
+        ReflectionTestUtils.setField(cookieSessionHandler, "cookieName", COOKIE_NAME);
+        ReflectionTestUtils.setField(cookieSessionHandler, "timeout", TimeUnit.MINUTES.toMillis(30));
+        ReflectionTestUtils.setField(cookieSessionHandler, "renewBefore", TimeUnit.MINUTES.toMillis(1));
+
+        when(certificateManager.defaultCertificateProvider()).thenReturn(certificateProvider);
+
+        router.route().handler(CookieHandler.create());
+        router.route().handler(cookieSessionHandler);
+    }
+
+    @Test
+    public void shouldNotReissueCookie_unchangedSession() throws Exception {
+        when(jwtService.decodeAndVerify("session-jwt", certificateProvider)).thenReturn(Single.just(sessionJwt(TimeUnit.MINUTES.toMillis(20))));
+
+        router.route("/login").handler(rc -> rc.response().end());
+
+        testRequest(
+                HttpMethod.GET,
+                "/login",
+                req -> req.putHeader("cookie", COOKIE_NAME + "=session-jwt"),
+                resp -> assertTrue(resp.cookies().isEmpty()),
+                HttpStatusCode.OK_200, "OK", null);
+
+        verify(jwtService, never()).encode(any(JWT.class), any(CertificateProvider.class));
+    }
+
+    @Test
+    public void shouldReissueCookie_expiringSession() throws Exception {
+        when(jwtService.decodeAndVerify("session-jwt", certificateProvider)).thenReturn(Single.just(sessionJwt(TimeUnit.SECONDS.toMillis(30))));
+        when(jwtService.encode(any(JWT.class), eq(certificateProvider))).thenReturn(Single.just("renewed-jwt"));
+
+        router.route("/login").handler(rc -> rc.response().end());
+
+        testRequest(
+                HttpMethod.GET,
+                "/login",
+                req -> req.putHeader("cookie", COOKIE_NAME + "=session-jwt"),
+                resp -> assertSessionCookie(resp.cookies(), "renewed-jwt"),
+                HttpStatusCode.OK_200, "OK", null);
+
+        verify(jwtService, times(1)).encode(any(JWT.class), eq(certificateProvider));
+    }
+
+    @Test
+    public void shouldReissueCookie_modifiedSession() throws Exception {
+        when(jwtService.decodeAndVerify("session-jwt", certificateProvider)).thenReturn(Single.just(sessionJwt(TimeUnit.MINUTES.toMillis(20))));
+        when(jwtService.encode(any(JWT.class), eq(certificateProvider))).thenReturn(Single.just("modified-jwt"));
+
+        router.route("/login").handler(rc -> {
+            rc.session().put("client_id", "test-client");
+            SessionUtils.sign(rc).subscribe(() -> rc.response().end());
+        });
+
+        testRequest(
+                HttpMethod.GET,
+                "/login",
+                req -> req.putHeader("cookie", COOKIE_NAME + "=session-jwt"),
+                resp -> assertSessionCookie(resp.cookies(), "modified-jwt"),
+                HttpStatusCode.OK_200, "OK", null);
+
+        verify(jwtService, times(1)).encode(argThat(jwt -> "test-client".equals(jwt.get("client_id"))), eq(certificateProvider));
+    }
+
+    @Test
+    public void shouldReissueCookie_modifiedSession_asyncSignature() throws Exception {
+        when(jwtService.decodeAndVerify("session-jwt", certificateProvider)).thenReturn(Single.just(sessionJwt(TimeUnit.MINUTES.toMillis(20))));
+        when(jwtService.encode(any(JWT.class), eq(certificateProvider))).thenReturn(Single.just("modified-jwt").delay(100, TimeUnit.MILLISECONDS));
+
+        router.route("/login").handler(rc -> {
+            rc.session().put("client_id", "test-client");
+            SessionUtils.sign(rc).subscribe(() -> rc.response().end());
+        });
+
+        testRequest(
+                HttpMethod.GET,
+                "/login",
+                req -> req.putHeader("cookie", COOKIE_NAME + "=session-jwt"),
+                resp -> assertSessionCookie(resp.cookies(), "modified-jwt"),
+                HttpStatusCode.OK_200, "OK", null);
+    }
+
+    @Test
+    public void shouldNotReissueCookie_modifiedSessionNotSigned() throws Exception {
+        when(jwtService.decodeAndVerify("session-jwt", certificateProvider)).thenReturn(Single.just(sessionJwt(TimeUnit.MINUTES.toMillis(20))));
+
+        router.route("/login").handler(rc -> {
+            rc.session().put("client_id", "test-client");
+            rc.response().end();
+        });
+
+        // the signature is never awaited while the response headers are written
+        testRequest(
+                HttpMethod.GET,
+                "/login",
+                req -> req.putHeader("cookie", COOKIE_NAME + "=session-jwt"),
+                resp -> assertTrue(resp.cookies().isEmpty()),
+                HttpStatusCode.OK_200, "OK", null);
+
+        verify(jwtService, never()).encode(any(JWT.class), any(CertificateProvider.class));
+    }
+
+    private static JWT sessionJwt(long expiresIn) {
+        long now = System.currentTimeMillis();
+        JWT jwt = new JWT();
+        jwt.setIat(now / 1000);
+        jwt.setExp((now + expiresIn) / 1000);
+        return jwt;
+    }
+
+    private void assertSessionCookie(List<String> cookies, String value) {
+        assertEquals(1, cookies.size());
+        assertTrue(cookies.get(0).startsWith(COOKIE_NAME + "=" + value + ";"));
+    }
+}
@@ -18,8 +18,12 @@ package io.gravitee.am.gateway.handler;
 import io.gravitee.am.gateway.handler.common.audit.AuditReporterManager;
 import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderManager;
 import io.gravitee.am.gateway.handler.common.auth.listener.AuthenticationEventListener;
+import io.gravitee.am.gateway.handler.common.auth.loginattempt.LoginAttemptManager;
 import io.gravitee.am.gateway.handler.common.flow.FlowManager;
+import io.gravitee.am.gateway.handler.common.group.GroupManager;
 import io.gravitee.am.gateway.handler.common.policy.PolicyManager;
+import io.gravitee.am.gateway.handler.common.role.RoleManager;
+import io.gravitee.am.gateway.handler.common.user.SessionUserCache;
 import io.gravitee.am.gateway.handler.common.user.UserManager;
 import io.gravitee.am.gateway.handler.common.email.EmailManager;
 import io.gravitee.am.gateway.handler.factor.FactorManager;
@@ -101,6 +105,10 @@ public class SecurityDomainRouterFactory {
         components.add(FlowManager.class);
         components.add(AuthenticationEventListener.class);
         components.add(UserManager.class);
+        components.add(SessionUserCache.class);
+        components.add(LoginAttemptManager.class);
+        components.add(RoleManager.class);
+        components.add(GroupManager.class);
         components.add(FactorManager.class);
 
         components.forEach(componentClass -> {
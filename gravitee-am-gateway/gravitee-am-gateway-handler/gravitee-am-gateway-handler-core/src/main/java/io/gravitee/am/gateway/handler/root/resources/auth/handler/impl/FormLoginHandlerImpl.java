@@ -18,6 +18,7 @@ package io.gravitee.am.gateway.handler.root.resources.auth.handler.impl;
 import io.gravitee.am.common.jwt.Claims;
 import io.gravitee.am.common.oauth2.Parameters;
 import io.gravitee.am.gateway.handler.common.vertx.utils.RequestUtils;
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
 import io.gravitee.am.gateway.handler.common.vertx.utils.UriBuilderRequest;
 import io.gravitee.am.gateway.handler.common.vertx.web.auth.provider.UserAuthProvider;
 import io.gravitee.am.gateway.handler.common.vertx.web.auth.user.User;
@@ -86,7 +87,7 @@ public class FormLoginHandlerImpl implements FormLoginHandler {
                         context.getDelegate().setUser(result);
                         final MultiMap queryParams = RequestUtils.getCleanedQueryParams(context.request());
                         final String redirectUri = UriBuilderRequest.resolveProxyRequest(context.request(), context.get(CONTEXT_PATH) + "/oauth/authorize", queryParams);
-                        doRedirect(context.response(), redirectUri);
+                        SessionUtils.sign(context).subscribe(() -> doRedirect(context.response(), redirectUri));
                     } else {
                         handleException(context);
                     }
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.gateway.handler.root.resources.auth.handler.impl;
 
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
 import io.gravitee.am.common.exception.authentication.AuthenticationException;
 import io.gravitee.am.common.oauth2.Parameters;
 import io.gravitee.am.gateway.handler.common.vertx.utils.UriBuilderRequest;
@@ -71,7 +72,7 @@ public class SocialAuthHandlerImpl implements SocialAuthHandler {
             if (authN.succeeded()) {
                 final User authenticated = authN.result();
                 ctx.getDelegate().setUser(authenticated);
-                ctx.next();
+                SessionUtils.sign(ctx).subscribe(ctx::next);
             } else {
                 // to allow further processing if needed
                 processException(ctx, new HttpStatusException(401, authN.cause()));
@@ -16,6 +16,7 @@
 package io.gravitee.am.gateway.handler.root.resources.endpoint.login;
 
 import com.google.common.net.HttpHeaders;
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
 import io.gravitee.am.gateway.handler.common.vertx.utils.UriBuilderRequest;
 import io.vertx.core.Handler;
 import io.vertx.reactivex.core.MultiMap;
@@ -44,7 +45,7 @@ public class LoginCallbackEndpoint implements Handler<RoutingContext> {
             session.put(ID_TOKEN_KEY, routingContext.get(ID_TOKEN_KEY));
         }
 
-        doRedirect(routingContext.response(), returnURL);
+        SessionUtils.sign(routingContext).subscribe(() -> doRedirect(routingContext.response(), returnURL));
     }
 
     private void doRedirect(HttpServerResponse response, String url) {
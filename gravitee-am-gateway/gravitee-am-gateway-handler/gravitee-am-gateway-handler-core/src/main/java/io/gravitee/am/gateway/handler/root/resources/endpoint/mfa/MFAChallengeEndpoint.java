@@ -19,6 +19,7 @@ import io.gravitee.am.common.factor.FactorSecurityType;
 import io.gravitee.am.factor.api.FactorProvider;
 import io.gravitee.am.gateway.handler.common.utils.ConstantKeys;
 import io.gravitee.am.gateway.handler.common.vertx.utils.RequestUtils;
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
 import io.gravitee.am.gateway.handler.common.vertx.utils.UriBuilderRequest;
 import io.gravitee.am.gateway.handler.factor.FactorManager;
 import io.gravitee.am.gateway.handler.form.FormManager;
@@ -153,12 +154,12 @@ public class MFAChallengeEndpoint implements Handler<RoutingContext> {
 
                     // update user strong auth status
                     routingContext.session().put(ConstantKeys.STRONG_AUTH_COMPLETED_KEY, true);
-                    doRedirect(routingContext.request().response(), returnURL);
+                    SessionUtils.sign(routingContext).subscribe(() -> doRedirect(routingContext.request().response(), returnURL));
                 });
             } else {
                 // update user strong auth status
                 routingContext.session().put(ConstantKeys.STRONG_AUTH_COMPLETED_KEY, true);
-                doRedirect(routingContext.request().response(), returnURL);
+                SessionUtils.sign(routingContext).subscribe(() -> doRedirect(routingContext.request().response(), returnURL));
             }
         });
     }
@@ -17,6 +17,7 @@ package io.gravitee.am.gateway.handler.root.resources.endpoint.user.password;
 
 import io.gravitee.am.gateway.handler.common.utils.ConstantKeys;
 import io.gravitee.am.gateway.handler.common.vertx.utils.RequestUtils;
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
 import io.gravitee.am.gateway.handler.root.resources.handler.user.UserRequestHandler;
 import io.gravitee.am.gateway.handler.root.service.response.ResetPasswordResponse;
 import io.gravitee.am.gateway.handler.root.service.user.UserService;
@@ -74,17 +75,19 @@ public class ResetPasswordSubmissionEndpoint extends UserRequestHandler {
             if (resetPasswordResponse.isAutoLogin()) {
                 context.setUser(io.vertx.reactivex.ext.auth.User.newInstance(new io.gravitee.am.gateway.handler.common.vertx.web.auth.user.User(resetPasswordResponse.getUser())));
             }
-            // no redirect uri has been set, redirect to the default page
-            if (resetPasswordResponse.getRedirectUri() == null || resetPasswordResponse.getRedirectUri().isEmpty()) {
-                queryParams.set(ConstantKeys.SUCCESS_PARAM_KEY, "reset_password_completed");
-                redirectToPage(context, queryParams);
-                return;
-            }
-            // else, redirect to the custom redirect_uri
-            context.response()
-                    .putHeader(HttpHeaders.LOCATION, resetPasswordResponse.getRedirectUri())
-                    .setStatusCode(302)
-                    .end();
+            SessionUtils.sign(context).subscribe(() -> {
+                // no redirect uri has been set, redirect to the default page
+                if (resetPasswordResponse.getRedirectUri() == null || resetPasswordResponse.getRedirectUri().isEmpty()) {
+                    queryParams.set(ConstantKeys.SUCCESS_PARAM_KEY, "reset_password_completed");
+                    redirectToPage(context, queryParams);
+                    return;
+                }
+                // else, redirect to the custom redirect_uri
+                context.response()
+                        .putHeader(HttpHeaders.LOCATION, resetPasswordResponse.getRedirectUri())
+                        .setStatusCode(302)
+                        .end();
+            });
         });
     }
 
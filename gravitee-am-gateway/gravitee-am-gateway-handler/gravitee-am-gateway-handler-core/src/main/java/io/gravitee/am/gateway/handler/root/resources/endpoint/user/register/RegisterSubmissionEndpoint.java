@@ -18,6 +18,7 @@ package io.gravitee.am.gateway.handler.root.resources.endpoint.user.register;
 import io.gravitee.am.common.jwt.Claims;
 import io.gravitee.am.gateway.handler.common.utils.ConstantKeys;
 import io.gravitee.am.gateway.handler.common.vertx.utils.RequestUtils;
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
 import io.gravitee.am.gateway.handler.root.resources.handler.user.UserRequestHandler;
 import io.gravitee.am.gateway.handler.root.service.response.RegistrationResponse;
 import io.gravitee.am.gateway.handler.root.service.user.UserService;
@@ -89,17 +90,19 @@ public class RegisterSubmissionEndpoint extends UserRequestHandler {
             if (registrationResponse.isAutoLogin()) {
                 context.setUser(io.vertx.reactivex.ext.auth.User.newInstance(new io.gravitee.am.gateway.handler.common.vertx.web.auth.user.User(registrationResponse.getUser())));
             }
-            // no redirect uri has been set, redirect to the default page
-            if (registrationResponse.getRedirectUri() == null || registrationResponse.getRedirectUri().isEmpty()) {
-                queryParams.set(ConstantKeys.SUCCESS_PARAM_KEY, "registration_succeed");
-                redirectToPage(context, queryParams);
-                return;
-            }
-            // else, redirect to the custom redirect_uri
-            context.response()
-                    .putHeader(HttpHeaders.LOCATION, registrationResponse.getRedirectUri())
-                    .setStatusCode(302)
-                    .end();
+            SessionUtils.sign(context).subscribe(() -> {
+                // no redirect uri has been set, redirect to the default page
+                if (registrationResponse.getRedirectUri() == null || registrationResponse.getRedirectUri().isEmpty()) {
+                    queryParams.set(ConstantKeys.SUCCESS_PARAM_KEY, "registration_succeed");
+                    redirectToPage(context, queryParams);
+                    return;
+                }
+                // else, redirect to the custom redirect_uri
+                context.response()
+                        .putHeader(HttpHeaders.LOCATION, registrationResponse.getRedirectUri())
+                        .setStatusCode(302)
+                        .end();
+            });
         });
     }
 
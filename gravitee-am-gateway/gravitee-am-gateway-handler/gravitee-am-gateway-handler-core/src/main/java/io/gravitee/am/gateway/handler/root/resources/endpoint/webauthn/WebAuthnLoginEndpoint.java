@@ -19,6 +19,7 @@ import io.gravitee.am.common.oauth2.Parameters;
 import io.gravitee.am.gateway.handler.common.auth.user.UserAuthenticationManager;
 import io.gravitee.am.gateway.handler.common.utils.ConstantKeys;
 import io.gravitee.am.gateway.handler.common.vertx.utils.RequestUtils;
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
 import io.gravitee.am.gateway.handler.common.vertx.utils.UriBuilderRequest;
 import io.gravitee.am.gateway.handler.form.FormManager;
 import io.gravitee.am.gateway.handler.vertx.auth.webauthn.WebAuthn;
@@ -154,9 +155,9 @@ public class WebAuthnLoginEndpoint extends WebAuthnEndpoint {
                             .put(ConstantKeys.USERNAME_KEY, username)
                             .put(ConstantKeys.USER_ID_KEY, h.result().getId());
 
-                    ctx.response()
+                    SessionUtils.sign(ctx).subscribe(() -> ctx.response()
                             .putHeader(io.vertx.core.http.HttpHeaders.CONTENT_TYPE, "application/json; charset=utf-8")
-                            .end(Json.encodePrettily(getAssertion));
+                            .end(Json.encodePrettily(getAssertion)));
                 });
             });
 
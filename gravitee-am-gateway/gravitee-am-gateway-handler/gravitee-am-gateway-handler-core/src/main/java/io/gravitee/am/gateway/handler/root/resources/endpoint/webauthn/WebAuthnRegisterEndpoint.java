@@ -19,6 +19,7 @@ import io.gravitee.am.common.oauth2.Parameters;
 import io.gravitee.am.gateway.handler.common.auth.user.UserAuthenticationManager;
 import io.gravitee.am.gateway.handler.common.utils.ConstantKeys;
 import io.gravitee.am.gateway.handler.common.vertx.utils.RequestUtils;
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
 import io.gravitee.am.gateway.handler.common.vertx.utils.UriBuilderRequest;
 import io.gravitee.am.gateway.handler.context.provider.UserProperties;
 import io.gravitee.am.gateway.handler.form.FormManager;
@@ -106,7 +107,7 @@ public class WebAuthnRegisterEndpoint extends WebAuthnEndpoint {
                 String returnURL = UriBuilderRequest.resolveProxyRequest(routingContext.request(), routingContext.get(CONTEXT_PATH) + "/oauth/authorize", queryParams);
                 routingContext.session().put(ConstantKeys.WEBAUTHN_SKIPPED_KEY, true);
                 // Now redirect back to the original url
-                doRedirect(routingContext.response(), returnURL);
+                SessionUtils.sign(routingContext).subscribe(() -> doRedirect(routingContext.response(), returnURL));
                 return;
             }
 
@@ -172,9 +173,9 @@ public class WebAuthnRegisterEndpoint extends WebAuthnEndpoint {
             if (skipEnrollment) {
                 ctx.session().put(ConstantKeys.WEBAUTHN_SKIPPED_KEY, true);
                 // Now redirect back to the original url
-                ctx.response()
+                SessionUtils.sign(ctx).subscribe(() -> ctx.response()
                         .putHeader(HttpHeaders.LOCATION, returnURL)
-                        .end();
+                        .end());
                 return;
             }
 
@@ -205,9 +206,9 @@ public class WebAuthnRegisterEndpoint extends WebAuthnEndpoint {
                         .put(ConstantKeys.USERNAME_KEY, webauthnRegister.getString("name"))
                         .put(ConstantKeys.USER_ID_KEY, user.getId());
 
-                ctx.response()
+                SessionUtils.sign(ctx).subscribe(() -> ctx.response()
                         .putHeader(io.vertx.core.http.HttpHeaders.CONTENT_TYPE, "application/json; charset=utf-8")
-                        .end(Json.encodePrettily(credentialsOptions));
+                        .end(Json.encodePrettily(credentialsOptions)));
             });
         } catch (IllegalArgumentException e) {
             ctx.fail(400);
@@ -21,6 +21,7 @@ import io.gravitee.am.gateway.handler.common.auth.user.UserAuthenticationManager
 import io.gravitee.am.gateway.handler.common.utils.ConstantKeys;
 import io.gravitee.am.gateway.handler.common.vertx.core.http.VertxHttpServerRequest;
 import io.gravitee.am.gateway.handler.common.vertx.utils.RequestUtils;
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
 import io.gravitee.am.gateway.handler.common.vertx.utils.UriBuilderRequest;
 import io.gravitee.am.gateway.handler.vertx.auth.webauthn.WebAuthn;
 import io.gravitee.am.gateway.handler.vertx.auth.webauthn.WebAuthnCredentials;
@@ -151,7 +152,7 @@ public class WebAuthnResponseEndpoint extends WebAuthnEndpoint {
                                     // Now redirect back to authorization endpoint.
                                     final MultiMap queryParams = RequestUtils.getCleanedQueryParams(ctx.request());
                                     final String returnURL = UriBuilderRequest.resolveProxyRequest(ctx.request(), ctx.get(CONTEXT_PATH) + "/oauth/authorize", queryParams);
-                                    ctx.response().putHeader(HttpHeaders.LOCATION, returnURL).end();
+                                    SessionUtils.sign(ctx).subscribe(() -> ctx.response().putHeader(HttpHeaders.LOCATION, returnURL).end());
                                 });
                             });
                         } else {
@@ -20,6 +20,7 @@ import io.gravitee.am.common.exception.authentication.AccountInactiveException;
 import io.gravitee.am.common.oidc.StandardClaims;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderManager;
+import io.gravitee.am.gateway.handler.common.auth.loginattempt.LoginAttemptManager;
 import io.gravitee.am.gateway.handler.common.client.ClientSyncService;
 import io.gravitee.am.gateway.handler.common.email.EmailService;
 import io.gravitee.am.gateway.handler.root.service.response.RegistrationResponse;
@@ -37,7 +38,6 @@ import io.gravitee.am.model.factor.EnrolledFactor;
 import io.gravitee.am.model.oidc.Client;
 import io.gravitee.am.repository.management.api.search.LoginAttemptCriteria;
 import io.gravitee.am.service.AuditService;
-import io.gravitee.am.service.LoginAttemptService;
 import io.gravitee.am.service.exception.*;
 import io.gravitee.am.service.reporter.builder.AuditBuilder;
 import io.gravitee.am.service.reporter.builder.management.UserAuditBuilder;
@@ -81,7 +81,7 @@ public class UserServiceImpl implements UserService {
     private AuditService auditService;
 
     @Autowired
-    private LoginAttemptService loginAttemptService;
+    private LoginAttemptManager loginAttemptManager;
 
     @Override
     public Maybe<UserToken> verifyToken(String token) {
@@ -248,7 +248,7 @@ public class UserServiceImpl implements UserService {
                             .client(user1.getClient())
                             .username(user1.getUsername())
                             .build();
-                    return loginAttemptService.reset(criteria).andThen(Single.just(user1));
+                    return loginAttemptManager.reset(criteria).andThen(Single.just(user1));
                 })
                 .flatMap(userService::enhance)
                 .map(user1 -> {
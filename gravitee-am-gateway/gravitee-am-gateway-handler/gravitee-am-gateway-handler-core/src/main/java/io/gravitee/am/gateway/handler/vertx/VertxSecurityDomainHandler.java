@@ -19,8 +19,12 @@ import io.gravitee.am.gateway.handler.api.ProtocolProvider;
 import io.gravitee.am.gateway.handler.common.audit.AuditReporterManager;
 import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderManager;
 import io.gravitee.am.gateway.handler.common.auth.listener.AuthenticationEventListener;
+import io.gravitee.am.gateway.handler.common.auth.loginattempt.LoginAttemptManager;
 import io.gravitee.am.gateway.handler.common.flow.FlowManager;
+import io.gravitee.am.gateway.handler.common.group.GroupManager;
 import io.gravitee.am.gateway.handler.common.policy.PolicyManager;
+import io.gravitee.am.gateway.handler.common.role.RoleManager;
+import io.gravitee.am.gateway.handler.common.user.SessionUserCache;
 import io.gravitee.am.gateway.handler.common.user.UserManager;
 import io.gravitee.am.gateway.handler.common.email.EmailManager;
 import io.gravitee.am.gateway.handler.factor.FactorManager;
@@ -33,6 +37,7 @@ import io.gravitee.common.http.HttpHeaders;
 import io.gravitee.common.http.HttpHeadersValues;
 import io.gravitee.common.http.HttpStatusCode;
 import io.gravitee.common.service.AbstractService;
+import io.vertx.core.Handler;
 import io.vertx.reactivex.core.buffer.Buffer;
 import io.vertx.reactivex.core.http.HttpServerResponse;
 import io.vertx.reactivex.ext.web.Router;
@@ -46,6 +51,8 @@ import org.springframework.core.env.Environment;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
@@ -57,6 +64,8 @@ public class VertxSecurityDomainHandler extends AbstractService<VertxSecurityDom
     private static final Logger logger = LoggerFactory.getLogger(VertxSecurityDomainHandler.class);
     private static final List<String> PROTOCOLS = Arrays.asList("discovery", "openid-connect", "scim", "users");
     private List<ProtocolProvider> protocolProviders = new ArrayList<>();
+    private final AtomicLong inflightRequests = new AtomicLong();
+    private volatile long lastRequestTime = System.currentTimeMillis();
 
     @Autowired
     private Domain domain;
@@ -77,6 +86,9 @@ public class VertxSecurityDomainHandler extends AbstractService<VertxSecurityDom
     protected void doStart() throws Exception {
         super.doStart();
 
+        // track in-flight requests to be able to drain the handler before stopping it
+        router.route().order(Integer.MIN_VALUE).handler(this::trackRequest);
+
         // start root protocol with required routes (login page, register, ...)
         startRootProtocol();
 
@@ -106,6 +118,30 @@ public class VertxSecurityDomainHandler extends AbstractService<VertxSecurityDom
         return domain;
     }
 
+    public long getInflightRequests() {
+        return inflightRequests.get();
+    }
+
+    public long getLastRequestTime() {
+        return lastRequestTime;
+    }
+
+    private void trackRequest(RoutingContext context) {
+        lastRequestTime = System.currentTimeMillis();
+        inflightRequests.incrementAndGet();
+        // the body end handler is not called if the connection is closed before the response has been sent
+        final AtomicBoolean ended = new AtomicBoolean();
+        final Handler<Void> endHandler = v -> {
+            if (ended.compareAndSet(false, true)) {
+                inflightRequests.decrementAndGet();
+            }
+        };
+        context.addBodyEndHandler(endHandler);
+        context.response().closeHandler(endHandler);
+        context.response().exceptionHandler(error -> endHandler.handle(null));
+        context.next();
+    }
+
     private void startRootProtocol() {
         logger.info("Start security domain root protocol");
 
@@ -156,6 +192,10 @@ public class VertxSecurityDomainHandler extends AbstractService<VertxSecurityDom
         components.add(FlowManager.class);
         components.add(AuthenticationEventListener.class);
         components.add(UserManager.class);
+        components.add(SessionUserCache.class);
+        components.add(LoginAttemptManager.class);
+        components.add(RoleManager.class);
+        components.add(GroupManager.class);
         components.add(FactorManager.class);
 
         components.forEach(componentClass -> {
@@ -17,6 +17,7 @@ package io.gravitee.am.gateway.handler.root.service.user;
 
 import io.gravitee.am.common.exception.authentication.AccountInactiveException;
 import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderManager;
+import io.gravitee.am.gateway.handler.common.auth.loginattempt.LoginAttemptManager;
 import io.gravitee.am.gateway.handler.root.service.user.impl.UserServiceImpl;
 import io.gravitee.am.identityprovider.api.UserProvider;
 import io.gravitee.am.model.oidc.Client;
@@ -24,7 +25,6 @@ import io.gravitee.am.model.Domain;
 import io.gravitee.am.model.User;
 import io.gravitee.am.model.account.AccountSettings;
 import io.gravitee.am.service.AuditService;
-import io.gravitee.am.service.LoginAttemptService;
 import io.gravitee.am.service.exception.UserInvalidException;
 import io.gravitee.am.service.exception.UserNotFoundException;
 import io.reactivex.Completable;
@@ -63,7 +63,7 @@ public class UserServiceTest {
     private io.gravitee.am.gateway.handler.common.user.UserService commonUserService;
 
     @Mock
-    private LoginAttemptService loginAttemptService;
+    private LoginAttemptManager loginAttemptManager;
 
     @Mock
     private AuditService auditService;
@@ -103,7 +103,7 @@ public class UserServiceTest {
         when(identityProviderManager.getUserProvider(user.getSource())).thenReturn(Maybe.just(userProvider));
         when(commonUserService.update(any())).thenReturn(Single.just(user));
         when(commonUserService.enhance(any())).thenReturn(Single.just(user));
-        when(loginAttemptService.reset(any())).thenReturn(Completable.complete());
+        when(loginAttemptManager.reset(any())).thenReturn(Completable.complete());
 
         TestObserver testObserver = userService.resetPassword(client, user).test();
         testObserver.assertComplete();
@@ -129,7 +129,7 @@ public class UserServiceTest {
         when(identityProviderManager.getUserProvider(user.getSource())).thenReturn(Maybe.just(userProvider));
         when(commonUserService.update(any())).thenReturn(Single.just(user));
         when(commonUserService.enhance(any())).thenReturn(Single.just(user));
-        when(loginAttemptService.reset(any())).thenReturn(Completable.complete());
+        when(loginAttemptManager.reset(any())).thenReturn(Completable.complete());
 
         TestObserver testObserver = userService.resetPassword(client, user).test();
         testObserver.assertComplete();
@@ -155,7 +155,7 @@ public class UserServiceTest {
         when(identityProviderManager.getUserProvider(user.getSource())).thenReturn(Maybe.just(userProvider));
         when(commonUserService.update(any())).thenReturn(Single.just(user));
         when(commonUserService.enhance(any())).thenReturn(Single.just(user));
-        when(loginAttemptService.reset(any())).thenReturn(Completable.complete());
+        when(loginAttemptManager.reset(any())).thenReturn(Completable.complete());
 
         TestObserver testObserver = userService.resetPassword(client, user).test();
         testObserver.assertComplete();
@@ -181,7 +181,7 @@ public class UserServiceTest {
         when(identityProviderManager.getUserProvider(user.getSource())).thenReturn(Maybe.just(userProvider));
         when(commonUserService.update(any())).thenReturn(Single.just(user));
         when(commonUserService.enhance(any())).thenReturn(Single.just(user));
-        when(loginAttemptService.reset(any())).thenReturn(Completable.complete());
+        when(loginAttemptManager.reset(any())).thenReturn(Completable.complete());
 
         TestObserver testObserver = userService.resetPassword(client, user).test();
         testObserver.assertComplete();
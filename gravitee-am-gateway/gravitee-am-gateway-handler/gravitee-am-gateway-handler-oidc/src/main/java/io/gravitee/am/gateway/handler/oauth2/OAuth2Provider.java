@@ -155,6 +155,17 @@ public class OAuth2Provider extends AbstractService<ProtocolProvider> implements
         initRouter();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        try {
+            tokenManager.stop();
+        } catch (Exception e) {
+            logger.error("An error occurs while stopping oauth 2.0 services", e);
+        }
+    }
+
     private void initServices() {
         try {
             tokenManager.start();
@@ -16,6 +16,7 @@
 package io.gravitee.am.gateway.handler.oauth2.resources.endpoint.authorization;
 
 import io.gravitee.am.gateway.handler.common.utils.ConstantKeys;
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
 import io.gravitee.am.gateway.handler.oauth2.exception.AccessDeniedException;
 import io.gravitee.am.gateway.handler.oauth2.exception.ServerErrorException;
 import io.gravitee.am.gateway.handler.oauth2.service.request.AuthorizationRequest;
@@ -72,8 +73,9 @@ public class AuthorizationEndpoint implements Handler<RoutingContext> {
                         authorizationResponse -> {
                             try {
                                 // final step of the authorization flow, we can clean the session and redirect the user
+                                final String redirectUri = authorizationResponse.buildRedirectUri();
                                 cleanSession(context);
-                                doRedirect(context.response(), authorizationResponse.buildRedirectUri());
+                                SessionUtils.sign(context).subscribe(() -> doRedirect(context.response(), redirectUri));
                             } catch (Exception e) {
                                 logger.error("Unable to redirect to client redirect_uri", e);
                                 context.fail(new ServerErrorException());
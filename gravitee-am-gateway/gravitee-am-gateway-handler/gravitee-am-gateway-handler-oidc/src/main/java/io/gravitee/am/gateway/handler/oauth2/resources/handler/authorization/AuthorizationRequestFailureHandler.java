@@ -20,6 +20,7 @@ import io.gravitee.am.common.oauth2.Parameters;
 import io.gravitee.am.common.web.UriBuilder;
 import io.gravitee.am.gateway.handler.common.jwt.JWTService;
 import io.gravitee.am.gateway.handler.common.utils.ConstantKeys;
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
 import io.gravitee.am.gateway.handler.common.vertx.utils.UriBuilderRequest;
 import io.gravitee.am.gateway.handler.oauth2.exception.JWTOAuth2Exception;
 import io.gravitee.am.gateway.handler.oauth2.exception.RedirectMismatchException;
@@ -246,6 +247,6 @@ public class AuthorizationRequestFailureHandler implements Handler<RoutingContex
 
     private void doRedirect(RoutingContext context, String url) {
         cleanSession(context);
-        context.response().putHeader(HttpHeaders.LOCATION, url).setStatusCode(302).end();
+        SessionUtils.sign(context).subscribe(() -> context.response().putHeader(HttpHeaders.LOCATION, url).setStatusCode(302).end());
     }
 }
@@ -16,6 +16,7 @@
 package io.gravitee.am.gateway.handler.oauth2.resources.handler.authorization;
 
 import io.gravitee.am.gateway.handler.common.utils.ConstantKeys;
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
 import io.vertx.core.Handler;
 import io.vertx.reactivex.ext.web.RoutingContext;
 import io.vertx.reactivex.ext.web.Session;
@@ -44,6 +45,8 @@ public class AuthorizationRequestTransactionHandler implements Handler<RoutingCo
             final String tid = routingContext.request().headers().get(transactionIdHeaderName);
             if(tid != null) {
                 session.put(ConstantKeys.TRANSACTION_ID_KEY, tid);
+                SessionUtils.sign(routingContext).subscribe(routingContext::next);
+                return;
             }
         }
 
@@ -18,6 +18,7 @@ package io.gravitee.am.gateway.handler.oauth2.resources.handler.authorization.co
 import io.gravitee.am.common.jwt.Claims;
 import io.gravitee.am.gateway.handler.common.utils.ConstantKeys;
 import io.gravitee.am.gateway.handler.common.vertx.utils.RequestUtils;
+import io.gravitee.am.gateway.handler.common.vertx.utils.SessionUtils;
 import io.gravitee.am.gateway.handler.common.vertx.web.auth.user.User;
 import io.gravitee.am.gateway.handler.oauth2.service.consent.UserConsentService;
 import io.gravitee.am.gateway.handler.oauth2.service.request.AuthorizationRequest;
@@ -100,7 +101,7 @@ public class UserConsentProcessHandler implements Handler<RoutingContext> {
             authorizationRequest.setConsents(h.result());
             session.put(ConstantKeys.USER_CONSENT_COMPLETED_KEY, true);
             session.put(ConstantKeys.USER_CONSENT_APPROVED_KEY, approved);
-            routingContext.next();
+            SessionUtils.sign(routingContext).subscribe(routingContext::next);
         });
     }
 
@@ -32,6 +32,7 @@ import io.gravitee.am.gateway.handler.oidc.service.discovery.OpenIDDiscoveryServ
 import io.gravitee.am.gateway.handler.oidc.service.discovery.OpenIDProviderMetadata;
 import io.gravitee.am.gateway.handler.oidc.service.jwk.JWKService;
 import io.gravitee.am.gateway.handler.oidc.service.jws.JWSService;
+import io.gravitee.am.model.jose.JWK;
 import io.gravitee.am.model.oidc.Client;
 import io.gravitee.am.model.oidc.JWKSet;
 import io.reactivex.Maybe;
@@ -152,6 +153,7 @@ public class ClientAssertionServiceImpl implements ClientAssertionService {
                             return this.getClientJwkSet(client)
                                     .switchIfEmpty(Maybe.error(new InvalidClientException("No jwk keys available on client")))
                                     .flatMap(jwkSet -> jwkService.getKey(jwkSet, signedJWT.getHeader().getKeyID()))
+                                    .switchIfEmpty(Maybe.defer(() -> refreshClientKey(client, signedJWT.getHeader().getKeyID())))
                                     .switchIfEmpty(Maybe.error(new InvalidClientException("Unable to validate client, no matching key.")))
                                     .flatMap(jwk -> {
                                         if (jwsService.isValidSignature(signedJWT, jwk)) {
@@ -216,6 +218,15 @@ public class ClientAssertionServiceImpl implements ClientAssertionService {
         }
     }
 
+    private Maybe<JWK> refreshClientKey(Client client, String kid) {
+        // unknown kid, the client may have rotated its keys
+        if (kid != null && client.getJwksUri() != null && !client.getJwksUri().trim().isEmpty()) {
+            return jwkService.refreshKeys(client.getJwksUri())
+                    .flatMap(jwkSet -> jwkService.getKey(jwkSet, kid));
+        }
+        return Maybe.empty();
+    }
+
     private Maybe<JWKSet> getClientJwkSet(Client client) {
         if(client.getJwksUri()!=null && !client.getJwksUri().trim().isEmpty()) {
             return jwkService.getKeys(client.getJwksUri());
@@ -19,6 +19,7 @@ import io.gravitee.am.common.oidc.StandardClaims;
 import io.gravitee.am.common.oidc.idtoken.Claims;
 import io.gravitee.am.extensiongrant.api.ExtensionGrantProvider;
 import io.gravitee.am.gateway.handler.common.auth.user.UserAuthenticationManager;
+import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderBulkhead;
 import io.gravitee.am.gateway.handler.common.auth.idp.IdentityProviderManager;
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidGrantException;
 import io.gravitee.am.gateway.handler.oauth2.exception.UnauthorizedClientException;
@@ -106,7 +107,12 @@ public class ExtensionGrantGranter extends AbstractTokenGranter {
                             }
                             return identityProviderManager
                                     .get(extensionGrant.getIdentityProvider())
-                                    .flatMap((Function<AuthenticationProvider, MaybeSource<io.gravitee.am.identityprovider.api.User>>) authProvider -> authProvider.loadUserByUsername(endUser.getUsername()))
+                                    .flatMap((Function<AuthenticationProvider, MaybeSource<io.gravitee.am.identityprovider.api.User>>) authProvider -> {
+                                        // blocking identity providers are called on their own worker pool
+                                        Maybe<io.gravitee.am.identityprovider.api.User> userSource = authProvider.loadUserByUsername(endUser.getUsername());
+                                        IdentityProviderBulkhead bulkhead = identityProviderManager.getBulkhead(extensionGrant.getIdentityProvider());
+                                        return bulkhead != null ? bulkhead.execute(userSource) : userSource;
+                                    })
                                     .map(idpUser -> {
                                         User user = new User();
                                         user.setId(idpUser.getId());
@@ -16,6 +16,7 @@
 package io.gravitee.am.gateway.handler.oauth2.service.revocation.impl;
 
 import io.gravitee.am.common.exception.oauth2.InvalidTokenException;
+import io.gravitee.am.gateway.handler.common.oauth2.IntrospectionTokenService;
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidGrantException;
 import io.gravitee.am.gateway.handler.oauth2.service.revocation.RevocationTokenRequest;
 import io.gravitee.am.gateway.handler.oauth2.service.revocation.RevocationTokenService;
@@ -39,6 +40,9 @@ public class RevocationTokenServiceImpl implements RevocationTokenService {
     @Autowired
     private TokenService tokenService;
 
+    @Autowired
+    private IntrospectionTokenService introspectionTokenService;
+
     @Override
     public Completable revoke(RevocationTokenRequest request, Client client) {
         String token = request.getToken();
@@ -127,7 +131,8 @@ public class RevocationTokenServiceImpl implements RevocationTokenService {
                         return Completable.error(new InvalidGrantException("Cannot revoke tokens issued to other clients."));
                     }
 
-                    return tokenService.deleteAccessToken(accessToken.getValue());
+                    return tokenService.deleteAccessToken(accessToken.getValue())
+                            .doOnComplete(() -> introspectionTokenService.invalidate(accessToken.getValue()));
                 });
     }
 
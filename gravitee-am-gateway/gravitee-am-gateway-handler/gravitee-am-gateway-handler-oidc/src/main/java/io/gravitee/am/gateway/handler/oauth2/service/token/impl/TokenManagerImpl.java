@@ -18,16 +18,29 @@ package io.gravitee.am.gateway.handler.oauth2.service.token.impl;
 import io.gravitee.am.gateway.handler.oauth2.service.token.TokenManager;
 import io.gravitee.am.gateway.handler.oauth2.service.token.indexer.AccessTokenBulkProcessor;
 import io.gravitee.am.gateway.handler.oauth2.service.token.indexer.RefreshTokenBulkProcessor;
+import io.gravitee.am.gateway.handler.oauth2.service.token.journal.TokenJournal;
+import io.gravitee.am.model.Domain;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.model.AccessToken;
 import io.gravitee.am.repository.oauth2.model.RefreshToken;
+import io.gravitee.am.repository.oauth2.model.Token;
 import io.gravitee.common.service.AbstractService;
+import io.reactivex.Flowable;
+import io.reactivex.Maybe;
+import io.reactivex.processors.FlowableProcessor;
 import io.reactivex.processors.PublishProcessor;
 import io.reactivex.schedulers.Schedulers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -36,6 +49,7 @@ import java.util.concurrent.TimeUnit;
  */
 public class TokenManagerImpl extends AbstractService implements TokenManager {
 
+    private static final Logger logger = LoggerFactory.getLogger(TokenManagerImpl.class);
     private static final Integer bulkActions = 1000;
     private static final Long flushInterval = 1l;
 
@@ -47,14 +61,49 @@ public class TokenManagerImpl extends AbstractService implements TokenManager {
     @Autowired
     private RefreshTokenRepository refreshTokenRepository;
 
-    private final PublishProcessor<AccessToken> bulkProcessorAccessToken = PublishProcessor.create();
+    @Autowired
+    private Domain domain;
+
+    @Value("${oauth2.token.journal.enabled:false}")
+    private boolean journalEnabled;
+
+    @Value("${oauth2.token.journal.path:${gravitee.home}/data/token-journal}")
+    private String journalPath;
+
+    @Value("${oauth2.token.journal.segmentSize:8388608}")
+    private int journalSegmentSize;
+
+    @Value("${oauth2.token.journal.maxSegments:32}")
+    private int journalMaxSegments;
 
-    private final PublishProcessor<RefreshToken> bulkProcessorRefreshToken = PublishProcessor.create();
+    @Value("${oauth2.token.journal.fsync:false}")
+    private boolean journalFsync;
+
+    private TokenJournal tokenJournal;
+
+    private final FlowableProcessor<AccessToken> bulkProcessorAccessToken = PublishProcessor.<AccessToken>create().toSerialized();
+
+    private final FlowableProcessor<RefreshToken> bulkProcessorRefreshToken = PublishProcessor.<RefreshToken>create().toSerialized();
 
     @Override
     protected void doStart() throws Exception {
         super.doStart();
 
+        // open the token journal (if enabled) before accepting new tokens
+        List<Token> journaledTokens = Collections.emptyList();
+        if (journalEnabled) {
+            try {
+                tokenJournal = TokenJournal.acquire(Paths.get(journalPath, domain.getId()), journalSegmentSize, journalMaxSegments, journalFsync);
+                journaledTokens = tokenJournal.open();
+            } catch (Exception ex) {
+                logger.error("Unable to open the token journal for domain {}, tokens are only buffered in memory", domain.getName(), ex);
+                if (tokenJournal != null) {
+                    tokenJournal.release();
+                }
+                tokenJournal = null;
+            }
+        }
+
         // init bulk processors
         bulkProcessorAccessToken
                 .onBackpressureBuffer()
@@ -65,7 +114,7 @@ public class TokenManagerImpl extends AbstractService implements TokenManager {
                         bulkActions
                 )
                 .filter(accessTokens -> accessTokens != null && !accessTokens.isEmpty())
-                .subscribe(new AccessTokenBulkProcessor(accessTokenRepository));
+                .subscribe(new AccessTokenBulkProcessor(accessTokenRepository, tokenJournal));
 
         // init bulk processors
         bulkProcessorRefreshToken
@@ -77,18 +126,70 @@ public class TokenManagerImpl extends AbstractService implements TokenManager {
                         bulkActions
                 )
                 .filter(refreshTokens -> refreshTokens != null && !refreshTokens.isEmpty())
-                .subscribe(new RefreshTokenBulkProcessor(refreshTokenRepository));
+                .subscribe(new RefreshTokenBulkProcessor(refreshTokenRepository, tokenJournal));
+
+        if (!journaledTokens.isEmpty()) {
+            replay(journaledTokens);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (tokenJournal != null) {
+            // pending tokens are kept into the journal and replayed on next start
+            tokenJournal.release();
+        }
     }
 
     @Override
     public void storeAccessToken(AccessToken accessToken) {
+        if (tokenJournal != null) {
+            tokenJournal.append(accessToken);
+        }
         bulkProcessorAccessToken
                 .onNext(accessToken);
     }
 
     @Override
     public void storeRefreshToken(RefreshToken refreshToken) {
+        if (tokenJournal != null) {
+            tokenJournal.append(refreshToken);
+        }
         bulkProcessorRefreshToken
                 .onNext(refreshToken);
     }
+
+    public TokenJournal getTokenJournal() {
+        return tokenJournal;
+    }
+
+    /**
+     * Write again the journaled tokens which have not been found in the repository.
+     */
+    private void replay(List<Token> tokens) {
+        logger.info("Replaying {} journaled tokens for domain {}", tokens.size(), domain.getName());
+        final Date now = new Date();
+        Flowable.fromIterable(tokens)
+                .concatMapMaybe(token -> {
+                    if (token.getExpireAt() != null && token.getExpireAt().before(now)) {
+                        return Maybe.just(token);
+                    }
+                    if (token instanceof RefreshToken) {
+                        return refreshTokenRepository.findByToken(token.getToken())
+                                .map(existing -> token)
+                                .switchIfEmpty(Maybe.fromAction(() -> bulkProcessorRefreshToken.onNext((RefreshToken) token)));
+                    }
+                    return accessTokenRepository.findByToken(token.getToken())
+                            .map(existing -> token)
+                            .switchIfEmpty(Maybe.fromAction(() -> bulkProcessorAccessToken.onNext((AccessToken) token)));
+                })
+                // expired tokens and tokens already written are no longer needed
+                .doOnNext(token -> tokenJournal.acknowledge(Collections.singletonList(token)))
+                .subscribeOn(Schedulers.io())
+                .subscribe(
+                        token -> logger.debug("Journaled token {} already written", token.getToken()),
+                        error -> logger.error("An error occurs while replaying the journaled tokens for domain {}", domain.getName(), error));
+    }
 }
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.gateway.handler.oauth2.service.token.indexer;
 
+import io.gravitee.am.gateway.handler.oauth2.service.token.journal.TokenJournal;
 import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
 import io.gravitee.am.repository.oauth2.model.AccessToken;
 import org.reactivestreams.Subscriber;
@@ -34,11 +35,17 @@ public class AccessTokenBulkProcessor implements Subscriber<List<AccessToken>> {
     private final Logger logger = LoggerFactory.getLogger(AccessTokenBulkProcessor.class);
     private Subscription subscription;
     private AccessTokenRepository accessTokenRepository;
+    private TokenJournal tokenJournal;
 
     public AccessTokenBulkProcessor(AccessTokenRepository accessTokenRepository) {
         this.accessTokenRepository = accessTokenRepository;
     }
 
+    public AccessTokenBulkProcessor(AccessTokenRepository accessTokenRepository, TokenJournal tokenJournal) {
+        this(accessTokenRepository);
+        this.tokenJournal = tokenJournal;
+    }
+
     @Override
     public void onSubscribe(Subscription subscription) {
         this.subscription = subscription;
@@ -48,6 +55,11 @@ public class AccessTokenBulkProcessor implements Subscriber<List<AccessToken>> {
     @Override
     public void onNext(List<AccessToken> accessTokens) {
         accessTokenRepository.bulkWrite(accessTokens)
+                .doOnComplete(() -> {
+                    if (tokenJournal != null) {
+                        tokenJournal.acknowledge(accessTokens);
+                    }
+                })
                 .retryWhen(t -> t.take(30).delay(1000, TimeUnit.MILLISECONDS))
                 .subscribe(
                         () -> logger.debug("Access tokens indexation completed"),
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.gateway.handler.oauth2.service.token.indexer;
 
+import io.gravitee.am.gateway.handler.oauth2.service.token.journal.TokenJournal;
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.model.RefreshToken;
 import org.reactivestreams.Subscriber;
@@ -34,11 +35,17 @@ public class RefreshTokenBulkProcessor implements Subscriber<List<RefreshToken>>
     private final Logger logger = LoggerFactory.getLogger(RefreshTokenBulkProcessor.class);
     private Subscription subscription;
     private RefreshTokenRepository refreshTokenRepository;
+    private TokenJournal tokenJournal;
 
     public RefreshTokenBulkProcessor(RefreshTokenRepository refreshTokenRepository) {
         this.refreshTokenRepository = refreshTokenRepository;
     }
 
+    public RefreshTokenBulkProcessor(RefreshTokenRepository refreshTokenRepository, TokenJournal tokenJournal) {
+        this(refreshTokenRepository);
+        this.tokenJournal = tokenJournal;
+    }
+
     @Override
     public void onSubscribe(Subscription subscription) {
         this.subscription = subscription;
@@ -48,6 +55,11 @@ public class RefreshTokenBulkProcessor implements Subscriber<List<RefreshToken>>
     @Override
     public void onNext(List<RefreshToken> refreshTokens) {
         refreshTokenRepository.bulkWrite(refreshTokens)
+                .doOnComplete(() -> {
+                    if (tokenJournal != null) {
+                        tokenJournal.acknowledge(refreshTokens);
+                    }
+                })
                 .retryWhen(t -> t.take(30).delay(1000, TimeUnit.MILLISECONDS))
                 .subscribe(
                         () -> logger.debug("Refresh tokens indexation completed"),
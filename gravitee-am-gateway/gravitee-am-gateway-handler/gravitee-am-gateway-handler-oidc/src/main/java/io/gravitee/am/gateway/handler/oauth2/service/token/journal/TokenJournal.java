@@ -0,0 +1,294 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.service.token.journal;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.gravitee.am.repository.oauth2.model.RefreshToken;
+import io.gravitee.am.repository.oauth2.model.Token;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local append-only journal of the tokens waiting to be written into the OAuth 2.0 repository.
+ *
+ * Tokens are appended into memory-mapped segment files before being buffered by the {@link io.gravitee.am.gateway.handler.oauth2.service.token.TokenManager}
+ * and acknowledged once written into the repository. A segment file is deleted as soon as all its tokens have been acknowledged
+ * and the tokens of the remaining segments are replayed on startup.
+ *
+ * The disk usage is bounded by <code>segmentSize * maxSegments</code>, tokens are rejected (and only kept in memory) when the journal is full.
+ *
+ * @author GraviteeSource Team
+ */
+public class TokenJournal {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenJournal.class);
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final Map<Path, TokenJournal> JOURNALS = new HashMap<>();
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final boolean fsync;
+    private final ObjectMapper objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final NavigableMap<Long, TokenJournalSegment> segments = new TreeMap<>();
+    private final ConcurrentMap<String, TokenJournalSegment> pendingTokens = new ConcurrentHashMap<>();
+    private TokenJournalSegment currentSegment;
+    private boolean full;
+    private boolean opened;
+    private int references;
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder acknowledged = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    public TokenJournal(Path directory, int segmentSize, int maxSegments, boolean fsync) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(1, maxSegments);
+        this.fsync = fsync;
+    }
+
+    /**
+     * Get the journal of the given directory, shared by all the token managers using this directory.
+     * While a domain handler is being replaced, both the previous and the new handlers write into the same journal.
+     * The journal must be released with {@link #release()}.
+     */
+    public static TokenJournal acquire(Path directory, int segmentSize, int maxSegments, boolean fsync) {
+        synchronized (JOURNALS) {
+            final TokenJournal journal = JOURNALS.computeIfAbsent(directory.toAbsolutePath().normalize(),
+                    path -> new TokenJournal(path, segmentSize, maxSegments, fsync));
+            journal.references++;
+            return journal;
+        }
+    }
+
+    /**
+     * Release a journal obtained with {@link #acquire(Path, int, int, boolean)}, the journal is closed once released
+     * by all the token managers using it.
+     */
+    public void release() {
+        synchronized (JOURNALS) {
+            if (--references > 0) {
+                return;
+            }
+            JOURNALS.remove(directory, this);
+        }
+        close();
+    }
+
+    /**
+     * Open the journal and read the tokens not acknowledged before the last shutdown (or crash).
+     * The tokens are only returned to the first caller if the journal is shared.
+     *
+     * @return the tokens to replay, they still have to be acknowledged once written into the repository
+     * @throws IOException if the journal directory can't be read
+     */
+    public synchronized List<Token> open() throws IOException {
+        if (opened) {
+            return Collections.emptyList();
+        }
+        Files.createDirectories(directory);
+        opened = true;
+
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(files::add);
+        }
+        files.sort(Comparator.naturalOrder());
+
+        final List<Token> tokens = new ArrayList<>();
+        for (Path file : files) {
+            final TokenJournalSegment segment = TokenJournalSegment.open(file, segmentId(file), segmentSize);
+            final List<Token> segmentTokens = new ArrayList<>();
+            segment.read((type, payload) -> segmentTokens.add(decode(type, payload)));
+            segment.seal();
+            if (segmentTokens.isEmpty()) {
+                segment.delete();
+                continue;
+            }
+            segments.put(segment.getId(), segment);
+            for (Token token : segmentTokens) {
+                register(token, segment);
+            }
+            tokens.addAll(segmentTokens);
+        }
+
+        if (!tokens.isEmpty()) {
+            logger.info("{} tokens found in the journal {} from {} segments", tokens.size(), directory, segments.size());
+        }
+        return tokens;
+    }
+
+    /**
+     * Append the token to the journal.
+     *
+     * @param token the token to append
+     * @return <code>false</code> if the journal is full or the token can't be journaled
+     */
+    public synchronized boolean append(Token token) {
+        try {
+            final byte[] payload = objectMapper.writeValueAsBytes(token);
+            final byte type = token instanceof RefreshToken ? TokenJournalSegment.REFRESH_TOKEN : TokenJournalSegment.ACCESS_TOKEN;
+
+            if (currentSegment == null || !currentSegment.hasRoom(payload.length)) {
+                if (!roll(payload.length)) {
+                    return reject(token);
+                }
+            }
+
+            currentSegment.write(type, payload, fsync);
+            register(token, currentSegment);
+            appended.increment();
+            full = false;
+            return true;
+        } catch (IOException ex) {
+            logger.error("Unable to append token {} to the journal {}", token.getToken(), directory, ex);
+            return reject(token);
+        }
+    }
+
+    /**
+     * Acknowledge the tokens written into the repository, the segment files only containing acknowledged tokens are deleted.
+     *
+     * @param tokens the tokens written into the repository
+     */
+    public void acknowledge(Collection<? extends Token> tokens) {
+        for (Token token : tokens) {
+            final TokenJournalSegment segment = pendingTokens.remove(key(token));
+            if (segment != null) {
+                acknowledged.increment();
+                if (segment.acknowledge() && segment.isSealed()) {
+                    release(segment);
+                }
+            }
+        }
+    }
+
+    public synchronized void close() {
+        segments.values().forEach(TokenJournalSegment::close);
+        segments.clear();
+        currentSegment = null;
+        opened = false;
+    }
+
+    public long getAppended() {
+        return appended.sum();
+    }
+
+    public long getAcknowledged() {
+        return acknowledged.sum();
+    }
+
+    /**
+     * @return the number of tokens which have not been journaled because the journal was full
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public int getPending() {
+        return pendingTokens.size();
+    }
+
+    public synchronized int getSegments() {
+        return segments.size();
+    }
+
+    /**
+     * @return the disk space used by the segment files in bytes
+     */
+    public synchronized long getDiskUsage() {
+        return (long) segments.size() * segmentSize;
+    }
+
+    private boolean roll(int payloadLength) throws IOException {
+        if (!TokenJournalSegment.fits(payloadLength, segmentSize)) {
+            logger.warn("Token of {} bytes is too large for the journal segments of {} bytes", payloadLength, segmentSize);
+            return false;
+        }
+
+        if (currentSegment != null) {
+            currentSegment.seal();
+            if (currentSegment.getPending() == 0) {
+                release(currentSegment);
+            }
+            currentSegment = null;
+        }
+
+        if (segments.size() >= maxSegments) {
+            return false;
+        }
+
+        final long id = segments.isEmpty() ? 1 : segments.lastKey() + 1;
+        currentSegment = TokenJournalSegment.create(directory.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX)), id, segmentSize);
+        segments.put(id, currentSegment);
+        return true;
+    }
+
+    private synchronized void release(TokenJournalSegment segment) {
+        if (segments.remove(segment.getId(), segment)) {
+            segment.delete();
+        }
+    }
+
+    private boolean reject(Token token) {
+        rejected.increment();
+        if (!full) {
+            full = true;
+            logger.warn("Token journal {} is full ({} segments), tokens are only buffered in memory until the pending ones are written", directory, segments.size());
+        }
+        logger.debug("Token {} not journaled", token.getToken());
+        return false;
+    }
+
+    private void register(Token token, TokenJournalSegment segment) {
+        segment.retain();
+        final TokenJournalSegment previous = pendingTokens.put(key(token), segment);
+        if (previous != null && previous.acknowledge() && previous.isSealed()) {
+            // the same token has been journaled twice, keep the latest entry
+            release(previous);
+        }
+    }
+
+    private Token decode(byte type, byte[] payload) throws IOException {
+        if (type == TokenJournalSegment.REFRESH_TOKEN) {
+            return objectMapper.readValue(payload, RefreshToken.class);
+        }
+        return objectMapper.readValue(payload, AccessToken.class);
+    }
+
+    private static String key(Token token) {
+        return (token instanceof RefreshToken ? "r:" : "a:") + token.getToken();
+    }
+
+    private static long segmentId(Path file) {
+        final String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.service.token.journal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Memory-mapped segment file of the {@link TokenJournal}.
+ *
+ * Each record is made of its length (int), the token type (byte) and the JSON payload. The length is written last
+ * so that a partially written record is never read back, a zero length marks the end of the segment.
+ *
+ * @author GraviteeSource Team
+ */
+class TokenJournalSegment {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenJournalSegment.class);
+    static final byte ACCESS_TOKEN = 1;
+    static final byte REFRESH_TOKEN = 2;
+    private static final int HEADER_SIZE = Integer.BYTES + Byte.BYTES;
+
+    private final long id;
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean sealed;
+
+    private TokenJournalSegment(long id, Path file, FileChannel channel, MappedByteBuffer buffer) {
+        this.id = id;
+        this.file = file;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static TokenJournalSegment create(Path file, long id, int size) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new TokenJournalSegment(id, file, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, size));
+    }
+
+    static TokenJournalSegment open(Path file, long id, int size) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new TokenJournalSegment(id, file, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, channel.size())));
+    }
+
+    static boolean fits(int payloadLength, int size) {
+        // keep room for the end marker
+        return HEADER_SIZE + payloadLength + Integer.BYTES <= size;
+    }
+
+    boolean hasRoom(int payloadLength) {
+        return !sealed && buffer.position() + HEADER_SIZE + payloadLength + Integer.BYTES <= buffer.capacity();
+    }
+
+    void write(byte type, byte[] payload, boolean fsync) {
+        final int position = buffer.position();
+        buffer.position(position + Integer.BYTES);
+        buffer.put(type);
+        buffer.put(payload);
+        buffer.putInt(position, Byte.BYTES + payload.length);
+        if (fsync) {
+            buffer.force();
+        }
+    }
+
+    void read(RecordHandler handler) {
+        buffer.position(0);
+        while (buffer.remaining() >= HEADER_SIZE) {
+            final int position = buffer.position();
+            final int length = buffer.getInt();
+            if (length <= 0 || length > buffer.remaining()) {
+                buffer.position(position);
+                return;
+            }
+            final byte type = buffer.get();
+            final byte[] payload = new byte[length - Byte.BYTES];
+            buffer.get(payload);
+            try {
+                handler.handle(type, payload);
+            } catch (IOException ex) {
+                logger.error("Unable to read a token from the journal segment {}, the remaining records are skipped", file, ex);
+                buffer.position(position);
+                return;
+            }
+        }
+    }
+
+    void retain() {
+        pending.incrementAndGet();
+    }
+
+    /**
+     * @return <code>true</code> if all the tokens of the segment have been acknowledged
+     */
+    boolean acknowledge() {
+        return pending.decrementAndGet() <= 0;
+    }
+
+    int getPending() {
+        return pending.get();
+    }
+
+    void seal() {
+        sealed = true;
+    }
+
+    boolean isSealed() {
+        return sealed;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    void close() {
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException ex) {
+            logger.warn("Unable to close the journal segment {}", file, ex);
+        }
+    }
+
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            logger.warn("Unable to delete the journal segment {}", file, ex);
+        }
+    }
+
+    @FunctionalInterface
+    interface RecordHandler {
+        void handle(byte type, byte[] payload) throws IOException;
+    }
+}
@@ -25,6 +25,7 @@ import com.nimbusds.jwt.JWT;
 import com.nimbusds.jwt.JWTParser;
 import io.gravitee.am.common.exception.oauth2.OAuth2Exception;
 import io.gravitee.am.common.exception.oauth2.ServerErrorException;
+import io.gravitee.am.gateway.certificate.crypto.CryptoExecutor;
 import io.gravitee.am.gateway.handler.oidc.service.jwe.JWEService;
 import io.gravitee.am.gateway.handler.oidc.service.jwk.JWKFilter;
 import io.gravitee.am.gateway.handler.oidc.service.jwk.JWKService;
@@ -53,6 +54,9 @@ public class JWEServiceImpl implements JWEService {
     @Autowired
     private JWKService jwkService;
 
+    @Autowired
+    private CryptoExecutor cryptoExecutor;
+
     @Override
     public Single<String> encryptIdToken(String signedJwt, Client client) {
         //Return input without encryption if client does not require JWE or algorithm is set to none
@@ -164,10 +168,10 @@ public class JWEServiceImpl implements JWEService {
                 .flatMap(jwkSet -> jwkService.filter(jwkSet, filter))
                 .switchIfEmpty(Maybe.error(new InvalidClientMetadataException("no matching key found to decrypt")))
                 .flatMapSingle(jwk -> Single.just(function.apply(jwk)))
-                .map(decrypter -> {
+                .flatMap(decrypter -> cryptoExecutor.execute("decrypt", jwe.getHeader().getAlgorithm().getName(), () -> {
                     jwe.decrypt(decrypter);
                     return jwe.getPayload().toSignedJWT();
-                });
+                }));
     }
 
     public Single<String> encryptAuthorization(String signedJwt, Client client) {
@@ -244,10 +248,10 @@ public class JWEServiceImpl implements JWEService {
                 .flatMap(jwkSet -> jwkService.filter(jwkSet, filter))
                 .switchIfEmpty(Maybe.error(new InvalidClientMetadataException("no matching key found to encrypt")))
                 .flatMapSingle(jwk -> Single.just(function.apply(jwk)))
-                .map(encrypter -> {
+                .flatMap(encrypter -> cryptoExecutor.execute("encrypt", jwe.getHeader().getAlgorithm().getName(), () -> {
                     jwe.encrypt(encrypter);
                     return jwe.serialize();
-                });
+                }));
     }
 
     @FunctionalInterface
@@ -33,6 +33,12 @@ public interface JWKService {
     Single<JWKSet> getKeys();
     Maybe<JWKSet> getKeys(Client client);
     Maybe<JWKSet> getKeys(String jwksUri);
+
+    /**
+     * Fetch again the given jwks_uri, e.g. when a key id is unknown because the keys have been rotated.
+     * Refreshes are rate-limited, the cached keys are returned when called too often.
+     */
+    Maybe<JWKSet> refreshKeys(String jwksUri);
     Maybe<JWK> getKey(JWKSet jwkSet, String kid);
     Maybe<JWK> filter(JWKSet jwkSet, Predicate<JWK> filter);
 }
@@ -22,11 +22,12 @@ import io.gravitee.am.model.oidc.Client;
 import io.gravitee.am.model.jose.JWK;
 import io.gravitee.am.model.oidc.JWKSet;
 import io.gravitee.am.service.exception.InvalidClientMetadataException;
+import io.gravitee.am.service.http.RemoteResourceCache;
 import io.gravitee.am.common.web.UriBuilder;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
-import io.vertx.reactivex.ext.web.client.HttpResponse;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.reactivex.ext.web.client.WebClient;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -42,6 +43,13 @@ import java.util.function.Predicate;
  */
 public class JWKServiceImpl implements JWKService {
 
+    /**
+     * Remote JWKS are shared by all the security domains of the gateway
+     */
+    private static final RemoteResourceCache<Optional<JWKSet>> JWKS_CACHE = new RemoteResourceCache<Optional<JWKSet>>("jwks_uri").registerMeters();
+
+    private final RemoteResourceCache<Optional<JWKSet>> jwksCache;
+
     @Autowired
     private CertificateManager certificateManager;
 
@@ -49,6 +57,14 @@ public class JWKServiceImpl implements JWKService {
     @Qualifier("oidcWebClient")
     public WebClient client;
 
+    public JWKServiceImpl() {
+        this(JWKS_CACHE);
+    }
+
+    public JWKServiceImpl(RemoteResourceCache<Optional<JWKSet>> jwksCache) {
+        this.jwksCache = jwksCache;
+    }
+
     @Override
     public Single<JWKSet> getKeys() {
         return Flowable.fromIterable(certificateManager.providers())
@@ -74,11 +90,18 @@ public class JWKServiceImpl implements JWKService {
 
     @Override
     public Maybe<JWKSet> getKeys(String jwksUri) {
+        return getKeys(jwksUri, false);
+    }
+
+    @Override
+    public Maybe<JWKSet> refreshKeys(String jwksUri) {
+        return getKeys(jwksUri, true);
+    }
+
+    private Maybe<JWKSet> getKeys(String jwksUri, boolean forceRefresh) {
         try{
-            return client.getAbs(UriBuilder.fromHttpUrl(jwksUri).build().toString())
-                    .rxSend()
-                    .map(HttpResponse::bodyAsString)
-                    .map(new JWKSetDeserializer()::convert)
+            final String uri = UriBuilder.fromHttpUrl(jwksUri).build().toString();
+            return (forceRefresh ? jwksCache.refresh(uri, () -> fetchKeys(uri)) : jwksCache.get(uri, () -> fetchKeys(uri)))
                     .flatMapMaybe(jwkSet -> {
                         if(jwkSet!=null && jwkSet.isPresent()) {
                             return Maybe.just(jwkSet.get());
@@ -95,6 +118,23 @@ public class JWKServiceImpl implements JWKService {
         }
     }
 
+    private Single<RemoteResourceCache.Resource<Optional<JWKSet>>> fetchKeys(String uri) {
+        return client.getAbs(uri)
+                .rxSend()
+                .map(response -> {
+                    if (response.statusCode() >= 400) {
+                        throw new IllegalStateException("Unexpected status " + response.statusCode());
+                    }
+                    String body = response.bodyAsString();
+                    Optional<JWKSet> jwkSet = body == null ? null : new JWKSetDeserializer().convert(body);
+                    if (jwkSet == null || !jwkSet.isPresent()) {
+                        // fail rather than caching the absence of keys until the resource expires
+                        throw new IllegalStateException("Unable to parse the JWKS");
+                    }
+                    return RemoteResourceCache.Resource.of(jwkSet, response.getHeader(HttpHeaders.CACHE_CONTROL.toString()));
+                });
+    }
+
     @Override
     public Maybe<JWK> getKey(JWKSet jwkSet, String kid) {
 
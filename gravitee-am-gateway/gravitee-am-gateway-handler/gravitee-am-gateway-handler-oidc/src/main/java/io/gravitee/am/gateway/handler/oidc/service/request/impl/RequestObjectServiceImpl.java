@@ -156,6 +156,14 @@ public class RequestObjectServiceImpl implements RequestObjectService {
                         return jwkService.getKey(jwkSet, jwt.getHeader().getKeyID());
                     }
                 })
+                .switchIfEmpty(Maybe.defer(() -> {
+                    // unknown kid, the client may have rotated its keys
+                    if (client.getJwks() == null && client.getJwksUri() != null && jwt.getHeader().getKeyID() != null) {
+                        return jwkService.refreshKeys(client.getJwksUri())
+                                .flatMap(jwkSet -> jwkService.getKey(jwkSet, jwt.getHeader().getKeyID()));
+                    }
+                    return Maybe.empty();
+                }))
                 .switchIfEmpty(Maybe.error(new InvalidRequestObjectException()))
                 .flatMapSingle(new Function<JWK, SingleSource<JWT>>() {
                     @Override
@@ -407,6 +407,47 @@ public class ClientAssertionServiceTest {
         testObserver.assertValue(client);
     }
 
+    @Test
+    public void testRsaJwt_withClientJwksUri_rotatedKey() throws NoSuchAlgorithmException, JOSEException{
+        KeyPair rsaKey = generateRsaKeyPair();
+
+        RSAPublicKey publicKey = (RSAPublicKey) rsaKey.getPublic();
+        RSAPrivateKey privateKey = (RSAPrivateKey) rsaKey.getPrivate();
+
+        RSAKey key = new RSAKey();
+        key.setKty("RSA");
+        key.setKid(KID);
+        key.setE(Base64.getUrlEncoder().encodeToString(publicKey.getPublicExponent().toByteArray()));
+        key.setN(Base64.getUrlEncoder().encodeToString(publicKey.getModulus().toByteArray()));
+        // cached keys don't contain the new kid yet
+        JWKSet cachedJwkSet = new JWKSet();
+        cachedJwkSet.setKeys(Arrays.asList());
+        JWKSet refreshedJwkSet = new JWKSet();
+        refreshedJwkSet.setKeys(Arrays.asList(key));
+
+        Client client = new Client();
+        client.setClientId(CLIENT_ID);
+        client.setTokenEndpointAuthMethod(ClientAuthenticationMethod.PRIVATE_KEY_JWT);
+        client.setJwksUri("http://fake/jwk/uri");
+        String assertion = generateJWT(privateKey);
+        OpenIDProviderMetadata openIDProviderMetadata = Mockito.mock(OpenIDProviderMetadata.class);
+        String basePath="/";
+
+        when(clientSyncService.findByClientId(any())).thenReturn(Maybe.just(client));
+        when(openIDProviderMetadata.getTokenEndpoint()).thenReturn(AUDIENCE);
+        when(openIDDiscoveryService.getConfiguration(basePath)).thenReturn(openIDProviderMetadata);
+        when(jwkService.getKeys(anyString())).thenReturn(Maybe.just(cachedJwkSet));
+        when(jwkService.refreshKeys("http://fake/jwk/uri")).thenReturn(Maybe.just(refreshedJwkSet));
+        when(jwkService.getKey(any(),any())).thenAnswer(invocation -> invocation.getArgument(0) == refreshedJwkSet ? Maybe.just(key) : Maybe.empty());
+        when(jwsService.isValidSignature(any(),any())).thenReturn(true);
+
+        TestObserver testObserver = clientAssertionService.assertClient(JWT_BEARER_TYPE,assertion,basePath).test();
+
+        testObserver.assertNoErrors();
+        testObserver.assertValue(client);
+        Mockito.verify(jwkService, Mockito.times(1)).refreshKeys("http://fake/jwk/uri");
+    }
+
     @Test
     public void testHmacJwt() throws NoSuchAlgorithmException, JOSEException {
         // Generate random 256-bit (32-byte) shared secret
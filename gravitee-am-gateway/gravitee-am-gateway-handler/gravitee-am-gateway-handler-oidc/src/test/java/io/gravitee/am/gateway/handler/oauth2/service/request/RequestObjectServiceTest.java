@@ -23,9 +23,14 @@ import com.nimbusds.jwt.PlainJWT;
 import com.nimbusds.jwt.SignedJWT;
 import io.gravitee.am.common.exception.oauth2.InvalidRequestObjectException;
 import io.gravitee.am.gateway.handler.oidc.service.jwe.JWEService;
+import io.gravitee.am.gateway.handler.oidc.service.jwk.JWKService;
+import io.gravitee.am.gateway.handler.oidc.service.jws.JWSService;
 import io.gravitee.am.gateway.handler.oidc.service.request.RequestObjectService;
 import io.gravitee.am.gateway.handler.oidc.service.request.impl.RequestObjectServiceImpl;
+import io.gravitee.am.model.jose.RSAKey;
 import io.gravitee.am.model.oidc.Client;
+import io.gravitee.am.model.oidc.JWKSet;
+import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
 import net.minidev.json.JSONObject;
@@ -36,9 +41,10 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import java.text.ParseException;
+import java.util.Collections;
 
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -53,6 +59,12 @@ public class RequestObjectServiceTest {
     @Mock
     private JWEService jweService;
 
+    @Mock
+    private JWKService jwkService;
+
+    @Mock
+    private JWSService jwsService;
+
     @Test
     public void shouldNotReadRequestObject_plainJwt() {
         Client client = new Client();
@@ -80,4 +92,34 @@ public class RequestObjectServiceTest {
         testObserver.assertNotComplete();
         testObserver.assertError(InvalidRequestObjectException.class);
     }
+
+    @Test
+    public void shouldReadRequestObject_rotatedKey() throws ParseException {
+        Client client = new Client();
+        client.setJwksUri("https://client/jwks");
+        client.setRequestObjectSigningAlg("RS256");
+        String request = "request-object";
+        JWSHeader jwsHeader = new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("rotated-kid").build();
+        SignedJWT signedJWT = new SignedJWT(jwsHeader, JWTClaimsSet.parse(new JSONObject()));
+
+        RSAKey key = new RSAKey();
+        key.setKty("RSA");
+        key.setKid("rotated-kid");
+        // cached keys don't contain the new kid yet
+        JWKSet cachedJwkSet = new JWKSet();
+        cachedJwkSet.setKeys(Collections.emptyList());
+        JWKSet refreshedJwkSet = new JWKSet();
+        refreshedJwkSet.setKeys(Collections.singletonList(key));
+
+        when(jweService.decrypt(request, client)).thenReturn(Single.just(signedJWT));
+        when(jwkService.getKeys(client)).thenReturn(Maybe.just(cachedJwkSet));
+        when(jwkService.refreshKeys(client.getJwksUri())).thenReturn(Maybe.just(refreshedJwkSet));
+        when(jwkService.getKey(any(), any())).thenAnswer(invocation -> invocation.getArgument(0) == refreshedJwkSet ? Maybe.just(key) : Maybe.empty());
+        when(jwsService.isValidSignature(signedJWT, key)).thenReturn(true);
+
+        TestObserver<JWT> testObserver = requestObjectService.readRequestObject(request, client).test();
+        testObserver.assertComplete();
+        testObserver.assertValue(signedJWT);
+        verify(jwkService, times(1)).refreshKeys(client.getJwksUri());
+    }
 }
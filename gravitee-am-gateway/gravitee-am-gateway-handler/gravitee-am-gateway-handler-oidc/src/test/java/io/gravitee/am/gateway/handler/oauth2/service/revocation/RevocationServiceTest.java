@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.gateway.handler.oauth2.service.revocation;
 
+import io.gravitee.am.gateway.handler.common.oauth2.IntrospectionTokenService;
 import io.gravitee.am.gateway.handler.oauth2.exception.InvalidGrantException;
 import io.gravitee.am.gateway.handler.oauth2.service.revocation.impl.RevocationTokenServiceImpl;
 import io.gravitee.am.gateway.handler.oauth2.service.token.Token;
@@ -48,6 +49,9 @@ public class RevocationServiceTest {
     @Mock
     private TokenService tokenService;
 
+    @Mock
+    private IntrospectionTokenService introspectionTokenService;
+
     @Test
     public void shouldNotRevoke_WrongRequestedClientId() {
         final RevocationTokenRequest revocationTokenRequest = new RevocationTokenRequest("token");
@@ -113,6 +117,7 @@ public class RevocationServiceTest {
 
         verify(tokenService, times(1)).getAccessToken("token", client);
         verify(tokenService, times(1)).deleteAccessToken("token");
+        verify(introspectionTokenService, times(1)).invalidate("token");
         verify(tokenService, never()).getRefreshToken(anyString(), any());
         verify(tokenService, never()).deleteRefreshToken(anyString());
 
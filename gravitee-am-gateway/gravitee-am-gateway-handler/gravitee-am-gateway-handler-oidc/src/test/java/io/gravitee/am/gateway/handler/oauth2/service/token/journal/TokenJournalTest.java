@@ -0,0 +1,170 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.handler.oauth2.service.token.journal;
+
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import io.gravitee.am.repository.oauth2.model.RefreshToken;
+import io.gravitee.am.repository.oauth2.model.Token;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class TokenJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Path directory;
+    private TokenJournal tokenJournal;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = folder.newFolder("journal").toPath();
+        tokenJournal = new TokenJournal(directory, 1024, 2, false);
+        assertTrue(tokenJournal.open().isEmpty());
+    }
+
+    @After
+    public void tearDown() {
+        tokenJournal.close();
+    }
+
+    @Test
+    public void shouldReplayPendingTokens() throws Exception {
+        AccessToken accessToken = accessToken("access-token");
+        accessToken.setRefreshToken("refresh-token");
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setToken("refresh-token");
+        refreshToken.setDomain("domain");
+
+        assertTrue(tokenJournal.append(accessToken));
+        assertTrue(tokenJournal.append(refreshToken));
+        assertEquals(2, tokenJournal.getPending());
+        tokenJournal.close();
+
+        tokenJournal = new TokenJournal(directory, 1024, 2, false);
+        List<Token> tokens = tokenJournal.open();
+
+        assertEquals(2, tokens.size());
+        assertTrue(tokens.get(0) instanceof AccessToken);
+        assertEquals("access-token", tokens.get(0).getToken());
+        assertEquals("refresh-token", ((AccessToken) tokens.get(0)).getRefreshToken());
+        assertEquals(accessToken.getExpireAt(), tokens.get(0).getExpireAt());
+        assertTrue(tokens.get(1) instanceof RefreshToken);
+        assertEquals("refresh-token", tokens.get(1).getToken());
+        assertEquals(2, tokenJournal.getPending());
+    }
+
+    @Test
+    public void shouldShareJournalOfTheSameDirectory() throws Exception {
+        tokenJournal.close();
+        tokenJournal = new TokenJournal(directory, 1024, 2, false);
+        assertTrue(tokenJournal.append(accessToken("pending-token")));
+        tokenJournal.close();
+
+        TokenJournal previous = TokenJournal.acquire(directory, 1024, 2, false);
+        TokenJournal current = TokenJournal.acquire(directory, 1024, 2, false);
+        assertSame(previous, current);
+        assertEquals(1, previous.open().size());
+        assertTrue(current.open().isEmpty());
+
+        previous.release();
+        assertTrue(current.append(accessToken("access-token")));
+        assertEquals(2, current.getPending());
+        current.release();
+
+        TokenJournal next = TokenJournal.acquire(directory, 1024, 2, false);
+        assertNotSame(current, next);
+        assertEquals(2, next.open().size());
+        next.release();
+    }
+
+    @Test
+    public void shouldNotReplayAcknowledgedTokens() throws Exception {
+        AccessToken accessToken = accessToken("access-token");
+        AccessToken accessToken2 = accessToken("access-token-2");
+
+        tokenJournal.append(accessToken);
+        tokenJournal.append(accessToken2);
+        tokenJournal.acknowledge(Collections.singletonList(accessToken));
+        tokenJournal.close();
+
+        tokenJournal = new TokenJournal(directory, 1024, 2, false);
+        List<Token> tokens = tokenJournal.open();
+        assertEquals(1, tokens.size());
+        assertEquals("access-token-2", tokens.get(0).getToken());
+
+        tokenJournal.acknowledge(tokens);
+        assertEquals(0, tokenJournal.getPending());
+        assertEquals(0, tokenJournal.getSegments());
+    }
+
+    @Test
+    public void shouldDeleteAcknowledgedSegments() {
+        int appended = 0;
+        while (tokenJournal.getSegments() < 2) {
+            assertTrue(tokenJournal.append(accessToken("access-token-" + appended++)));
+        }
+        assertEquals(2, tokenJournal.getSegments());
+        assertEquals(2 * 1024, tokenJournal.getDiskUsage());
+
+        // acknowledge the tokens of the first segment
+        AccessToken[] tokens = new AccessToken[appended - 1];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = accessToken("access-token-" + i);
+        }
+        tokenJournal.acknowledge(Arrays.asList(tokens));
+
+        assertEquals(1, tokenJournal.getSegments());
+        assertEquals(1, tokenJournal.getPending());
+    }
+
+    @Test
+    public void shouldRejectTokens_journalFull() {
+        int appended = 0;
+        while (tokenJournal.append(accessToken("access-token-" + appended))) {
+            appended++;
+        }
+
+        assertEquals(2, tokenJournal.getSegments());
+        assertEquals(appended, tokenJournal.getPending());
+        assertEquals(1, tokenJournal.getRejected());
+    }
+
+    private static AccessToken accessToken(String token) {
+        AccessToken accessToken = new AccessToken();
+        accessToken.setToken(token);
+        accessToken.setDomain("domain");
+        accessToken.setClient("client");
+        accessToken.setSubject("user");
+        accessToken.setCreatedAt(new Date());
+        accessToken.setExpireAt(new Date(System.currentTimeMillis() + 60000));
+        return accessToken;
+    }
+}
@@ -18,6 +18,7 @@ package io.gravitee.am.gateway.handler.oidc.service.jwe;
 import com.nimbusds.jose.JWEObject;
 import com.nimbusds.jose.crypto.AESDecrypter;
 import com.nimbusds.jose.jwk.OctetSequenceKey;
+import io.gravitee.am.gateway.certificate.crypto.CryptoExecutor;
 import io.gravitee.am.gateway.handler.oidc.service.jwe.impl.JWEServiceImpl;
 import io.gravitee.am.gateway.handler.oidc.service.jwk.JWKService;
 import io.gravitee.am.gateway.handler.oidc.service.utils.JWAlgorithmUtils;
@@ -32,6 +33,7 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnit;
 import org.mockito.junit.MockitoRule;
 
@@ -64,6 +66,9 @@ public class JWEAesTest {
     @Mock
     private JWKService jwkService;
 
+    @Spy
+    private CryptoExecutor cryptoExecutor = new CryptoExecutor(0, 0, null);
+
     private String alg;
     private String enc;
 
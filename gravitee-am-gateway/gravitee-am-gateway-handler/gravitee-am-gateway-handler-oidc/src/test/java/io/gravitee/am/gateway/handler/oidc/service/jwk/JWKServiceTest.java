@@ -28,9 +28,11 @@ import io.gravitee.am.model.jose.OKPKey;
 import io.gravitee.am.model.jose.RSAKey;
 import io.gravitee.am.model.oidc.JWKSet;
 import io.gravitee.am.service.exception.InvalidClientMetadataException;
+import io.gravitee.am.service.http.RemoteResourceCache;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.reactivex.core.buffer.Buffer;
 import io.vertx.reactivex.ext.web.client.HttpRequest;
 import io.vertx.reactivex.ext.web.client.HttpResponse;
@@ -62,7 +64,7 @@ public class JWKServiceTest {
     private static JWKSet JWK_SET;
 
     @InjectMocks
-    private JWKService jwkService = new JWKServiceImpl();
+    private JWKService jwkService = new JWKServiceImpl(new RemoteResourceCache<>("jwks_uri"));
 
     @Mock
     public WebClient webClient;
@@ -171,6 +173,26 @@ public class JWKServiceTest {
         testObserver.assertNotComplete();
     }
 
+    @Test
+    public void testGetKeys_emptyBody_notCached() {
+
+        HttpRequest<Buffer> request = Mockito.mock(HttpRequest.class);
+        HttpResponse<Buffer> response = Mockito.mock(HttpResponse.class);
+
+        String bodyAsString = "{\"keys\":[{\"kty\": \"RSA\",\"use\": \"enc\",\"kid\": \"KID\",\"n\": \"modulus\",\"e\": \"exponent\"}]}";
+
+        when(webClient.getAbs(any())).thenReturn(request);
+        when(request.rxSend()).thenReturn(Single.just(response));
+        when(response.bodyAsString()).thenReturn(null).thenReturn(bodyAsString);
+
+        jwkService.getKeys(JWKS_URI).test().assertError(InvalidClientMetadataException.class);
+        TestObserver testObserver = jwkService.getKeys(JWKS_URI).test();
+
+        testObserver.assertComplete();
+        testObserver.assertValue(jwkSet -> ((JWKSet)jwkSet).getKeys().get(0).getKid().equals("KID"));
+        verify(webClient, times(2)).getAbs(any());
+    }
+
     @Test
     public void testGetKeys() {
 
@@ -190,6 +212,49 @@ public class JWKServiceTest {
         testObserver.assertValue(jwkSet -> ((JWKSet)jwkSet).getKeys().get(0).getKid().equals("KID"));
     }
 
+    @Test
+    public void testGetKeys_cached() {
+
+        HttpRequest<Buffer> request = Mockito.mock(HttpRequest.class);
+        HttpResponse<Buffer> response = Mockito.mock(HttpResponse.class);
+
+        String bodyAsString = "{\"keys\":[{\"kty\": \"RSA\",\"use\": \"enc\",\"kid\": \"KID\",\"n\": \"modulus\",\"e\": \"exponent\"}]}";
+
+        when(webClient.getAbs(any())).thenReturn(request);
+        when(request.rxSend()).thenReturn(Single.just(response));
+        when(response.bodyAsString()).thenReturn(bodyAsString);
+        when(response.getHeader(HttpHeaders.CACHE_CONTROL.toString())).thenReturn("public, max-age=3600");
+
+        jwkService.getKeys(JWKS_URI).test().assertComplete();
+        TestObserver testObserver = jwkService.getKeys(JWKS_URI).test();
+
+        testObserver.assertComplete();
+        testObserver.assertValue(jwkSet -> ((JWKSet)jwkSet).getKeys().get(0).getKid().equals("KID"));
+        verify(webClient, times(1)).getAbs(any());
+    }
+
+    @Test
+    public void testRefreshKeys() {
+
+        HttpRequest<Buffer> request = Mockito.mock(HttpRequest.class);
+        HttpResponse<Buffer> response = Mockito.mock(HttpResponse.class);
+
+        String bodyAsString = "{\"keys\":[{\"kty\": \"RSA\",\"use\": \"enc\",\"kid\": \"KID\",\"n\": \"modulus\",\"e\": \"exponent\"}]}";
+
+        when(webClient.getAbs(any())).thenReturn(request);
+        when(request.rxSend()).thenReturn(Single.just(response));
+        when(response.bodyAsString()).thenReturn(bodyAsString);
+
+        jwkService.getKeys(JWKS_URI).test().assertComplete();
+        jwkService.refreshKeys(JWKS_URI).test().assertComplete();
+        // second forced refresh is throttled
+        TestObserver testObserver = jwkService.refreshKeys(JWKS_URI).test();
+
+        testObserver.assertComplete();
+        testObserver.assertValue(jwkSet -> ((JWKSet)jwkSet).getKeys().get(0).getKid().equals("KID"));
+        verify(webClient, times(2)).getAbs(any());
+    }
+
     @Test
     public void testGetKey_noKid() {
 
@@ -39,6 +39,13 @@ public class JWAlgorithmUtilsTest {
         assertTrue("should be supported", JWAlgorithmUtils.isValidUserinfoSigningAlg("RS512"));
     }
 
+    @Test
+    public void isValidIdTokenSigningAlg_ellipticCurve() {
+        assertTrue("should be supported", JWAlgorithmUtils.isValidIdTokenSigningAlg("ES256"));
+        assertTrue("should be supported", JWAlgorithmUtils.isValidIdTokenSigningAlg("ES384"));
+        assertTrue("should be supported", JWAlgorithmUtils.isValidIdTokenSigningAlg("ES512"));
+    }
+
     @Test
     public void supportedUserinfoSigningAlg() {
         assertTrue("should have at least RS256", JWAlgorithmUtils.getSupportedUserinfoSigningAlg().contains("RS256"));
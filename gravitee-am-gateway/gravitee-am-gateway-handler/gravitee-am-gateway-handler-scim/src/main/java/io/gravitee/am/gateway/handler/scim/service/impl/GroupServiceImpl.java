@@ -15,6 +15,8 @@
  */
 package io.gravitee.am.gateway.handler.scim.service.impl;
 
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.Type;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.gateway.handler.scim.exception.SCIMException;
 import io.gravitee.am.gateway.handler.scim.exception.UniquenessException;
@@ -25,8 +27,11 @@ import io.gravitee.am.gateway.handler.scim.model.Meta;
 import io.gravitee.am.gateway.handler.scim.service.GroupService;
 import io.gravitee.am.model.Domain;
 import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Payload;
 import io.gravitee.am.repository.management.api.GroupRepository;
 import io.gravitee.am.repository.management.api.UserRepository;
+import io.gravitee.am.service.EventService;
 import io.gravitee.am.service.exception.AbstractManagementException;
 import io.gravitee.am.service.exception.GroupNotFoundException;
 import io.gravitee.am.service.exception.TechnicalManagementException;
@@ -58,6 +63,9 @@ public class GroupServiceImpl implements GroupService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EventService eventService;
+
     @Autowired
     private Domain domain;
 
@@ -138,6 +146,8 @@ public class GroupServiceImpl implements GroupService {
                     groupModel.setUpdatedAt(groupModel.getCreatedAt());
                     return groupRepository.create(groupModel);
                 })
+                // create event for sync process
+                .flatMap(group1 -> createEvent(group1, Action.CREATE))
                 .map(group1 -> convert(group1, baseUrl, true))
                 // set members
                 .flatMap(group1 -> setMembers(group1, baseUrl))
@@ -176,7 +186,9 @@ public class GroupServiceImpl implements GroupService {
                             groupToUpdate.setCreatedAt(existingGroup.getCreatedAt());
                             groupToUpdate.setUpdatedAt(new Date());
                             return groupRepository.update(groupToUpdate);
-                        }))
+                        })
+                        // create event for sync process
+                        .flatMap(group1 -> createEvent(group1, Action.UPDATE)))
                 .map(group1 -> convert(group1, baseUrl, false))
                 // set members
                 .flatMap(group1 -> setMembers(group1, baseUrl))
@@ -195,7 +207,9 @@ public class GroupServiceImpl implements GroupService {
         LOGGER.debug("Delete group {}", groupId);
         return groupRepository.findById(groupId)
                 .switchIfEmpty(Maybe.error(new GroupNotFoundException(groupId)))
-                .flatMapCompletable(user -> groupRepository.delete(groupId))
+                .flatMapCompletable(group -> groupRepository.delete(groupId)
+                        // create event for sync process
+                        .andThen(Completable.fromSingle(createEvent(group, Action.DELETE))))
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof AbstractManagementException) {
                         return Completable.error(ex);
@@ -207,6 +221,11 @@ public class GroupServiceImpl implements GroupService {
                 });
     }
 
+    private Single<io.gravitee.am.model.Group> createEvent(io.gravitee.am.model.Group group, Action action) {
+        Event event = new Event(Type.GROUP, new Payload(group.getId(), group.getReferenceType(), group.getReferenceId(), action));
+        return eventService.create(event).flatMap(__ -> Single.just(group));
+    }
+
     private Single<Group> setMembers(Group group, String baseUrl) {
         Set<Member> members = group.getMembers() != null ? new HashSet<>(group.getMembers()) : null;
         if (members != null) {
@@ -31,4 +31,11 @@ public interface Reactor extends Service {
     void mountDomain(VertxSecurityDomainHandler domainHandler);
 
     void unMountDomain(VertxSecurityDomainHandler domainHandler);
+
+    /**
+     * Mount the given router on the context path or virtual hosts of the domain, without any domain handler.
+     */
+    void mountDomain(Domain domain, Router router);
+
+    void unMountDomain(Domain domain, Router router);
 }
@@ -59,4 +59,16 @@ public interface SecurityDomainManager {
      */
     Domain get(String domainId);
 
+    /**
+     * Indicates if the initial deployment of the security domains is done.
+     * @return <code>true</code> once all the security domains have been mounted.
+     */
+    boolean isInitialized();
+
+    /**
+     * Mark the initial deployment of the security domains as done.
+     * @param initialized <code>true</code> once all the security domains have been mounted.
+     */
+    void setInitialized(boolean initialized);
+
 }
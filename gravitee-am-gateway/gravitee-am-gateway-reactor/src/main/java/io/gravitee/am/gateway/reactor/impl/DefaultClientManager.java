@@ -15,39 +15,51 @@
  */
 package io.gravitee.am.gateway.reactor.impl;
 
-import io.gravitee.am.gateway.core.manager.EntityManager;
+import io.gravitee.am.gateway.core.manager.ClientManager;
 import io.gravitee.am.model.oidc.Client;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
 /**
+ * Clients are indexed by id and by (domain, clientId) so that lookups done on each token/introspection/client authentication
+ * request do not depend on the number of deployed clients.
+ *
+ * Writes are serialized to keep the secondary indexes consistent with the main map, reads are lock-free.
+ *
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class DefaultClientManager implements EntityManager<Client> {
+public class DefaultClientManager implements ClientManager {
 
     private static final Logger logger = LoggerFactory.getLogger(DefaultClientManager.class);
     private final ConcurrentMap<String, Client> clients = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, Client>> clientsByDomain = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<String, Client>> templatesByDomain = new ConcurrentHashMap<>();
 
     @Override
     public void deploy(Client client) {
-        clients.put(client.getId(), client);
+        register(client);
         logger.info("Client {} for domain {} loaded", client.getId(), client.getDomain());
     }
 
     @Override
     public void update(Client client) {
-        clients.put(client.getId(), client);
+        register(client);
         logger.info("Client {} for domain {} updated", client.getId(), client.getDomain());
     }
 
     @Override
-    public void undeploy(String clientId) {
-        clients.remove(clientId);
+    public synchronized void undeploy(String clientId) {
+        Client client = clients.remove(clientId);
+        if (client != null) {
+            unindex(client);
+        }
         logger.info("Client {} undeployed", clientId);
     }
 
@@ -61,7 +73,71 @@ public class DefaultClientManager implements EntityManager<Client> {
         return clients.get(clientId);
     }
 
+    @Override
     public void init(Collection<Client> clients) {
-        clients.forEach(c -> this.clients.put(c.getId(), c));
+        clients.forEach(this::register);
+    }
+
+    @Override
+    public Client findByDomainAndClientId(String domain, String clientId) {
+        if (domain == null || clientId == null) {
+            return null;
+        }
+        Map<String, Client> domainClients = clientsByDomain.get(domain);
+        return domainClients == null ? null : domainClients.get(clientId);
+    }
+
+    @Override
+    public Collection<Client> findTemplates(String domain) {
+        if (domain == null) {
+            return Collections.emptyList();
+        }
+        Map<String, Client> templates = templatesByDomain.get(domain);
+        return templates == null ? Collections.emptyList() : templates.values();
+    }
+
+    private synchronized void register(Client client) {
+        Client previous = clients.put(client.getId(), client);
+        if (previous != null) {
+            unindex(previous);
+        }
+        index(client);
+    }
+
+    private void index(Client client) {
+        if (client.getDomain() == null) {
+            return;
+        }
+        if (client.isTemplate()) {
+            templatesByDomain
+                    .computeIfAbsent(client.getDomain(), k -> new ConcurrentHashMap<>())
+                    .put(client.getId(), client);
+        } else if (client.getClientId() != null) {
+            clientsByDomain
+                    .computeIfAbsent(client.getDomain(), k -> new ConcurrentHashMap<>())
+                    .put(client.getClientId(), client);
+        }
+    }
+
+    private void unindex(Client client) {
+        if (client.getDomain() == null) {
+            return;
+        }
+        if (client.isTemplate()) {
+            removeFromIndex(templatesByDomain, client.getDomain(), client.getId(), client);
+        } else if (client.getClientId() != null) {
+            removeFromIndex(clientsByDomain, client.getDomain(), client.getClientId(), client);
+        }
+    }
+
+    private static void removeFromIndex(ConcurrentMap<String, ConcurrentMap<String, Client>> index, String domain, String key, Client client) {
+        ConcurrentMap<String, Client> domainIndex = index.get(domain);
+        if (domainIndex != null) {
+            // only remove the entry if it still points to the given client
+            domainIndex.remove(key, client);
+            if (domainIndex.isEmpty()) {
+                index.remove(domain, domainIndex);
+            }
+        }
     }
 }
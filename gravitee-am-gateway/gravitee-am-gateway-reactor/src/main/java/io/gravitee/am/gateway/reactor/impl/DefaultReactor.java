@@ -16,10 +16,10 @@
 package io.gravitee.am.gateway.reactor.impl;
 
 import io.gravitee.am.common.event.DomainEvent;
-import io.gravitee.am.gateway.reactor.impl.router.VHostRouter;
 import io.gravitee.am.gateway.handler.vertx.VertxSecurityDomainHandler;
 import io.gravitee.am.gateway.reactor.Reactor;
 import io.gravitee.am.gateway.reactor.SecurityDomainHandlerRegistry;
+import io.gravitee.am.gateway.reactor.impl.router.SecurityDomainDispatcher;
 import io.gravitee.am.gateway.reactor.impl.transaction.TransactionProcessorFactory;
 import io.gravitee.am.model.Domain;
 import io.gravitee.common.event.Event;
@@ -59,6 +59,8 @@ public class DefaultReactor extends AbstractService implements Reactor, EventLis
 
     private Router router;
 
+    private SecurityDomainDispatcher dispatcher;
+
     @Autowired
     private TransactionProcessorFactory transactionHandlerFactory;
 
@@ -74,6 +76,7 @@ public class DefaultReactor extends AbstractService implements Reactor, EventLis
         super.doStop();
 
         securityDomainHandlerRegistry.clear();
+        dispatcher.clear();
     }
 
     @Override
@@ -98,39 +101,34 @@ public class DefaultReactor extends AbstractService implements Reactor, EventLis
 
     @Override
     public void mountDomain(VertxSecurityDomainHandler domainHandler) {
-
-        Domain domain = domainHandler.getDomain();
-
-        if (domain.isVhostMode()) {
-            // Mount the same router for each virtual host / path.
-            domain.getVhosts().forEach(virtualHost -> this.router.mountSubRouter(sanitizePath(virtualHost.getPath()), VHostRouter.router(domain, virtualHost, domainHandler.router())));
-        } else {
-            this.router.mountSubRouter(sanitizePath(domain.getPath()), VHostRouter.router(domain, domainHandler.router()));
-        }
-    }
-
-    private String sanitizePath(String path) {
-
-        if(path.endsWith("/")) {
-            return path;
-        }
-
-        return path + "/";
+        dispatcher.mount(domainHandler.getDomain(), domainHandler.router());
     }
 
     @Override
     public void unMountDomain(VertxSecurityDomainHandler domainHandler) {
-
+        dispatcher.unmount(domainHandler.getDomain(), domainHandler.router());
 
         domainHandler.router()
                 .getRoutes()
                 .forEach(Route::remove);
     }
 
+    @Override
+    public void mountDomain(Domain domain, Router router) {
+        dispatcher.mount(domain, router);
+    }
+
+    @Override
+    public void unMountDomain(Domain domain, Router router) {
+        dispatcher.unmount(domain, router);
+    }
+
     @Override
     public void afterPropertiesSet() {
         router = Router.router(vertx);
         router.route().handler(transactionHandlerFactory.create());
+        dispatcher = new SecurityDomainDispatcher(vertx);
+        router.route("/*").handler(dispatcher).failureHandler(dispatcher::handleFailure);
         router.route().last().handler(context -> sendNotFound(context.response()));
     }
 
@@ -20,23 +20,46 @@ import io.gravitee.am.gateway.handler.vertx.VertxSecurityDomainHandler;
 import io.gravitee.am.gateway.reactor.Reactor;
 import io.gravitee.am.gateway.reactor.SecurityDomainHandlerRegistry;
 import io.gravitee.am.model.Domain;
+import io.gravitee.common.http.HttpStatusCode;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
+import io.vertx.reactivex.core.Context;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.ext.web.Router;
+import io.vertx.reactivex.ext.web.RoutingContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
  */
-public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandlerRegistry {
+public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandlerRegistry, InitializingBean {
 
     private static final Logger logger = LoggerFactory.getLogger(DefaultSecurityDomainHandlerRegistry.class);
+    private static final long DRAIN_POLL_INTERVAL = 100;
+    private static final long IDLE_EVICTION_MAX_PERIOD = 60000;
+    private static final int MAX_ACTIVATION_ATTEMPTS = 3;
     private final ConcurrentMap<String, VertxSecurityDomainHandler> handlers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LazyDomain> lazyDomains = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, CompletableFuture<VertxSecurityDomainHandler>> activations = new ConcurrentHashMap<>();
 
     @Autowired
     private SecurityDomainRouterFactory securityDomainRouterFactory;
@@ -44,6 +67,33 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
     @Autowired
     private Reactor reactor;
 
+    @Autowired
+    private Vertx vertx;
+
+    @Value("${http.domain.drainTimeout:30000}")
+    private long drainTimeout = 30000;
+
+    @Value("${http.domain.lazy.enabled:false}")
+    private boolean lazy;
+
+    @Value("${http.domain.lazy.idleTimeout:1800000}")
+    private long idleTimeout;
+
+    private Disposable idleEviction;
+
+    private final AtomicLong swaps = new AtomicLong();
+    private final AtomicLong lastBuildTime = new AtomicLong();
+    private final AtomicLong lastSwapLatency = new AtomicLong();
+
+    @Override
+    public void afterPropertiesSet() {
+        if (lazy && idleTimeout > 0) {
+            long period = Math.min(idleTimeout, IDLE_EVICTION_MAX_PERIOD);
+            idleEviction = Flowable.interval(period, period, TimeUnit.MILLISECONDS, Schedulers.io())
+                    .subscribe(tick -> evictIdleDomains(), error -> logger.error("Unable to evict the idle security domains", error));
+        }
+    }
+
     @Override
     public void create(Domain domain) {
 
@@ -53,12 +103,25 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
             logger.info("Register a new domain [{}] on path [{}]", domain.getId(), domain.getPath());
         }
 
+        if (lazy && domain.isEnabled()) {
+            // only mount the routing, the handler will be created on the first request
+            synchronized (this) {
+                LazyDomain lazyDomain = new LazyDomain(domain);
+                lazyDomains.put(domain.getId(), lazyDomain);
+                reactor.mountDomain(domain, lazyDomain.router);
+            }
+            return;
+        }
+
+        // the handler is built outside of the lock so that several domains can be deployed concurrently
         VertxSecurityDomainHandler handler = create0(domain);
         if (handler != null) {
             try {
                 handler.start();
-                handlers.putIfAbsent(domain.getId(), handler);
-                reactor.mountDomain(handler);
+                synchronized (this) {
+                    handlers.putIfAbsent(domain.getId(), handler);
+                    reactor.mountDomain(handler);
+                }
             } catch (Exception ex) {
                 logger.error("Unable to register handler", ex);
             }
@@ -66,19 +129,196 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
     }
 
     @Override
-    public void update(Domain domain) {
+    public synchronized void update(Domain domain) {
 
-        VertxSecurityDomainHandler handler = handlers.get(domain.getId());
-        if (handler != null) {
+        if (domain.isEnabled() && lazyDomains.containsKey(domain.getId())) {
+            // the domain is not active, only replace the routing
+            LazyDomain lazyDomain = new LazyDomain(domain);
+            lazyDomains.put(domain.getId(), lazyDomain);
+            reactor.mountDomain(domain, lazyDomain.router);
+            return;
+        }
+
+        VertxSecurityDomainHandler previous = handlers.get(domain.getId());
+        if (previous == null || !domain.isEnabled()) {
             remove(domain);
             create(domain);
-        } else {
-            create(domain);
+            return;
+        }
+
+        // build and warm the new handler while the previous one keeps serving the requests
+        logger.info("Build a new handler for domain [{}]", domain.getId());
+        long start = System.currentTimeMillis();
+        VertxSecurityDomainHandler handler = create0(domain);
+        try {
+            handler.start();
+        } catch (Exception ex) {
+            logger.error("Unable to start the new handler of domain [{}], keep the previous one", domain.getId(), ex);
+            stop(handler);
+            return;
+        }
+        long buildTime = System.currentTimeMillis() - start;
+
+        // switch the routing to the new handler
+        start = System.currentTimeMillis();
+        handlers.put(domain.getId(), handler);
+        reactor.mountDomain(handler);
+        long swapLatency = System.currentTimeMillis() - start;
+
+        swaps.incrementAndGet();
+        lastBuildTime.set(buildTime);
+        lastSwapLatency.set(swapLatency);
+        logger.info("Security Domain [{}] handler has been swapped (build time: {} ms, swap latency: {} ms)", domain.getId(), buildTime, swapLatency);
+
+        // drain the in-flight requests of the previous handler before stopping it
+        drainAndStop(previous);
+    }
+
+    /**
+     * Create and start the handler of a lazy domain, then switch its routing to the handler.
+     * Concurrent activations of the same domain wait for the handler being built.
+     */
+    private VertxSecurityDomainHandler activate(String domainId) throws Exception {
+        CompletableFuture<VertxSecurityDomainHandler> activation = new CompletableFuture<>();
+        CompletableFuture<VertxSecurityDomainHandler> inFlight = activations.putIfAbsent(domainId, activation);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+
+        try {
+            VertxSecurityDomainHandler handler = activate0(domainId);
+            activation.complete(handler);
+            return handler;
+        } catch (Exception ex) {
+            activation.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            activations.remove(domainId, activation);
+        }
+    }
+
+    private VertxSecurityDomainHandler activate0(String domainId) throws Exception {
+        for (int attempt = 1; ; attempt++) {
+            LazyDomain lazyDomain;
+            synchronized (this) {
+                VertxSecurityDomainHandler handler = handlers.get(domainId);
+                if (handler != null) {
+                    return handler;
+                }
+
+                lazyDomain = lazyDomains.get(domainId);
+                if (lazyDomain == null) {
+                    throw new IllegalStateException("Security domain [" + domainId + "] is not deployed");
+                }
+            }
+
+            // the handler is built outside of the lock so that the other domains can be deployed or activated meanwhile
+            logger.info("Activate domain [{}]", domainId);
+            long start = System.currentTimeMillis();
+            VertxSecurityDomainHandler handler = create0(lazyDomain.domain);
+            try {
+                handler.start();
+            } catch (Exception ex) {
+                stop(handler);
+                throw ex;
+            }
+
+            synchronized (this) {
+                // only publish the handler if the domain has not been updated or removed during its activation
+                if (lazyDomains.remove(domainId, lazyDomain)) {
+                    handlers.put(domainId, handler);
+                    reactor.mountDomain(handler);
+                    logger.info("Security Domain [{}] has been activated in {} ms", domainId, System.currentTimeMillis() - start);
+                    return handler;
+                }
+            }
+
+            stop(handler);
+            if (attempt >= MAX_ACTIVATION_ATTEMPTS) {
+                throw new IllegalStateException("Security domain [" + domainId + "] has been updated during its last " + attempt + " activations");
+            }
+            // activate the new version of the domain for the parked requests, fails on the next attempt if it has been removed
+            logger.info("Security Domain [{}] has been updated or removed during its activation, retry", domainId);
+        }
+    }
+
+    private static VertxSecurityDomainHandler await(CompletableFuture<VertxSecurityDomainHandler> activation) throws Exception {
+        try {
+            return activation.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof Exception) {
+                throw (Exception) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Stop the handlers which did not receive any request during the idle timeout, their routing is replaced
+     * by a lazy one so that the handlers are created again on the next request.
+     */
+    private void evictIdleDomains() {
+        long now = System.currentTimeMillis();
+        List<VertxSecurityDomainHandler> idleHandlers = handlers.values().stream()
+                .filter(handler -> handler.getInflightRequests() == 0 && now - handler.getLastRequestTime() > idleTimeout)
+                .collect(Collectors.toList());
+
+        for (VertxSecurityDomainHandler handler : idleHandlers) {
+            Domain domain = handler.getDomain();
+            LazyDomain lazyDomain = new LazyDomain(domain);
+            synchronized (this) {
+                // the handler may have been swapped or removed since it has been selected
+                if (!handlers.remove(domain.getId(), handler)) {
+                    continue;
+                }
+                lazyDomains.put(domain.getId(), lazyDomain);
+                reactor.mountDomain(domain, lazyDomain.router);
+            }
+            logger.info("Security Domain [{}] is idle, its handler has been stopped", domain.getId());
+            drainAndStop(handler);
+        }
+    }
+
+    private void drainAndStop(VertxSecurityDomainHandler handler) {
+        final String domainId = handler.getDomain().getId();
+        final long deadline = System.currentTimeMillis() + drainTimeout;
+        // wait for the in-flight requests of the previous handler without holding a thread
+        vertx.setPeriodic(DRAIN_POLL_INTERVAL, timerId -> {
+            if (handler.getInflightRequests() > 0 && System.currentTimeMillis() < deadline) {
+                return;
+            }
+            vertx.cancelTimer(timerId);
+            if (handler.getInflightRequests() > 0) {
+                logger.warn("{} requests still in-flight for domain [{}] after {} ms, stopping the previous handler",
+                        handler.getInflightRequests(), domainId, drainTimeout);
+            }
+            // stopping the handler closes its components, do not block the event loop
+            Completable.fromAction(() -> {
+                reactor.unMountDomain(handler);
+                handler.stop();
+            })
+                    .subscribeOn(Schedulers.io())
+                    .subscribe(
+                            () -> logger.info("Previous handler of domain [{}] has been drained and stopped", domainId),
+                            error -> logger.error("Unable to stop the previous handler of domain [{}]", domainId, error));
+        });
+    }
+
+    private void stop(VertxSecurityDomainHandler handler) {
+        try {
+            handler.stop();
+        } catch (Exception e) {
+            logger.error("Unable to stop handler", e);
         }
     }
 
     @Override
-    public void remove(Domain domain) {
+    public synchronized void remove(Domain domain) {
+
+        LazyDomain lazyDomain = lazyDomains.remove(domain.getId());
+        if (lazyDomain != null) {
+            reactor.unMountDomain(domain, lazyDomain.router);
+        }
 
         VertxSecurityDomainHandler handler = handlers.remove(domain.getId());
         if (handler != null) {
@@ -94,7 +334,11 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
     }
 
     @Override
-    public void clear() {
+    public synchronized void clear() {
+        if (idleEviction != null) {
+            idleEviction.dispose();
+        }
+        lazyDomains.clear();
         handlers.forEach((s, handler) -> {
             try {
                 handler.stop();
@@ -110,8 +354,82 @@ public class DefaultSecurityDomainHandlerRegistry implements SecurityDomainHandl
         return handlers.values();
     }
 
+    /**
+     * @return the number of domains mounted but not yet activated
+     */
+    public int getLazyDomains() {
+        return lazyDomains.size();
+    }
+
+    /**
+     * @return the number of handlers replaced by a blue/green swap
+     */
+    public long getSwaps() {
+        return swaps.get();
+    }
+
+    /**
+     * @return the time (in ms) spent to build and start the last swapped handler
+     */
+    public long getLastBuildTime() {
+        return lastBuildTime.get();
+    }
+
+    /**
+     * @return the time (in ms) spent to switch the routing to the last swapped handler
+     */
+    public long getLastSwapLatency() {
+        return lastSwapLatency.get();
+    }
+
     private VertxSecurityDomainHandler create0(Domain domain) {
         return securityDomainRouterFactory.create(domain);
     }
 
+    /**
+     * Routing of a domain which handler has not been created yet.
+     * The requests are parked until the handler has been started and then handled by its router.
+     */
+    private class LazyDomain {
+
+        private final Domain domain;
+        private final Router router;
+        private Single<VertxSecurityDomainHandler> activation;
+
+        private LazyDomain(Domain domain) {
+            this.domain = domain;
+            this.router = Router.router(vertx);
+            this.router.route("/*").handler(this::park);
+        }
+
+        private synchronized Single<VertxSecurityDomainHandler> activation() {
+            if (activation == null) {
+                activation = Single.fromCallable(() -> activate(domain.getId()))
+                        .subscribeOn(Schedulers.io())
+                        .doOnError(error -> reset())
+                        .cache();
+            }
+            return activation;
+        }
+
+        private synchronized void reset() {
+            activation = null;
+        }
+
+        private void park(RoutingContext context) {
+            // pause the request until the handler is started to not lose its body
+            context.request().pause();
+            final Context vertxContext = vertx.getOrCreateContext();
+            activation().subscribe(
+                    handler -> vertxContext.runOnContext(v -> {
+                        handler.router().handleContext(context);
+                        context.request().resume();
+                    }),
+                    error -> vertxContext.runOnContext(v -> {
+                        logger.error("Unable to activate domain [{}]", domain.getId(), error);
+                        context.request().resume();
+                        context.fail(HttpStatusCode.SERVICE_UNAVAILABLE_503);
+                    }));
+        }
+    }
 }
@@ -0,0 +1,130 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.reactor.impl.router;
+
+import io.gravitee.am.common.utils.PathUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Trie of values indexed by path segments, used to resolve the value mounted on the longest prefix of a request path
+ * in O(path length).
+ *
+ * Lookups are lock free, updates are serialized.
+ *
+ * @author GraviteeSource Team
+ */
+public class PathTrie<T> {
+
+    private final Node<T> root = new Node<>();
+
+    /**
+     * Mount a value on the given path, replacing the value already mounted on this path if any.
+     */
+    public synchronized void put(String path, T value) {
+        Node<T> node = root;
+        for (String segment : segments(path)) {
+            node = node.children.computeIfAbsent(segment, key -> new Node<>());
+        }
+        node.value = value;
+    }
+
+    /**
+     * Unmount the given value from the path, only if it is still the value mounted on this path.
+     *
+     * @return <code>true</code> if the value has been removed
+     */
+    public synchronized boolean remove(String path, T value) {
+        List<String> segments = segments(path);
+        List<Node<T>> nodes = new ArrayList<>(segments.size() + 1);
+        Node<T> node = root;
+        nodes.add(node);
+        for (String segment : segments) {
+            node = node.children.get(segment);
+            if (node == null) {
+                return false;
+            }
+            nodes.add(node);
+        }
+
+        if (node.value != value) {
+            return false;
+        }
+        node.value = null;
+
+        // prune the branches which do not lead anymore to a value
+        for (int i = segments.size(); i > 0; i--) {
+            Node<T> current = nodes.get(i);
+            if (current.value != null || !current.children.isEmpty()) {
+                break;
+            }
+            nodes.get(i - 1).children.remove(segments.get(i - 1), current);
+        }
+        return true;
+    }
+
+    /**
+     * Get the value mounted on the longest prefix of the given path.
+     *
+     * @param path the request path
+     * @return the value or <code>null</code> if no prefix of the path has been mounted
+     */
+    public T longestPrefixMatch(String path) {
+        Node<T> node = root;
+        T match = node.value;
+        int length = path == null ? 0 : path.length();
+        int start = 0;
+        while (start < length) {
+            int end = path.indexOf('/', start);
+            if (end == -1) {
+                end = length;
+            }
+            if (end > start) {
+                node = node.children.get(path.substring(start, end));
+                if (node == null) {
+                    break;
+                }
+                if (node.value != null) {
+                    match = node.value;
+                }
+            }
+            start = end + 1;
+        }
+        return match;
+    }
+
+    public boolean isEmpty() {
+        return root.value == null && root.children.isEmpty();
+    }
+
+    private static List<String> segments(String path) {
+        List<String> segments = new ArrayList<>();
+        for (String segment : PathUtils.sanitize(path).split("/")) {
+            if (!segment.isEmpty()) {
+                segments.add(segment);
+            }
+        }
+        return segments;
+    }
+
+    private static class Node<T> {
+        private final Map<String, Node<T>> children = new ConcurrentHashMap<>();
+        private volatile T value;
+    }
+}
@@ -0,0 +1,195 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.reactor.impl.router;
+
+import io.gravitee.am.common.utils.PathUtils;
+import io.gravitee.am.model.Domain;
+import io.vertx.core.Handler;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.ext.web.Router;
+import io.vertx.reactivex.ext.web.RoutingContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.gravitee.am.gateway.handler.common.vertx.utils.UriBuilderRequest.CONTEXT_PATH;
+
+/**
+ * Single entry point dispatching the requests to the router of the matching security domain.
+ *
+ * Domains in vhost mode are indexed by host (exact host or wildcard <code>*.domain.com</code>) then by path, other
+ * domains are indexed by path only. For a given request the domain mounted on the longest prefix of the path for the
+ * request host is selected, then the one mounted on the longest prefix of the path regardless of the host.
+ *
+ * @author GraviteeSource Team
+ */
+public class SecurityDomainDispatcher implements Handler<RoutingContext> {
+
+    private static final String WILDCARD = "*";
+
+    private final Vertx vertx;
+    private final Map<String, PathTrie<MountPoint>> virtualHosts = new ConcurrentHashMap<>();
+    private final PathTrie<MountPoint> contextPaths = new PathTrie<>();
+    private final Map<String, Mount> mounts = new ConcurrentHashMap<>();
+
+    public SecurityDomainDispatcher(Vertx vertx) {
+        this.vertx = vertx;
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        MountPoint mountPoint = resolve(context.request().host(), context.normalisedPath());
+        if (mountPoint != null) {
+            mountPoint.handleContext(context);
+        } else {
+            context.next();
+        }
+    }
+
+    public void handleFailure(RoutingContext context) {
+        MountPoint mountPoint = resolve(context.request().host(), context.normalisedPath());
+        if (mountPoint != null) {
+            mountPoint.handleFailure(context);
+        } else {
+            context.next();
+        }
+    }
+
+    /**
+     * Mount the router of the domain on its context path or on each of its virtual hosts.
+     * If the domain is already mounted, the new router atomically replaces the previous one.
+     */
+    public synchronized void mount(Domain domain, Router domainRouter) {
+        List<MountPoint> mountPoints = new ArrayList<>();
+        if (domain.isVhostMode()) {
+            domain.getVhosts().forEach(vhost -> mountPoints.add(new MountPoint(domain.getId(), vhost.getHost(), vhost.getPath(), domainRouter)));
+        } else {
+            mountPoints.add(new MountPoint(domain.getId(), null, domain.getPath(), domainRouter));
+        }
+
+        mountPoints.forEach(mountPoint -> index(mountPoint).put(mountPoint.path, mountPoint));
+
+        Mount previous = mounts.put(domain.getId(), new Mount(domainRouter, mountPoints));
+        if (previous != null) {
+            previous.mountPoints.forEach(this::remove);
+        }
+    }
+
+    /**
+     * Unmount the domain, only if the given router is still the one mounted for this domain.
+     */
+    public synchronized void unmount(Domain domain, Router domainRouter) {
+        Mount mount = mounts.get(domain.getId());
+        if (mount != null && mount.router == domainRouter) {
+            mounts.remove(domain.getId());
+            mount.mountPoints.forEach(this::remove);
+        }
+    }
+
+    public synchronized void clear() {
+        mounts.values().forEach(mount -> mount.mountPoints.forEach(this::remove));
+        mounts.clear();
+    }
+
+    public MountPoint resolve(String host, String path) {
+        if (host != null && !virtualHosts.isEmpty()) {
+            MountPoint mountPoint = resolve(virtualHosts.get(host), path);
+            if (mountPoint == null) {
+                int dot = host.indexOf('.');
+                if (dot > 0) {
+                    mountPoint = resolve(virtualHosts.get(WILDCARD + host.substring(dot)), path);
+                }
+            }
+            if (mountPoint != null) {
+                return mountPoint;
+            }
+        }
+        return contextPaths.longestPrefixMatch(path);
+    }
+
+    private MountPoint resolve(PathTrie<MountPoint> paths, String path) {
+        return paths == null ? null : paths.longestPrefixMatch(path);
+    }
+
+    private PathTrie<MountPoint> index(MountPoint mountPoint) {
+        return mountPoint.host == null ? contextPaths : virtualHosts.computeIfAbsent(mountPoint.host, host -> new PathTrie<>());
+    }
+
+    private void remove(MountPoint mountPoint) {
+        if (mountPoint.host == null) {
+            contextPaths.remove(mountPoint.path, mountPoint);
+        } else {
+            PathTrie<MountPoint> paths = virtualHosts.get(mountPoint.host);
+            if (paths != null && paths.remove(mountPoint.path, mountPoint) && paths.isEmpty()) {
+                virtualHosts.remove(mountPoint.host);
+            }
+        }
+    }
+
+    private static class Mount {
+        private final Router router;
+        private final List<MountPoint> mountPoints;
+
+        private Mount(Router router, List<MountPoint> mountPoints) {
+            this.router = router;
+            this.mountPoints = mountPoints;
+        }
+    }
+
+    /**
+     * A domain router mounted on a host and a path.
+     * The domain router is mounted as a sub router on the path to keep the same mount point semantic than the main router.
+     */
+    public class MountPoint {
+
+        private final String domain;
+        private final String host;
+        private final String path;
+        private final Router router;
+
+        private MountPoint(String domain, String host, String path, Router domainRouter) {
+            this.domain = domain;
+            this.host = host;
+            this.path = PathUtils.sanitize(path);
+            this.router = Router.router(vertx);
+            this.router.mountSubRouter(this.path.endsWith("/") ? this.path : this.path + "/", domainRouter);
+        }
+
+        public String getDomain() {
+            return domain;
+        }
+
+        public String getHost() {
+            return host;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        private void handleContext(RoutingContext context) {
+            // Set to empty to easily chain context path with other sub paths.
+            context.put(CONTEXT_PATH, "/".equals(path) ? "" : path);
+            router.handleContext(context);
+        }
+
+        private void handleFailure(RoutingContext context) {
+            router.handleFailure(context);
+        }
+    }
+}
@@ -16,7 +16,7 @@
 package io.gravitee.am.gateway.reactor.spring;
 
 import io.gravitee.am.gateway.certificate.spring.CertificateConfiguration;
-import io.gravitee.am.gateway.core.manager.EntityManager;
+import io.gravitee.am.gateway.core.manager.ClientManager;
 import io.gravitee.am.gateway.handler.SecurityDomainRouterFactory;
 import io.gravitee.am.gateway.reactor.Reactor;
 import io.gravitee.am.gateway.reactor.SecurityDomainHandlerRegistry;
@@ -64,5 +64,5 @@ public class ReactorConfiguration {
     }
 
     @Bean
-    public EntityManager clientManager() { return new DefaultClientManager(); }
+    public ClientManager clientManager() { return new DefaultClientManager(); }
 }
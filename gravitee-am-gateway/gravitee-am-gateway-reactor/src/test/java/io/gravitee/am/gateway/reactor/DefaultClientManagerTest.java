@@ -0,0 +1,82 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.reactor;
+
+import io.gravitee.am.gateway.reactor.impl.DefaultClientManager;
+import io.gravitee.am.model.oidc.Client;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class DefaultClientManagerTest {
+
+    private final DefaultClientManager clientManager = new DefaultClientManager();
+
+    @Test
+    public void shouldFindByDomainAndClientId() {
+        clientManager.init(Arrays.asList(
+                client("aa", "domainA", "client-a", false),
+                client("ab", "domainA", "client-b", true),
+                client("ba", "domainB", "client-a", false)));
+
+        Assert.assertEquals("aa", clientManager.findByDomainAndClientId("domainA", "client-a").getId());
+        Assert.assertEquals("ba", clientManager.findByDomainAndClientId("domainB", "client-a").getId());
+        Assert.assertNull(clientManager.findByDomainAndClientId("domainA", "client-b"));
+        Assert.assertNull(clientManager.findByDomainAndClientId("domainC", "client-a"));
+        Assert.assertEquals(1, clientManager.findTemplates("domainA").size());
+        Assert.assertTrue(clientManager.findTemplates("domainB").isEmpty());
+    }
+
+    @Test
+    public void shouldReindexOnUpdate() {
+        clientManager.deploy(client("aa", "domainA", "client-a", false));
+
+        clientManager.update(client("aa", "domainA", "client-renamed", false));
+        Assert.assertNull(clientManager.findByDomainAndClientId("domainA", "client-a"));
+        Assert.assertEquals("aa", clientManager.findByDomainAndClientId("domainA", "client-renamed").getId());
+
+        clientManager.update(client("aa", "domainA", "client-renamed", true));
+        Assert.assertNull(clientManager.findByDomainAndClientId("domainA", "client-renamed"));
+        Assert.assertEquals(1, clientManager.findTemplates("domainA").size());
+    }
+
+    @Test
+    public void shouldRemoveFromIndexOnUndeploy() {
+        clientManager.deploy(client("aa", "domainA", "client-a", false));
+        clientManager.deploy(client("ab", "domainA", "template", true));
+
+        clientManager.undeploy("aa");
+        clientManager.undeploy("ab");
+
+        Assert.assertNull(clientManager.get("aa"));
+        Assert.assertNull(clientManager.findByDomainAndClientId("domainA", "client-a"));
+        Assert.assertTrue(clientManager.findTemplates("domainA").isEmpty());
+        Assert.assertTrue(clientManager.entities().isEmpty());
+    }
+
+    private static Client client(String id, String domain, String clientId, boolean template) {
+        Client client = new Client();
+        client.setId(id);
+        client.setDomain(domain);
+        client.setClientId(clientId);
+        client.setTemplate(template);
+        return client;
+    }
+}
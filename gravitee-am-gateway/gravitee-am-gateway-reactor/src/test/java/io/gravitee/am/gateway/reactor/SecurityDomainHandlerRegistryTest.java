@@ -0,0 +1,306 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.reactor;
+
+import io.gravitee.am.gateway.handler.SecurityDomainRouterFactory;
+import io.gravitee.am.gateway.handler.vertx.VertxSecurityDomainHandler;
+import io.gravitee.am.gateway.reactor.impl.DefaultSecurityDomainHandlerRegistry;
+import io.gravitee.am.model.Domain;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.core.http.HttpServer;
+import io.vertx.reactivex.ext.web.Router;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SecurityDomainHandlerRegistryTest {
+
+    @InjectMocks
+    private DefaultSecurityDomainHandlerRegistry securityDomainHandlerRegistry = new DefaultSecurityDomainHandlerRegistry();
+
+    @Mock
+    private SecurityDomainRouterFactory securityDomainRouterFactory;
+
+    @Mock
+    private Reactor reactor;
+
+    @Mock
+    private VertxSecurityDomainHandler previousHandler;
+
+    @Mock
+    private VertxSecurityDomainHandler newHandler;
+
+    private Vertx vertx;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        ReflectionTestUtils.setField(securityDomainHandlerRegistry, "vertx", vertx);
+    }
+
+    @After
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void shouldSwapHandlerOnUpdate() throws Exception {
+        final Domain domain = domain();
+        when(securityDomainRouterFactory.create(domain)).thenReturn(previousHandler, newHandler);
+        when(previousHandler.getDomain()).thenReturn(domain);
+        when(previousHandler.getInflightRequests()).thenReturn(1L, 1L, 0L);
+
+        securityDomainHandlerRegistry.create(domain);
+        securityDomainHandlerRegistry.update(domain);
+
+        Assert.assertEquals(1, securityDomainHandlerRegistry.getSecurityDomainHandlers().size());
+        Assert.assertSame(newHandler, securityDomainHandlerRegistry.getSecurityDomainHandlers().iterator().next());
+        Assert.assertEquals(1, securityDomainHandlerRegistry.getSwaps());
+
+        // the previous handler is stopped once drained
+        verify(previousHandler, timeout(5000)).stop();
+        InOrder inOrder = inOrder(newHandler, reactor, previousHandler);
+        inOrder.verify(newHandler).start();
+        inOrder.verify(reactor).mountDomain(newHandler);
+        inOrder.verify(reactor).unMountDomain(previousHandler);
+        inOrder.verify(previousHandler).stop();
+        verify(newHandler, never()).stop();
+    }
+
+    @Test
+    public void shouldKeepPreviousHandler_newHandlerNotStarted() throws Exception {
+        final Domain domain = domain();
+        when(securityDomainRouterFactory.create(domain)).thenReturn(previousHandler, newHandler);
+        doThrow(new IllegalStateException()).when(newHandler).start();
+
+        securityDomainHandlerRegistry.create(domain);
+        securityDomainHandlerRegistry.update(domain);
+
+        Assert.assertSame(previousHandler, securityDomainHandlerRegistry.getSecurityDomainHandlers().iterator().next());
+        Assert.assertEquals(0, securityDomainHandlerRegistry.getSwaps());
+        verify(reactor, never()).mountDomain(newHandler);
+        verify(reactor, never()).unMountDomain(previousHandler);
+        verify(previousHandler, never()).stop();
+        verify(newHandler).stop();
+    }
+
+    @Test
+    public void shouldRemoveHandler_domainDisabled() throws Exception {
+        final Domain domain = domain();
+        when(securityDomainRouterFactory.create(domain)).thenReturn(previousHandler, (VertxSecurityDomainHandler) null);
+
+        securityDomainHandlerRegistry.create(domain);
+        domain.setEnabled(false);
+        securityDomainHandlerRegistry.update(domain);
+
+        Assert.assertTrue(securityDomainHandlerRegistry.getSecurityDomainHandlers().isEmpty());
+        verify(previousHandler).stop();
+        verify(reactor).unMountDomain(previousHandler);
+    }
+
+    @Test
+    public void shouldOnlyMountRouting_lazyMode() {
+        enableLazyMode(0);
+        final Domain domain = domain();
+
+        securityDomainHandlerRegistry.create(domain);
+
+        Assert.assertEquals(1, securityDomainHandlerRegistry.getLazyDomains());
+        Assert.assertTrue(securityDomainHandlerRegistry.getSecurityDomainHandlers().isEmpty());
+        verify(reactor).mountDomain(eq(domain), any(Router.class));
+        verify(securityDomainRouterFactory, never()).create(any());
+    }
+
+    @Test
+    public void shouldActivateDomain_lazyMode() throws Exception {
+        enableLazyMode(0);
+        final Domain domain = domain();
+        when(securityDomainRouterFactory.create(domain)).thenReturn(newHandler);
+        when(newHandler.router()).thenReturn(handlerRouter());
+
+        securityDomainHandlerRegistry.create(domain);
+        Router lazyRouter = lazyRouter(domain);
+
+        // the requests are parked until the handler is started, then replayed on its router
+        CompletableFuture<Integer> first = dispatch(lazyRouter);
+        CompletableFuture<Integer> second = dispatch(lazyRouter);
+        Assert.assertEquals(200, (int) first.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(200, (int) second.get(5, TimeUnit.SECONDS));
+
+        Assert.assertEquals(0, securityDomainHandlerRegistry.getLazyDomains());
+        Assert.assertSame(newHandler, securityDomainHandlerRegistry.getSecurityDomainHandlers().iterator().next());
+        verify(securityDomainRouterFactory).create(domain);
+        verify(newHandler).start();
+        verify(reactor).mountDomain(newHandler);
+    }
+
+    @Test
+    public void shouldEvictIdleDomain_lazyMode() throws Exception {
+        enableLazyMode(1);
+        final Domain domain = domain();
+        when(securityDomainRouterFactory.create(domain)).thenReturn(newHandler);
+        when(newHandler.router()).thenReturn(handlerRouter());
+        when(newHandler.getDomain()).thenReturn(domain);
+
+        securityDomainHandlerRegistry.afterPropertiesSet();
+        try {
+            securityDomainHandlerRegistry.create(domain);
+            Assert.assertEquals(200, (int) dispatch(lazyRouter(domain)).get(5, TimeUnit.SECONDS));
+
+            // the handler does not receive any request anymore, its routing is replaced by a lazy one
+            verify(newHandler, timeout(5000)).stop();
+            Assert.assertEquals(1, securityDomainHandlerRegistry.getLazyDomains());
+            Assert.assertTrue(securityDomainHandlerRegistry.getSecurityDomainHandlers().isEmpty());
+            verify(reactor, times(2)).mountDomain(eq(domain), any(Router.class));
+            verify(reactor).unMountDomain(newHandler);
+        } finally {
+            securityDomainHandlerRegistry.clear();
+        }
+    }
+
+    @Test
+    public void shouldNotLockRegistry_whileActivating() throws Exception {
+        enableLazyMode(0);
+        final Domain domain = domain();
+        final Domain otherDomain = domain();
+        otherDomain.setId("domain-2");
+        final CountDownLatch building = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(securityDomainRouterFactory.create(domain)).thenAnswer(invocation -> {
+            building.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return newHandler;
+        });
+        when(newHandler.router()).thenReturn(handlerRouter());
+
+        securityDomainHandlerRegistry.create(domain);
+        CompletableFuture<Integer> response = dispatch(lazyRouter(domain));
+        Assert.assertTrue(building.await(5, TimeUnit.SECONDS));
+
+        // the other domains can be deployed while the handler is being built
+        CompletableFuture.runAsync(() -> securityDomainHandlerRegistry.create(otherDomain)).get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(2, securityDomainHandlerRegistry.getLazyDomains());
+
+        release.countDown();
+        Assert.assertEquals(200, (int) response.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(1, securityDomainHandlerRegistry.getLazyDomains());
+        verify(reactor).mountDomain(newHandler);
+    }
+
+    @Test
+    public void shouldActivateNewVersion_domainUpdatedWhileActivating() throws Exception {
+        enableLazyMode(0);
+        final Domain domain = domain();
+        final Domain updatedDomain = domain();
+        updatedDomain.setName("updated");
+        when(securityDomainRouterFactory.create(domain))
+                .thenAnswer(invocation -> {
+                    securityDomainHandlerRegistry.update(updatedDomain);
+                    return previousHandler;
+                })
+                .thenReturn(newHandler);
+        when(newHandler.router()).thenReturn(handlerRouter());
+
+        securityDomainHandlerRegistry.create(domain);
+
+        // the parked request is handled by the handler of the new version
+        Assert.assertEquals(200, (int) dispatch(lazyRouter(domain)).get(5, TimeUnit.SECONDS));
+
+        Assert.assertEquals(0, securityDomainHandlerRegistry.getLazyDomains());
+        Assert.assertSame(newHandler, securityDomainHandlerRegistry.getSecurityDomainHandlers().iterator().next());
+        verify(previousHandler).stop();
+        verify(previousHandler, never()).router();
+        verify(reactor, never()).mountDomain(previousHandler);
+        verify(reactor).mountDomain(newHandler);
+    }
+
+    @Test
+    public void shouldNotPublishHandler_domainRemovedWhileActivating() throws Exception {
+        enableLazyMode(0);
+        final Domain domain = domain();
+        when(securityDomainRouterFactory.create(domain)).thenAnswer(invocation -> {
+            securityDomainHandlerRegistry.remove(domain);
+            return newHandler;
+        });
+
+        securityDomainHandlerRegistry.create(domain);
+
+        // the parked request fails as the domain is not deployed anymore
+        Assert.assertEquals(503, (int) dispatch(lazyRouter(domain)).get(5, TimeUnit.SECONDS));
+
+        Assert.assertEquals(0, securityDomainHandlerRegistry.getLazyDomains());
+        Assert.assertTrue(securityDomainHandlerRegistry.getSecurityDomainHandlers().isEmpty());
+        verify(securityDomainRouterFactory).create(domain);
+        verify(reactor, never()).mountDomain(newHandler);
+        verify(newHandler).stop();
+        verify(newHandler, never()).router();
+    }
+
+    private void enableLazyMode(long idleTimeout) {
+        ReflectionTestUtils.setField(securityDomainHandlerRegistry, "lazy", true);
+        ReflectionTestUtils.setField(securityDomainHandlerRegistry, "idleTimeout", idleTimeout);
+    }
+
+    private Router lazyRouter(Domain domain) {
+        ArgumentCaptor<Router> router = ArgumentCaptor.forClass(Router.class);
+        verify(reactor).mountDomain(eq(domain), router.capture());
+        return router.getValue();
+    }
+
+    private Router handlerRouter() {
+        Router router = Router.router(vertx);
+        router.route().handler(context -> context.response().setStatusCode(200).end());
+        return router;
+    }
+
+    private CompletableFuture<Integer> dispatch(Router router) {
+        HttpServer server = vertx.createHttpServer()
+                .requestHandler(router)
+                .rxListen(0)
+                .blockingGet();
+        CompletableFuture<Integer> status = new CompletableFuture<>();
+        vertx.createHttpClient().getNow(server.actualPort(), "localhost", "/domain-1/test", response -> status.complete(response.statusCode()));
+        return status;
+    }
+
+    private static Domain domain() {
+        final Domain domain = new Domain();
+        domain.setId("domain-1");
+        domain.setPath("/domain-1");
+        domain.setEnabled(true);
+        return domain;
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.reactor.impl.router;
+
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.model.VirtualHost;
+import io.vertx.reactivex.core.Vertx;
+import io.vertx.reactivex.ext.web.Router;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class SecurityDomainDispatcherTest {
+
+    private final Vertx vertx = Vertx.vertx();
+    private final SecurityDomainDispatcher dispatcher = new SecurityDomainDispatcher(vertx);
+
+    @After
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void shouldResolveLongestContextPath() {
+        dispatcher.mount(domain("root", "/"), Router.router(vertx));
+        dispatcher.mount(domain("a", "/a"), Router.router(vertx));
+        dispatcher.mount(domain("ab", "/a/b"), Router.router(vertx));
+
+        Assert.assertEquals("ab", dispatcher.resolve("localhost", "/a/b/oauth/token").getDomain());
+        Assert.assertEquals("ab", dispatcher.resolve("localhost", "/a/b").getDomain());
+        Assert.assertEquals("a", dispatcher.resolve("localhost", "/a/bc/login").getDomain());
+        Assert.assertEquals("a", dispatcher.resolve("localhost", "/a").getDomain());
+        Assert.assertEquals("root", dispatcher.resolve("localhost", "/ab").getDomain());
+        Assert.assertEquals("root", dispatcher.resolve(null, "/").getDomain());
+    }
+
+    @Test
+    public void shouldNotResolveUnknownPath() {
+        dispatcher.mount(domain("a", "/a"), Router.router(vertx));
+
+        Assert.assertNull(dispatcher.resolve("localhost", "/b/login"));
+        Assert.assertNull(dispatcher.resolve("localhost", "/"));
+    }
+
+    @Test
+    public void shouldResolveVirtualHostBeforeContextPath() {
+        dispatcher.mount(domain("a", "/a"), Router.router(vertx));
+        dispatcher.mount(vhostDomain("vhost", vhost("auth.acme.com", "/"), vhost("auth.acme.com:8092", "/b")), Router.router(vertx));
+        dispatcher.mount(vhostDomain("wildcard", vhost("*.acme.org", "/")), Router.router(vertx));
+
+        Assert.assertEquals("vhost", dispatcher.resolve("auth.acme.com", "/a/login").getDomain());
+        Assert.assertEquals("vhost", dispatcher.resolve("auth.acme.com:8092", "/b/login").getDomain());
+        Assert.assertEquals("a", dispatcher.resolve("auth.acme.com:8092", "/a/login").getDomain());
+        Assert.assertEquals("a", dispatcher.resolve("other.acme.com", "/a/login").getDomain());
+        Assert.assertEquals("wildcard", dispatcher.resolve("auth.acme.org", "/login").getDomain());
+        Assert.assertNull(dispatcher.resolve("acme.org", "/login"));
+    }
+
+    @Test
+    public void shouldSwapRouterOnMount() {
+        Router previous = Router.router(vertx);
+        Router current = Router.router(vertx);
+        dispatcher.mount(domain("a", "/a"), previous);
+        dispatcher.mount(domain("a", "/renamed"), current);
+
+        Assert.assertNull(dispatcher.resolve("localhost", "/a/login"));
+        Assert.assertEquals("a", dispatcher.resolve("localhost", "/renamed/login").getDomain());
+
+        // unmounting the previous router must not unmount the current one
+        dispatcher.unmount(domain("a", "/a"), previous);
+        Assert.assertEquals("a", dispatcher.resolve("localhost", "/renamed/login").getDomain());
+
+        dispatcher.unmount(domain("a", "/renamed"), current);
+        Assert.assertNull(dispatcher.resolve("localhost", "/renamed/login"));
+    }
+
+    @Test
+    public void shouldUnmountDomain() {
+        Router root = Router.router(vertx);
+        Router vhost = Router.router(vertx);
+        dispatcher.mount(domain("root", "/"), root);
+        dispatcher.mount(vhostDomain("vhost", vhost("auth.acme.com", "/a")), vhost);
+
+        dispatcher.unmount(vhostDomain("vhost"), vhost);
+        Assert.assertEquals("root", dispatcher.resolve("auth.acme.com", "/a/login").getDomain());
+
+        dispatcher.unmount(domain("root", "/"), root);
+        Assert.assertNull(dispatcher.resolve("auth.acme.com", "/a/login"));
+    }
+
+    @Test
+    public void shouldResolveAmongManyDomains() {
+        int size = 1000;
+        for (int i = 0; i < size; i++) {
+            if (i % 2 == 0) {
+                dispatcher.mount(domain("domain-" + i, "/domain-" + i), Router.router(vertx));
+            } else {
+                dispatcher.mount(vhostDomain("domain-" + i, vhost("auth-" + i + ".acme.com", "/")), Router.router(vertx));
+            }
+        }
+
+        Assert.assertEquals("domain-0", dispatcher.resolve("localhost", "/domain-0/oauth/token").getDomain());
+        Assert.assertEquals("domain-" + (size - 2), dispatcher.resolve("localhost", "/domain-" + (size - 2) + "/oauth/token").getDomain());
+        Assert.assertEquals("domain-" + (size - 1), dispatcher.resolve("auth-" + (size - 1) + ".acme.com", "/login").getDomain());
+        Assert.assertNull(dispatcher.resolve("localhost", "/domain-1/oauth/token"));
+        Assert.assertNull(dispatcher.resolve("localhost", "/unknown/oauth/token"));
+    }
+
+    static Domain domain(String id, String path) {
+        Domain domain = new Domain();
+        domain.setId(id);
+        domain.setPath(path);
+        return domain;
+    }
+
+    static Domain vhostDomain(String id, VirtualHost... vhosts) {
+        Domain domain = new Domain();
+        domain.setId(id);
+        domain.setVhostMode(true);
+        domain.setVhosts(Arrays.asList(vhosts));
+        return domain;
+    }
+
+    static VirtualHost vhost(String host, String path) {
+        VirtualHost vhost = new VirtualHost();
+        vhost.setHost(host);
+        vhost.setPath(path);
+        return vhost;
+    }
+}
@@ -15,15 +15,21 @@
  */
 package io.gravitee.am.gateway.services.sync;
 
+import io.gravitee.am.repository.management.api.EventRepository;
 import io.gravitee.common.service.AbstractService;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.schedulers.Schedulers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.support.CronTrigger;
 
 import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -46,11 +52,30 @@ public class ScheduledSyncService extends AbstractService implements Runnable {
     @Value("${services.sync.enabled:true}")
     private boolean enabled;
 
+    @Value("${services.sync.push.enabled:false}")
+    private boolean pushEnabled;
+
+    @Value("${services.sync.push.retryDelay:30000}")
+    private long pushRetryDelay;
+
     @Autowired
     private SyncManager syncStateManager;
 
+    @Lazy
+    @Autowired
+    private EventRepository eventRepository;
+
     private final AtomicLong counter = new AtomicLong(0);
 
+    /**
+     * <code>true</code> while the repository pushes events, polling is then skipped.
+     */
+    private volatile boolean pushActive;
+
+    private volatile Disposable pushSubscription;
+
+    private volatile boolean stopped;
+
     @Override
     protected void doStart() throws Exception {
         if (enabled) {
@@ -59,16 +84,81 @@ public class ScheduledSyncService extends AbstractService implements Runnable {
             // Sync must start only when doStart() is invoked, that's the reason why we are not
             // using @Scheduled annotation on doSync() method.
             scheduler.schedule(this, new CronTrigger(cronTrigger));
+            if (pushEnabled) {
+                if (eventRepository.supportsWatch()) {
+                    listen();
+                } else {
+                    logger.info("Events streaming is not supported by the repository, keep polling only");
+                }
+            }
         } else {
             logger.warn("Sync service has been disabled");
         }
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        stopped = true;
+        final Disposable subscription = pushSubscription;
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
     @Override
     public void run() {
+        if (pushActive && syncStateManager.isInitialized()) {
+            logger.debug("Events are pushed by the repository, skip polling");
+            return;
+        }
         doSync();
     }
 
+    /**
+     * Subscribe to the events pushed by the repository.
+     * The stream replays the events stored since the last synchronization so that nothing is lost while it is opening,
+     * polling is only suspended once the stream has delivered its first events, the events stored in between are then caught up.
+     * When the stream drops, the cron based polling takes over from the last computed event and a new subscription is attempted after a delay.
+     */
+    private void listen() {
+        if (stopped) {
+            return;
+        }
+
+        final long lastRefreshAt = syncStateManager.getLastRefreshAt();
+        final long from = lastRefreshAt == -1 ? System.currentTimeMillis() : lastRefreshAt;
+        logger.debug("Listening to the events pushed by the repository since {}", from);
+
+        pushSubscription = eventRepository.watch(from)
+                .buffer(100, TimeUnit.MILLISECONDS, 100)
+                .filter(events -> !events.isEmpty())
+                .observeOn(Schedulers.io())
+                .subscribe(
+                        events -> {
+                            syncStateManager.push(events);
+                            if (!pushActive) {
+                                // the stream is open, catch up the events stored between the last synchronization and its opening
+                                logger.debug("Events stream is open, suspend polling");
+                                pushActive = true;
+                                doSync();
+                            }
+                        },
+                        error -> {
+                            logger.warn("Events stream has been interrupted, fallback to polling", error);
+                            retryListen();
+                        },
+                        () -> {
+                            logger.debug("Events stream has been closed, fallback to polling");
+                            retryListen();
+                        });
+    }
+
+    private void retryListen() {
+        pushActive = false;
+        scheduler.schedule(this::listen, new Date(System.currentTimeMillis() + pushRetryDelay));
+    }
+
     /**
      * Synchronization done when Gravitee node is starting.
      * This sync phase must be done by all node before starting.
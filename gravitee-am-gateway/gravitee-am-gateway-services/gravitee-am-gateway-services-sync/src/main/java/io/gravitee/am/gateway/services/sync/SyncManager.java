@@ -17,9 +17,9 @@ package io.gravitee.am.gateway.services.sync;
 
 import io.gravitee.am.common.event.Action;
 import io.gravitee.am.gateway.certificate.DefaultCertificateManager;
+import io.gravitee.am.gateway.core.manager.ClientManager;
 import io.gravitee.am.gateway.core.manager.EntityManager;
 import io.gravitee.am.gateway.reactor.SecurityDomainManager;
-import io.gravitee.am.gateway.reactor.impl.DefaultClientManager;
 import io.gravitee.am.model.Certificate;
 import io.gravitee.am.model.Application;
 import io.gravitee.am.model.Domain;
@@ -30,15 +30,20 @@ import io.gravitee.am.repository.management.api.CertificateRepository;
 import io.gravitee.am.repository.management.api.DomainRepository;
 import io.gravitee.am.repository.management.api.EventRepository;
 import io.gravitee.common.event.EventManager;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.core.env.Environment;
 
 import java.text.Collator;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BinaryOperator;
 import java.util.stream.Collectors;
 
@@ -63,7 +68,7 @@ public class SyncManager implements InitializingBean {
     private SecurityDomainManager securityDomainManager;
 
     @Autowired
-    private EntityManager<Client> clientManager;
+    private ClientManager clientManager;
 
     @Autowired
     private EntityManager<Certificate> certificateManager;
@@ -87,9 +92,12 @@ public class SyncManager implements InitializingBean {
     @Autowired
     private CertificateRepository certificateRepository;
 
+    @Value("${services.sync.deploy.concurrency:4}")
+    private int deployConcurrency = 4;
+
     private Optional<List<String>> shardingTags;
 
-    private long lastRefreshAt = -1;
+    private volatile long lastRefreshAt = -1;
 
     private long lastDelay = 0;
 
@@ -98,30 +106,26 @@ public class SyncManager implements InitializingBean {
         this.initShardingTags();
     }
 
-    public void refresh() {
+    public synchronized void refresh() {
         logger.debug("Refreshing sync state...");
         long nextLastRefreshAt = System.currentTimeMillis();
 
         try {
             if (lastRefreshAt == -1) {
                 logger.debug("Initial synchronization");
+                final long start = System.currentTimeMillis();
                 deployDomains();
                 deployClients();
                 deployCertificates();
+                securityDomainManager.setInitialized(true);
+                logger.info("Initial synchronization done in {} ms", System.currentTimeMillis() - start);
             } else {
                 // search for events and compute them
                 logger.debug("Events synchronization");
                 List<Event> events = eventRepository.findByTimeFrame(lastRefreshAt - lastDelay, nextLastRefreshAt).blockingGet();
 
                 if (events != null && !events.isEmpty()) {
-                    // Extract only the latest events by type and id
-                    Map<AbstractMap.SimpleEntry, Event> sortedEvents = events
-                            .stream()
-                            .collect(
-                                    toMap(
-                                            event -> new AbstractMap.SimpleEntry<>(event.getType(), event.getPayload().getId()),
-                                            event -> event, BinaryOperator.maxBy(comparing(Event::getCreatedAt)), LinkedHashMap::new));
-                    computeEvents(sortedEvents.values());
+                    computeEvents(latestEvents(events));
                 }
 
             }
@@ -132,8 +136,58 @@ public class SyncManager implements InitializingBean {
         }
     }
 
+    /**
+     * Compute events pushed by the repository without waiting for the next polling.
+     * Events received before the initial synchronization are ignored since the initial synchronization loads the whole state.
+     *
+     * @param events pushed events
+     */
+    public synchronized void push(List<Event> events) {
+        if (lastRefreshAt == -1 || events == null || events.isEmpty()) {
+            return;
+        }
+
+        try {
+            logger.debug("Pushed events synchronization");
+            computeEvents(latestEvents(events));
+
+            // move the polling position forward so that polling resumes from the last pushed event if the stream drops
+            events.stream()
+                    .map(Event::getUpdatedAt)
+                    .filter(Objects::nonNull)
+                    .mapToLong(Date::getTime)
+                    .max()
+                    .ifPresent(lastPushedAt -> lastRefreshAt = Math.max(lastRefreshAt, lastPushedAt));
+        } catch (Exception ex) {
+            logger.error("An error occurs while synchronizing the pushed events", ex);
+        }
+    }
+
+    public boolean isInitialized() {
+        return lastRefreshAt != -1;
+    }
+
+    /**
+     * @return the time (in milliseconds) from which the events have not been computed yet, <code>-1</code> before the initial synchronization
+     */
+    public long getLastRefreshAt() {
+        return lastRefreshAt == -1 ? -1 : lastRefreshAt - lastDelay;
+    }
+
+    private Collection<Event> latestEvents(List<Event> events) {
+        // Extract only the latest events by type and id
+        Map<AbstractMap.SimpleEntry, Event> sortedEvents = events
+                .stream()
+                .collect(
+                        toMap(
+                                event -> new AbstractMap.SimpleEntry<>(event.getType(), event.getPayload().getId()),
+                                event -> event, BinaryOperator.maxBy(comparing(Event::getCreatedAt)), LinkedHashMap::new));
+        return sortedEvents.values();
+    }
+
     private void deployDomains() {
         logger.info("Starting security domains initialization ...");
+        final long start = System.currentTimeMillis();
         Set<Domain> domains = domainRepository.findAll()
                 // remove disabled domains
                 .map(registeredDomains -> {
@@ -146,31 +200,64 @@ public class SyncManager implements InitializingBean {
                     return Collections.<Domain>emptySet();
                 })
                 .blockingGet();
+        logger.info("{} security domains loaded in {} ms", domains.size(), System.currentTimeMillis() - start);
+
+        // Does the security domain have a matching sharding tags ?
+        List<Domain> matchingDomains = domains.stream()
+                .filter(this::hasMatchingTags)
+                .collect(Collectors.toList());
+
+        // deploy the security domains concurrently, a failing domain must not prevent the others from being deployed
+        final long deployStart = System.currentTimeMillis();
+        final AtomicInteger failures = new AtomicInteger();
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Flowable.fromIterable(matchingDomains)
+                .flatMapCompletable(domain -> Completable.fromAction(() -> deployDomain(domain, classLoader))
+                        .subscribeOn(Schedulers.io())
+                        .doOnError(error -> {
+                            failures.incrementAndGet();
+                            logger.error("Unable to deploy security domain {}", domain.getId(), error);
+                        })
+                        .onErrorComplete(), false, Math.max(1, deployConcurrency))
+                .blockingAwait();
+        logger.info("{} security domains deployed in {} ms ({} failures, concurrency: {})",
+                matchingDomains.size() - failures.get(), System.currentTimeMillis() - deployStart, failures.get(), deployConcurrency);
+
+        final Runtime runtime = Runtime.getRuntime();
+        logger.info("Security domains initialization done in {} ms for {} domains (heap used: {} MB)",
+                System.currentTimeMillis() - start, domains.size(), (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024));
+    }
 
-        domains.stream()
-                .forEach(domain -> {
-                    // Does the security domain have a matching sharding tags ?
-                    if (hasMatchingTags(domain)) {
-                        securityDomainManager.deploy(domain);
-                    }
-                });
-        logger.info("Security domains initialization done");
+    private void deployDomain(Domain domain, ClassLoader classLoader) {
+        // the domain application context resolves its classes from the context class loader of the deploying thread
+        final Thread thread = Thread.currentThread();
+        final ClassLoader previousClassLoader = thread.getContextClassLoader();
+        final long start = System.currentTimeMillis();
+        try {
+            thread.setContextClassLoader(classLoader);
+            securityDomainManager.deploy(domain);
+            logger.debug("Security domain {} deployed in {} ms", domain.getId(), System.currentTimeMillis() - start);
+        } finally {
+            thread.setContextClassLoader(previousClassLoader);
+        }
     }
 
     private void deployClients() {
         logger.info("Starting clients initialization ...");
+        final long start = System.currentTimeMillis();
         List<Application> applications = applicationRepository.findAll().blockingGet();
         if (applications != null) {
-            ((DefaultClientManager) clientManager).init(applications.stream().map(Application::convert).collect(Collectors.toList()));
+            clientManager.init(applications.stream().map(Application::convert).collect(Collectors.toList()));
         }
-        logger.info("Clients initialization done");
+        logger.info("Clients initialization done in {} ms", System.currentTimeMillis() - start);
     }
 
     private void deployCertificates() {
         logger.info("Starting certificates initialization ...");
+        final long start = System.currentTimeMillis();
         Set<Certificate> certificates = certificateRepository.findAll().blockingGet();
         ((DefaultCertificateManager) certificateManager).init(certificates);
-        logger.info("Certificates initialization done");
+        logger.info("Certificates initialization done in {} ms", System.currentTimeMillis() - start);
     }
 
     private void computeEvents(Collection<Event> events) {
@@ -16,6 +16,7 @@
 package io.gravitee.am.gateway.services.sync;
 
 import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.LoginAttemptEvent;
 import io.gravitee.am.common.event.Type;
 import io.gravitee.am.gateway.certificate.DefaultCertificateManager;
 import io.gravitee.am.gateway.reactor.SecurityDomainManager;
@@ -31,6 +32,8 @@ import io.gravitee.am.repository.management.api.ApplicationRepository;
 import io.gravitee.am.repository.management.api.CertificateRepository;
 import io.gravitee.am.repository.management.api.DomainRepository;
 import io.gravitee.am.repository.management.api.EventRepository;
+import io.gravitee.am.repository.management.api.search.LoginAttemptCriteria;
+import io.gravitee.am.service.utils.LoginAttemptPayloadUtils;
 import io.gravitee.common.event.EventManager;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
@@ -142,6 +145,28 @@ public class SyncManagerTest {
         verify(securityDomainManager, never()).undeploy(any(String.class));
     }
 
+    @Test
+    public void init_test_two_domains_oneFailing() {
+        final Domain domain = new Domain();
+        domain.setId("domain-1");
+        domain.setEnabled(true);
+        final Domain domain2 = new Domain();
+        domain2.setId("domain-2");
+        domain2.setEnabled(true);
+        when(applicationRepository.findAll()).thenReturn(Single.just(Collections.emptyList()));
+        when(certificateRepository.findAll()).thenReturn(Single.just(Collections.emptySet()));
+        when(domainRepository.findAll()).thenReturn(Single.just(new HashSet<>(Arrays.asList(domain, domain2))));
+        doThrow(new IllegalStateException("Unable to start domain")).when(securityDomainManager).deploy(domain);
+
+        syncManager.refresh();
+
+        verify(securityDomainManager, times(1)).deploy(domain);
+        verify(securityDomainManager, times(1)).deploy(domain2);
+        verify(securityDomainManager, times(1)).setInitialized(true);
+        verify(applicationRepository, times(1)).findAll();
+        verify(certificateRepository, times(1)).findAll();
+    }
+
     @Test
     public void init_test_multiple_domains_oneDisabled() {
         final Domain domain = new Domain();
@@ -266,6 +291,39 @@ public class SyncManagerTest {
         verify(clientManager, never()).undeploy(any(String.class));
     }
 
+    @Test
+    public void shouldIgnorePushedEvents_notInitialized() {
+        Event event = new Event();
+        event.setType(Type.APPLICATION);
+        event.setPayload(new Payload("client-1", ReferenceType.DOMAIN, "domain-1", Action.CREATE));
+
+        syncManager.push(Collections.singletonList(event));
+
+        verify(applicationRepository, never()).findById(any());
+        verify(clientManager, never()).deploy(any(Client.class));
+    }
+
+    @Test
+    public void shouldDeployApplication_pushedEvent() {
+        when(domainRepository.findAll()).thenReturn(Single.just(Collections.emptySet()));
+        when(applicationRepository.findAll()).thenReturn(Single.just(Collections.emptyList()));
+        when(certificateRepository.findAll()).thenReturn(Single.just(Collections.emptySet()));
+        when(applicationRepository.findById("client-1")).thenReturn(Maybe.just(new Application()));
+        doNothing().when(clientManager).init(anyCollection());
+        syncManager.refresh();
+
+        Event event = new Event();
+        event.setType(Type.APPLICATION);
+        event.setPayload(new Payload("client-1", ReferenceType.DOMAIN, "domain-1", Action.CREATE));
+
+        syncManager.push(Collections.singletonList(event));
+
+        verify(eventRepository, never()).findByTimeFrame(any(Long.class), any(Long.class));
+        verify(clientManager, times(1)).deploy(any(Client.class));
+        verify(clientManager, never()).update(any(Client.class));
+        verify(clientManager, never()).undeploy(any(String.class));
+    }
+
     @Test
     public void shouldDeployCertificate() {
         when(domainRepository.findAll()).thenReturn(Single.just(Collections.emptySet()));
@@ -288,6 +346,57 @@ public class SyncManagerTest {
         verify(certificateManager, never()).undeploy(any(String.class));
     }
 
+    @Test
+    public void shouldPublishLoginAttemptEvents_accountsLockedInSameWindow() {
+        when(domainRepository.findAll()).thenReturn(Single.just(Collections.emptySet()));
+        when(applicationRepository.findAll()).thenReturn(Single.just(Collections.emptyList()));
+        when(certificateRepository.findAll()).thenReturn(Single.just(Collections.emptySet()));
+        syncManager.refresh();
+
+        final Date now = new Date();
+        Event user1Locked = loginAttemptEvent("user-1", now);
+        Event user2Locked = loginAttemptEvent("user-2", now);
+        when(eventRepository.findByTimeFrame(any(Long.class), any(Long.class))).thenReturn(Single.just(Arrays.asList(user1Locked, user2Locked)));
+
+        syncManager.refresh();
+
+        verify(eventManager).publishEvent(LoginAttemptEvent.LOCK, user1Locked.getPayload());
+        verify(eventManager).publishEvent(LoginAttemptEvent.LOCK, user2Locked.getPayload());
+    }
+
+    @Test
+    public void shouldPublishLatestLoginAttemptEvent_sameAccount() {
+        when(domainRepository.findAll()).thenReturn(Single.just(Collections.emptySet()));
+        when(applicationRepository.findAll()).thenReturn(Single.just(Collections.emptyList()));
+        when(certificateRepository.findAll()).thenReturn(Single.just(Collections.emptySet()));
+        syncManager.refresh();
+
+        Event locked = loginAttemptEvent("user-1", new Date(System.currentTimeMillis() - 1000));
+        Event reset = new Event(Type.LOGIN_ATTEMPT, LoginAttemptPayloadUtils.create(loginAttemptCriteria("user-1"), Action.DELETE));
+        reset.setCreatedAt(new Date());
+        when(eventRepository.findByTimeFrame(any(Long.class), any(Long.class))).thenReturn(Single.just(Arrays.asList(locked, reset)));
+
+        syncManager.refresh();
+
+        verify(eventManager, never()).publishEvent(LoginAttemptEvent.LOCK, locked.getPayload());
+        verify(eventManager).publishEvent(LoginAttemptEvent.RESET, reset.getPayload());
+    }
+
+    private static Event loginAttemptEvent(String username, Date createdAt) {
+        Event event = new Event(Type.LOGIN_ATTEMPT, LoginAttemptPayloadUtils.create(loginAttemptCriteria(username), Action.UPDATE, createdAt.getTime() + 60000, "gateway-1"));
+        event.setCreatedAt(createdAt);
+        return event;
+    }
+
+    private static LoginAttemptCriteria loginAttemptCriteria(String username) {
+        return new LoginAttemptCriteria.Builder()
+                .domain("domain-1")
+                .client("client-1")
+                .identityProvider("idp-1")
+                .username(username)
+                .build();
+    }
+
     @Test
     public void test_deployDomainWithTag() throws Exception {
         shouldDeployDomainWithTags("test,toto", new String[]{"test"});
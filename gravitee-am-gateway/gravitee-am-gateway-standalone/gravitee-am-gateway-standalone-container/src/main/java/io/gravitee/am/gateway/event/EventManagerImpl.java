@@ -31,6 +31,7 @@ import org.slf4j.LoggerFactory;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Override default event manager to enable concurrent access
@@ -98,8 +99,8 @@ public class EventManagerImpl implements EventManager {
         }
 
         if (listeners == null) {
-            listeners = new ArrayList<>();
-            this.listenersMap.put(new ComparableEventType(eventType, domain), listeners);
+            // security domains may be deployed concurrently, listeners are registered and notified from several threads
+            listeners = this.listenersMap.computeIfAbsent(new ComparableEventType(eventType, domain), key -> new CopyOnWriteArrayList<>());
         }
 
         return listeners;
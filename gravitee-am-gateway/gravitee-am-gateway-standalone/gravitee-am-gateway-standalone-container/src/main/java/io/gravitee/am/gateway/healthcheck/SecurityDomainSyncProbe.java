@@ -0,0 +1,47 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.gateway.healthcheck;
+
+import io.gravitee.am.gateway.reactor.SecurityDomainManager;
+import io.gravitee.node.api.healthcheck.Probe;
+import io.gravitee.node.api.healthcheck.Result;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Probe used to report the gateway as ready only once all the security domains have been mounted.
+ *
+ * @author GraviteeSource Team
+ */
+public class SecurityDomainSyncProbe implements Probe {
+
+    @Autowired
+    private SecurityDomainManager securityDomainManager;
+
+    @Override
+    public String id() {
+        return "security-domain-sync";
+    }
+
+    @Override
+    public CompletableFuture<Result> check() {
+        if (securityDomainManager.isInitialized()) {
+            return CompletableFuture.completedFuture(Result.healthy());
+        }
+        return CompletableFuture.completedFuture(Result.unhealthy("Security domains are not yet deployed"));
+    }
+}
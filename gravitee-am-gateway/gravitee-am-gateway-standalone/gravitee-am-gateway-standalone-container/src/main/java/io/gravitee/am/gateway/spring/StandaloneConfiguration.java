@@ -36,9 +36,12 @@ import io.gravitee.node.vertx.spring.VertxConfiguration;
 import io.gravitee.platform.repository.api.RepositoryScopeProvider;
 import io.gravitee.plugin.alert.spring.AlertPluginConfiguration;
 import io.gravitee.plugin.core.spring.PluginConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.jackson.DatabindCodec;
+import io.vertx.micrometer.backends.BackendRegistries;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -80,6 +83,16 @@ public class StandaloneConfiguration {
         return io.vertx.reactivex.core.Vertx.newInstance(vertx);
     }
 
+    @Bean
+    public MeterRegistry meterRegistry(@Autowired Vertx vertx) {
+        // the components register their meters in the global registry, publish them with the node metrics when enabled
+        MeterRegistry nodeRegistry = BackendRegistries.getDefaultNow();
+        if (nodeRegistry != null) {
+            Metrics.addRegistry(nodeRegistry);
+        }
+        return Metrics.globalRegistry;
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper mapper = new ObjectMapper();
@@ -30,6 +30,13 @@ public interface AuthenticationProvider extends Service<AuthenticationProvider>
 
     Maybe<User> loadUserByUsername(String username);
 
+    /**
+     * @return <code>true</code> if the provider performs blocking I/O, calls are then executed on a dedicated worker pool
+     */
+    default boolean isBlocking() {
+        return false;
+    }
+
     default Lifecycle.State lifecycleState() {
         return Lifecycle.State.INITIALIZED;
     }
@@ -0,0 +1,89 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.identityprovider.common.oauth2.jwt.jwks.remote;
+
+import com.nimbusds.jose.RemoteKeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.RemoteJWKSet;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.BoundedInputStream;
+import com.nimbusds.jose.util.IOUtils;
+import io.gravitee.am.service.http.RemoteResourceCache;
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Remote JWK source backed by a cache shared by all the identity providers of the same type.
+ *
+ * The JWKS is fetched once per URL whatever the number of providers using it, kept for the <code>max-age</code>
+ * announced by the remote server and fetched again (rate-limited) when a token refers to an unknown key id.
+ *
+ * @author GraviteeSource Team
+ */
+public class RemoteJWKSource<C extends SecurityContext> implements JWKSource<C> {
+
+    private static final RemoteResourceCache<JWKSet> JWKS_CACHE = new RemoteResourceCache<JWKSet>("idp_jwks").registerMeters();
+
+    private final URL url;
+
+    public RemoteJWKSource(URL url) {
+        this.url = url;
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, C context) throws RemoteKeySourceException {
+        final String key = url.toString();
+        try {
+            List<JWK> matches = jwkSelector.select(JWKS_CACHE.get(key, this::fetch).blockingGet());
+            if (matches.isEmpty() && jwkSelector.getMatcher().getKeyIDs() != null && !jwkSelector.getMatcher().getKeyIDs().isEmpty()) {
+                // unknown kid, the provider may have rotated its keys
+                matches = jwkSelector.select(JWKS_CACHE.refresh(key, this::fetch).blockingGet());
+            }
+            return matches;
+        } catch (RuntimeException ex) {
+            throw new RemoteKeySourceException("Unable to retrieve the JWK set from " + key, ex);
+        }
+    }
+
+    private Single<RemoteResourceCache.Resource<JWKSet>> fetch() {
+        return Single.fromCallable(() -> {
+            HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+            connection.setConnectTimeout(RemoteJWKSet.DEFAULT_HTTP_CONNECT_TIMEOUT);
+            connection.setReadTimeout(RemoteJWKSet.DEFAULT_HTTP_READ_TIMEOUT);
+            try {
+                if (connection.getResponseCode() >= 400) {
+                    throw new IOException("Unexpected status " + connection.getResponseCode());
+                }
+                try (InputStream inputStream = new BoundedInputStream(connection.getInputStream(), RemoteJWKSet.DEFAULT_HTTP_SIZE_LIMIT)) {
+                    JWKSet jwkSet = JWKSet.parse(IOUtils.readInputStreamToString(inputStream, StandardCharsets.UTF_8));
+                    return RemoteResourceCache.Resource.of(jwkSet, connection.getHeaderField("Cache-Control"));
+                }
+            } finally {
+                connection.disconnect();
+            }
+        }).subscribeOn(Schedulers.io());
+    }
+}
@@ -16,7 +16,6 @@
 package io.gravitee.am.identityprovider.common.oauth2.jwt.jwks.remote;
 
 import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.jwk.source.RemoteJWKSet;
 import com.nimbusds.jose.proc.SecurityContext;
 import io.gravitee.am.identityprovider.api.oidc.jwt.JWKSourceResolver;
 
@@ -37,7 +36,7 @@ public class RemoteJWKSourceResolver<C extends SecurityContext> implements JWKSo
     @Override
     public JWKSource<C> resolve() {
         try {
-            return new RemoteJWKSet(new URL(url));
+            return new RemoteJWKSource<>(new URL(url));
         } catch (Exception e) {
             throw new IllegalArgumentException(e);
         }
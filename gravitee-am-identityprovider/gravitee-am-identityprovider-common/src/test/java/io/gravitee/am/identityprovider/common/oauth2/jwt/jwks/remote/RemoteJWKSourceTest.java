@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.identityprovider.common.oauth2.jwt.jwks.remote;
+
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class RemoteJWKSourceTest {
+
+    private final AtomicReference<JWKSet> jwkSet = new AtomicReference<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private HttpServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/jwks", exchange -> {
+            requests.incrementAndGet();
+            byte[] body = jwkSet.get().toString().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    public void shouldFindRotatedKey_afterRefresh() throws Exception {
+        // the JWKS cache is shared, use a dedicated url
+        RemoteJWKSource<SecurityContext> source = new RemoteJWKSource<>(new URL("http://localhost:" + server.getAddress().getPort() + "/jwks"));
+
+        jwkSet.set(new JWKSet(rsaKey("old-kid")));
+        assertEquals(1, source.get(selector("old-kid"), null).size());
+        assertEquals(1, requests.get());
+
+        // the provider rotates its keys
+        jwkSet.set(new JWKSet(rsaKey("new-kid")));
+        List<JWK> matches = source.get(selector("new-kid"), null);
+        assertEquals(1, matches.size());
+        assertEquals("new-kid", matches.get(0).getKeyID());
+        assertEquals(2, requests.get());
+
+        // the refreshed JWKS is cached
+        assertEquals(1, source.get(selector("new-kid"), null).size());
+        assertEquals(2, requests.get());
+    }
+
+    private static JWKSelector selector(String kid) {
+        return new JWKSelector(new JWKMatcher.Builder().keyID(kid).build());
+    }
+
+    private static JWK rsaKey(String kid) throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        return new RSAKey.Builder((RSAPublicKey) keyPairGenerator.generateKeyPair().getPublic()).keyID(kid).build();
+    }
+}
@@ -16,6 +16,8 @@
 package io.gravitee.am.identityprovider.jdbc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.common.pool.ConnectionPoolRegistry;
+import io.gravitee.am.common.pool.PoolMetrics;
 import io.gravitee.am.identityprovider.jdbc.configuration.JdbcIdentityProviderConfiguration;
 import io.gravitee.am.identityprovider.jdbc.utils.ObjectUtils;
 import io.gravitee.am.service.authentication.crypto.password.PasswordEncoder;
@@ -60,6 +62,23 @@ public class JdbcAbstractProvider<T extends LifecycleComponent> extends Abstract
     protected void doStart() throws Exception {
         super.doStart();
 
+        // the connection pool is shared with the other providers connecting to the same database
+        String key = ConnectionPoolRegistry.key("jdbc",
+                configuration.getProtocol(),
+                configuration.getHost(),
+                configuration.getPort(),
+                configuration.getUser(),
+                configuration.getPassword(),
+                configuration.getDatabase(),
+                configuration.getOptions());
+        // do not capture this provider in the closer, the pool may outlive it
+        final String protocol = configuration.getProtocol();
+        final String host = configuration.getHost();
+        connectionPool = ConnectionPoolRegistry.acquire(key, this::createConnectionPool,
+                pool -> disposeConnectionPool(pool, protocol, host), new ConnectionPoolProbe());
+    }
+
+    private ConnectionPool createConnectionPool() {
         LOGGER.info("Initializing connection pool for database server {} on host {}", configuration.getProtocol(), configuration.getHost());
 
         ConnectionFactoryOptions.Builder builder = ConnectionFactoryOptions.builder()
@@ -83,21 +102,28 @@ public class JdbcAbstractProvider<T extends LifecycleComponent> extends Abstract
             });
         }
 
-        connectionPool = (ConnectionPool) ConnectionFactories.get(builder.build());
+        ConnectionPool connectionPool = (ConnectionPool) ConnectionFactories.get(builder.build());
         LOGGER.info("Connection pool created for database server {} on host {}", configuration.getProtocol(), configuration.getHost());
+        return connectionPool;
     }
 
     @Override
     protected void doStop() throws Exception {
         super.doStop();
+        if (!ConnectionPoolRegistry.release(connectionPool)) {
+            disposeConnectionPool(connectionPool, configuration.getProtocol(), configuration.getHost());
+        }
+    }
+
+    private static void disposeConnectionPool(ConnectionPool connectionPool, String protocol, String host) {
         try {
-            LOGGER.info("Disposing connection pool for database server {} on host {}", configuration.getProtocol(), configuration.getHost());
+            LOGGER.info("Disposing connection pool for database server {} on host {}", protocol, host);
             if (!connectionPool.isDisposed()) {
                 connectionPool.disposeLater().subscribe();
-                LOGGER.info("Connection pool disposed for database server {} on host {}", configuration.getProtocol(), configuration.getHost());
+                LOGGER.info("Connection pool disposed for database server {} on host {}", protocol, host);
             }
         } catch (Exception ex) {
-            LOGGER.error("An error has occurred while disposing connection pool for database server {} on host {}", configuration.getProtocol(), configuration.getHost(), ex);
+            LOGGER.error("An error has occurred while disposing connection pool for database server {} on host {}", protocol, host, ex);
         }
     }
 
@@ -111,4 +137,22 @@ public class JdbcAbstractProvider<T extends LifecycleComponent> extends Abstract
         } catch (Exception e) {
         }
     }
+
+    private static class ConnectionPoolProbe implements ConnectionPoolRegistry.Probe<ConnectionPool> {
+
+        @Override
+        public int active(ConnectionPool pool) {
+            return pool.getMetrics().map(metrics -> metrics.acquiredSize()).orElse(PoolMetrics.UNKNOWN);
+        }
+
+        @Override
+        public int idle(ConnectionPool pool) {
+            return pool.getMetrics().map(metrics -> metrics.idleSize()).orElse(PoolMetrics.UNKNOWN);
+        }
+
+        @Override
+        public int max(ConnectionPool pool) {
+            return pool.getMetrics().map(metrics -> metrics.getMaxAllocatedSize()).orElse(PoolMetrics.UNKNOWN);
+        }
+    }
 }
@@ -28,9 +28,12 @@ import io.gravitee.am.identityprovider.jdbc.JdbcIdentityProviderRoleMapper;
 import io.gravitee.am.identityprovider.jdbc.authentication.spring.JdbcAuthenticationProviderConfiguration;
 import io.gravitee.am.identityprovider.jdbc.utils.ColumnMapRowMapper;
 import io.gravitee.am.identityprovider.jdbc.utils.ParametersUtils;
+import io.gravitee.am.service.authentication.crypto.password.PasswordHashingExecutor;
+import io.r2dbc.spi.Result;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
+import io.reactivex.Scheduler;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 
@@ -53,26 +56,58 @@ public class JdbcAuthenticationProvider extends JdbcAbstractProvider<Authenticat
     public Maybe<User> loadUserByUsername(Authentication authentication) {
         final String username = authentication.getPrincipal().toString();
         final String presentedPassword = authentication.getCredentials().toString();
+        // the user is loaded and the password verified on other threads, resume the authentication on the caller context
+        final Scheduler callerScheduler = PasswordHashingExecutor.callerScheduler();
 
         return selectUserByUsername(username)
                 .switchIfEmpty(Maybe.error(new UsernameNotFoundException(username)))
-                .map(result -> {
+                .flatMap(result -> {
                     // check password
-                    String password = result.get(configuration.getPasswordAttribute()).toString();
+                    Object password = result.get(configuration.getPasswordAttribute());
                     if (password == null) {
                         LOGGER.debug("Authentication failed: password is null");
-                        throw new BadCredentialsException("Invalid account");
+                        return Maybe.error(new BadCredentialsException("Invalid account"));
                     }
 
-                    if (!passwordEncoder.matches(presentedPassword, password)) {
-                        LOGGER.debug("Authentication failed: password does not match stored value");
-                        throw new BadCredentialsException("Bad credentials");
-                    }
-                    // create the user
-                    return createUser(result);
+                    // hash computation is CPU bound, keep it off the event loop
+                    final String encodedPassword = password.toString();
+                    return PasswordHashingExecutor.getInstance().matches(passwordEncoder, presentedPassword, encodedPassword)
+                            .observeOn(callerScheduler)
+                            .flatMapMaybe(matches -> {
+                                if (!matches) {
+                                    LOGGER.debug("Authentication failed: password does not match stored value");
+                                    return Maybe.error(new BadCredentialsException("Bad credentials"));
+                                }
+                                if (configuration.isRehashPasswords() && passwordEncoder.upgradeEncoding(encodedPassword)) {
+                                    rehashPassword(result.get(configuration.getIdentifierAttribute()), presentedPassword);
+                                }
+                                // create the user
+                                return Maybe.just(createUser(result));
+                            });
                 });
     }
 
+    private void rehashPassword(Object id, String rawPassword) {
+        if (id == null) {
+            return;
+        }
+        final String sql = String.format("UPDATE %s SET %s = %s WHERE %s = %s",
+                configuration.getUsersTable(),
+                configuration.getPasswordAttribute(),
+                ParametersUtils.getIndexParameter(configuration.getProtocol(), 1, "password"),
+                configuration.getIdentifierAttribute(),
+                ParametersUtils.getIndexParameter(configuration.getProtocol(), 2, "id"));
+
+        PasswordHashingExecutor.getInstance().encode(passwordEncoder, rawPassword)
+                .flatMapPublisher(encodedPassword -> Flowable.fromPublisher(connectionPool.create())
+                        .flatMap(connection -> Flowable.fromPublisher(connection.createStatement(sql).bind(0, encodedPassword).bind(1, id).execute())
+                                .doFinally(() -> Completable.fromPublisher(connection.close()).subscribe())))
+                .flatMap(Result::getRowsUpdated)
+                .subscribe(
+                        rowsUpdated -> LOGGER.debug("Password of user {} has been rehashed", id),
+                        error -> LOGGER.warn("Unable to rehash the password of user {}", id, error));
+    }
+
     @Override
     public Maybe<User> loadUserByUsername(String username) {
         return selectUserByUsername(username)
@@ -44,6 +44,9 @@ public class JdbcIdentityProviderConfiguration implements IdentityProviderConfig
     private String usernameAttribute = FIELD_USERNAME;
     private String passwordAttribute = FIELD_PASSWORD;
     private String passwordEncoder = PasswordEncoder.BCRYPT.getValue();
+    private Integer passwordEncoderRounds;
+    private Integer passwordEncoderMemory;
+    private boolean rehashPasswords;
     private List<Map<String, String>> options;
     private boolean autoProvisioning = false;
 
@@ -148,6 +151,30 @@ public class JdbcIdentityProviderConfiguration implements IdentityProviderConfig
         this.passwordEncoder = passwordEncoder;
     }
 
+    public Integer getPasswordEncoderRounds() {
+        return passwordEncoderRounds;
+    }
+
+    public void setPasswordEncoderRounds(Integer passwordEncoderRounds) {
+        this.passwordEncoderRounds = passwordEncoderRounds;
+    }
+
+    public Integer getPasswordEncoderMemory() {
+        return passwordEncoderMemory;
+    }
+
+    public void setPasswordEncoderMemory(Integer passwordEncoderMemory) {
+        this.passwordEncoderMemory = passwordEncoderMemory;
+    }
+
+    public boolean isRehashPasswords() {
+        return rehashPasswords;
+    }
+
+    public void setRehashPasswords(boolean rehashPasswords) {
+        this.rehashPasswords = rehashPasswords;
+    }
+
     public List<Map<String, String>> getOptions() {
         return options;
     }
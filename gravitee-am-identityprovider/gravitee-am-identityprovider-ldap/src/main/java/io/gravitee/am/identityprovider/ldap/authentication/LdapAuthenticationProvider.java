@@ -16,6 +16,7 @@
 package io.gravitee.am.identityprovider.ldap.authentication;
 
 import io.gravitee.am.common.oidc.StandardClaims;
+import io.gravitee.am.common.pool.ConnectionPoolRegistry;
 import io.gravitee.am.identityprovider.api.Authentication;
 import io.gravitee.am.identityprovider.api.AuthenticationProvider;
 import io.gravitee.am.identityprovider.api.DefaultUser;
@@ -99,6 +100,14 @@ public class LdapAuthenticationProvider extends AbstractService<AuthenticationPr
         LOGGER.info("User identifier is based on the [{}] attribute", identifierAttribute);
     }
 
+    /**
+     * ldaptive operations are blocking
+     */
+    @Override
+    public boolean isBlocking() {
+        return true;
+    }
+
     @Override
     protected void doStart() throws Exception {
         super.doStart();
@@ -116,11 +125,12 @@ public class LdapAuthenticationProvider extends AbstractService<AuthenticationPr
     protected void doStop() throws Exception {
         super.doStop();
 
-        LOGGER.info("Close LDAP {} connection pools", configuration.getContextSourceUrl());
-        if (bindConnectionPool != null) {
+        // pools are shared with the other providers connecting to the same directory, they are closed once not used anymore
+        LOGGER.info("Release LDAP {} connection pools", configuration.getContextSourceUrl());
+        if (bindConnectionPool != null && !ConnectionPoolRegistry.release(bindConnectionPool)) {
             bindConnectionPool.close();
         }
-        if (searchConnectionPool != null) {
+        if (searchConnectionPool != null && !ConnectionPoolRegistry.release(searchConnectionPool)) {
             searchConnectionPool.close();
         }
     }
@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.identityprovider.ldap.authentication.spring;
 
+import io.gravitee.am.common.pool.ConnectionPoolRegistry;
 import io.gravitee.am.identityprovider.ldap.LdapIdentityProviderConfiguration;
 import io.gravitee.am.identityprovider.ldap.authentication.CompareAuthenticationHandler;
 import io.gravitee.am.identityprovider.ldap.authentication.GroupSearchEntryHandler;
@@ -51,16 +52,18 @@ public class LdapAuthenticationProviderConfiguration {
      * If the user has no role to search in the LDAP/AD directory the authentication will failed for the next users
      */
 
-    @Bean
+    @Bean(destroyMethod = "")
     public ConnectionPool bindConnectionPool() {
-        PoolConfig poolConfig = new PoolConfig();
-        poolConfig.setMinPoolSize(configuration.getMinPoolSize());
-        poolConfig.setMaxPoolSize(configuration.getMaxPoolSize());
-        poolConfig.setValidatePeriodically(true);
-        BlockingConnectionPool connectionPool =
-                new CustomBlockingConnectionPool(poolConfig, (DefaultConnectionFactory) bindConnectionFactory(), configuration.getMaxPoolRetries());
-        connectionPool.setValidator(new SearchValidator());
-        return connectionPool;
+        return ConnectionPoolRegistry.acquire(poolKey("bind"), () -> {
+            PoolConfig poolConfig = new PoolConfig();
+            poolConfig.setMinPoolSize(configuration.getMinPoolSize());
+            poolConfig.setMaxPoolSize(configuration.getMaxPoolSize());
+            poolConfig.setValidatePeriodically(true);
+            BlockingConnectionPool connectionPool =
+                    new CustomBlockingConnectionPool(poolConfig, (DefaultConnectionFactory) bindConnectionFactory(), configuration.getMaxPoolRetries());
+            connectionPool.setValidator(new SearchValidator());
+            return connectionPool;
+        }, BlockingConnectionPool::close, new ConnectionPoolProbe());
     }
 
     @Bean
@@ -83,16 +86,18 @@ public class LdapAuthenticationProviderConfiguration {
      * If the user has no role to search in the LDAP/AD directory the authentication will failed for the next users
      */
 
-    @Bean
+    @Bean(destroyMethod = "")
     public ConnectionPool searchConnectionPool() {
-        PoolConfig poolConfig = new PoolConfig();
-        poolConfig.setMinPoolSize(configuration.getMinPoolSize());
-        poolConfig.setMaxPoolSize(configuration.getMaxPoolSize());
-        poolConfig.setValidatePeriodically(true);
-        BlockingConnectionPool connectionPool =
-                new CustomBlockingConnectionPool(poolConfig, (DefaultConnectionFactory) searchConnectionFactory(), configuration.getMaxPoolRetries());
-        connectionPool.setValidator(new SearchValidator());
-        return connectionPool;
+        return ConnectionPoolRegistry.acquire(poolKey("search"), () -> {
+            PoolConfig poolConfig = new PoolConfig();
+            poolConfig.setMinPoolSize(configuration.getMinPoolSize());
+            poolConfig.setMaxPoolSize(configuration.getMaxPoolSize());
+            poolConfig.setValidatePeriodically(true);
+            BlockingConnectionPool connectionPool =
+                    new CustomBlockingConnectionPool(poolConfig, (DefaultConnectionFactory) searchConnectionFactory(), configuration.getMaxPoolRetries());
+            connectionPool.setValidator(new SearchValidator());
+            return connectionPool;
+        }, BlockingConnectionPool::close, new ConnectionPoolProbe());
     }
 
     @Bean
@@ -122,6 +127,24 @@ public class LdapAuthenticationProviderConfiguration {
         return connectionConfig;
     }
 
+    /**
+     * Pools are shared by the identity providers connecting to the same directory with the same account
+     * and must be released by calling {@link ConnectionPoolRegistry#release(Object)} when the provider is stopped.
+     */
+    private String poolKey(String operation) {
+        return ConnectionPoolRegistry.key("ldap",
+                operation,
+                configuration.getContextSourceUrl(),
+                configuration.isUseStartTLS(),
+                configuration.getContextSourceUsername(),
+                configuration.getContextSourcePassword(),
+                configuration.getConnectTimeout(),
+                configuration.getResponseTimeout(),
+                configuration.getMinPoolSize(),
+                configuration.getMaxPoolSize(),
+                configuration.getMaxPoolRetries());
+    }
+
     @Bean("userSearchExecutor")
     public SearchExecutor userSearchExecutor() {
         SearchExecutor searchExecutor = new SearchExecutor();
@@ -221,4 +244,22 @@ public class LdapAuthenticationProviderConfiguration {
 
         throw new IllegalArgumentException("Unknown password encoder algorithm");
     }
+
+    private static class ConnectionPoolProbe implements ConnectionPoolRegistry.Probe<BlockingConnectionPool> {
+
+        @Override
+        public int active(BlockingConnectionPool pool) {
+            return pool.activeCount();
+        }
+
+        @Override
+        public int idle(BlockingConnectionPool pool) {
+            return pool.availableCount();
+        }
+
+        @Override
+        public int max(BlockingConnectionPool pool) {
+            return pool.getPoolConfig().getMaxPoolSize();
+        }
+    }
 }
@@ -28,6 +28,7 @@ public class CustomBlockingConnectionPool extends BlockingConnectionPool {
 
     private static final int DEFAULT_MAX_RETRIES = 3;
     private int maxRetries = DEFAULT_MAX_RETRIES;
+    private boolean initialized;
 
     public CustomBlockingConnectionPool() {
     }
@@ -50,6 +51,23 @@ public class CustomBlockingConnectionPool extends BlockingConnectionPool {
         this.maxRetries = maxRetries;
     }
 
+    /**
+     * Initialize the pool if it is not already initialized, the pool may be shared by several identity providers.
+     */
+    @Override
+    public synchronized void initialize() {
+        if (!initialized) {
+            super.initialize();
+            initialized = true;
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        super.close();
+        initialized = false;
+    }
+
     /**
      * Attempts to grow the pool to the supplied size. If the pool size is greater than or equal to the supplied size,
      * this method is a no-op.
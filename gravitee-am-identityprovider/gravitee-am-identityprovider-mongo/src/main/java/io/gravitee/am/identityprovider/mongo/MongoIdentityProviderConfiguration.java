@@ -41,6 +41,9 @@ public class MongoIdentityProviderConfiguration implements IdentityProviderConfi
     private String usernameField = FIELD_USERNAME;
     private String passwordField = FIELD_PASSWORD;
     private String passwordEncoder = PasswordEncoder.BCRYPT.getValue();
+    private Integer passwordEncoderRounds;
+    private Integer passwordEncoderMemory;
+    private boolean rehashPasswords;
 
     @Override
     public boolean userProvider() {
@@ -158,4 +161,28 @@ public class MongoIdentityProviderConfiguration implements IdentityProviderConfi
     public void setPasswordEncoder(String passwordEncoder) {
         this.passwordEncoder = passwordEncoder;
     }
+
+    public Integer getPasswordEncoderRounds() {
+        return passwordEncoderRounds;
+    }
+
+    public void setPasswordEncoderRounds(Integer passwordEncoderRounds) {
+        this.passwordEncoderRounds = passwordEncoderRounds;
+    }
+
+    public Integer getPasswordEncoderMemory() {
+        return passwordEncoderMemory;
+    }
+
+    public void setPasswordEncoderMemory(Integer passwordEncoderMemory) {
+        this.passwordEncoderMemory = passwordEncoderMemory;
+    }
+
+    public boolean isRehashPasswords() {
+        return rehashPasswords;
+    }
+
+    public void setRehashPasswords(boolean rehashPasswords) {
+        this.rehashPasswords = rehashPasswords;
+    }
 }
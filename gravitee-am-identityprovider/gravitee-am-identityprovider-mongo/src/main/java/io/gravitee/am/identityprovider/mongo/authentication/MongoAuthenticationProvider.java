@@ -18,6 +18,7 @@ package io.gravitee.am.identityprovider.mongo.authentication;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.common.oidc.StandardClaims;
+import io.gravitee.am.common.pool.ConnectionPoolRegistry;
 import io.gravitee.am.identityprovider.api.Authentication;
 import io.gravitee.am.identityprovider.api.AuthenticationProvider;
 import io.gravitee.am.identityprovider.api.DefaultUser;
@@ -27,10 +28,13 @@ import io.gravitee.am.identityprovider.mongo.MongoIdentityProviderMapper;
 import io.gravitee.am.identityprovider.mongo.MongoIdentityProviderRoleMapper;
 import io.gravitee.am.identityprovider.mongo.authentication.spring.MongoAuthenticationProviderConfiguration;
 import io.gravitee.am.service.authentication.crypto.password.PasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.PasswordHashingExecutor;
 import io.gravitee.am.common.exception.authentication.BadCredentialsException;
 import io.gravitee.am.common.exception.authentication.UsernameNotFoundException;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
 import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.types.ObjectId;
@@ -41,6 +45,9 @@ import org.springframework.context.annotation.Import;
 
 import java.util.*;
 
+import static com.mongodb.client.model.Filters.eq;
+import static com.mongodb.client.model.Updates.set;
+
 /**
  * @author David BRASSELY (david.brassely at graviteesource.com)
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -70,27 +77,54 @@ public class MongoAuthenticationProvider implements AuthenticationProvider {
     @Autowired
     private MongoClient mongoClient;
 
+    @Override
+    public AuthenticationProvider stop() throws Exception {
+        // the client is shared with the other providers connecting to the same server
+        ConnectionPoolRegistry.release(mongoClient);
+        return this;
+    }
+
     public Maybe<User> loadUserByUsername(Authentication authentication) {
         String username = ((String) authentication.getPrincipal()).toLowerCase();
+        // the user is loaded and the password verified on other threads, resume the authentication on the caller context
+        final Scheduler callerScheduler = PasswordHashingExecutor.callerScheduler();
         return findUserByUsername(username)
                 .switchIfEmpty(Maybe.error(new UsernameNotFoundException(username)))
-                .map(user -> {
+                .flatMap(user -> {
                     String password = user.getString(this.configuration.getPasswordField());
                     String presentedPassword = authentication.getCredentials().toString();
 
                     if (password == null) {
                         LOGGER.debug("Authentication failed: password is null");
-                        throw new BadCredentialsException("Invalid account");
+                        return Maybe.error(new BadCredentialsException("Invalid account"));
                     }
 
-                    if (!passwordEncoder.matches(presentedPassword, password)) {
-                        LOGGER.debug("Authentication failed: password does not match stored value");
-                        throw new BadCredentialsException("Bad credentials");
-                    }
-                    return createUser(user);
+                    // hash computation is CPU bound, keep it off the event loop
+                    return PasswordHashingExecutor.getInstance().matches(passwordEncoder, presentedPassword, password)
+                            .observeOn(callerScheduler)
+                            .flatMapMaybe(matches -> {
+                                if (!matches) {
+                                    LOGGER.debug("Authentication failed: password does not match stored value");
+                                    return Maybe.error(new BadCredentialsException("Bad credentials"));
+                                }
+                                if (configuration.isRehashPasswords() && passwordEncoder.upgradeEncoding(password)) {
+                                    rehashPassword(user, presentedPassword);
+                                }
+                                return Maybe.just(createUser(user));
+                            });
                 });
     }
 
+    private void rehashPassword(Document user, String rawPassword) {
+        MongoCollection<Document> usersCol = this.mongoClient.getDatabase(this.configuration.getDatabase()).getCollection(this.configuration.getUsersCollection());
+        final Object id = user.get(FIELD_ID);
+        PasswordHashingExecutor.getInstance().encode(passwordEncoder, rawPassword)
+                .flatMap(encodedPassword -> Single.fromPublisher(usersCol.updateOne(eq(FIELD_ID, id), set(configuration.getPasswordField(), encodedPassword))))
+                .subscribe(
+                        result -> LOGGER.debug("Password of user {} has been rehashed", id),
+                        error -> LOGGER.warn("Unable to rehash the password of user {}", id, error));
+    }
+
     public Maybe<User> loadUserByUsername(String username) {
         final String encodedUsername = username.toLowerCase();
         return findUserByUsername(encodedUsername)
@@ -21,10 +21,10 @@ import com.mongodb.async.client.MongoClientSettings;
 import com.mongodb.connection.ClusterSettings;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
+import io.gravitee.am.common.pool.ConnectionPoolRegistry;
 import io.gravitee.am.identityprovider.mongo.MongoIdentityProviderConfiguration;
-import io.gravitee.am.service.authentication.crypto.password.NoOpPasswordEncoder;
 import io.gravitee.am.service.authentication.crypto.password.PasswordEncoder;
-import io.gravitee.am.service.authentication.crypto.password.bcrypt.BCryptPasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoders;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -41,8 +41,24 @@ public class MongoAuthenticationProviderConfiguration {
     @Autowired
     private MongoIdentityProviderConfiguration configuration;
 
-    @Bean
+    /**
+     * The client is shared by the providers connecting to the same MongoDB server
+     * and must be released by calling {@link ConnectionPoolRegistry#release(Object)} when the provider is stopped.
+     */
+    @Bean(destroyMethod = "")
     public MongoClient mongoClient() {
+        String key = ConnectionPoolRegistry.key("mongo",
+                configuration.getUri(),
+                configuration.getHost(),
+                configuration.getPort(),
+                configuration.isEnableCredentials(),
+                configuration.getUsernameCredentials(),
+                configuration.getDatabaseCredentials(),
+                configuration.getPasswordCredentials());
+        return ConnectionPoolRegistry.acquire(key, this::createMongoClient, MongoClient::close);
+    }
+
+    private MongoClient createMongoClient() {
         MongoClient mongoClient;
         if ((this.configuration.getUri() != null) && (!this.configuration.getUri().isEmpty())) {
             mongoClient = MongoClients.create(this.configuration.getUri());
@@ -64,9 +80,6 @@ public class MongoAuthenticationProviderConfiguration {
 
     @Bean
     public PasswordEncoder passwordEncoder() {
-        if (configuration.getPasswordEncoder() != null && io.gravitee.am.identityprovider.mongo.utils.PasswordEncoder.BCRYPT.getValue().equals(configuration.getPasswordEncoder())) {
-            return new BCryptPasswordEncoder();
-        }
-        return NoOpPasswordEncoder.getInstance();
+        return PasswordEncoders.create(configuration.getPasswordEncoder(), configuration.getPasswordEncoderRounds(), configuration.getPasswordEncoderMemory());
     }
 }
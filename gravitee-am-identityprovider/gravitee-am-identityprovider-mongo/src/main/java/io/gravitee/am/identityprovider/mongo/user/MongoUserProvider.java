@@ -18,6 +18,7 @@ package io.gravitee.am.identityprovider.mongo.user;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.common.oidc.StandardClaims;
+import io.gravitee.am.common.pool.ConnectionPoolRegistry;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.identityprovider.api.DefaultUser;
 import io.gravitee.am.identityprovider.api.User;
@@ -145,6 +146,13 @@ public class MongoUserProvider implements UserProvider, InitializingBean {
                 .flatMapCompletable(idpUser -> Completable.fromPublisher(usersCollection.deleteOne(eq(FIELD_ID, id))));
     }
 
+    @Override
+    public UserProvider stop() throws Exception {
+        // the client is shared with the other providers connecting to the same server
+        ConnectionPoolRegistry.release(mongoClient);
+        return this;
+    }
+
     @Override
     public void afterPropertiesSet() {
         // init users collection
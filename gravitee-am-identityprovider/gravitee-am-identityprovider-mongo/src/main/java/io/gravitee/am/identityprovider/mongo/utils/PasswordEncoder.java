@@ -22,7 +22,9 @@ package io.gravitee.am.identityprovider.mongo.utils;
 public enum PasswordEncoder {
 
     NONE("None"),
-    BCRYPT("BCrypt");
+    BCRYPT("BCrypt"),
+    PBKDF2("PBKDF2"),
+    ARGON2ID("Argon2id");
 
     private final String value;
 
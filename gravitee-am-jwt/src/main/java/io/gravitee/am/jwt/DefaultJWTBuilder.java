@@ -16,6 +16,7 @@
 package io.gravitee.am.jwt;
 
 import com.nimbusds.jose.*;
+import com.nimbusds.jose.crypto.ECDSASigner;
 import com.nimbusds.jose.crypto.MACSigner;
 import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jose.crypto.bc.BouncyCastleProviderSingleton;
@@ -34,6 +35,7 @@ import javax.crypto.SecretKey;
 import java.security.InvalidKeyException;
 import java.security.Key;
 import java.security.PrivateKey;
+import java.security.interfaces.ECPrivateKey;
 import java.text.ParseException;
 
 /**
@@ -50,7 +52,13 @@ public class DefaultJWTBuilder implements JWTBuilder {
     public DefaultJWTBuilder(final Key key,
                              final String signatureAlgorithm,
                              final String keyId) throws InvalidKeyException {
-        if (key instanceof PrivateKey) {
+        if (key instanceof ECPrivateKey) {
+            try {
+                signer = new ECDSASigner((ECPrivateKey) key);
+            } catch (JOSEException e) {
+                throw new InvalidKeyException(e);
+            }
+        } else if (key instanceof PrivateKey) {
             signer = new RSASSASigner((PrivateKey) key, true);
             // if JCA doesn't support at least the PS256 algorithm (jdk <= 8)
             // add BouncyCastle JCA provider
@@ -15,7 +15,10 @@
  */
 package io.gravitee.am.jwt;
 
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
 import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
 import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
 import io.gravitee.am.common.exception.jwt.ExpiredJWTException;
 import io.gravitee.am.common.exception.jwt.MalformedJWTException;
@@ -141,6 +144,47 @@ public class DefaultJWTParserTest {
         jwtParser.parse("malformed-token");
     }
 
+    @Test
+    public void shouldParse_ec() throws Exception {
+        ECKey ecJWK = new ECKeyGenerator(Curve.P_256)
+                .keyID("123")
+                .generate();
+        JWTBuilder jwtBuilder  = new DefaultJWTBuilder(ecJWK.toECPrivateKey(), SignatureAlgorithm.ES256.getValue(), ecJWK.getKeyID());
+        JWTParser jwtParser = new DefaultJWTParser(ecJWK.toECPublicKey());
+
+        JWT jwt = new JWT();
+        jwt.setIss("https://gravitee.io");
+        jwt.setSub("alice");
+        jwt.setIat(Instant.now().getEpochSecond());
+        jwt.setExp(Instant.now().plus(60, ChronoUnit.MINUTES).getEpochSecond());
+        String signedJWT = jwtBuilder.sign(jwt);
+
+        JWT parsedJWT = jwtParser.parse(signedJWT);
+        assertEquals("alice", parsedJWT.getSub());
+        assertEquals("https://gravitee.io", parsedJWT.getIss());
+    }
+
+    @Test(expected = SignatureException.class)
+    public void shouldNotParse_ec_wrongSignature() throws Exception {
+        ECKey ecJWK = new ECKeyGenerator(Curve.P_384)
+                .keyID("123")
+                .generate();
+        ECKey wrongEcJWK = new ECKeyGenerator(Curve.P_384)
+                .keyID("456")
+                .generate();
+        JWTBuilder jwtBuilder  = new DefaultJWTBuilder(ecJWK.toECPrivateKey(), SignatureAlgorithm.ES384.getValue(), ecJWK.getKeyID());
+        JWTParser jwtParser = new DefaultJWTParser(wrongEcJWK.toECPublicKey());
+
+        JWT jwt = new JWT();
+        jwt.setIss("https://gravitee.io");
+        jwt.setSub("alice");
+        jwt.setIat(Instant.now().getEpochSecond());
+        jwt.setExp(Instant.now().plus(60, ChronoUnit.MINUTES).getEpochSecond());
+        String signedJWT = jwtBuilder.sign(jwt);
+
+        jwtParser.parse(signedJWT);
+    }
+
     @Test
     public void shouldParse_hmac() throws Exception {
         SecureRandom random = new SecureRandom();
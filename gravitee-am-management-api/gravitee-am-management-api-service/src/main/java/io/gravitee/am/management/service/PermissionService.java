@@ -22,6 +22,7 @@ import io.gravitee.am.model.permissions.Permission;
 import io.gravitee.am.repository.management.api.search.MembershipCriteria;
 import io.gravitee.am.service.GroupService;
 import io.gravitee.am.service.MembershipService;
+import io.gravitee.am.service.PermissionCache;
 import io.gravitee.am.service.RoleService;
 import io.reactivex.Flowable;
 import io.reactivex.Single;
@@ -41,13 +42,16 @@ public class PermissionService {
     private final MembershipService membershipService;
     private final GroupService groupService;
     private final RoleService roleService;
+    private final PermissionCache permissionCache;
 
     public PermissionService(MembershipService membershipService,
                              GroupService groupService,
-                             RoleService roleService) {
+                             RoleService roleService,
+                             PermissionCache permissionCache) {
         this.membershipService = membershipService;
         this.groupService = groupService;
         this.roleService = roleService;
+        this.permissionCache = permissionCache;
     }
 
     public Single<Map<Permission, Set<Acl>>> findAllPermissions(User user, ReferenceType referenceType, String referenceId) {
@@ -64,6 +68,34 @@ public class PermissionService {
 
     private Single<Map<Membership, Map<Permission, Set<Acl>>>> findMembershipPermissions(User user, Stream<Map.Entry<ReferenceType, String>> referenceStream) {
 
+        // Resolve the references already in cache and only compute the others.
+        Map<Membership, Map<Permission, Set<Acl>>> membershipPermissions = new HashMap<>();
+        List<Map.Entry<ReferenceType, String>> missingReferences = new ArrayList<>();
+        referenceStream.forEach(reference -> {
+            Map<Membership, Map<Permission, Set<Acl>>> cachedPermissions = permissionCache.get(user.getId(), reference.getKey(), reference.getValue());
+            if (cachedPermissions != null) {
+                membershipPermissions.putAll(cachedPermissions);
+            } else {
+                missingReferences.add(reference);
+            }
+        });
+
+        if (missingReferences.isEmpty()) {
+            return Single.just(membershipPermissions);
+        }
+
+        final long cacheVersion = permissionCache.version();
+        return computeMembershipPermissions(user, missingReferences.stream())
+                .map(computedPermissions -> {
+                    missingReferences.forEach(reference -> permissionCache.put(user.getId(), reference.getKey(), reference.getValue(),
+                            referencePermissions(computedPermissions, reference.getKey(), reference.getValue()), cacheVersion));
+                    membershipPermissions.putAll(computedPermissions);
+                    return membershipPermissions;
+                });
+    }
+
+    private Single<Map<Membership, Map<Permission, Set<Acl>>>> computeMembershipPermissions(User user, Stream<Map.Entry<ReferenceType, String>> referenceStream) {
+
         return groupService.findByMember(user.getId())
                 .flattenAsFlowable(groups -> groups)
                 .map(Group::getId)
@@ -90,6 +122,14 @@ public class PermissionService {
                 });
     }
 
+    private Map<Membership, Map<Permission, Set<Acl>>> referencePermissions(Map<Membership, Map<Permission, Set<Acl>>> permissions, ReferenceType referenceType, String referenceId) {
+
+        return permissions.entrySet()
+                .stream()
+                .filter(entry -> entry.getKey().getReferenceType() == referenceType && referenceId.equals(entry.getKey().getReferenceId()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+    }
+
     private Map<Membership, Map<Permission, Set<Acl>>> permissionsPerMembership(List<Membership> allMemberships, Set<Role> allRoles) {
 
         Map<String, Role> allRolesById = allRoles.stream().collect(Collectors.toMap(Role::getId, role -> role));
@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.management.service.impl;
+
+import io.gravitee.am.common.event.GroupEvent;
+import io.gravitee.am.common.event.MembershipEvent;
+import io.gravitee.am.common.event.RoleEvent;
+import io.gravitee.am.common.metrics.Meters;
+import io.gravitee.am.model.Acl;
+import io.gravitee.am.model.Membership;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.model.permissions.Permission;
+import io.gravitee.am.service.PermissionCache;
+import io.gravitee.common.event.Event;
+import io.gravitee.common.event.EventListener;
+import io.gravitee.common.event.EventManager;
+import io.gravitee.common.service.AbstractService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Permissions are cached per user and per reference for a short time. The entries of a reference are dropped when one
+ * of its memberships changes, all the entries are dropped when a role or a group changes.
+ *
+ * @author GraviteeSource Team
+ */
+@Component
+public class PermissionCacheImpl extends AbstractService<PermissionCache> implements PermissionCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PermissionCacheImpl.class);
+
+    @Value("${permissions.cache.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${permissions.cache.ttl:60000}")
+    private long ttl = 60000;
+
+    @Value("${permissions.cache.maxSize:10000}")
+    private int maxSize = 10000;
+
+    @Autowired
+    private EventManager eventManager;
+
+    private final ConcurrentMap<String, ConcurrentMap<String, Entry>> permissionsByUser = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private Meters meters;
+
+    @Override
+    protected void doStart() throws Exception {
+        super.doStart();
+
+        if (enabled) {
+            logger.info("Register event listener for membership, role and group events for the permission cache");
+            eventManager.subscribeForEvents((EventListener<MembershipEvent, Payload>) this::onMembershipEvent, MembershipEvent.class);
+            eventManager.subscribeForEvents((EventListener<RoleEvent, Payload>) event -> invalidateAll(), RoleEvent.class);
+            eventManager.subscribeForEvents((EventListener<GroupEvent, Payload>) event -> invalidateAll(), GroupEvent.class);
+            meters = new Meters()
+                    .gauge("am.permissions.cache.size", this, PermissionCacheImpl::size)
+                    .counter("am.permissions.cache.hits", this, PermissionCacheImpl::getHits)
+                    .counter("am.permissions.cache.misses", this, PermissionCacheImpl::getMisses);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (meters != null) {
+            meters.close();
+        }
+        invalidateAll();
+        logger.info("Permission cache stopped (hits: {}, misses: {})", getHits(), getMisses());
+    }
+
+    @Override
+    public Map<Membership, Map<Permission, Set<Acl>>> get(String userId, ReferenceType referenceType, String referenceId) {
+        if (!enabled) {
+            return null;
+        }
+
+        Map<String, Entry> userPermissions = permissionsByUser.get(userId);
+        Entry entry = userPermissions != null ? userPermissions.get(key(referenceType, referenceId)) : null;
+        if (entry == null || entry.expireAt <= System.currentTimeMillis()) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.permissions;
+    }
+
+    @Override
+    public void put(String userId, ReferenceType referenceType, String referenceId, Map<Membership, Map<Permission, Set<Acl>>> permissions, long version) {
+        if (!enabled) {
+            return;
+        }
+
+        if (!permissionsByUser.containsKey(userId) && permissionsByUser.size() >= maxSize) {
+            purge();
+            if (permissionsByUser.size() >= maxSize) {
+                logger.debug("Permission cache is full, permissions of user {} are not cached", userId);
+                return;
+            }
+        }
+        permissionsByUser
+                .computeIfAbsent(userId, k -> new ConcurrentHashMap<>())
+                .put(key(referenceType, referenceId), new Entry(permissions, System.currentTimeMillis() + ttl));
+
+        // an invalidation occurred while the permissions were computed, they may be stale
+        if (this.version.get() != version) {
+            Map<String, Entry> userPermissions = permissionsByUser.get(userId);
+            if (userPermissions != null) {
+                userPermissions.remove(key(referenceType, referenceId));
+            }
+        }
+    }
+
+    @Override
+    public long version() {
+        return version.get();
+    }
+
+    @Override
+    public void invalidate(ReferenceType referenceType, String referenceId) {
+        version.incrementAndGet();
+        String key = key(referenceType, referenceId);
+        permissionsByUser.values().forEach(userPermissions -> userPermissions.remove(key));
+    }
+
+    @Override
+    public void invalidateAll() {
+        version.incrementAndGet();
+        permissionsByUser.clear();
+    }
+
+    public int size() {
+        return permissionsByUser.size();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRate() {
+        long hits = getHits();
+        long total = hits + getMisses();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    private void onMembershipEvent(Event<MembershipEvent, Payload> event) {
+        logger.debug("Management API has received a membership event for {} {}", event.content().getReferenceType(), event.content().getReferenceId());
+        invalidate(event.content().getReferenceType(), event.content().getReferenceId());
+    }
+
+    private void purge() {
+        long now = System.currentTimeMillis();
+        permissionsByUser.values().forEach(userPermissions -> userPermissions.values().removeIf(entry -> entry.expireAt <= now));
+        permissionsByUser.values().removeIf(Map::isEmpty);
+    }
+
+    private static String key(ReferenceType referenceType, String referenceId) {
+        return referenceType + ":" + referenceId;
+    }
+
+    private static class Entry {
+        private final Map<Membership, Map<Permission, Set<Acl>>> permissions;
+        private final long expireAt;
+
+        Entry(Map<Membership, Map<Permission, Set<Acl>>> permissions, long expireAt) {
+            this.permissions = permissions;
+            this.expireAt = expireAt;
+        }
+    }
+}
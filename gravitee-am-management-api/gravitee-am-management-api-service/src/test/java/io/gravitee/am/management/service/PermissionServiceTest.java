@@ -16,6 +16,7 @@
 package io.gravitee.am.management.service;
 
 import io.gravitee.am.identityprovider.api.DefaultUser;
+import io.gravitee.am.management.service.impl.PermissionCacheImpl;
 import io.gravitee.am.model.*;
 import io.gravitee.am.model.membership.MemberType;
 import io.gravitee.am.model.permissions.Permission;
@@ -39,8 +40,11 @@ import static io.gravitee.am.model.Acl.CREATE;
 import static io.gravitee.am.model.Acl.READ;
 import static io.gravitee.am.model.permissions.Permission.*;
 import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -67,11 +71,14 @@ public class PermissionServiceTest {
     @Mock
     private RoleService roleService;
 
+    private PermissionCacheImpl permissionCache;
+
     private PermissionService cut;
 
     @Before
     public void before() {
-        cut = new PermissionService(membershipService, groupService, roleService);
+        permissionCache = new PermissionCacheImpl();
+        cut = new PermissionService(membershipService, groupService, roleService, permissionCache);
     }
 
     @Test
@@ -460,4 +467,39 @@ public class PermissionServiceTest {
         obs.assertValue(permissions -> permissions.get(ORGANIZATION).containsAll(new HashSet<>(Arrays.asList(READ, CREATE))));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void hasPermission_fromCache() {
+
+        DefaultUser user = new DefaultUser("user");
+        user.setId(USER_ID);
+
+        Membership membership = new Membership();
+        membership.setMemberType(MemberType.USER);
+        membership.setMemberId(USER_ID);
+        membership.setReferenceType(ReferenceType.ORGANIZATION);
+        membership.setReferenceId(ORGANIZATION_ID);
+        membership.setRoleId(ROLE_ID);
+
+        Role role = new Role();
+        role.setId(ROLE_ID);
+        role.setAssignableType(ReferenceType.ORGANIZATION);
+        role.setPermissionAcls(Permission.of(ORGANIZATION, READ));
+
+        when(groupService.findByMember(user.getId())).thenReturn(Single.just(emptyList()));
+        when(membershipService.findByCriteria(eq(ReferenceType.ORGANIZATION), eq(ORGANIZATION_ID), any(MembershipCriteria.class))).thenReturn(Flowable.just(membership));
+        when(roleService.findByIdIn(Arrays.asList(membership.getRoleId()))).thenReturn(Single.just(Collections.singleton(role)));
+
+        cut.hasPermission(user, of(ReferenceType.ORGANIZATION, ORGANIZATION_ID, Permission.ORGANIZATION, READ)).test().assertValue(true);
+        cut.hasPermission(user, of(ReferenceType.ORGANIZATION, ORGANIZATION_ID, Permission.ORGANIZATION, READ)).test().assertValue(true);
+        cut.hasPermission(user, of(ReferenceType.ORGANIZATION, ORGANIZATION_ID, Permission.ORGANIZATION, CREATE)).test().assertValue(false);
+
+        verify(membershipService, times(1)).findByCriteria(eq(ReferenceType.ORGANIZATION), eq(ORGANIZATION_ID), any(MembershipCriteria.class));
+        assertEquals(2, permissionCache.getHits());
+
+        // a membership change on the reference evicts the cached permissions
+        permissionCache.invalidate(ReferenceType.ORGANIZATION, ORGANIZATION_ID);
+        cut.hasPermission(user, of(ReferenceType.ORGANIZATION, ORGANIZATION_ID, Permission.ORGANIZATION, READ)).test().assertValue(true);
+
+        verify(membershipService, times(2)).findByCriteria(eq(ReferenceType.ORGANIZATION), eq(ORGANIZATION_ID), any(MembershipCriteria.class));
+    }
+}
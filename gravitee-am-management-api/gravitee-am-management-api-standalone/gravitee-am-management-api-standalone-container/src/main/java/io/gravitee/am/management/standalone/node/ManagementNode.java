@@ -16,6 +16,7 @@
 package io.gravitee.am.management.standalone.node;
 
 import io.gravitee.am.management.service.*;
+import io.gravitee.am.service.PermissionCache;
 import io.gravitee.common.component.LifecycleComponent;
 import io.gravitee.node.jetty.node.JettyNode;
 import io.gravitee.plugin.core.internal.PluginEventListener;
@@ -46,6 +47,7 @@ public class ManagementNode extends JettyNode {
         components.add(AuditReporterManager.class);
         components.add(IdentityProviderManager.class);
         components.add(CertificateManager.class);
+        components.add(PermissionCache.class);
         components.add(EmailManager.class);
         components.add(InitializerService.class);
 
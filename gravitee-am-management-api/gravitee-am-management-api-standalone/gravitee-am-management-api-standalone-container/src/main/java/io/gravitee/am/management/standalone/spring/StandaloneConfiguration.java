@@ -33,6 +33,9 @@ import io.gravitee.node.vertx.spring.VertxConfiguration;
 import io.gravitee.platform.repository.api.RepositoryScopeProvider;
 import io.gravitee.plugin.alert.spring.AlertPluginConfiguration;
 import io.gravitee.plugin.core.spring.PluginConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.vertx.micrometer.backends.BackendRegistries;
 import io.vertx.reactivex.core.Vertx;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -66,6 +69,16 @@ public class StandaloneConfiguration {
         return Vertx.newInstance(vertx);
     }
 
+    @Bean
+    public MeterRegistry meterRegistry(io.vertx.core.Vertx vertx) {
+        // the components register their meters in the global registry, publish them with the node metrics when enabled
+        MeterRegistry nodeRegistry = BackendRegistries.getDefaultNow();
+        if (nodeRegistry != null) {
+            Metrics.addRegistry(nodeRegistry);
+        }
+        return Metrics.globalRegistry;
+    }
+
     @Bean
     public NodeFactory node() {
         return new NodeFactory(ManagementNode.class);
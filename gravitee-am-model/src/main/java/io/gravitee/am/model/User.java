@@ -162,6 +162,7 @@ public class User {
         this.addresses = other.addresses != null ? new ArrayList<>(other.addresses) : null;
         this.roles = other.roles != null ? new ArrayList<>(other.roles) : null;
         this.rolesPermissions = other.rolesPermissions;
+        this.groups = other.groups != null ? new ArrayList<>(other.groups) : null;
         this.x509Certificates = other.x509Certificates != null ? new ArrayList<>(other.x509Certificates) : null;
         this.accountNonExpired = other.accountNonExpired;
         this.accountNonLocked = other.accountNonLocked;
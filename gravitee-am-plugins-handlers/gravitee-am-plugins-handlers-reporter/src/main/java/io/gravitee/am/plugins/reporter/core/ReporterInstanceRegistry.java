@@ -0,0 +1,43 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.plugins.reporter.core;
+
+import io.gravitee.am.reporter.api.provider.Reporter;
+
+/**
+ * Registry of the running reporter instances, the reporters with the same type and configuration share one instance
+ * (and so one connection pool and one bulk processor).
+ *
+ * @author GraviteeSource Team
+ */
+public interface ReporterInstanceRegistry {
+
+    /**
+     * Get a reporter for the given type and configuration.
+     * Each caller must start and stop the returned reporter, the shared instance is started on the first start
+     * and stopped once all the callers have stopped their reporter.
+     *
+     * @param type reporter type
+     * @param configuration reporter configuration
+     * @return a reporter backed by the shared instance, or <code>null</code> if the reporter can not be created
+     */
+    Reporter acquire(String type, String configuration);
+
+    /**
+     * @return the number of running reporter instances
+     */
+    int size();
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.plugins.reporter.core.impl;
+
+import io.gravitee.am.common.analytics.Type;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.Page;
+import io.gravitee.am.plugins.reporter.core.ReporterInstanceRegistry;
+import io.gravitee.am.plugins.reporter.core.ReporterPluginManager;
+import io.gravitee.am.reporter.api.provider.ReportableCriteria;
+import io.gravitee.am.reporter.api.provider.Reporter;
+import io.gravitee.common.component.Lifecycle;
+import io.gravitee.reporter.api.Reportable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class ReporterInstanceRegistryImpl implements ReporterInstanceRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReporterInstanceRegistryImpl.class);
+    private final Map<String, Instance> instances = new HashMap<>();
+
+    @Autowired
+    private ReporterPluginManager reporterPluginManager;
+
+    @Override
+    public synchronized Reporter acquire(String type, String configuration) {
+        String key = key(type, configuration);
+        Instance instance = instances.get(key);
+        if (instance == null) {
+            Reporter reporter = reporterPluginManager.create(type, configuration);
+            if (reporter == null) {
+                return null;
+            }
+            logger.info("Create a new {} reporter instance", type);
+            instance = new Instance(key, reporter);
+            instances.put(key, instance);
+        }
+        instance.references++;
+        return new SharedReporter(instance);
+    }
+
+    @Override
+    public synchronized int size() {
+        return instances.size();
+    }
+
+    private synchronized void release(Instance instance) {
+        if (--instance.references > 0) {
+            return;
+        }
+
+        instances.remove(instance.key);
+        if (instance.started) {
+            try {
+                logger.info("Stop the reporter instance, it is not used anymore");
+                instance.reporter.stop();
+            } catch (Exception ex) {
+                logger.error("Unable to stop the reporter instance", ex);
+            }
+        }
+    }
+
+    private static String key(String type, String configuration) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                    .digest((configuration == null ? "" : configuration).getBytes(StandardCharsets.UTF_8));
+            StringBuilder key = new StringBuilder(type).append(':');
+            for (byte b : hash) {
+                key.append(String.format("%02x", b));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("Unable to compute the reporter configuration hash", ex);
+        }
+    }
+
+    private static class Instance {
+
+        private final String key;
+        private final Reporter reporter;
+        private int references;
+        private boolean started;
+
+        private Instance(String key, Reporter reporter) {
+            this.key = key;
+            this.reporter = reporter;
+        }
+
+        private synchronized void start() throws Exception {
+            if (!started) {
+                reporter.start();
+                started = true;
+            }
+        }
+    }
+
+    /**
+     * Reporter handed to a caller, it delegates to the shared instance and releases it on stop.
+     */
+    private class SharedReporter implements Reporter {
+
+        private final Instance instance;
+        private boolean released;
+
+        private SharedReporter(Instance instance) {
+            this.instance = instance;
+        }
+
+        @Override
+        public Single<Page> search(ReferenceType referenceType, String referenceId, ReportableCriteria criteria, int page, int size) {
+            return instance.reporter.search(referenceType, referenceId, criteria, page, size);
+        }
+
+        @Override
+        public Single<Map<Object, Object>> aggregate(ReferenceType referenceType, String referenceId, ReportableCriteria criteria, Type analyticsType) {
+            return instance.reporter.aggregate(referenceType, referenceId, criteria, analyticsType);
+        }
+
+        @Override
+        public Maybe findById(ReferenceType referenceType, String referenceId, String id) {
+            return instance.reporter.findById(referenceType, referenceId, id);
+        }
+
+        @Override
+        public boolean canHandle(Reportable reportable) {
+            return instance.reporter.canHandle(reportable);
+        }
+
+        @Override
+        public void report(Reportable reportable) {
+            instance.reporter.report(reportable);
+        }
+
+        @Override
+        public Lifecycle.State lifecycleState() {
+            return instance.reporter.lifecycleState();
+        }
+
+        @Override
+        public synchronized Object start() throws Exception {
+            if (released) {
+                throw new IllegalStateException("The reporter has already been stopped");
+            }
+            instance.start();
+            return this;
+        }
+
+        @Override
+        public synchronized Object stop() throws Exception {
+            if (!released) {
+                released = true;
+                release(instance);
+            }
+            return this;
+        }
+    }
+}
@@ -16,8 +16,10 @@
 package io.gravitee.am.plugins.reporter.spring;
 
 import io.gravitee.am.plugins.reporter.core.ReporterConfigurationFactory;
+import io.gravitee.am.plugins.reporter.core.ReporterInstanceRegistry;
 import io.gravitee.am.plugins.reporter.core.ReporterPluginManager;
 import io.gravitee.am.plugins.reporter.core.impl.ReporterConfigurationFactoryImpl;
+import io.gravitee.am.plugins.reporter.core.impl.ReporterInstanceRegistryImpl;
 import io.gravitee.am.plugins.reporter.core.impl.ReporterPluginManagerImpl;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -38,4 +40,9 @@ public class ReporterConfiguration {
     public ReporterConfigurationFactory reporterConfigurationFactory() {
         return new ReporterConfigurationFactoryImpl();
     }
+
+    @Bean
+    public ReporterInstanceRegistry reporterInstanceRegistry() {
+        return new ReporterInstanceRegistryImpl();
+    }
 }
@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.plugins.reporter.core.impl;
+
+import io.gravitee.am.plugins.reporter.core.ReporterPluginManager;
+import io.gravitee.am.reporter.api.provider.Reporter;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReporterInstanceRegistryTest {
+
+    private static final String CONFIGURATION = "{\"host\":\"localhost\",\"port\":27017}";
+
+    @InjectMocks
+    private ReporterInstanceRegistryImpl reporterInstanceRegistry = new ReporterInstanceRegistryImpl();
+
+    @Mock
+    private ReporterPluginManager reporterPluginManager;
+
+    @Test
+    public void shouldShareReporterInstance() throws Exception {
+        Reporter instance = mock(Reporter.class);
+        when(reporterPluginManager.create("mongodb", CONFIGURATION)).thenReturn(instance);
+
+        Reporter reporter1 = reporterInstanceRegistry.acquire("mongodb", CONFIGURATION);
+        Reporter reporter2 = reporterInstanceRegistry.acquire("mongodb", CONFIGURATION);
+        reporter1.start();
+        reporter2.start();
+
+        verify(reporterPluginManager, times(1)).create("mongodb", CONFIGURATION);
+        verify(instance, times(1)).start();
+        Assert.assertEquals(1, reporterInstanceRegistry.size());
+
+        reporter1.stop();
+        reporter1.stop();
+        verify(instance, never()).stop();
+
+        reporter2.stop();
+        verify(instance, times(1)).stop();
+        Assert.assertEquals(0, reporterInstanceRegistry.size());
+    }
+
+    @Test
+    public void shouldNotShareReporterInstance_differentConfiguration() {
+        Reporter instance1 = mock(Reporter.class);
+        Reporter instance2 = mock(Reporter.class);
+        String otherConfiguration = "{\"host\":\"localhost\",\"port\":27018}";
+        when(reporterPluginManager.create("mongodb", CONFIGURATION)).thenReturn(instance1);
+        when(reporterPluginManager.create("mongodb", otherConfiguration)).thenReturn(instance2);
+
+        reporterInstanceRegistry.acquire("mongodb", CONFIGURATION);
+        reporterInstanceRegistry.acquire("mongodb", otherConfiguration);
+
+        Assert.assertEquals(2, reporterInstanceRegistry.size());
+    }
+
+    @Test
+    public void shouldCreateNewInstance_afterRelease() throws Exception {
+        when(reporterPluginManager.create("mongodb", CONFIGURATION)).thenReturn(mock(Reporter.class));
+
+        reporterInstanceRegistry.acquire("mongodb", CONFIGURATION).stop();
+        reporterInstanceRegistry.acquire("mongodb", CONFIGURATION);
+
+        verify(reporterPluginManager, times(2)).create("mongodb", CONFIGURATION);
+        Assert.assertEquals(1, reporterInstanceRegistry.size());
+    }
+
+    @Test
+    public void shouldNotAcquire_unknownReporter() {
+        Assert.assertNull(reporterInstanceRegistry.acquire("unknown", CONFIGURATION));
+        Assert.assertEquals(0, reporterInstanceRegistry.size());
+    }
+}
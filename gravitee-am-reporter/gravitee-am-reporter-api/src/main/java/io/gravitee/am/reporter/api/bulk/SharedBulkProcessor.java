@@ -0,0 +1,107 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.reporter.api.bulk;
+
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.processors.FlowableProcessor;
+import io.reactivex.processors.PublishProcessor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bulk processor shared by the reporters connecting to the same backend.
+ *
+ * Each security domain has its own reporter writing to its own tables or collection. Instead of buffering the reportables
+ * of each domain separately, the reporters push them to the same processor which is flushed every <code>flushInterval</code>
+ * seconds or once <code>bulkActions</code> reportables are pending. A flushed batch may contain the reportables of several
+ * domains, they are grouped by {@link Writer} and each group is written with a single bulk write.
+ *
+ * Processors are meant to be shared with {@link io.gravitee.am.common.pool.ConnectionPoolRegistry},
+ * using the connection settings of the reporters as key and {@link #dispose()} as closer.
+ *
+ * @author GraviteeSource Team
+ */
+public class SharedBulkProcessor<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedBulkProcessor.class);
+
+    private final FlowableProcessor<Item<T>> processor = PublishProcessor.<Item<T>>create().toSerialized();
+    private final Disposable disposable;
+
+    public SharedBulkProcessor(long flushInterval, int bulkActions) {
+        this.disposable = processor.buffer(flushInterval, TimeUnit.SECONDS, bulkActions)
+                .flatMapCompletable(this::flush)
+                .subscribe(() -> {}, error -> LOGGER.error("The bulk processor has stopped unexpectedly", error));
+    }
+
+    /**
+     * Push a reportable to the processor, it is written with the next batch.
+     *
+     * @param writer writes the reportable, the same instance must be used for all the reportables of a destination
+     * @param reportable the reportable to write
+     */
+    public void push(Writer<T> writer, T reportable) {
+        processor.onNext(new Item<>(writer, reportable));
+    }
+
+    /**
+     * Stop the processor, pending reportables are discarded.
+     */
+    public void dispose() {
+        disposable.dispose();
+    }
+
+    private Completable flush(List<Item<T>> items) {
+        if (items.isEmpty()) {
+            return Completable.complete();
+        }
+
+        Map<Writer<T>, List<T>> batches = new LinkedHashMap<>();
+        items.forEach(item -> batches.computeIfAbsent(item.writer, writer -> new ArrayList<>()).add(item.reportable));
+
+        // a failing destination must not prevent the others from being written, writers report their own errors
+        return Flowable.fromIterable(batches.entrySet())
+                .concatMapCompletable(batch -> batch.getKey().write(batch.getValue()).onErrorComplete());
+    }
+
+    /**
+     * Write a batch of reportables to a single destination.
+     */
+    @FunctionalInterface
+    public interface Writer<T> {
+
+        Completable write(List<T> reportables);
+    }
+
+    private static class Item<T> {
+
+        private final Writer<T> writer;
+        private final T reportable;
+
+        private Item(Writer<T> writer, T reportable) {
+            this.writer = writer;
+            this.reportable = reportable;
+        }
+    }
+}
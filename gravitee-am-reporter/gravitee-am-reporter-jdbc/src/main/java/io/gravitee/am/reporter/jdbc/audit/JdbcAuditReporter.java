@@ -19,6 +19,8 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.google.common.base.CaseFormat;
 import io.gravitee.am.common.analytics.Type;
 import io.gravitee.am.common.audit.Status;
+import io.gravitee.am.common.jdbc.BulkInsert;
+import io.gravitee.am.common.pool.ConnectionPoolRegistry;
 import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.reporter.api.audit.AuditReportableCriteria;
@@ -27,6 +29,7 @@ import io.gravitee.am.reporter.api.audit.model.Audit;
 import io.gravitee.am.reporter.api.audit.model.AuditAccessPoint;
 import io.gravitee.am.reporter.api.audit.model.AuditEntity;
 import io.gravitee.am.reporter.api.audit.model.AuditOutcome;
+import io.gravitee.am.reporter.api.bulk.SharedBulkProcessor;
 import io.gravitee.am.reporter.jdbc.JdbcReporterConfiguration;
 import io.gravitee.am.reporter.jdbc.audit.model.AuditAccessPointJdbc;
 import io.gravitee.am.reporter.jdbc.audit.model.AuditEntityJdbc;
@@ -38,13 +41,10 @@ import io.gravitee.am.reporter.jdbc.spring.JdbcReporterSpringConfiguration;
 import io.gravitee.am.reporter.jdbc.utils.JSONMapper;
 import io.gravitee.common.service.AbstractService;
 import io.gravitee.reporter.api.Reportable;
-import io.r2dbc.pool.ConnectionPool;
 import io.r2dbc.spi.ConnectionFactory;
-import io.reactivex.Flowable;
+import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
-import io.reactivex.disposables.Disposable;
-import io.reactivex.processors.PublishProcessor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -52,7 +52,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.env.Environment;
 import org.springframework.data.r2dbc.core.DatabaseClient;
-import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.transaction.ReactiveTransactionManager;
 import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
@@ -66,7 +65,6 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -85,6 +83,41 @@ public class JdbcAuditReporter extends AbstractService implements AuditReporter,
     private static final Logger LOGGER = LoggerFactory.getLogger(JdbcAuditReporter.class);
     public static final String REPORTER_AUTO_PROVISIONING = "management.jdbc.reporter.provisioning";
 
+    private static final LinkedHashMap<String, Class<?>> AUDIT_COLUMNS = new LinkedHashMap<>();
+    private static final LinkedHashMap<String, Class<?>> AUDIT_ENTITY_COLUMNS = new LinkedHashMap<>();
+    private static final LinkedHashMap<String, Class<?>> AUDIT_OUTCOME_COLUMNS = new LinkedHashMap<>();
+    private static final LinkedHashMap<String, Class<?>> AUDIT_ACCESS_POINT_COLUMNS = new LinkedHashMap<>();
+
+    static {
+        AUDIT_COLUMNS.put("id", String.class);
+        AUDIT_COLUMNS.put("transaction_id", String.class);
+        AUDIT_COLUMNS.put("type", String.class);
+        AUDIT_COLUMNS.put("reference_type", String.class);
+        AUDIT_COLUMNS.put("reference_id", String.class);
+        AUDIT_COLUMNS.put("timestamp", LocalDateTime.class);
+
+        AUDIT_ENTITY_COLUMNS.put("audit_id", String.class);
+        AUDIT_ENTITY_COLUMNS.put("audit_field", String.class);
+        AUDIT_ENTITY_COLUMNS.put("id", String.class);
+        AUDIT_ENTITY_COLUMNS.put("alternative_id", String.class);
+        AUDIT_ENTITY_COLUMNS.put("type", String.class);
+        AUDIT_ENTITY_COLUMNS.put("display_name", String.class);
+        AUDIT_ENTITY_COLUMNS.put("reference_type", String.class);
+        AUDIT_ENTITY_COLUMNS.put("reference_id", String.class);
+        AUDIT_ENTITY_COLUMNS.put("attributes", String.class);
+
+        AUDIT_OUTCOME_COLUMNS.put("audit_id", String.class);
+        AUDIT_OUTCOME_COLUMNS.put("status", String.class);
+        AUDIT_OUTCOME_COLUMNS.put("message", String.class);
+
+        AUDIT_ACCESS_POINT_COLUMNS.put("audit_id", String.class);
+        AUDIT_ACCESS_POINT_COLUMNS.put("id", String.class);
+        AUDIT_ACCESS_POINT_COLUMNS.put("alternative_id", String.class);
+        AUDIT_ACCESS_POINT_COLUMNS.put("display_name", String.class);
+        AUDIT_ACCESS_POINT_COLUMNS.put("ip_address", String.class);
+        AUDIT_ACCESS_POINT_COLUMNS.put("user_agent", String.class);
+    }
+
     private final Pattern pattern = Pattern.compile("___");
 
     private String auditsTable;
@@ -110,9 +143,9 @@ public class JdbcAuditReporter extends AbstractService implements AuditReporter,
     @Autowired
     private ConnectionFactory connectionFactory;
 
-    private final PublishProcessor<Audit> bulkProcessor = PublishProcessor.create();
+    private final SharedBulkProcessor.Writer<Audit> bulkWriter = this::bulk;
 
-    private Disposable disposable;
+    private volatile SharedBulkProcessor<Audit> bulkProcessor;
 
     private boolean ready = false;
 
@@ -135,13 +168,10 @@ public class JdbcAuditReporter extends AbstractService implements AuditReporter,
 
         Mono<Long> total = count.as(Long.class).fetch().first();
 
-        return fluxToFlowable(query.as(AuditJdbc.class).fetch().all()
+        return monoToSingle(query.as(AuditJdbc.class).fetch().all()
                 .map(this::convert)
-                .concatMap(this::fillWithActor)
-                .concatMap(this::fillWithTarget)
-                .concatMap(this::fillWithAccessPoint)
-                .concatMap(this::fillWithOutcomes))
-                .toList()
+                .collectList()
+                .flatMap(this::fillWithRelations))
                 .flatMap(content -> monoToSingle(total).map(value -> new Page<Audit>(content, page, value)))
                 .doOnError(error -> LOGGER.error("Unable to retrieve reports for referenceType {} and referenceId {}",
                         referenceType, referenceId, error));
@@ -267,56 +297,67 @@ public class JdbcAuditReporter extends AbstractService implements AuditReporter,
                 .fetch()
                 .first()
                 .map(this::convert)
-                .flatMap(this::fillWithActor)
-                .flatMap(this::fillWithTarget)
-                .flatMap(this::fillWithAccessPoint)
-                .flatMap(this::fillWithOutcomes);
+                .flatMap(audit -> fillWithRelations(Collections.singletonList(audit)).map(audits -> audits.get(0)));
 
         return monoToMaybe(auditMono)
                 .doOnError(error -> LOGGER.error("Unable to retrieve the Report with referenceType {}, referenceId {} and id {}",
                         referenceType, referenceId, id, error));
     }
 
-    private Mono<Audit> fillWithActor(Audit audit) {
-        return dbClient.select().from(auditEntitiesTable).matching(
-                from(where("audit_id").is(audit.getId())
-                        .and(where("audit_field").is("actor"))))
-                .as(AuditEntityJdbc.class)
-                .fetch()
-                .first()
-                .map(entity -> fillWith(audit, entity))
-                .switchIfEmpty(Mono.just(audit));
-    }
+    /**
+     * Load the entities, access points and outcomes of the given audits with one query per table
+     * and attach them to their audit.
+     */
+    private Mono<List<Audit>> fillWithRelations(List<Audit> audits) {
+        if (audits.isEmpty()) {
+            return Mono.just(audits);
+        }
+
+        final Map<String, Audit> auditsById = new HashMap<>();
+        audits.forEach(audit -> auditsById.put(audit.getId(), audit));
+        final List<String> ids = new ArrayList<>(auditsById.keySet());
 
-    private Mono<Audit> fillWithTarget(Audit audit) {
-        return dbClient.select().from(auditEntitiesTable).matching(
-                from(where("audit_id").is(audit.getId())
-                        .and(where("audit_field").is("target"))))
+        Mono<Void> entities = dbClient.select().from(auditEntitiesTable)
+                .matching(from(where("audit_id").in(ids)))
                 .as(AuditEntityJdbc.class)
                 .fetch()
-                .first()
-                .map(entity -> fillWith(audit, entity))
-                .switchIfEmpty(Mono.just(audit));
-    }
-
-    private Mono<Audit> fillWithAccessPoint(Audit audit) {
-        return dbClient.select().from(auditAccessPointsTable).matching(
-                from(where("audit_id").is(audit.getId())))
+                .all()
+                .doOnNext(entity -> {
+                    Audit audit = auditsById.get(entity.getAuditId());
+                    boolean actor = "actor".equalsIgnoreCase(entity.getAuditField());
+                    if (audit != null && (actor ? audit.getActor() : audit.getTarget()) == null) {
+                        fillWith(audit, entity);
+                    }
+                })
+                .then();
+
+        Mono<Void> accessPoints = dbClient.select().from(auditAccessPointsTable)
+                .matching(from(where("audit_id").in(ids)))
                 .as(AuditAccessPointJdbc.class)
                 .fetch()
-                .first()
-                .map(entity -> fillWith(audit, entity))
-                .switchIfEmpty(Mono.just(audit));
-    }
-
-    private Mono<Audit> fillWithOutcomes(Audit audit) {
-        return dbClient.select().from(auditOutcomesTable).matching(
-                from(where("audit_id").is(audit.getId())))
+                .all()
+                .doOnNext(entity -> {
+                    Audit audit = auditsById.get(entity.getAuditId());
+                    if (audit != null && audit.getAccessPoint() == null) {
+                        fillWith(audit, entity);
+                    }
+                })
+                .then();
+
+        Mono<Void> outcomes = dbClient.select().from(auditOutcomesTable)
+                .matching(from(where("audit_id").in(ids)))
                 .as(AuditOutcomeJdbc.class)
                 .fetch()
-                .first()
-                .map(entity -> fillWith(audit, entity))
-                .switchIfEmpty(Mono.just(audit));
+                .all()
+                .doOnNext(entity -> {
+                    Audit audit = auditsById.get(entity.getAuditId());
+                    if (audit != null && audit.getOutcome() == null) {
+                        fillWith(audit, entity);
+                    }
+                })
+                .then();
+
+        return entities.then(accessPoints).then(outcomes).thenReturn(audits);
     }
 
     private Audit convert(AuditJdbc entity) {
@@ -371,86 +412,95 @@ public class JdbcAuditReporter extends AbstractService implements AuditReporter,
 
     @Override
     public void report(Reportable reportable) {
+        SharedBulkProcessor<Audit> processor = bulkProcessor;
+        if (processor == null) {
+            LOGGER.debug("Reporter not yet bootstrapped, reportable {} is ignored", reportable);
+            return;
+        }
         LOGGER.debug("Push reportable {} in bulk processor", reportable);
-        bulkProcessor.onNext((Audit) reportable);
+        processor.push(bulkWriter, (Audit) reportable);
     }
 
-    private Flowable bulk(List<Audit> audits) {
+    private Completable bulk(List<Audit> audits) {
         if (audits == null || audits.isEmpty()) {
-            return Flowable.empty();
+            return Completable.complete();
         }
 
-        return Flowable.fromPublisher(Flux.fromIterable(audits).flatMap(this::insertReport, configuration.getMaxSize()))
-                .doOnError(error -> LOGGER.error("Error during bulk loading", error));
+        return monoToCompletable(insertReports(audits))
+                .doOnError(error -> LOGGER.error("An error occurs while indexing data into {} table of {} database",
+                        auditsTable, configuration.getDatabase(), error));
     }
 
-    private Mono insertReport(Audit audit) {
+    /**
+     * Write the whole batch of audits in a single transaction using one multi-row INSERT per table
+     * (split in several statements if the batch exceeds the bind parameters limit of the database).
+     */
+    private Mono<Void> insertReports(List<Audit> audits) {
         TransactionalOperator trx = TransactionalOperator.create(tm);
 
-        DatabaseClient.GenericInsertSpec<Map<String, Object>> insertSpec = dbClient.insert().into(auditsTable);
-        insertSpec = addQuotedField(insertSpec,"id", audit.getId(), String.class);
-        insertSpec = addQuotedField(insertSpec,"transaction_id", audit.getTransactionId(), String.class);
-        insertSpec = addQuotedField(insertSpec,"type", audit.getType(), String.class);
-        insertSpec = addQuotedField(insertSpec,"reference_type", audit.getReferenceType() == null ? null : audit.getReferenceType().name(), String.class);
-        insertSpec = addQuotedField(insertSpec,"reference_id", audit.getReferenceId(), String.class);
-        insertSpec = addQuotedField(insertSpec,"timestamp", LocalDateTime.ofInstant(audit.timestamp(), ZoneId.of(ZoneOffset.UTC.getId())), LocalDateTime.class);
-
-        Mono<Integer> insertAction = insertSpec.fetch().rowsUpdated();
-
-        AuditEntity actor = audit.getActor();
-        if (actor != null) {
-            insertAction = insertAction.then(prepateInsertEntity(audit, actor, "actor"));
-        }
-
-        AuditEntity target = audit.getTarget();
-        if (target != null) {
-            insertAction = insertAction.then(prepateInsertEntity(audit, target, "target"));
-        }
-
-        AuditOutcome outcome = audit.getOutcome();
-        if (outcome != null) {
-            DatabaseClient.GenericInsertSpec<Map<String, Object>> insertOutcomeSpec = dbClient.insert().into(auditOutcomesTable);
-
-            insertOutcomeSpec = addQuotedField(insertOutcomeSpec, "audit_id", audit.getId(), String.class);
-            insertOutcomeSpec = addQuotedField(insertOutcomeSpec, "status", outcome.getStatus(), String.class);
-            insertOutcomeSpec = addQuotedField(insertOutcomeSpec, "message", outcome.getMessage(), String.class);
-
-            insertAction = insertAction.then(insertOutcomeSpec.fetch().rowsUpdated());
-        }
+        List<Object[]> auditRows = new ArrayList<>(audits.size());
+        List<Object[]> entityRows = new ArrayList<>(audits.size() * 2);
+        List<Object[]> outcomeRows = new ArrayList<>(audits.size());
+        List<Object[]> accessPointRows = new ArrayList<>(audits.size());
+
+        for (Audit audit : audits) {
+            auditRows.add(new Object[]{
+                    audit.getId(),
+                    audit.getTransactionId(),
+                    audit.getType(),
+                    audit.getReferenceType() == null ? null : audit.getReferenceType().name(),
+                    audit.getReferenceId(),
+                    LocalDateTime.ofInstant(audit.timestamp(), ZoneId.of(ZoneOffset.UTC.getId()))});
+
+            AuditEntity actor = audit.getActor();
+            if (actor != null) {
+                entityRows.add(toEntityRow(audit, actor, "actor"));
+            }
 
-        AuditAccessPoint accessPoint = audit.getAccessPoint();
-        if (accessPoint != null) {
-            DatabaseClient.GenericInsertSpec<Map<String, Object>> insertAccessPointSpec = dbClient.insert().into(auditAccessPointsTable);
+            AuditEntity target = audit.getTarget();
+            if (target != null) {
+                entityRows.add(toEntityRow(audit, target, "target"));
+            }
 
-            insertAccessPointSpec = addQuotedField(insertAccessPointSpec, "audit_id", audit.getId(), String.class);
-            insertAccessPointSpec = addQuotedField(insertAccessPointSpec, "id", accessPoint.getId(), String.class);
-            insertAccessPointSpec = addQuotedField(insertAccessPointSpec, "alternative_id", accessPoint.getAlternativeId(), String.class);
-            insertAccessPointSpec = addQuotedField(insertAccessPointSpec, "display_name", accessPoint.getDisplayName(), String.class);
-            insertAccessPointSpec = addQuotedField(insertAccessPointSpec, "ip_address", accessPoint.getIpAddress(), String.class);
-            insertAccessPointSpec = addQuotedField(insertAccessPointSpec, "user_agent", accessPoint.getUserAgent(), String.class);
+            AuditOutcome outcome = audit.getOutcome();
+            if (outcome != null) {
+                outcomeRows.add(new Object[]{audit.getId(), outcome.getStatus(), outcome.getMessage()});
+            }
 
-            insertAction = insertAction.then(insertAccessPointSpec.fetch().rowsUpdated());
+            AuditAccessPoint accessPoint = audit.getAccessPoint();
+            if (accessPoint != null) {
+                accessPointRows.add(new Object[]{
+                        audit.getId(),
+                        accessPoint.getId(),
+                        accessPoint.getAlternativeId(),
+                        accessPoint.getDisplayName(),
+                        accessPoint.getIpAddress(),
+                        accessPoint.getUserAgent()});
+            }
         }
 
-        return insertAction.as(trx::transactional);
+        return bulkInsert(auditsTable, AUDIT_COLUMNS, auditRows)
+                .then(bulkInsert(auditEntitiesTable, AUDIT_ENTITY_COLUMNS, entityRows))
+                .then(bulkInsert(auditOutcomesTable, AUDIT_OUTCOME_COLUMNS, outcomeRows))
+                .then(bulkInsert(auditAccessPointsTable, AUDIT_ACCESS_POINT_COLUMNS, accessPointRows))
+                .as(trx::transactional);
     }
 
-    private Mono<Integer> prepateInsertEntity(Audit audit, AuditEntity entity, String field) {
-        DatabaseClient.GenericInsertSpec<Map<String, Object>> insertEntitySpec = dbClient.insert().into(auditEntitiesTable);
-        insertEntitySpec = addQuotedField(insertEntitySpec, "audit_id", audit.getId(), String.class);
-        insertEntitySpec = addQuotedField(insertEntitySpec, "audit_field", field, String.class);
-        insertEntitySpec = addQuotedField(insertEntitySpec, "id", entity.getId(), String.class);
-        insertEntitySpec = addQuotedField(insertEntitySpec, "alternative_id", entity.getAlternativeId(), String.class);
-        insertEntitySpec = addQuotedField(insertEntitySpec, "type", entity.getType(), String.class);
-        insertEntitySpec = addQuotedField(insertEntitySpec, "display_name", entity.getDisplayName(), String.class);
-        insertEntitySpec = addQuotedField(insertEntitySpec, "reference_type", entity.getReferenceType() == null ? null : entity.getReferenceType().name(), String.class);
-        insertEntitySpec = addQuotedField(insertEntitySpec, "reference_id", entity.getReferenceId(), String.class);
-        insertEntitySpec = addQuotedField(insertEntitySpec, "attributes", JSONMapper.toJson(entity.getAttributes()), String.class);
-        return insertEntitySpec.fetch().rowsUpdated();
+    private Object[] toEntityRow(Audit audit, AuditEntity entity, String field) {
+        return new Object[]{
+                audit.getId(),
+                field,
+                entity.getId(),
+                entity.getAlternativeId(),
+                entity.getType(),
+                entity.getDisplayName(),
+                entity.getReferenceType() == null ? null : entity.getReferenceType().name(),
+                entity.getReferenceId(),
+                JSONMapper.toJson(entity.getAttributes())};
     }
 
-    protected <T> DatabaseClient.GenericInsertSpec<Map<String, Object>> addQuotedField(DatabaseClient.GenericInsertSpec<Map<String, Object>> spec, String name, Object value, Class<T> type) {
-        return value == null ? spec.nullValue(SqlIdentifier.quoted(name), type) : spec.value(SqlIdentifier.quoted(name), value);
+    private Mono<Void> bulkInsert(String table, LinkedHashMap<String, Class<?>> columns, List<Object[]> rows) {
+        return BulkInsert.execute(dbClient, dialectHelper::buildBulkInsertQuery, dialectHelper.getMaxBindParameters(), table, columns, rows);
     }
 
     @Override
@@ -518,14 +568,15 @@ public class JdbcAuditReporter extends AbstractService implements AuditReporter,
     }
 
     protected void initializeBulkProcessor() {
-        disposable = bulkProcessor.buffer(
+        // the reporters of the security domains connecting to the same database share the same bulk processor,
+        // each flush writes the audits of all the domains, one bulk insert per domain tables
+        String key = ConnectionPoolRegistry.key("reporter-jdbc-bulk",
+                JdbcReporterSpringConfiguration.connectionKey(configuration),
                 configuration.getFlushInterval(),
-                TimeUnit.SECONDS,
-                configuration.getBulkActions())
-                .flatMap(JdbcAuditReporter.this::bulk)
-                .doOnError(error -> LOGGER.error("An error occurs while indexing data into report_audits_{} table of {} database",
-                        configuration.getTableSuffix(), configuration.getDatabase(), error))
-                .subscribe();
+                configuration.getBulkActions());
+        bulkProcessor = ConnectionPoolRegistry.acquire(key,
+                () -> new SharedBulkProcessor<>(configuration.getFlushInterval(), configuration.getBulkActions()),
+                SharedBulkProcessor::dispose);
     }
 
     @Override
@@ -538,22 +589,14 @@ public class JdbcAuditReporter extends AbstractService implements AuditReporter,
         super.doStop();
         try {
             ready = false;
-            if (!disposable.isDisposed()) {
-                disposable.dispose();
+            // release the bulk processor first, the connection pool must remain open while it is in use
+            SharedBulkProcessor<Audit> processor = bulkProcessor;
+            bulkProcessor = null;
+            if (processor != null) {
+                ConnectionPoolRegistry.release(processor);
             }
 
-            // we wait until the bulk processor has stopped
-            while (bulkProcessor.hasSubscribers()) {
-                LOGGER.debug("The bulk processor is processing data, wait.");
-            }
-
-            if (this.connectionFactory instanceof ConnectionPool) {
-                ConnectionPool connectionFactory = (ConnectionPool) this.connectionFactory;
-                if (!connectionFactory.isDisposed()) {
-                    // dispose is a blocking call, use the non blocking one to avoid error
-                    connectionFactory.disposeLater().subscribe();
-                }
-            }
+            ConnectionPoolRegistry.release(this.connectionFactory);
         } catch (Exception ex) {
             LOGGER.error("Failed to close JDBC client", ex);
         }
@@ -99,6 +99,32 @@ public abstract class AbstractDialect implements DialectHelper {
         return "select 1 from information_schema.tables where table_name = '"+table+"'";
     }
 
+    @Override
+    public String buildBulkInsertQuery(String table, List<String> columns, int rows) {
+        StringBuilder builder = new StringBuilder("INSERT INTO ")
+                .append(table)
+                .append(" (").append(columns.stream().map(this::quoteIdentifier).collect(Collectors.joining(", "))).append(") VALUES ");
+        for (int row = 0; row < rows; row++) {
+            builder.append(row == 0 ? "(" : ", (");
+            for (int col = 0; col < columns.size(); col++) {
+                builder.append(col == 0 ? ":" : ", :").append(columns.get(col)).append("_").append(row);
+            }
+            builder.append(")");
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public int getMaxBindParameters() {
+        // PostgreSQL protocol limit, MySQL & MariaDB accept up to 65535 parameters
+        return 32767;
+    }
+
+    @Override
+    public String quoteIdentifier(String identifier) {
+        return "\"" + identifier + "\"";
+    }
+
     @Override
     public SearchQuery buildGroupByQuery(ReferenceType referenceType, String referenceId, AuditReportableCriteria criteria) {
         Map<String, Object> bindings = new HashMap<>();
@@ -42,6 +42,24 @@ public interface DialectHelper {
 
     String buildPagingClause(int page, int size);
 
+    /**
+     * Build a multi-row INSERT statement for the given table.
+     * Each value is bound using a named parameter <code>column_row</code>.
+     *
+     * @param table the table name
+     * @param columns the column names
+     * @param rows the number of rows to insert
+     * @return the INSERT statement
+     */
+    String buildBulkInsertQuery(String table, List<String> columns, int rows);
+
+    /**
+     * @return the maximum number of bind parameters accepted by a single statement
+     */
+    int getMaxBindParameters();
+
+    String quoteIdentifier(String identifier);
+
     void setAuditsTable(String auditsTable);
     void setAuditAccessPointsTable(String auditAccessPointsTable);
     void setAuditOutcomesTable(String auditOutcomesTable);
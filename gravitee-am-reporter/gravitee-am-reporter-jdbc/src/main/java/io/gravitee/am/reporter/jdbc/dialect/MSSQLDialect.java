@@ -44,6 +44,17 @@ public class MSSQLDialect extends AbstractDialect {
         return " ORDER BY a.timestamp DESC OFFSET "+ (page * size) +" ROWS FETCH NEXT " + size + " ROWS ONLY ";
     }
 
+    @Override
+    public int getMaxBindParameters() {
+        // SQL Server accepts at most 2100 parameters per request
+        return 2000;
+    }
+
+    @Override
+    public String quoteIdentifier(String identifier) {
+        return "[" + identifier + "]";
+    }
+
     @Override
     protected String groupByConcatQueryParts(AuditReportableCriteria criteria, StringBuilder queryBuilder, StringBuilder whereClauseBuilder, String field) {
         String query = "SELECT TOP " + (criteria.size() == null ? 50 : + criteria.size()) + " " + field + ", COUNT(DISTINCT a.id) as counter, MAX(a.timestamp) " +
@@ -74,4 +74,9 @@ public class MariaDBDialect extends AbstractDialect {
         }
         return new SearchQuery(query, null, bindings);
     }
+
+    @Override
+    public String quoteIdentifier(String identifier) {
+        return "`" + identifier + "`";
+    }
 }
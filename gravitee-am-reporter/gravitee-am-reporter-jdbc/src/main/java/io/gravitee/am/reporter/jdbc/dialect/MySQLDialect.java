@@ -81,4 +81,9 @@ public class MySQLDialect extends AbstractDialect {
     public SearchQuery buildHistogramQuery(ReferenceType referenceType, String referenceId, AuditReportableCriteria criteria) {
        throw new IllegalStateException("Not implemented for MySQL");
     }
+
+    @Override
+    public String quoteIdentifier(String identifier) {
+        return "`" + identifier + "`";
+    }
 }
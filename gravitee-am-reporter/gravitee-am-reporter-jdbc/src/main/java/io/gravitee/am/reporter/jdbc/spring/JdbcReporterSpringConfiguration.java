@@ -15,6 +15,7 @@
  */
 package io.gravitee.am.reporter.jdbc.spring;
 
+import io.gravitee.am.common.pool.ConnectionPoolRegistry;
 import io.gravitee.am.reporter.jdbc.JdbcReporterConfiguration;
 import io.gravitee.am.reporter.jdbc.dialect.*;
 import io.r2dbc.pool.ConnectionPool;
@@ -80,9 +81,42 @@ public class JdbcReporterSpringConfiguration extends AbstractR2dbcConfiguration
     }
 
     @Override
-    @Bean
+    @Bean(destroyMethod = "")
     public ConnectionFactory connectionFactory() {
-        return buildConnectionFactory();
+        // the reporters of the security domains connecting to the same database share the same connection pool
+        return ConnectionPoolRegistry.acquire(connectionKey(configuration), this::buildConnectionFactory, JdbcReporterSpringConfiguration::dispose);
+    }
+
+    /**
+     * @param configuration the reporter configuration
+     * @return the key identifying the database connection settings of the reporter
+     */
+    public static String connectionKey(JdbcReporterConfiguration configuration) {
+        return ConnectionPoolRegistry.key("reporter-jdbc",
+                configuration.getDriver(),
+                configuration.getHost(),
+                configuration.getPort(),
+                configuration.getDatabase(),
+                configuration.getUsername(),
+                configuration.getPassword(),
+                configuration.getAcquireRetry(),
+                configuration.getInitialSize(),
+                configuration.getMaxSize(),
+                configuration.getMaxIdleTime(),
+                configuration.getMaxLifeTime(),
+                configuration.getMaxAcquireTime(),
+                configuration.getMaxCreateConnectionTime(),
+                configuration.getValidationQuery());
+    }
+
+    private static void dispose(ConnectionFactory connectionFactory) {
+        if (connectionFactory instanceof ConnectionPool) {
+            ConnectionPool connectionPool = (ConnectionPool) connectionFactory;
+            if (!connectionPool.isDisposed()) {
+                // dispose is a blocking call, use the non blocking one to avoid error
+                connectionPool.disposeLater().subscribe();
+            }
+        }
     }
 
     protected ConnectionFactory buildConnectionFactory() {
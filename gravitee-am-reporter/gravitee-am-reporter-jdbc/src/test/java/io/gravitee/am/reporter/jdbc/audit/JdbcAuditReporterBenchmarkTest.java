@@ -0,0 +1,144 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.reporter.jdbc.audit;
+
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.reporter.api.audit.AuditReportableCriteria;
+import io.gravitee.am.reporter.api.audit.model.Audit;
+import io.gravitee.am.reporter.api.audit.model.AuditAccessPoint;
+import io.gravitee.am.reporter.api.audit.model.AuditEntity;
+import io.gravitee.am.reporter.api.audit.model.AuditOutcome;
+import io.gravitee.am.reporter.jdbc.JUnitConfiguration;
+import io.gravitee.am.reporter.jdbc.dialect.DialectHelper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.context.support.AnnotationConfigContextLoader;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measure the audits/sec written by the reporter, from the report call until the audits can be read back.
+ * Only run with the <code>benchmark</code> profile: <code>mvn test -Pbenchmark -Dskip-reporters-tests=false</code>
+ *
+ * @author GraviteeSource Team
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = JUnitConfiguration.class, loader = AnnotationConfigContextLoader.class)
+public class JdbcAuditReporterBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JdbcAuditReporterBenchmarkTest.class);
+    private static final int[] AUDITS = {1000, 10000, 50000};
+    private static final long TIMEOUT = 300000;
+
+    @Autowired
+    protected ApplicationContext context;
+
+    @Autowired
+    protected DialectHelper dialectHelper;
+
+    private JdbcAuditReporter auditReporter;
+
+    @Before
+    public void init() throws Exception {
+        auditReporter = new JdbcAuditReporter();
+        context.getAutowireCapableBeanFactory().autowireBean(auditReporter);
+        auditReporter.afterPropertiesSet();
+        // wait for the schema initialization
+        Thread.sleep(1000);
+    }
+
+    @Test
+    public void shouldBulkWriteAudits() throws Exception {
+        for (int size : AUDITS) {
+            final String domain = "benchmark-" + size;
+            final List<Audit> audits = buildAudits(domain, size);
+
+            long start = System.nanoTime();
+            audits.forEach(auditReporter::report);
+            long deadline = System.currentTimeMillis() + TIMEOUT;
+            long count;
+            while ((count = count(domain)) < size && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+            long elapsed = System.nanoTime() - start;
+
+            assertEquals(size, count);
+            LOGGER.info("{} audits written with {} in {} ms ({} audits/sec)", size, dialectHelper.getClass().getSimpleName(),
+                    elapsed / 1_000_000, (long) (size / (elapsed / 1_000_000_000d)));
+        }
+    }
+
+    private long count(String domain) {
+        return auditReporter.search(ReferenceType.DOMAIN, domain, new AuditReportableCriteria.Builder().build(), 0, 1)
+                .blockingGet().getTotalCount();
+    }
+
+    private static List<Audit> buildAudits(String domain, int size) {
+        List<Audit> audits = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String random = UUID.randomUUID().toString();
+
+            Audit audit = new Audit();
+            audit.setId(random);
+            audit.setType("type" + random);
+            audit.setTransactionId("transaction" + random);
+            audit.setReferenceType(ReferenceType.DOMAIN);
+            audit.setReferenceId(domain);
+            audit.setTimestamp(Instant.now());
+
+            AuditEntity actor = new AuditEntity();
+            actor.setReferenceType(ReferenceType.DOMAIN);
+            actor.setReferenceId(domain);
+            actor.setAlternativeId("altid" + random);
+            actor.setType("USER");
+            actor.setAttributes(Collections.singletonMap("key1", "value1"));
+            audit.setActor(actor);
+
+            AuditEntity target = new AuditEntity();
+            target.setReferenceType(ReferenceType.DOMAIN);
+            target.setReferenceId(domain);
+            target.setAlternativeId("altid" + random);
+            target.setType("USER");
+            audit.setTarget(target);
+
+            AuditOutcome outcome = new AuditOutcome();
+            outcome.setStatus("SUCCESS");
+            audit.setOutcome(outcome);
+
+            AuditAccessPoint accessPoint = new AuditAccessPoint();
+            accessPoint.setId("id" + random);
+            accessPoint.setIpAddress("127.0.0.1");
+            accessPoint.setUserAgent("useragent" + random);
+            audit.setAccessPoint(accessPoint);
+
+            audits.add(audit);
+        }
+        return audits;
+    }
+}
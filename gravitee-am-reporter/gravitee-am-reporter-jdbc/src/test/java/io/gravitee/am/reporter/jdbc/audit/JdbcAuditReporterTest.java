@@ -25,6 +25,7 @@ import io.gravitee.am.reporter.api.audit.model.AuditAccessPoint;
 import io.gravitee.am.reporter.api.audit.model.AuditEntity;
 import io.gravitee.am.reporter.api.audit.model.AuditOutcome;
 import io.gravitee.am.reporter.jdbc.JUnitConfiguration;
+import io.gravitee.am.reporter.jdbc.dialect.DialectHelper;
 import io.gravitee.am.reporter.jdbc.tool.DatabaseUrlProvider;
 import io.reactivex.observers.TestObserver;
 import org.junit.Before;
@@ -62,6 +63,9 @@ public class JdbcAuditReporterTest {
     @Autowired
     protected ApplicationContext context;
 
+    @Autowired
+    protected DialectHelper dialectHelper;
+
     @Before
     public void init() throws Exception {
         auditReporter = new JdbcAuditReporter();
@@ -271,6 +275,9 @@ public class JdbcAuditReporterTest {
         test.assertValue(page -> page.getCurrentPage() == 0);
         test.assertValue(page -> page.getData() != null && page.getData().size() == loop);
         test.assertValue(page -> page.getData().stream().map(Audit::getId).distinct().count() == loop);
+        test.assertValue(page -> page.getData().stream().allMatch(a -> a.getActor() != null && a.getTarget() != null
+                && a.getOutcome() != null && a.getAccessPoint() != null));
+        test.assertValue(page -> page.getData().stream().allMatch(a -> a.getAccessPoint().getId().equals("id" + a.getId())));
 
         List<Audit> readAudits = new ArrayList<>();
         // test paging - read first page
@@ -296,6 +303,36 @@ public class JdbcAuditReporterTest {
         assertEquals(loop, readAudits.stream().map(Audit::getId).distinct().count());
     }
 
+    @Test
+    public void testReporter_bulk_multipleStatements() throws Exception {
+        // the outcomes table has the fewest columns (3) so it is the last one to be split into several insert statements,
+        // report twice as many audits so that at least one flush is split even if the flush interval elapses in between
+        int loop = 2 * (dialectHelper.getMaxBindParameters() / 3 + 1);
+        List<Audit> reportables = new ArrayList<>();
+        for (int i = 0; i < loop; ++i) {
+            Audit reportable = buildRandomAudit(ReferenceType.DOMAIN, "testReporter_bulk_multipleStatements");
+            reportables.add(reportable);
+            auditReporter.report(reportable);
+        }
+
+        // the flush of the audits takes longer than the bulk load interval
+        long deadline = System.currentTimeMillis() + 60000;
+        long count;
+        do {
+            waitBulkLoadFlush();
+            count = auditReporter.search(ReferenceType.DOMAIN, "testReporter_bulk_multipleStatements", new AuditReportableCriteria.Builder().build(), 0, 1)
+                    .blockingGet().getTotalCount();
+        } while (count < loop && System.currentTimeMillis() < deadline);
+        assertEquals(loop, count);
+
+        for (Audit audit : Arrays.asList(reportables.get(0), reportables.get(loop / 2), reportables.get(loop - 1))) {
+            TestObserver<Audit> testAudit = auditReporter.findById(audit.getReferenceType(), audit.getReferenceId(), audit.getId()).test();
+            testAudit.awaitTerminalEvent();
+            testAudit.assertNoErrors();
+            assertReportEqualsTo(audit, testAudit);
+        }
+    }
+
     @Test
     public void testReporter_findById() {
         List<Audit> reportables = new ArrayList<>();
@@ -62,6 +62,8 @@ public class JdbcReporterJUnitConfiguration extends JdbcReporterSpringConfigurat
 
         config.setTableSuffix("junit");
         config.setFlushInterval(1);
+        // flush on the interval only, so that a flush may exceed the bind parameters limit of the database
+        config.setBulkActions(100000);
         return config;
     }
 }
@@ -24,6 +24,7 @@ import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.common.analytics.Type;
 import io.gravitee.am.common.audit.Status;
+import io.gravitee.am.common.pool.ConnectionPoolRegistry;
 import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.common.Page;
 import io.gravitee.am.reporter.api.audit.AuditReportableCriteria;
@@ -32,6 +33,7 @@ import io.gravitee.am.reporter.api.audit.model.Audit;
 import io.gravitee.am.reporter.api.audit.model.AuditAccessPoint;
 import io.gravitee.am.reporter.api.audit.model.AuditEntity;
 import io.gravitee.am.reporter.api.audit.model.AuditOutcome;
+import io.gravitee.am.reporter.api.bulk.SharedBulkProcessor;
 import io.gravitee.am.reporter.mongodb.MongoReporterConfiguration;
 import io.gravitee.am.reporter.mongodb.audit.model.AuditAccessPointMongo;
 import io.gravitee.am.reporter.mongodb.audit.model.AuditEntityMongo;
@@ -39,12 +41,10 @@ import io.gravitee.am.reporter.mongodb.audit.model.AuditMongo;
 import io.gravitee.am.reporter.mongodb.audit.model.AuditOutcomeMongo;
 import io.gravitee.common.service.AbstractService;
 import io.gravitee.reporter.api.Reportable;
-import io.reactivex.Flowable;
+import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Observable;
 import io.reactivex.Single;
-import io.reactivex.disposables.Disposable;
-import io.reactivex.processors.PublishProcessor;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.slf4j.Logger;
@@ -56,7 +56,6 @@ import org.springframework.context.annotation.Import;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static com.mongodb.client.model.Filters.*;
@@ -86,9 +85,9 @@ public class MongoAuditReporter extends AbstractService implements AuditReporter
 
     private MongoCollection<AuditMongo> reportableCollection;
 
-    private final PublishProcessor<Audit> bulkProcessor = PublishProcessor.create();
+    private final SharedBulkProcessor.Writer<Audit> bulkWriter = this::bulk;
 
-    private Disposable disposable;
+    private volatile SharedBulkProcessor<Audit> bulkProcessor;
 
     @Override
     public Single<Page<Audit>> search(ReferenceType referenceType, String referenceId, AuditReportableCriteria criteria, int page, int size) {
@@ -124,8 +123,10 @@ public class MongoAuditReporter extends AbstractService implements AuditReporter
 
     @Override
     public void report(Reportable reportable) {
-        bulkProcessor
-                .onNext((Audit) reportable);
+        SharedBulkProcessor<Audit> processor = bulkProcessor;
+        if (processor != null) {
+            processor.push(bulkWriter, (Audit) reportable);
+        }
     }
 
     @Override
@@ -133,14 +134,15 @@ public class MongoAuditReporter extends AbstractService implements AuditReporter
         // init reportable collection
         reportableCollection = this.mongoClient.getDatabase(this.configuration.getDatabase()).getCollection(this.configuration.getReportableCollection(), AuditMongo.class);
 
-        // init bulk processor
-        disposable = bulkProcessor.buffer(
+        // init bulk processor, the reporters of the security domains connecting to the same server share the same
+        // bulk processor, each flush writes the audits of all the domains, one bulk write per domain collection
+        String key = ConnectionPoolRegistry.key("reporter-mongodb-bulk",
+                io.gravitee.am.reporter.mongodb.spring.MongoReporterConfiguration.connectionKey(configuration),
                 configuration.getFlushInterval(),
-                TimeUnit.SECONDS,
-                configuration.getBulkActions())
-                .flatMap(this::bulk)
-                .doOnError(throwable -> logger.error("An error occurs while indexing data into MongoDB", throwable))
-                .subscribe();
+                configuration.getBulkActions());
+        bulkProcessor = ConnectionPoolRegistry.acquire(key,
+                () -> new SharedBulkProcessor<>(configuration.getFlushInterval(), configuration.getBulkActions()),
+                SharedBulkProcessor::dispose);
     }
 
     @Override
@@ -152,16 +154,16 @@ public class MongoAuditReporter extends AbstractService implements AuditReporter
     protected void doStop() throws Exception {
         super.doStop();
         try {
-            if (!disposable.isDisposed()) {
-                disposable.dispose();
+            // release the bulk processor first, the client must remain open while it is in use
+            SharedBulkProcessor<Audit> processor = bulkProcessor;
+            bulkProcessor = null;
+            if (processor != null) {
+                ConnectionPoolRegistry.release(processor);
             }
 
-            // we wait until the bulk processor has stopped
-            while (bulkProcessor.hasSubscribers()) {
-                logger.debug("The bulk processor is processing data, wait.");
+            if (!ConnectionPoolRegistry.release(mongoClient)) {
+                mongoClient.close();
             }
-
-            mongoClient.close();
         } catch (Exception ex) {
             logger.error("Failed to close mongoDB client", ex);
         }
@@ -223,12 +225,13 @@ public class MongoAuditReporter extends AbstractService implements AuditReporter
         return Observable.fromPublisher(reportableCollection.countDocuments(query)).first(0l).map(data -> Collections.singletonMap("data", data));
     }
 
-    private Flowable bulk(List<Audit> audits) {
+    private Completable bulk(List<Audit> audits) {
         if (audits == null || audits.isEmpty()) {
-            return Flowable.empty();
+            return Completable.complete();
         }
 
-        return Flowable.fromPublisher(reportableCollection.bulkWrite(this.convert(audits)));
+        return Completable.fromPublisher(reportableCollection.bulkWrite(this.convert(audits)))
+                .doOnError(throwable -> logger.error("An error occurs while indexing data into MongoDB", throwable));
     }
 
     private Bson query(ReferenceType referenceType, String referenceId, AuditReportableCriteria criteria) {
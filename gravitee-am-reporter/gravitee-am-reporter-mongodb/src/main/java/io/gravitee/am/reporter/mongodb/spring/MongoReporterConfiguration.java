@@ -22,6 +22,7 @@ import com.mongodb.WriteConcern;
 import com.mongodb.connection.ClusterSettings;
 import com.mongodb.reactivestreams.client.MongoClient;
 import com.mongodb.reactivestreams.client.MongoClients;
+import io.gravitee.am.common.pool.ConnectionPoolRegistry;
 import org.bson.codecs.configuration.CodecRegistry;
 import org.bson.codecs.pojo.PojoCodecProvider;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,8 +43,33 @@ public class MongoReporterConfiguration {
     @Autowired
     private io.gravitee.am.reporter.mongodb.MongoReporterConfiguration configuration;
 
-    @Bean
+    @Bean(destroyMethod = "")
     public MongoClient mongoClient() {
+        // the reporters of the security domains connecting to the same server share the same client
+        return ConnectionPoolRegistry.acquire(connectionKey(configuration), this::createMongoClient, MongoClient::close);
+    }
+
+    /**
+     * @param configuration the reporter configuration
+     * @return the key identifying the MongoDB connection settings of the reporter
+     */
+    public static String connectionKey(io.gravitee.am.reporter.mongodb.MongoReporterConfiguration configuration) {
+        if ((configuration.getUri() != null) && (!configuration.getUri().isEmpty())) {
+            return ConnectionPoolRegistry.key("reporter-mongodb", configuration.getUri());
+        }
+
+        if (configuration.isEnableCredentials()) {
+            return ConnectionPoolRegistry.key("reporter-mongodb",
+                    configuration.getHost(),
+                    configuration.getPort(),
+                    configuration.getUsernameCredentials(),
+                    configuration.getDatabaseCredentials(),
+                    configuration.getPasswordCredentials());
+        }
+        return ConnectionPoolRegistry.key("reporter-mongodb", configuration.getHost(), configuration.getPort());
+    }
+
+    private MongoClient createMongoClient() {
         // Client settings
         com.mongodb.MongoClientSettings.Builder builder = com.mongodb.MongoClientSettings.builder();
         builder.writeConcern(WriteConcern.ACKNOWLEDGED);
@@ -17,6 +17,7 @@ package io.gravitee.am.repository.management.api;
 
 import io.gravitee.am.model.common.event.Event;
 import io.gravitee.am.repository.common.CrudRepository;
+import io.reactivex.Flowable;
 import io.reactivex.Single;
 
 import java.util.List;
@@ -29,4 +30,22 @@ public interface EventRepository extends CrudRepository<Event, String> {
 
     Single<List<Event>> findByTimeFrame(long from, long to);
 
+    /**
+     * Indicates if the repository is able to push the events through {@link #watch(long)}.
+     * If not, callers must rely on {@link #findByTimeFrame(long, long)} only.
+     *
+     * @return <code>true</code> if the events can be watched
+     */
+    boolean supportsWatch();
+
+    /**
+     * Stream of the events as soon as they are stored by the repository, starting from the events stored since
+     * the given time so that nothing is lost between the last synchronization and the opening of the stream.
+     * Must only be called if {@link #supportsWatch()} returns <code>true</code>.
+     *
+     * @param from time (in milliseconds) from which the events are pushed
+     * @return the pushed events
+     */
+    Flowable<Event> watch(long from);
+
 }
@@ -26,6 +26,7 @@ import org.springframework.data.relational.core.sql.SqlIdentifier;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -340,4 +341,30 @@ public abstract class AbstractDialectHelper implements DatabaseDialectHelper {
                 .append(" a.domain = :domain ")
                 .append(" AND a.settings_client_id = :clientId").toString();
     }
+
+    @Override
+    public String buildBulkInsertQuery(String table, List<String> columns, int rows) {
+        StringBuilder builder = new StringBuilder("INSERT INTO ")
+                .append(table)
+                .append(" (").append(String.join(", ", columns)).append(") VALUES ");
+        for (int row = 0; row < rows; row++) {
+            builder.append(row == 0 ? "(" : ", (");
+            for (int col = 0; col < columns.size(); col++) {
+                builder.append(col == 0 ? ":" : ", :").append(columns.get(col)).append("_").append(row);
+            }
+            builder.append(")");
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public int getMaxBindParameters() {
+        // PostgreSQL protocol limit, MySQL & MariaDB accept up to 65535 parameters
+        return 32767;
+    }
+
+    @Override
+    public String buildDeleteExpiredQuery(String table, int limit) {
+        return "DELETE FROM " + table + " WHERE id IN (SELECT id FROM " + table + " WHERE expire_at < :now LIMIT " + limit + ")";
+    }
 }
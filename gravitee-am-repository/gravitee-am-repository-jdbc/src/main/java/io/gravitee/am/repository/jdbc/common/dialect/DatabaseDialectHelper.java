@@ -23,6 +23,7 @@ import io.reactivex.Flowable;
 import org.springframework.data.r2dbc.core.DatabaseClient;
 import org.springframework.data.relational.core.sql.SqlIdentifier;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -50,4 +51,30 @@ public interface DatabaseDialectHelper {
     String buildCountApplicationsQuery(boolean wildcard);
 
     String buildFindApplicationByDomainAndClient();
+
+    /**
+     * Build a multi-row INSERT statement, the value of the column <code>col</code> for the row <code>n</code>
+     * has to be bound to the parameter named <code>col_n</code>.
+     *
+     * @param table the table name
+     * @param columns the column names
+     * @param rows the number of rows inserted by the statement
+     * @return the INSERT statement
+     */
+    String buildBulkInsertQuery(String table, List<String> columns, int rows);
+
+    /**
+     * @return the maximum number of bind parameters accepted by a single statement
+     */
+    int getMaxBindParameters();
+
+    /**
+     * Build a DELETE statement removing at most <code>limit</code> rows whose <code>expire_at</code> column
+     * is before the <code>:now</code> parameter.
+     *
+     * @param table the table name
+     * @param limit the maximum number of rows deleted by the statement
+     * @return the DELETE statement
+     */
+    String buildDeleteExpiredQuery(String table, int limit);
 }
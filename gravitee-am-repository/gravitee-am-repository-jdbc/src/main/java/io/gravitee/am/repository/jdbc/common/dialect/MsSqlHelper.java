@@ -73,4 +73,15 @@ public class MsSqlHelper extends AbstractDialectHelper {
         return " ORDER BY "+field+" OFFSET "+ (page * size) +" ROWS FETCH NEXT " + size + " ROWS ONLY ";
     }
 
+    @Override
+    public int getMaxBindParameters() {
+        // SQL Server rejects requests with more than 2100 parameters
+        return 2000;
+    }
+
+    @Override
+    public String buildDeleteExpiredQuery(String table, int limit) {
+        return "DELETE TOP (" + limit + ") FROM " + table + " WHERE expire_at < :now";
+    }
+
 }
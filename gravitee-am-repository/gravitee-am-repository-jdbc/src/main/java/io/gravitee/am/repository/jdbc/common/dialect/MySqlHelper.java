@@ -75,4 +75,10 @@ public class MySqlHelper extends AbstractDialectHelper {
         return " ORDER BY " + field + " LIMIT " + size + " OFFSET " + (page * size);
     }
 
+    @Override
+    public String buildDeleteExpiredQuery(String table, int limit) {
+        // MySQL doesn't support LIMIT in a subquery targeting the deleted table
+        return "DELETE FROM " + table + " WHERE expire_at < :now LIMIT " + limit;
+    }
+
 }
@@ -0,0 +1,226 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.common.purge;
+
+import io.gravitee.am.common.metrics.Meters;
+import io.gravitee.am.repository.jdbc.common.dialect.DatabaseDialectHelper;
+import io.reactivex.Single;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static java.time.ZoneOffset.UTC;
+import static reactor.adapter.rxjava.RxJava2Adapter.monoToSingle;
+
+/**
+ * Periodically delete the expired rows of the tables having an <code>expire_at</code> column
+ * (MongoDB relies on TTL indexes to do so).
+ *
+ * Rows are deleted by chunks of <code>batchSize</code> rows and only one node of the cluster runs the purge at a time:
+ * the node holding the lease stored into the <code>purge_locks</code> table.
+ *
+ * @author GraviteeSource Team
+ */
+public class PurgeService implements Runnable, InitializingBean, DisposableBean {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PurgeService.class);
+    private static final String LOCK_TABLE = "purge_locks";
+    private static final long RELEASE_TIMEOUT = 5;
+
+    private final String scope;
+    private final List<String> tables;
+    private final String owner = UUID.randomUUID().toString();
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final Map<String, PurgeStatistics> statistics = new ConcurrentHashMap<>();
+    private final Meters meters;
+
+    @Autowired
+    private DatabaseClient dbClient;
+
+    @Autowired
+    private DatabaseDialectHelper databaseDialectHelper;
+
+    @Autowired
+    private Environment environment;
+
+    private ThreadPoolTaskScheduler scheduler;
+    private int batchSize;
+    private long window;
+    private long lease;
+
+    public PurgeService(String scope, List<String> tables) {
+        this.scope = scope;
+        this.tables = tables;
+        this.meters = new Meters("scope", scope);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        final String prefix = scope + ".jdbc.purge.";
+        if (!environment.getProperty(prefix + "enabled", Boolean.class, true)) {
+            LOGGER.info("Purge of the expired rows is disabled for {} database", scope);
+            return;
+        }
+
+        final String cron = environment.getProperty(prefix + "cron", "0 0 */1 * * *");
+        batchSize = Math.max(1, environment.getProperty(prefix + "batchSize", Integer.class, 1000));
+        window = Math.max(0, environment.getProperty(prefix + "window", Long.class, 0L));
+        lease = Math.max(1, environment.getProperty(prefix + "lease", Long.class, 3600L));
+
+        tables.forEach(table -> meters.tagged("table", table)
+                .counter("am.purge.runs", statistics(table), PurgeStatistics::getRuns)
+                .counter("am.purge.rows", statistics(table), PurgeStatistics::getPurgedRows)
+                .counter("am.purge.duration.millis", statistics(table), PurgeStatistics::getDuration)
+                .gauge("am.purge.last.rows", statistics(table), PurgeStatistics::getLastPurgedRows)
+                .gauge("am.purge.last.duration.millis", statistics(table), PurgeStatistics::getLastDuration));
+
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("purge-" + scope + "-");
+        scheduler.initialize();
+        scheduler.schedule(this, new CronTrigger(cron));
+        LOGGER.info("Purge of the expired rows of {} database scheduled with cron [{}]", scope, cron);
+    }
+
+    @Override
+    public void destroy() {
+        meters.close();
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                // let another node take over the purge without waiting for the lease to expire
+                releaseLease().timeout(RELEASE_TIMEOUT, TimeUnit.SECONDS).blockingGet();
+            } catch (Exception ex) {
+                LOGGER.warn("Unable to release the purge lease of {} database", scope, ex);
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            LOGGER.debug("Purge of {} database already in progress", scope);
+            return;
+        }
+
+        try {
+            if (!acquireLease().blockingGet()) {
+                LOGGER.debug("Purge of {} database is handled by another node", scope);
+                return;
+            }
+
+            final LocalDateTime expiredBefore = LocalDateTime.now(UTC).minusSeconds(window);
+            for (String table : tables) {
+                final long startTime = System.currentTimeMillis();
+                final long purged = purge(table, expiredBefore).blockingGet();
+                final long duration = System.currentTimeMillis() - startTime;
+                statistics(table).record(purged, duration);
+                LOGGER.info("{} expired rows purged from {} in {} ms", purged, table, duration);
+            }
+        } catch (Exception ex) {
+            LOGGER.error("An error occurs while purging the expired rows of {} database", scope, ex);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * Delete the expired rows of the table, chunk by chunk, until a chunk deletes less than <code>batchSize</code> rows.
+     *
+     * @param table the table to purge
+     * @param expiredBefore the rows expired before this date are deleted
+     * @return the number of deleted rows
+     */
+    Single<Long> purge(String table, LocalDateTime expiredBefore) {
+        final String query = databaseDialectHelper.buildDeleteExpiredQuery(table, batchSize);
+        return Single.defer(() -> monoToSingle(dbClient.execute(query)
+                .bind("now", expiredBefore)
+                .fetch().rowsUpdated()))
+                .repeat()
+                .takeUntil(deleted -> deleted < batchSize)
+                .reduce(0L, (total, deleted) -> total + deleted);
+    }
+
+    /**
+     * Acquire or renew the purge lease of this node.
+     *
+     * @return true if this node holds the lease
+     */
+    Single<Boolean> acquireLease() {
+        final LocalDateTime now = LocalDateTime.now(UTC);
+        final LocalDateTime expireAt = now.plusSeconds(lease);
+        final String name = scope;
+
+        return monoToSingle(dbClient.execute("UPDATE " + LOCK_TABLE + " SET owner = :owner, expire_at = :expireAt" +
+                " WHERE name = :name AND (owner = :owner OR expire_at < :now)")
+                .bind("owner", owner)
+                .bind("expireAt", expireAt)
+                .bind("name", name)
+                .bind("now", now)
+                .fetch().rowsUpdated())
+                .flatMap(updated -> {
+                    if (updated > 0) {
+                        return Single.just(true);
+                    }
+                    // first run, the lock row may not exist yet
+                    return monoToSingle(dbClient.execute("INSERT INTO " + LOCK_TABLE + " (name, owner, expire_at) VALUES (:name, :owner, :expireAt)")
+                            .bind("name", name)
+                            .bind("owner", owner)
+                            .bind("expireAt", expireAt)
+                            .fetch().rowsUpdated())
+                            .map(inserted -> inserted > 0)
+                            // another node holds the lock
+                            .onErrorReturnItem(false);
+                });
+    }
+
+    /**
+     * Release the purge lease if this node holds it.
+     *
+     * @return true if the lease was held by this node
+     */
+    Single<Boolean> releaseLease() {
+        // expire the lease in the past, some databases store the dates without fraction of second
+        return monoToSingle(dbClient.execute("UPDATE " + LOCK_TABLE + " SET expire_at = :expireAt WHERE name = :name AND owner = :owner")
+                .bind("expireAt", LocalDateTime.now(UTC).minusSeconds(1))
+                .bind("name", scope)
+                .bind("owner", owner)
+                .fetch().rowsUpdated())
+                .map(updated -> updated > 0);
+    }
+
+    private PurgeStatistics statistics(String table) {
+        return statistics.computeIfAbsent(table, key -> new PurgeStatistics());
+    }
+
+    public Map<String, PurgeStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+}
@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.common.purge;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Purge metrics of a table.
+ *
+ * @author GraviteeSource Team
+ */
+public class PurgeStatistics {
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder purgedRows = new LongAdder();
+    private final LongAdder duration = new LongAdder();
+    private final AtomicLong lastPurgedRows = new AtomicLong();
+    private final AtomicLong lastDuration = new AtomicLong();
+
+    void record(long purged, long durationMillis) {
+        runs.increment();
+        purgedRows.add(purged);
+        duration.add(durationMillis);
+        lastPurgedRows.set(purged);
+        lastDuration.set(durationMillis);
+    }
+
+    public long getRuns() {
+        return runs.sum();
+    }
+
+    public long getPurgedRows() {
+        return purgedRows.sum();
+    }
+
+    /**
+     * @return the cumulated purge duration in milliseconds
+     */
+    public long getDuration() {
+        return duration.sum();
+    }
+
+    public long getLastPurgedRows() {
+        return lastPurgedRows.get();
+    }
+
+    /**
+     * @return the duration of the last purge in milliseconds
+     */
+    public long getLastDuration() {
+        return lastDuration.get();
+    }
+}
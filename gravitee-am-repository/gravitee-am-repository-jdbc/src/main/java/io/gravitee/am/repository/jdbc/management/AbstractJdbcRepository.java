@@ -17,8 +17,10 @@ package io.gravitee.am.repository.jdbc.management;
 
 import com.github.dozermapper.core.DozerBeanMapperBuilder;
 import com.github.dozermapper.core.Mapper;
+import io.gravitee.am.common.jdbc.BulkInsert;
 import io.gravitee.am.repository.jdbc.management.api.model.mapper.LocalDateConverter;
 import io.gravitee.am.repository.jdbc.common.dialect.DatabaseDialectHelper;
+import io.reactivex.Completable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,8 +30,12 @@ import org.springframework.data.relational.core.sql.SqlIdentifier;
 import org.springframework.transaction.ReactiveTransactionManager;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
+import static reactor.adapter.rxjava.RxJava2Adapter.monoToCompletable;
+
 /**
  * @author Eric LELEU (eric.leleu at graviteesource.com)
  * @author GraviteeSource Team
@@ -58,4 +64,17 @@ public abstract class AbstractJdbcRepository {
         spec.put(SqlIdentifier.quoted(name), value);
         return spec;
     }
+
+    /**
+     * Insert the rows with multi-row INSERT statements, each statement binding at most
+     * {@link DatabaseDialectHelper#getMaxBindParameters()} parameters.
+     *
+     * @param table the table name
+     * @param columns the column names with their type (used to bind null values), in the order of the row values
+     * @param rows the values of the rows to insert
+     */
+    protected Completable bulkInsert(String table, LinkedHashMap<String, Class<?>> columns, List<Object[]> rows) {
+        return monoToCompletable(BulkInsert.execute(dbClient, databaseDialectHelper::buildBulkInsertQuery,
+                databaseDialectHelper.getMaxBindParameters(), table, columns, rows));
+    }
 }
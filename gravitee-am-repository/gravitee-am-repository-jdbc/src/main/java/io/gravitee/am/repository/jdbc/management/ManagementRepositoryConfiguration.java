@@ -18,6 +18,7 @@ package io.gravitee.am.repository.jdbc.management;
 import io.gravitee.am.repository.jdbc.common.AbstractRepositoryConfiguration;
 import io.gravitee.am.repository.jdbc.common.ConnectionFactoryProvider;
 import io.gravitee.am.repository.jdbc.common.dialect.DatabaseDialectHelper;
+import io.gravitee.am.repository.jdbc.common.purge.PurgeService;
 import io.gravitee.am.repository.jdbc.exceptions.RepositoryInitializationException;
 import io.r2dbc.spi.ConnectionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +29,7 @@ import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.r2dbc.dialect.R2dbcDialect;
 import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 /**
@@ -55,6 +57,11 @@ public class ManagementRepositoryConfiguration extends AbstractRepositoryConfigu
         return new ConnectionFactoryProvider(environment, "management");
     }
 
+    @Bean
+    public PurgeService purgeService() {
+        return new PurgeService("management", Arrays.asList("login_attempts", "uma_permission_ticket"));
+    }
+
     @Override
     @Bean
     public ConnectionFactory connectionFactory() {
@@ -22,6 +22,7 @@ import io.gravitee.am.repository.jdbc.management.api.model.JdbcEvent;
 import io.gravitee.am.repository.jdbc.management.api.spring.SpringEventRepository;
 import io.gravitee.am.repository.management.api.EventRepository;
 import io.reactivex.Completable;
+import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -71,6 +72,17 @@ public class JdbcEventRepository extends AbstractJdbcRepository implements Event
                 .doOnError(error -> LOGGER.error("unable to retrieve the events with time frame [{} - {}]", from, to, error));
     }
 
+    @Override
+    public boolean supportsWatch() {
+        // events are not pushed by the relational databases, consumers have to poll using findByTimeFrame
+        return false;
+    }
+
+    @Override
+    public Flowable<Event> watch(long from) {
+        return Flowable.error(new UnsupportedOperationException("Events streaming is not supported by the JDBC repository"));
+    }
+
     @Override
     public Maybe<Event> findById(String id) {
         LOGGER.debug("findById({})", id);
@@ -18,6 +18,7 @@ package io.gravitee.am.repository.jdbc.oauth2;
 import io.gravitee.am.repository.jdbc.common.AbstractRepositoryConfiguration;
 import io.gravitee.am.repository.jdbc.common.ConnectionFactoryProvider;
 import io.gravitee.am.repository.jdbc.common.dialect.DatabaseDialectHelper;
+import io.gravitee.am.repository.jdbc.common.purge.PurgeService;
 import io.gravitee.am.repository.jdbc.exceptions.RepositoryInitializationException;
 import io.r2dbc.spi.ConnectionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -28,6 +29,7 @@ import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.r2dbc.dialect.R2dbcDialect;
 import org.springframework.data.r2dbc.repository.config.EnableR2dbcRepositories;
 
+import java.util.Arrays;
 import java.util.Optional;
 
 /**
@@ -53,6 +55,11 @@ public class OAuth2RepositoryConfiguration extends AbstractRepositoryConfigurati
         return new ConnectionFactoryProvider(environment, "oauth2");
     }
 
+    @Bean
+    public PurgeService purgeService() {
+        return new PurgeService("oauth2", Arrays.asList("access_tokens", "refresh_tokens", "authorization_codes", "request_objects"));
+    }
+
     @Bean
     @Override
     public ConnectionFactory connectionFactory() {
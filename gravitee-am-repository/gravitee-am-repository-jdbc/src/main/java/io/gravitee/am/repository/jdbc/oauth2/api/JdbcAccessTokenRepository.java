@@ -27,6 +27,8 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 import static java.time.ZoneOffset.UTC;
@@ -40,6 +42,19 @@ import static reactor.adapter.rxjava.RxJava2Adapter.*;
  */
 @Repository
 public class JdbcAccessTokenRepository extends AbstractJdbcRepository implements AccessTokenRepository {
+    private static final LinkedHashMap<String, Class<?>> COLUMNS = new LinkedHashMap<>();
+    static {
+        COLUMNS.put("id", String.class);
+        COLUMNS.put("token", String.class);
+        COLUMNS.put("domain", String.class);
+        COLUMNS.put("client", String.class);
+        COLUMNS.put("subject", String.class);
+        COLUMNS.put("created_at", LocalDateTime.class);
+        COLUMNS.put("expire_at", LocalDateTime.class);
+        COLUMNS.put("refresh_token", String.class);
+        COLUMNS.put("authorization_code", String.class);
+    }
+
     @Autowired
     private SpringAccessTokenRepository accessTokenRepository;
 
@@ -86,10 +101,26 @@ public class JdbcAccessTokenRepository extends AbstractJdbcRepository implements
 
     @Override
     public Completable bulkWrite(List<AccessToken> accessTokens) {
-        return Flowable.fromIterable(accessTokens)
-                .flatMap(accessToken -> create(accessToken).toFlowable())
-                .ignoreElements()
-                .doOnError(error -> LOGGER.error("Unable to bulk load access tokens", error));
+        LOGGER.debug("bulkWrite({} access tokens)", accessTokens.size());
+        return Completable.defer(() -> {
+            final List<Object[]> rows = new ArrayList<>(accessTokens.size());
+            for (AccessToken accessToken : accessTokens) {
+                accessToken.setId(accessToken.getId() == null ? RandomString.generate() : accessToken.getId());
+                JdbcAccessToken jdbcToken = toJdbcEntity(accessToken);
+                rows.add(new Object[]{
+                    jdbcToken.getId(),
+                    jdbcToken.getToken(),
+                    jdbcToken.getDomain(),
+                    jdbcToken.getClient(),
+                    jdbcToken.getSubject(),
+                    jdbcToken.getCreatedAt(),
+                    jdbcToken.getExpireAt(),
+                    jdbcToken.getRefreshToken(),
+                    jdbcToken.getAuthorizationCode()
+                });
+            }
+            return bulkInsert("access_tokens", COLUMNS, rows);
+        }).doOnError(error -> LOGGER.error("Unable to bulk load access tokens", error));
     }
 
     @Override
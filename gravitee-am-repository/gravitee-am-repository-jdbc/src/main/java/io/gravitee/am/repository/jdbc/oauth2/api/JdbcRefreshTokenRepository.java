@@ -22,7 +22,6 @@ import io.gravitee.am.repository.jdbc.oauth2.api.spring.SpringRefreshTokenReposi
 import io.gravitee.am.repository.oauth2.api.RefreshTokenRepository;
 import io.gravitee.am.repository.oauth2.model.RefreshToken;
 import io.reactivex.Completable;
-import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,6 +29,8 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 
 import static java.time.ZoneOffset.UTC;
@@ -45,6 +46,17 @@ import static reactor.adapter.rxjava.RxJava2Adapter.monoToSingle;
 @Repository
 public class JdbcRefreshTokenRepository extends AbstractJdbcRepository implements RefreshTokenRepository {
 
+    private static final LinkedHashMap<String, Class<?>> COLUMNS = new LinkedHashMap<>();
+    static {
+        COLUMNS.put("id", String.class);
+        COLUMNS.put("token", String.class);
+        COLUMNS.put("domain", String.class);
+        COLUMNS.put("client", String.class);
+        COLUMNS.put("subject", String.class);
+        COLUMNS.put("created_at", LocalDateTime.class);
+        COLUMNS.put("expire_at", LocalDateTime.class);
+    }
+
     @Autowired
     private SpringRefreshTokenRepository refreshTokenRepository;
 
@@ -81,10 +93,24 @@ public class JdbcRefreshTokenRepository extends AbstractJdbcRepository implement
 
     @Override
     public Completable bulkWrite(List<RefreshToken> refreshTokens) {
-        return Flowable.fromIterable(refreshTokens)
-                .flatMap(refreshToken -> create(refreshToken).toFlowable())
-                .ignoreElements()
-                .doOnError(error -> LOGGER.error("Unable to bulk load refresh tokens", error));
+        LOGGER.debug("bulkWrite({} refresh tokens)", refreshTokens.size());
+        return Completable.defer(() -> {
+            final List<Object[]> rows = new ArrayList<>(refreshTokens.size());
+            for (RefreshToken refreshToken : refreshTokens) {
+                refreshToken.setId(refreshToken.getId() == null ? RandomString.generate() : refreshToken.getId());
+                JdbcRefreshToken jdbcToken = toJdbcEntity(refreshToken);
+                rows.add(new Object[]{
+                    jdbcToken.getId(),
+                    jdbcToken.getToken(),
+                    jdbcToken.getDomain(),
+                    jdbcToken.getClient(),
+                    jdbcToken.getSubject(),
+                    jdbcToken.getCreatedAt(),
+                    jdbcToken.getExpireAt()
+                });
+            }
+            return bulkInsert("refresh_tokens", COLUMNS, rows);
+        }).doOnError(error -> LOGGER.error("Unable to bulk load refresh tokens", error));
     }
 
     @Override
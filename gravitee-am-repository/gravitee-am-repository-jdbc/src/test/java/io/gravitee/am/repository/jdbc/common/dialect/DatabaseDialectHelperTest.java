@@ -122,4 +122,18 @@ public class DatabaseDialectHelperTest {
         assertEquals("binding should contains email", "test@acme.fr", search.getBinding().get("email"));
         assertEquals("binding should contains email2", "test2@acme.fr", search.getBinding().get("email_c0"));
     }
+
+    @Test
+    public void shouldBuildDeleteExpiredQuery() {
+        R2dbcDialect dialect = Mockito.mock(R2dbcDialect.class);
+
+        assertEquals("DELETE FROM access_tokens WHERE id IN (SELECT id FROM access_tokens WHERE expire_at < :now LIMIT 100)",
+                new PostgresqlHelper(dialect, null).buildDeleteExpiredQuery("access_tokens", 100));
+        assertEquals("DELETE FROM access_tokens WHERE expire_at < :now LIMIT 100",
+                new MySqlHelper(dialect, null).buildDeleteExpiredQuery("access_tokens", 100));
+        assertEquals("DELETE FROM access_tokens WHERE expire_at < :now LIMIT 100",
+                new MariadbHelper(dialect, null).buildDeleteExpiredQuery("access_tokens", 100));
+        assertEquals("DELETE TOP (100) FROM access_tokens WHERE expire_at < :now",
+                new MsSqlHelper(dialect, null).buildDeleteExpiredQuery("access_tokens", 100));
+    }
 }
@@ -0,0 +1,138 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.jdbc.common.purge;
+
+import io.gravitee.am.common.utils.RandomString;
+import io.gravitee.am.repository.jdbc.common.dialect.DatabaseDialectHelper;
+import io.gravitee.am.repository.oauth2.AbstractOAuthTest;
+import io.gravitee.am.repository.oauth2.api.AccessTokenRepository;
+import io.gravitee.am.repository.oauth2.model.AccessToken;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.r2dbc.core.DatabaseClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import static java.time.ZoneOffset.UTC;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static reactor.adapter.rxjava.RxJava2Adapter.monoToSingle;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class PurgeServiceTest extends AbstractOAuthTest {
+
+    @Autowired
+    private DatabaseClient dbClient;
+
+    @Autowired
+    private DatabaseDialectHelper databaseDialectHelper;
+
+    @Autowired
+    private AccessTokenRepository accessTokenRepository;
+
+    @Test
+    public void shouldHoldLease_singleNode() {
+        final String scope = "lease-" + RandomString.generate();
+        PurgeService node1 = purgeService(scope, 1000);
+        PurgeService node2 = purgeService(scope, 1000);
+
+        assertTrue(node1.acquireLease().blockingGet());
+        assertFalse(node2.acquireLease().blockingGet());
+        // the lease is renewed by its owner
+        assertTrue(node1.acquireLease().blockingGet());
+        assertFalse(node2.acquireLease().blockingGet());
+    }
+
+    @Test
+    public void shouldTakeOverExpiredLease() {
+        final String scope = "lease-" + RandomString.generate();
+        PurgeService node1 = purgeService(scope, 1000);
+        PurgeService node2 = purgeService(scope, 1000);
+
+        assertTrue(node1.acquireLease().blockingGet());
+        monoToSingle(dbClient.execute("UPDATE purge_locks SET expire_at = :expireAt WHERE name = :name")
+                .bind("expireAt", LocalDateTime.now(UTC).minusMinutes(1))
+                .bind("name", scope)
+                .fetch().rowsUpdated()).blockingGet();
+
+        assertTrue(node2.acquireLease().blockingGet());
+        assertFalse(node1.acquireLease().blockingGet());
+    }
+
+    @Test
+    public void shouldReleaseLease() {
+        final String scope = "lease-" + RandomString.generate();
+        PurgeService node1 = purgeService(scope, 1000);
+        PurgeService node2 = purgeService(scope, 1000);
+
+        assertTrue(node1.acquireLease().blockingGet());
+        // only the owner releases the lease
+        assertFalse(node2.releaseLease().blockingGet());
+        assertFalse(node2.acquireLease().blockingGet());
+
+        assertTrue(node1.releaseLease().blockingGet());
+        assertTrue(node2.acquireLease().blockingGet());
+    }
+
+    @Test
+    public void shouldPurgeExpiredRows_byChunks() {
+        final List<AccessToken> tokens = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            tokens.add(accessToken(Date.from(Instant.now().minus(1, ChronoUnit.HOURS))));
+        }
+        tokens.add(accessToken(Date.from(Instant.now().plus(1, ChronoUnit.HOURS))));
+        accessTokenRepository.bulkWrite(tokens).blockingAwait();
+
+        // 5 expired rows with chunks of 2 rows : 3 DELETE statements
+        PurgeService purgeService = purgeService("oauth2", 2);
+        assertEquals(Long.valueOf(5), purgeService.purge("access_tokens", LocalDateTime.now(UTC)).blockingGet());
+
+        assertEquals(Long.valueOf(1), monoToSingle(dbClient.execute("SELECT count(*) FROM access_tokens")
+                .as(Long.class)
+                .fetch()
+                .first()).blockingGet());
+    }
+
+    private PurgeService purgeService(String scope, int batchSize) {
+        PurgeService purgeService = new PurgeService(scope, Collections.singletonList("access_tokens"));
+        ReflectionTestUtils.setField(purgeService, "dbClient", dbClient);
+        ReflectionTestUtils.setField(purgeService, "databaseDialectHelper", databaseDialectHelper);
+        ReflectionTestUtils.setField(purgeService, "batchSize", batchSize);
+        ReflectionTestUtils.setField(purgeService, "lease", 3600L);
+        return purgeService;
+    }
+
+    private static AccessToken accessToken(Date expireAt) {
+        AccessToken token = new AccessToken();
+        token.setId(RandomString.generate());
+        token.setToken(RandomString.generate());
+        token.setDomain("domain");
+        token.setClient("client");
+        token.setCreatedAt(new Date());
+        token.setExpireAt(expireAt);
+        return token;
+    }
+}
@@ -15,6 +15,8 @@
  */
 package io.gravitee.am.repository.mongodb.management;
 
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.changestream.FullDocument;
 import com.mongodb.reactivestreams.client.MongoCollection;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.common.event.Action;
@@ -24,15 +26,18 @@ import io.gravitee.am.common.event.Type;
 import io.gravitee.am.repository.management.api.EventRepository;
 import io.gravitee.am.repository.mongodb.management.internal.model.EventMongo;
 import io.reactivex.*;
+import org.bson.BsonTimestamp;
 import org.bson.Document;
 import org.bson.conversions.Bson;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static com.mongodb.client.model.Filters.*;
 
@@ -62,6 +67,24 @@ public class MongoEventRepository extends AbstractManagementMongoRepository impl
         return Flowable.fromPublisher(eventsCollection.find(and(filters))).map(this::convert).toList();
     }
 
+    @Override
+    public boolean supportsWatch() {
+        return true;
+    }
+
+    @Override
+    public Flowable<Event> watch(long from) {
+        // change streams require a replica set (or a sharded cluster), the stream fails otherwise
+        List<Bson> pipeline = Collections.singletonList(Aggregates.match(in("operationType", "insert", "replace")));
+        // replay the operations done since the given time (the cluster time has a precision of one second)
+        BsonTimestamp startAt = new BsonTimestamp((int) TimeUnit.MILLISECONDS.toSeconds(from), 0);
+        return Flowable.fromPublisher(eventsCollection.watch(pipeline, EventMongo.class)
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .startAtOperationTime(startAt))
+                .filter(changeStreamDocument -> changeStreamDocument.getFullDocument() != null)
+                .map(changeStreamDocument -> convert(changeStreamDocument.getFullDocument()));
+    }
+
     @Override
     public Maybe<Event> findById(String id) {
         return Observable.fromPublisher(eventsCollection.find(eq(FIELD_ID, id)).first()).map(this::convert).firstElement();
@@ -0,0 +1,65 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.repository.mongodb.management;
+
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.Type;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.event.Event;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.repository.management.AbstractManagementTest;
+import io.gravitee.am.repository.management.api.EventRepository;
+import io.reactivex.observers.BaseTestConsumer;
+import io.reactivex.subscribers.TestSubscriber;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class MongoEventRepositoryTest extends AbstractManagementTest {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Test
+    public void testWatch() throws Exception {
+        Assert.assertTrue(eventRepository.supportsWatch());
+
+        // the event is stored before the stream is opened, it must be replayed from the given time
+        Event event = new Event();
+        event.setType(Type.DOMAIN);
+        event.setPayload(new Payload("domain-id", ReferenceType.DOMAIN, "domain-id", Action.UPDATE));
+        event.setCreatedAt(new Date());
+        event.setUpdatedAt(event.getCreatedAt());
+        Event eventCreated = eventRepository.create(event).blockingGet();
+
+        TestSubscriber<Event> testSubscriber = eventRepository.watch(event.getCreatedAt().getTime() - 1000).test();
+
+        testSubscriber.awaitCount(1, BaseTestConsumer.TestWaitStrategy.SLEEP_10MS, TimeUnit.SECONDS.toMillis(10));
+        testSubscriber.assertNoErrors();
+        testSubscriber.assertValueCount(1);
+        testSubscriber.assertValue(e -> e.getId().equals(eventCreated.getId()));
+        testSubscriber.assertValue(e -> e.getType().equals(Type.DOMAIN));
+        testSubscriber.assertValue(e -> e.getPayload().getAction().equals(Action.UPDATE));
+        testSubscriber.assertValue(e -> e.getPayload().getReferenceId().equals("domain-id"));
+        testSubscriber.dispose();
+    }
+}
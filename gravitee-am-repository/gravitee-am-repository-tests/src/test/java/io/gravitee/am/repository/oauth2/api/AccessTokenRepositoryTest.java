@@ -22,7 +22,12 @@ import io.reactivex.observers.TestObserver;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -237,4 +242,30 @@ public class AccessTokenRepositoryTest extends AbstractOAuthTest {
         assertNotNull(accessTokenRepository.findByToken("my-token2").blockingGet());
     }
 
+    @Test
+    public void shouldBulkWrite_multipleStatements() {
+        // more rows than the highest bind parameters limit of the supported databases (32767 on PostgreSQL),
+        // so that every JDBC dialect splits the bulk write into several INSERT statements whatever the number of columns
+        final int count = 32768;
+        final List<AccessToken> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            AccessToken token = new AccessToken();
+            token.setId(RandomString.generate());
+            token.setToken(RandomString.generate());
+            token.setDomain("domain-bulk");
+            token.setClient("client-bulk");
+            token.setSubject("user-" + i);
+            token.setCreatedAt(new Date());
+            token.setExpireAt(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)));
+            tokens.add(token);
+        }
+
+        accessTokenRepository.bulkWrite(tokens).blockingAwait();
+
+        assertEquals(Long.valueOf(count), accessTokenRepository.countByClientId("client-bulk").blockingGet());
+        AccessToken last = accessTokenRepository.findByToken(tokens.get(count - 1).getToken()).blockingGet();
+        assertNotNull(last);
+        assertEquals("domain-bulk", last.getDomain());
+        assertEquals("user-" + (count - 1), last.getSubject());
+    }
 }
@@ -22,7 +22,12 @@ import io.reactivex.observers.TestObserver;
 import org.junit.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -136,4 +141,31 @@ public class RefreshTokenRepositoryTest extends AbstractOAuthTest {
         assertNotNull(refreshTokenRepository.findByToken("my-token2").blockingGet());
     }
 
+    @Test
+    public void shouldBulkWrite_multipleStatements() {
+        // more rows than the highest bind parameters limit of the supported databases (32767 on PostgreSQL),
+        // so that every JDBC dialect splits the bulk write into several INSERT statements whatever the number of columns
+        final int count = 32768;
+        final List<RefreshToken> tokens = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            RefreshToken token = new RefreshToken();
+            token.setId(RandomString.generate());
+            token.setToken(RandomString.generate());
+            token.setDomain("domain-bulk");
+            token.setClient("client-bulk");
+            token.setSubject("user-" + i);
+            token.setCreatedAt(new Date());
+            token.setExpireAt(Date.from(Instant.now().plus(1, ChronoUnit.HOURS)));
+            tokens.add(token);
+        }
+
+        refreshTokenRepository.bulkWrite(tokens).blockingAwait();
+
+        for (int i : new int[]{0, count / 2, count - 1}) {
+            RefreshToken token = refreshTokenRepository.findByToken(tokens.get(i).getToken()).blockingGet();
+            assertNotNull(token);
+            assertEquals("client-bulk", token.getClient());
+            assertEquals("user-" + i, token.getSubject());
+        }
+    }
 }
@@ -0,0 +1,50 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service;
+
+import io.gravitee.am.model.Acl;
+import io.gravitee.am.model.Membership;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.permissions.Permission;
+import io.gravitee.common.service.Service;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache of the membership permissions of the users, per user and per reference.
+ *
+ * @author GraviteeSource Team
+ */
+public interface PermissionCache extends Service<PermissionCache> {
+
+    /**
+     * @return the cached permissions of the user on the reference or <code>null</code> if they are not cached.
+     */
+    Map<Membership, Map<Permission, Set<Acl>>> get(String userId, ReferenceType referenceType, String referenceId);
+
+    /**
+     * Cache the permissions computed from the data read when the cache was at the given version, they are ignored if
+     * the cache has been invalidated since.
+     */
+    void put(String userId, ReferenceType referenceType, String referenceId, Map<Membership, Map<Permission, Set<Acl>>> permissions, long version);
+
+    long version();
+
+    void invalidate(ReferenceType referenceType, String referenceId);
+
+    void invalidateAll();
+}
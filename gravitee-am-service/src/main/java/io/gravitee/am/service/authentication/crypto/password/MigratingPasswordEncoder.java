@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.authentication.crypto.password;
+
+import io.gravitee.am.service.authentication.crypto.password.argon2.Argon2PasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.bcrypt.BCryptPasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.pbkdf2.Pbkdf2PasswordEncoder;
+
+/**
+ * PasswordEncoder encoding the passwords with the configured algorithm but still able to verify the passwords
+ * encoded with the other supported algorithms, so that the stored passwords can be encoded again on the next login
+ * when the algorithm of an identity provider is changed.
+ *
+ * @author GraviteeSource Team
+ */
+public class MigratingPasswordEncoder implements PasswordEncoder {
+
+    private static final String BCRYPT_PREFIX = "$2";
+
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordEncoder bcryptPasswordEncoder;
+    private final PasswordEncoder pbkdf2PasswordEncoder;
+    private final PasswordEncoder argon2PasswordEncoder;
+
+    public MigratingPasswordEncoder(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
+        // passwords encoded with another algorithm are verified with its default settings, the settings are read from the encoded value
+        this.bcryptPasswordEncoder = passwordEncoder instanceof BCryptPasswordEncoder ? passwordEncoder : new BCryptPasswordEncoder();
+        this.pbkdf2PasswordEncoder = passwordEncoder instanceof Pbkdf2PasswordEncoder ? passwordEncoder : new Pbkdf2PasswordEncoder();
+        this.argon2PasswordEncoder = passwordEncoder instanceof Argon2PasswordEncoder ? passwordEncoder : new Argon2PasswordEncoder();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordEncoder.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return encoderOf(encodedPassword).matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        PasswordEncoder encoder = encoderOf(encodedPassword);
+        return encoder != passwordEncoder || passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    public PasswordEncoder getPasswordEncoder() {
+        return passwordEncoder;
+    }
+
+    private PasswordEncoder encoderOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return passwordEncoder;
+        }
+        if (encodedPassword.startsWith(BCRYPT_PREFIX)) {
+            return bcryptPasswordEncoder;
+        }
+        if (encodedPassword.startsWith(Pbkdf2PasswordEncoder.PREFIX)) {
+            return pbkdf2PasswordEncoder;
+        }
+        if (encodedPassword.startsWith(Argon2PasswordEncoder.PREFIX)) {
+            return argon2PasswordEncoder;
+        }
+        return passwordEncoder;
+    }
+}
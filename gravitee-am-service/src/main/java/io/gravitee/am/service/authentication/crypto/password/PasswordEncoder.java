@@ -42,4 +42,15 @@ public interface PasswordEncoder {
      */
     boolean matches(CharSequence rawPassword, String encodedPassword);
 
+    /**
+     * Returns true if the encoded password should be encoded again for better security
+     * (e.g it has been encoded with a lower cost or with another algorithm), false otherwise.
+     *
+     * @param encodedPassword the encoded password from storage
+     * @return true if the encoded password should be encoded again
+     */
+    default boolean upgradeEncoding(String encodedPassword) {
+        return false;
+    }
+
 }
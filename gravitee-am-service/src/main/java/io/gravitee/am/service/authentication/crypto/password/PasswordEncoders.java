@@ -0,0 +1,58 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.authentication.crypto.password;
+
+import io.gravitee.am.service.authentication.crypto.password.argon2.Argon2PasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.bcrypt.BCryptPasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.pbkdf2.Pbkdf2PasswordEncoder;
+
+/**
+ * Create the password encoders configured by the identity providers.
+ *
+ * @author GraviteeSource Team
+ */
+public final class PasswordEncoders {
+
+    public static final String NONE = "None";
+    public static final String BCRYPT = "BCrypt";
+    public static final String PBKDF2 = "PBKDF2";
+    public static final String ARGON2ID = "Argon2id";
+
+    private PasswordEncoders() {
+    }
+
+    /**
+     * @param algorithm the algorithm name (None, BCrypt, PBKDF2 or Argon2id)
+     * @param rounds the cost of the algorithm : log rounds for BCrypt, iterations for PBKDF2 and Argon2id, null for the default cost
+     * @param memory the memory cost in KiB for Argon2id, null for the default cost
+     * @return the password encoder
+     */
+    public static PasswordEncoder create(String algorithm, Integer rounds, Integer memory) {
+        if (BCRYPT.equalsIgnoreCase(algorithm)) {
+            return new MigratingPasswordEncoder(new BCryptPasswordEncoder(rounds != null ? rounds : -1));
+        }
+        if (PBKDF2.equalsIgnoreCase(algorithm)) {
+            return new MigratingPasswordEncoder(new Pbkdf2PasswordEncoder(rounds != null ? rounds : Pbkdf2PasswordEncoder.DEFAULT_ITERATIONS));
+        }
+        if (ARGON2ID.equalsIgnoreCase(algorithm)) {
+            return new MigratingPasswordEncoder(new Argon2PasswordEncoder(
+                    memory != null ? memory : Argon2PasswordEncoder.DEFAULT_MEMORY,
+                    rounds != null ? rounds : Argon2PasswordEncoder.DEFAULT_ITERATIONS,
+                    Argon2PasswordEncoder.DEFAULT_PARALLELISM));
+        }
+        return NoOpPasswordEncoder.getInstance();
+    }
+}
@@ -0,0 +1,153 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.authentication.crypto.password;
+
+import io.gravitee.am.common.exception.authentication.InternalAuthenticationServiceException;
+import io.reactivex.Scheduler;
+import io.reactivex.Single;
+import io.reactivex.schedulers.Schedulers;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.reactivex.RxHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Worker pool sized to the number of processors dedicated to the password hashing algorithms (BCrypt, PBKDF2, Argon2id)
+ * so that they are not executed on the Vert.x event loop threads.
+ *
+ * The pool is shared by all the identity providers of the node, the operations are rejected (load shedding) when
+ * the number of pending operations reaches the queue capacity instead of letting the login latency grow unbounded.
+ *
+ * @author GraviteeSource Team
+ */
+public class PasswordHashingExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordHashingExecutor.class);
+    private static final int DEFAULT_QUEUE_SIZE_PER_THREAD = 32;
+    private static final PasswordHashingExecutor INSTANCE = new PasswordHashingExecutor(
+            Runtime.getRuntime().availableProcessors(),
+            Runtime.getRuntime().availableProcessors() * DEFAULT_QUEUE_SIZE_PER_THREAD);
+
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong maxQueueWait = new AtomicLong();
+
+    public PasswordHashingExecutor(int size, int queueSize) {
+        final AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(Math.max(1, size), Math.max(1, size), 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, queueSize)),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public static PasswordHashingExecutor getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Get a scheduler running on the Vert.x context of the calling thread, used to resume the processing on the
+     * caller context once the password has been hashed.
+     *
+     * @return the scheduler of the caller context, or a scheduler running on the current thread if the caller is not
+     * running on a Vert.x context
+     */
+    public static Scheduler callerScheduler() {
+        final Context context = Vertx.currentContext();
+        return context != null ? RxHelper.scheduler(context) : Schedulers.trampoline();
+    }
+
+    /**
+     * Verify a password on the hashing worker pool.
+     */
+    public Single<Boolean> matches(PasswordEncoder passwordEncoder, CharSequence rawPassword, String encodedPassword) {
+        if (passwordEncoder instanceof NoOpPasswordEncoder) {
+            return Single.fromCallable(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+        }
+        return execute(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * Encode a password on the hashing worker pool.
+     */
+    public Single<String> encode(PasswordEncoder passwordEncoder, CharSequence rawPassword) {
+        if (passwordEncoder instanceof NoOpPasswordEncoder) {
+            return Single.fromCallable(() -> passwordEncoder.encode(rawPassword));
+        }
+        return execute(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    private <T> Single<T> execute(Callable<T> task) {
+        return Single.create(emitter -> {
+            final long submittedAt = System.nanoTime();
+            try {
+                Future<?> future = executor.submit(() -> {
+                    maxQueueWait.accumulateAndGet(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAt), Math::max);
+                    try {
+                        T result = task.call();
+                        executed.incrementAndGet();
+                        emitter.onSuccess(result);
+                    } catch (Throwable throwable) {
+                        emitter.tryOnError(throwable);
+                    }
+                });
+                emitter.setCancellable(() -> future.cancel(false));
+            } catch (RejectedExecutionException ex) {
+                rejected.incrementAndGet();
+                logger.warn("Password hashing queue is full ({} pending operations), the operation has been rejected", executor.getQueue().size());
+                emitter.tryOnError(new InternalAuthenticationServiceException("Too many concurrent authentications, please retry later", ex));
+            }
+        });
+    }
+
+    /**
+     * @return the number of operations waiting for a worker thread
+     */
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public long getExecuted() {
+        return executed.get();
+    }
+
+    /**
+     * @return the number of operations rejected because the queue was full
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * @return the longest time spent in the queue by an operation, in milliseconds
+     */
+    public long getMaxQueueWait() {
+        return maxQueueWait.get();
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
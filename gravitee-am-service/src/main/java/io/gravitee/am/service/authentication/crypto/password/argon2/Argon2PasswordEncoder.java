@@ -0,0 +1,160 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.authentication.crypto.password.argon2;
+
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoder;
+import org.bouncycastle.crypto.generators.Argon2BytesGenerator;
+import org.bouncycastle.crypto.params.Argon2Parameters;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Implementation of PasswordEncoder that uses the Argon2id hashing function.
+ *
+ * Encoded passwords use the PHC string format : <code>$argon2id$v=19$m=&lt;memory&gt;,t=&lt;iterations&gt;,p=&lt;parallelism&gt;$&lt;salt&gt;$&lt;hash&gt;</code>
+ * (salt and hash are base64 encoded without padding).
+ *
+ * @author GraviteeSource Team
+ */
+public class Argon2PasswordEncoder implements PasswordEncoder {
+
+    public static final String PREFIX = "$argon2id$";
+    /**
+     * Memory cost in KiB
+     */
+    public static final int DEFAULT_MEMORY = 65536;
+    public static final int DEFAULT_ITERATIONS = 3;
+    public static final int DEFAULT_PARALLELISM = 1;
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+
+    private final Logger logger = LoggerFactory.getLogger(Argon2PasswordEncoder.class);
+    private final SecureRandom random = new SecureRandom();
+    private final int memory;
+    private final int iterations;
+    private final int parallelism;
+
+    public Argon2PasswordEncoder() {
+        this(DEFAULT_MEMORY, DEFAULT_ITERATIONS, DEFAULT_PARALLELISM);
+    }
+
+    /**
+     * @param memory the memory cost in KiB, at least 8 times the parallelism
+     * @param iterations the number of iterations, at least 1
+     * @param parallelism the number of lanes, at least 1
+     */
+    public Argon2PasswordEncoder(int memory, int iterations, int parallelism) {
+        if (parallelism < 1 || iterations < 1 || memory < 8 * parallelism) {
+            throw new IllegalArgumentException("Bad Argon2 parameters");
+        }
+        this.memory = memory;
+        this.iterations = iterations;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        byte[] salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        byte[] hash = hash(rawPassword, salt, memory, iterations, parallelism, HASH_LENGTH);
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return PREFIX + "v=" + Argon2Parameters.ARGON2_VERSION_13 + "$m=" + memory + ",t=" + iterations + ",p=" + parallelism +
+                "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        EncodedPassword password = EncodedPassword.parse(encodedPassword);
+        if (password == null) {
+            logger.warn("Encoded password does not look like Argon2id");
+            return false;
+        }
+        byte[] hash = hash(rawPassword, password.salt, password.memory, password.iterations, password.parallelism, password.hash.length);
+        return MessageDigest.isEqual(password.hash, hash);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        EncodedPassword password = EncodedPassword.parse(encodedPassword);
+        return password != null && (password.memory < memory || password.iterations < iterations || password.parallelism < parallelism);
+    }
+
+    private static byte[] hash(CharSequence rawPassword, byte[] salt, int memory, int iterations, int parallelism, int length) {
+        Argon2Parameters parameters = new Argon2Parameters.Builder(Argon2Parameters.ARGON2_id)
+                .withVersion(Argon2Parameters.ARGON2_VERSION_13)
+                .withSalt(salt)
+                .withMemoryAsKB(memory)
+                .withIterations(iterations)
+                .withParallelism(parallelism)
+                .build();
+        Argon2BytesGenerator generator = new Argon2BytesGenerator();
+        generator.init(parameters);
+        byte[] hash = new byte[length];
+        generator.generateBytes(rawPassword.toString().getBytes(StandardCharsets.UTF_8), hash);
+        return hash;
+    }
+
+    private static class EncodedPassword {
+
+        private int memory;
+        private int iterations;
+        private int parallelism;
+        private byte[] salt;
+        private byte[] hash;
+
+        private static EncodedPassword parse(String encodedPassword) {
+            if (encodedPassword == null || !encodedPassword.startsWith(PREFIX)) {
+                return null;
+            }
+            // v=19$m=<memory>,t=<iterations>,p=<parallelism>$<salt>$<hash>
+            String[] parts = encodedPassword.substring(PREFIX.length()).split("\\$");
+            if (parts.length != 4 || !("v=" + Argon2Parameters.ARGON2_VERSION_13).equals(parts[0])) {
+                return null;
+            }
+            try {
+                EncodedPassword password = new EncodedPassword();
+                for (String parameter : parts[1].split(",")) {
+                    String[] keyValue = parameter.split("=", 2);
+                    int value = Integer.parseInt(keyValue[1]);
+                    switch (keyValue[0]) {
+                        case "m":
+                            password.memory = value;
+                            break;
+                        case "t":
+                            password.iterations = value;
+                            break;
+                        case "p":
+                            password.parallelism = value;
+                            break;
+                        default:
+                            return null;
+                    }
+                }
+                Base64.Decoder decoder = Base64.getDecoder();
+                password.salt = decoder.decode(parts[2]);
+                password.hash = decoder.decode(parts[3]);
+                return password.memory > 0 && password.iterations > 0 && password.parallelism > 0 ? password : null;
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -93,4 +93,21 @@ public class BCryptPasswordEncoder implements PasswordEncoder {
 
         return BCrypt.checkpw(rawPassword.toString(), encodedPassword);
     }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || !BCRYPT_PATTERN.matcher(encodedPassword).matches()) {
+            return false;
+        }
+        // $2a$<log rounds>$<salt and hash>
+        int rounds = Integer.parseInt(encodedPassword.substring(encodedPassword.indexOf('$', 1) + 1, encodedPassword.indexOf('$', 1) + 3));
+        return rounds < getStrength();
+    }
+
+    /**
+     * @return the log rounds used to encode the passwords
+     */
+    public int getStrength() {
+        return strength > 0 ? strength : BCrypt.GENSALT_DEFAULT_LOG2_ROUNDS;
+    }
 }
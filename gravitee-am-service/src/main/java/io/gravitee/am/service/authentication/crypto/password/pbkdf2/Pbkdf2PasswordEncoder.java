@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.authentication.crypto.password.pbkdf2;
+
+import io.gravitee.am.service.authentication.crypto.password.PasswordEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Implementation of PasswordEncoder that uses PBKDF2 with HMAC SHA-256.
+ *
+ * Encoded passwords have the following format : <code>$pbkdf2-sha256$i=&lt;iterations&gt;$&lt;salt&gt;$&lt;hash&gt;</code>
+ * (salt and hash are base64 encoded without padding).
+ *
+ * @author GraviteeSource Team
+ */
+public class Pbkdf2PasswordEncoder implements PasswordEncoder {
+
+    public static final String PREFIX = "$pbkdf2-sha256$";
+    public static final int DEFAULT_ITERATIONS = 310000;
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int SALT_LENGTH = 16;
+    private static final int HASH_LENGTH = 32;
+
+    private final Logger logger = LoggerFactory.getLogger(Pbkdf2PasswordEncoder.class);
+    private final SecureRandom random = new SecureRandom();
+    private final int iterations;
+
+    public Pbkdf2PasswordEncoder() {
+        this(DEFAULT_ITERATIONS);
+    }
+
+    /**
+     * @param iterations the number of iterations, at least 1000
+     */
+    public Pbkdf2PasswordEncoder(int iterations) {
+        if (iterations < 1000) {
+            throw new IllegalArgumentException("Bad iterations");
+        }
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        byte[] salt = new byte[SALT_LENGTH];
+        random.nextBytes(salt);
+        byte[] hash = hash(rawPassword, salt, iterations, HASH_LENGTH);
+        Base64.Encoder encoder = Base64.getEncoder().withoutPadding();
+        return PREFIX + "i=" + iterations + "$" + encoder.encodeToString(salt) + "$" + encoder.encodeToString(hash);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        EncodedPassword password = EncodedPassword.parse(encodedPassword);
+        if (password == null) {
+            logger.warn("Encoded password does not look like PBKDF2");
+            return false;
+        }
+        byte[] hash = hash(rawPassword, password.salt, password.iterations, password.hash.length);
+        return MessageDigest.isEqual(password.hash, hash);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        EncodedPassword password = EncodedPassword.parse(encodedPassword);
+        return password != null && password.iterations < iterations;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    private static byte[] hash(CharSequence rawPassword, byte[] salt, int iterations, int length) {
+        PBEKeySpec spec = new PBEKeySpec(rawPassword.toString().toCharArray(), salt, iterations, length * 8);
+        try {
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Unable to hash the password with " + ALGORITHM, e);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+
+    private static class EncodedPassword {
+
+        private final int iterations;
+        private final byte[] salt;
+        private final byte[] hash;
+
+        private EncodedPassword(int iterations, byte[] salt, byte[] hash) {
+            this.iterations = iterations;
+            this.salt = salt;
+            this.hash = hash;
+        }
+
+        private static EncodedPassword parse(String encodedPassword) {
+            if (encodedPassword == null || !encodedPassword.startsWith(PREFIX)) {
+                return null;
+            }
+            // i=<iterations>$<salt>$<hash>
+            String[] parts = encodedPassword.substring(PREFIX.length()).split("\\$");
+            if (parts.length != 3 || !parts[0].startsWith("i=")) {
+                return null;
+            }
+            try {
+                Base64.Decoder decoder = Base64.getDecoder();
+                return new EncodedPassword(Integer.parseInt(parts[0].substring(2)), decoder.decode(parts[1]), decoder.decode(parts[2]));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.http;
+
+import io.gravitee.am.common.metrics.Meters;
+import io.reactivex.Single;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Shared cache for small remote documents (e.g. JWKS) fetched over HTTP.
+ *
+ * Entries live for the <code>max-age</code> announced by the remote server (bounded by a minimum and a maximum TTL)
+ * and are refreshed in the background once most of their lifetime has elapsed. Concurrent fetches of the same key are
+ * collapsed into a single request, forced refreshes are rate-limited and the last known value is served when the
+ * remote server is unavailable (stale-if-error).
+ *
+ * @author GraviteeSource Team
+ */
+public class RemoteResourceCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RemoteResourceCache.class);
+
+    public static final long DEFAULT_TTL = 5 * 60 * 1000L;
+    public static final long DEFAULT_MIN_TTL = 30 * 1000L;
+    public static final long DEFAULT_MAX_TTL = 24 * 60 * 60 * 1000L;
+    public static final long DEFAULT_MIN_REFRESH_INTERVAL = 30 * 1000L;
+    public static final long DEFAULT_STALE_IF_ERROR = 60 * 60 * 1000L;
+    private static final double REFRESH_AHEAD_RATIO = 0.8;
+
+    private final String name;
+    private final long defaultTtl;
+    private final long minTtl;
+    private final long maxTtl;
+    private final long minRefreshInterval;
+    private final long staleIfError;
+    private final ConcurrentMap<String, Entry<T>> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder fetches = new LongAdder();
+    private final LongAdder fetchErrors = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder throttledRefreshes = new LongAdder();
+    private final LongAdder fetchTime = new LongAdder();
+    private final AtomicLong maxFetchTime = new AtomicLong();
+
+    public RemoteResourceCache(String name) {
+        this(name, DEFAULT_TTL, DEFAULT_MIN_TTL, DEFAULT_MAX_TTL, DEFAULT_MIN_REFRESH_INTERVAL, DEFAULT_STALE_IF_ERROR);
+    }
+
+    public RemoteResourceCache(String name, long defaultTtl, long minTtl, long maxTtl, long minRefreshInterval, long staleIfError) {
+        this.name = name;
+        this.defaultTtl = defaultTtl;
+        this.minTtl = minTtl;
+        this.maxTtl = maxTtl;
+        this.minRefreshInterval = minRefreshInterval;
+        this.staleIfError = staleIfError;
+    }
+
+    /**
+     * Get the value for the given key, fetching it only if it is not cached or has expired.
+     *
+     * @param key the cache key (usually the resource URL)
+     * @param fetcher the remote call, subscribed at most once per in-flight fetch
+     * @return the cached or freshly fetched value
+     */
+    public Single<T> get(String key, Supplier<Single<Resource<T>>> fetcher) {
+        Entry<T> entry = entries.computeIfAbsent(key, k -> new Entry<>());
+        long now = System.currentTimeMillis();
+        T value = entry.value;
+        if (value != null && (now < entry.expireAt || now < entry.retryAt)) {
+            hits.increment();
+            if (now >= entry.refreshAt) {
+                // refresh-ahead, callers keep being served the current value
+                fetch(key, entry, fetcher).subscribe(v -> {}, ex -> {});
+            }
+            return Single.just(value);
+        }
+        misses.increment();
+        return fetch(key, entry, fetcher);
+    }
+
+    /**
+     * Force a fetch of the given key, typically when a key id is unknown from the cached value.
+     * Forced fetches are limited to one per key every <code>minRefreshInterval</code>, other calls get the cached value.
+     *
+     * @param key the cache key (usually the resource URL)
+     * @param fetcher the remote call
+     * @return the refreshed value or the cached one if the refresh has been throttled
+     */
+    public Single<T> refresh(String key, Supplier<Single<Resource<T>>> fetcher) {
+        Entry<T> entry = entries.computeIfAbsent(key, k -> new Entry<>());
+        long now = System.currentTimeMillis();
+        boolean allowed;
+        synchronized (entry) {
+            allowed = entry.inFlight != null || now - entry.lastForcedRefresh >= minRefreshInterval;
+            if (allowed) {
+                entry.lastForcedRefresh = now;
+            }
+        }
+        if (!allowed) {
+            throttledRefreshes.increment();
+            return get(key, fetcher);
+        }
+        return fetch(key, entry, fetcher);
+    }
+
+    /**
+     * Publish the statistics of this cache with the node metrics, tagged with the cache name.
+     * Meant for the process-wide caches, the meters are never removed.
+     *
+     * @return this cache
+     */
+    public RemoteResourceCache<T> registerMeters() {
+        new Meters("cache", name)
+                .gauge("am.remote.cache.size", this, RemoteResourceCache::size)
+                .counter("am.remote.cache.hits", this, RemoteResourceCache::getHits)
+                .counter("am.remote.cache.misses", this, RemoteResourceCache::getMisses)
+                .counter("am.remote.cache.fetches", this, RemoteResourceCache::getFetches)
+                .counter("am.remote.cache.fetch.errors", this, RemoteResourceCache::getFetchErrors)
+                .counter("am.remote.cache.stale.hits", this, RemoteResourceCache::getStaleHits)
+                .counter("am.remote.cache.throttled.refreshes", this, RemoteResourceCache::getThrottledRefreshes)
+                .gauge("am.remote.cache.fetch.time.max.millis", this, RemoteResourceCache::getMaxFetchTime);
+        return this;
+    }
+
+    public void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private Single<T> fetch(String key, Entry<T> entry, Supplier<Single<Resource<T>>> fetcher) {
+        synchronized (entry) {
+            if (entry.inFlight != null) {
+                return entry.inFlight;
+            }
+            final long start = System.currentTimeMillis();
+            Single<T> inFlight = Single.defer(fetcher::get)
+                    .map(resource -> {
+                        long now = System.currentTimeMillis();
+                        recordFetch(now - start);
+                        long ttl = resource.getMaxAge() < 0 ? defaultTtl : Math.min(maxTtl, Math.max(minTtl, resource.getMaxAge()));
+                        entry.value = resource.getValue();
+                        entry.refreshAt = now + (long) (ttl * REFRESH_AHEAD_RATIO);
+                        entry.expireAt = now + ttl;
+                        return resource.getValue();
+                    })
+                    .onErrorResumeNext(ex -> {
+                        recordFetch(System.currentTimeMillis() - start);
+                        fetchErrors.increment();
+                        long now = System.currentTimeMillis();
+                        T stale = entry.value;
+                        if (stale != null && now - entry.expireAt < staleIfError) {
+                            // back off before trying again, the last known value is served meanwhile
+                            entry.refreshAt = now + minRefreshInterval;
+                            entry.retryAt = now + minRefreshInterval;
+                            staleHits.increment();
+                            LOGGER.warn("[{}] Unable to fetch {}, serving the last known value: {}", name, key, ex.getMessage());
+                            return Single.just(stale);
+                        }
+                        LOGGER.debug("[{}] Unable to fetch {}", name, key, ex);
+                        return Single.error(ex);
+                    })
+                    .doFinally(() -> {
+                        synchronized (entry) {
+                            entry.inFlight = null;
+                        }
+                    })
+                    .cache();
+            entry.inFlight = inFlight;
+            return inFlight;
+        }
+    }
+
+    private void recordFetch(long elapsed) {
+        fetches.increment();
+        fetchTime.add(elapsed);
+        maxFetchTime.accumulateAndGet(elapsed, Math::max);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getFetches() {
+        return fetches.sum();
+    }
+
+    public long getFetchErrors() {
+        return fetchErrors.sum();
+    }
+
+    public long getStaleHits() {
+        return staleHits.sum();
+    }
+
+    public long getThrottledRefreshes() {
+        return throttledRefreshes.sum();
+    }
+
+    public long getAverageFetchTime() {
+        long count = fetches.sum();
+        return count == 0 ? 0 : fetchTime.sum() / count;
+    }
+
+    public long getMaxFetchTime() {
+        return maxFetchTime.get();
+    }
+
+    @Override
+    public String toString() {
+        return "RemoteResourceCache{" +
+                "name='" + name + '\'' +
+                ", size=" + size() +
+                ", hits=" + getHits() +
+                ", misses=" + getMisses() +
+                ", fetches=" + getFetches() +
+                ", fetchErrors=" + getFetchErrors() +
+                ", staleHits=" + getStaleHits() +
+                ", throttledRefreshes=" + getThrottledRefreshes() +
+                ", avgFetchTime=" + getAverageFetchTime() +
+                ", maxFetchTime=" + getMaxFetchTime() +
+                '}';
+    }
+
+    private static class Entry<T> {
+        private volatile T value;
+        private volatile long refreshAt;
+        private volatile long expireAt;
+        private volatile long retryAt;
+        private volatile Single<T> inFlight;
+        private long lastForcedRefresh;
+    }
+
+    /**
+     * A fetched value along with its freshness lifetime as announced by the remote server.
+     */
+    public static class Resource<T> {
+
+        private final T value;
+        private final long maxAge;
+
+        public Resource(T value, long maxAge) {
+            this.value = value;
+            this.maxAge = maxAge;
+        }
+
+        /**
+         * @param value the fetched value
+         * @param cacheControl the <code>Cache-Control</code> response header, may be null
+         */
+        public static <T> Resource<T> of(T value, String cacheControl) {
+            return new Resource<>(value, maxAge(cacheControl));
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        /**
+         * @return the lifetime in milliseconds, -1 if the server did not announce any
+         */
+        public long getMaxAge() {
+            return maxAge;
+        }
+
+        static long maxAge(String cacheControl) {
+            if (cacheControl == null) {
+                return -1;
+            }
+            for (String directive : cacheControl.split(",")) {
+                String d = directive.trim().toLowerCase();
+                if (d.equals("no-store") || d.equals("no-cache")) {
+                    // still keep the value for the minimum TTL to protect the remote server
+                    return 0;
+                }
+                if (d.startsWith("max-age=")) {
+                    try {
+                        return Long.parseLong(d.substring("max-age=".length()).replace("\"", "")) * 1000;
+                    } catch (NumberFormatException ex) {
+                        return -1;
+                    }
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -16,16 +16,23 @@
 package io.gravitee.am.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.gravitee.am.common.metrics.Meters;
+import io.gravitee.am.model.Domain;
+import io.gravitee.am.reporter.api.Reportable;
 import io.gravitee.am.service.AuditService;
 import io.gravitee.am.service.reporter.AuditReporterService;
 import io.gravitee.am.service.reporter.builder.AuditBuilder;
+import io.gravitee.am.service.reporter.impl.AuditPipeline;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
@@ -34,29 +41,92 @@ import java.util.concurrent.Executors;
 @Component
 public class AuditServiceImpl implements AuditService, InitializingBean, DisposableBean {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuditServiceImpl.class);
+
     @Autowired
     private AuditReporterService auditReporterService;
 
     @Autowired
     private ObjectMapper objectMapper;
 
-    private ExecutorService executorService;
+    /**
+     * Security domain of the gateway handler, not set for the management API.
+     */
+    @Autowired(required = false)
+    private Domain domain;
+
+    @Value("${reporters.audits.queue.capacity:10000}")
+    private int capacity = 10000;
+
+    @Value("${reporters.audits.queue.batchSize:100}")
+    private int batchSize = 100;
+
+    @Value("${reporters.audits.queue.consumers:1}")
+    private int consumers = 1;
+
+    @Value("${reporters.audits.queue.overflowPolicy:DROP_NEWEST}")
+    private AuditPipeline.OverflowPolicy overflowPolicy = AuditPipeline.OverflowPolicy.DROP_NEWEST;
+
+    @Value("${reporters.audits.queue.shutdownTimeout:5000}")
+    private long shutdownTimeout = 5000;
+
+    private AuditPipeline pipeline;
+
+    private Meters meters;
 
     @Override
     public void report(AuditBuilder auditBuilder) {
-        executorService.execute(() -> auditReporterService.report(auditBuilder.build(objectMapper)));
+        pipeline.offer(auditBuilder);
     }
 
     @Override
     public void afterPropertiesSet() {
-        executorService = Executors.newCachedThreadPool();
+        pipeline = new AuditPipeline(capacity, batchSize, consumers, overflowPolicy, this::report);
+        meters = (domain == null ? new Meters() : new Meters("domain", domain.getId()))
+                .gauge("am.audit.queue.depth", pipeline, AuditPipeline::getQueueDepth)
+                .counter("am.audit.dispatched", pipeline, AuditPipeline::getDispatched)
+                .counter("am.audit.dropped", pipeline, AuditPipeline::getDropped)
+                .gauge("am.audit.latency.last.millis", pipeline, AuditPipeline::getLastLatency)
+                .gauge("am.audit.latency.max.millis", pipeline, AuditPipeline::getMaxLatency);
+    }
+
+    private void report(List<AuditBuilder> auditBuilders) {
+        List<Reportable> audits = new ArrayList<>(auditBuilders.size());
+        for (AuditBuilder auditBuilder : auditBuilders) {
+            try {
+                audits.add(auditBuilder.build(objectMapper));
+            } catch (Exception ex) {
+                // do not lose the whole batch because of a single audit
+                logger.error("Unable to build audit", ex);
+            }
+        }
+        auditReporterService.report(audits);
     }
 
     @Override
     public void destroy() {
-        if (executorService != null) {
-            executorService.shutdown();
+        if (meters != null) {
+            meters.close();
+        }
+        if (pipeline != null) {
+            // report the queued audits before shutting down
+            pipeline.close(shutdownTimeout);
         }
     }
 
+    public int getQueueDepth() {
+        return pipeline.getQueueDepth();
+    }
+
+    public long getDropped() {
+        return pipeline.getDropped();
+    }
+
+    public long getLastLatency() {
+        return pipeline.getLastLatency();
+    }
+
+    public long getMaxLatency() {
+        return pipeline.getMaxLatency();
+    }
 }
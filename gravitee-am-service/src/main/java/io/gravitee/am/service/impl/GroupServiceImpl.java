@@ -73,6 +73,12 @@ public class GroupServiceImpl implements GroupService {
     @Autowired
     private EventService eventService;
 
+    /**
+     * Only available on the management API.
+     */
+    @Autowired(required = false)
+    private PermissionCache permissionCache;
+
     @Override
     public Single<Page<Group>> findAll(ReferenceType referenceType, String referenceId, int page, int size) {
         LOGGER.debug("Find groups by {}: {}", referenceType, referenceId);
@@ -211,7 +217,7 @@ public class GroupServiceImpl implements GroupService {
                 // create event for sync process
                 .flatMap(group -> {
                     Event event = new Event(Type.GROUP, new Payload(group.getId(), group.getReferenceType(), group.getReferenceId(), Action.CREATE));
-                    return eventService.create(event).flatMap(__ -> Single.just(group));
+                    return eventService.create(event).doOnSuccess(__ -> invalidatePermissions()).flatMap(__ -> Single.just(group));
                 })
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof AbstractManagementException) {
@@ -260,7 +266,7 @@ public class GroupServiceImpl implements GroupService {
                             // create event for sync process
                             .flatMap(group -> {
                                 Event event = new Event(Type.GROUP, new Payload(group.getId(), group.getReferenceType(), group.getReferenceId(), Action.UPDATE));
-                                return eventService.create(event).flatMap(__ -> Single.just(group));
+                                return eventService.create(event).doOnSuccess(__ -> invalidatePermissions()).flatMap(__ -> Single.just(group));
                             })
                             .doOnSuccess(group -> auditService.report(AuditBuilder.builder(GroupAuditBuilder.class).principal(principal).type(EventType.GROUP_UPDATED).oldValue(oldGroup).group(group)))
                             .doOnError(throwable -> auditService.report(AuditBuilder.builder(GroupAuditBuilder.class).principal(principal).type(EventType.GROUP_UPDATED).throwable(throwable)));
@@ -288,7 +294,8 @@ public class GroupServiceImpl implements GroupService {
 
         return findById(referenceType, referenceId, groupId)
                 .flatMapCompletable(group -> groupRepository.delete(groupId)
-                        .andThen(Completable.fromSingle(eventService.create(new Event(Type.DOMAIN, new Payload(group.getId(), group.getReferenceType(), group.getReferenceId(), Action.DELETE)))))
+                        .andThen(Completable.fromSingle(eventService.create(new Event(Type.GROUP, new Payload(group.getId(), group.getReferenceType(), group.getReferenceId(), Action.DELETE)))))
+                        .doOnComplete(this::invalidatePermissions)
                         .doOnComplete(() -> auditService.report(AuditBuilder.builder(GroupAuditBuilder.class).principal(principal).type(EventType.GROUP_DELETED).group(group)))
                         .doOnError(throwable -> auditService.report(AuditBuilder.builder(GroupAuditBuilder.class).principal(principal).type(EventType.GROUP_DELETED).throwable(throwable)))
                 )
@@ -328,6 +335,11 @@ public class GroupServiceImpl implements GroupService {
                     return checkRoles(roles)
                             // and update the group
                             .andThen(Single.defer(() -> groupRepository.update(groupToUpdate)))
+                            // create event for sync process
+                            .flatMap(group -> {
+                                Event event = new Event(Type.GROUP, new Payload(group.getId(), group.getReferenceType(), group.getReferenceId(), Action.UPDATE));
+                                return eventService.create(event).doOnSuccess(__ -> invalidatePermissions()).flatMap(__ -> Single.just(group));
+                            })
                             .doOnSuccess(group1 -> auditService.report(AuditBuilder.builder(GroupAuditBuilder.class).principal(principal).type(EventType.GROUP_ROLES_ASSIGNED).oldValue(oldGroup).group(group1)))
                             .doOnError(throwable -> auditService.report(AuditBuilder.builder(GroupAuditBuilder.class).principal(principal).type(EventType.GROUP_ROLES_ASSIGNED).throwable(throwable)));
                 });
@@ -357,4 +369,11 @@ public class GroupServiceImpl implements GroupService {
                     return roles1;
                 }).toCompletable();
     }
+
+    private void invalidatePermissions() {
+        // the permission cache of the other nodes is invalidated by the group event
+        if (permissionCache != null) {
+            permissionCache.invalidateAll();
+        }
+    }
 }
@@ -15,15 +15,20 @@
  */
 package io.gravitee.am.service.impl;
 
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.Type;
 import io.gravitee.am.common.utils.RandomString;
 import io.gravitee.am.model.LoginAttempt;
 import io.gravitee.am.model.account.AccountSettings;
+import io.gravitee.am.model.common.event.Event;
 import io.gravitee.am.repository.management.api.LoginAttemptRepository;
 import io.gravitee.am.repository.management.api.search.LoginAttemptCriteria;
+import io.gravitee.am.service.EventService;
 import io.gravitee.am.service.LoginAttemptService;
 import io.gravitee.am.service.exception.AbstractManagementException;
 import io.gravitee.am.service.exception.LoginAttemptNotFoundException;
 import io.gravitee.am.service.exception.TechnicalManagementException;
+import io.gravitee.am.service.utils.LoginAttemptPayloadUtils;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
@@ -49,6 +54,9 @@ public class LoginAttemptServiceImpl implements LoginAttemptService {
     @Autowired
     private LoginAttemptRepository loginAttemptRepository;
 
+    @Autowired
+    private EventService eventService;
+
     @Override
     public Single<LoginAttempt> loginFailed(LoginAttemptCriteria criteria, AccountSettings accountSettings) {
         LOGGER.debug("Add login attempt for {}", criteria);
@@ -107,7 +115,10 @@ public class LoginAttemptServiceImpl implements LoginAttemptService {
 
     @Override
     public Completable reset(LoginAttemptCriteria criteria) {
-        return loginSucceeded(criteria);
+        // notify the gateways as they keep the login attempts in memory
+        return loginSucceeded(criteria)
+                .andThen(eventService.create(new Event(Type.LOGIN_ATTEMPT, LoginAttemptPayloadUtils.create(criteria, Action.DELETE))))
+                .ignoreElement();
     }
 
     @Override
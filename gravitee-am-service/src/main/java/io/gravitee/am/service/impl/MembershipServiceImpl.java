@@ -76,6 +76,12 @@ public class MembershipServiceImpl implements MembershipService {
     @Autowired
     private EventService eventService;
 
+    /**
+     * Only available on the management API.
+     */
+    @Autowired(required = false)
+    private PermissionCache permissionCache;
+
     @Override
     public Maybe<Membership> findById(String id) {
         LOGGER.debug("Find membership by ID {}", id);
@@ -144,6 +150,7 @@ public class MembershipServiceImpl implements MembershipService {
                                             Event event = new Event(Type.MEMBERSHIP, new Payload(membership1.getId(), membership1.getReferenceType(), membership1.getReferenceId(), Action.CREATE));
                                             return eventService.create(event).flatMap(__ -> Single.just(membership1));
                                         })
+                                        .doOnSuccess(this::invalidatePermissions)
                                         .onErrorResumeNext(ex -> {
                                             if (ex instanceof AbstractManagementException) {
                                                 return Single.error(ex);
@@ -165,6 +172,7 @@ public class MembershipServiceImpl implements MembershipService {
                                             Event event = new Event(Type.MEMBERSHIP, new Payload(membership1.getId(), membership1.getReferenceType(), membership1.getReferenceId(), Action.UPDATE));
                                             return eventService.create(event).flatMap(__ -> Single.just(membership1));
                                         })
+                                        .doOnSuccess(this::invalidatePermissions)
                                         .onErrorResumeNext(ex -> {
                                             if (ex instanceof AbstractManagementException) {
                                                 return Single.error(ex);
@@ -206,6 +214,7 @@ public class MembershipServiceImpl implements MembershipService {
                 .switchIfEmpty(Maybe.error(new MembershipNotFoundException(membershipId)))
                 .flatMapCompletable(membership -> membershipRepository.delete(membershipId)
                         .andThen(Completable.fromSingle(eventService.create(new Event(Type.MEMBERSHIP, new Payload(membership.getId(), membership.getReferenceType(), membership.getReferenceId(), Action.DELETE)))))
+                        .doOnComplete(() -> invalidatePermissions(membership))
                         .doOnComplete(() -> auditService.report(AuditBuilder.builder(MembershipAuditBuilder.class).principal(principal).type(EventType.MEMBERSHIP_DELETED).membership(membership)))
                         .doOnError(throwable -> auditService.report(AuditBuilder.builder(MembershipAuditBuilder.class).principal(principal).type(EventType.MEMBERSHIP_DELETED).throwable(throwable)))
                 )
@@ -240,6 +249,13 @@ public class MembershipServiceImpl implements MembershipService {
         return filteredRole;
     }
 
+    private void invalidatePermissions(Membership membership) {
+        // the permission cache of the other nodes is invalidated by the membership event
+        if (permissionCache != null) {
+            permissionCache.invalidate(membership.getReferenceType(), membership.getReferenceId());
+        }
+    }
+
     /**
      * Member must exist and be part of the organization users/groups
      * @param membership
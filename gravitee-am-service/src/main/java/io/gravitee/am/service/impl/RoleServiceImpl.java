@@ -32,6 +32,7 @@ import io.gravitee.am.model.permissions.SystemRole;
 import io.gravitee.am.repository.management.api.RoleRepository;
 import io.gravitee.am.service.AuditService;
 import io.gravitee.am.service.EventService;
+import io.gravitee.am.service.PermissionCache;
 import io.gravitee.am.service.RoleService;
 import io.gravitee.am.service.exception.*;
 import io.gravitee.am.service.model.NewRole;
@@ -69,6 +70,12 @@ public class RoleServiceImpl implements RoleService {
     @Autowired
     private EventService eventService;
 
+    /**
+     * Only available on the management API.
+     */
+    @Autowired(required = false)
+    private PermissionCache permissionCache;
+
     @Override
     public Flowable<Role> findAllAssignable(ReferenceType referenceType, String referenceId, ReferenceType assignableType) {
         LOGGER.debug("Find roles by {}: {} assignable to {}", referenceType, referenceId, assignableType);
@@ -171,7 +178,7 @@ public class RoleServiceImpl implements RoleService {
                 // create event for sync process
                 .flatMap(role -> {
                     Event event = new Event(Type.ROLE, new Payload(role.getId(), role.getReferenceType(), role.getReferenceId(), Action.CREATE));
-                    return eventService.create(event).flatMap(__ -> Single.just(role));
+                    return eventService.create(event).doOnSuccess(__ -> invalidatePermissions()).flatMap(__ -> Single.just(role));
                 })
                 .onErrorResumeNext(ex -> {
                     if (ex instanceof AbstractManagementException) {
@@ -221,7 +228,7 @@ public class RoleServiceImpl implements RoleService {
                                         // create event for sync process
                                         .flatMap(role -> {
                                             Event event = new Event(Type.ROLE, new Payload(role.getId(), role.getReferenceType(), role.getReferenceId(), Action.UPDATE));
-                                            return eventService.create(event).flatMap(__ -> Single.just(role));
+                                            return eventService.create(event).doOnSuccess(__ -> invalidatePermissions()).flatMap(__ -> Single.just(role));
                                         })
                                         .doOnSuccess(role -> auditService.report(AuditBuilder.builder(RoleAuditBuilder.class).principal(principal).type(EventType.ROLE_UPDATED).oldValue(oldRole).role(role)))
                                         .doOnError(throwable -> auditService.report(AuditBuilder.builder(RoleAuditBuilder.class).principal(principal).type(EventType.ROLE_UPDATED).throwable(throwable)));
@@ -256,6 +263,7 @@ public class RoleServiceImpl implements RoleService {
                 })
                 .flatMapCompletable(role -> roleRepository.delete(roleId)
                         .andThen(Completable.fromSingle(eventService.create(new Event(Type.ROLE, new Payload(role.getId(), role.getReferenceType(), role.getReferenceId(), Action.DELETE)))))
+                        .doOnComplete(this::invalidatePermissions)
                         .doOnComplete(() -> auditService.report(AuditBuilder.builder(RoleAuditBuilder.class).principal(principal).type(EventType.ROLE_DELETED).role(role)))
                         .doOnError(throwable -> auditService.report(AuditBuilder.builder(RoleAuditBuilder.class).principal(principal).type(EventType.ROLE_DELETED).throwable(throwable)))
                 )
@@ -301,7 +309,7 @@ public class RoleServiceImpl implements RoleService {
                         return roleRepository.create(role)
                                 .flatMap(role1 -> {
                                     Event event = new Event(Type.ROLE, new Payload(role1.getId(), role1.getReferenceType(), role1.getReferenceId(), Action.CREATE));
-                                    return eventService.create(event).flatMap(__ -> Single.just(role1));
+                                    return eventService.create(event).doOnSuccess(__ -> invalidatePermissions()).flatMap(__ -> Single.just(role1));
                                 })
                                 .onErrorResumeNext(ex -> {
                                     if (ex instanceof AbstractManagementException) {
@@ -327,7 +335,7 @@ public class RoleServiceImpl implements RoleService {
                         return roleRepository.update(role)
                                 .flatMap(role1 -> {
                                     Event event = new Event(Type.ROLE, new Payload(role1.getId(), role1.getReferenceType(), role1.getReferenceId(), Action.UPDATE));
-                                    return eventService.create(event).flatMap(__ -> Single.just(role1));
+                                    return eventService.create(event).doOnSuccess(__ -> invalidatePermissions()).flatMap(__ -> Single.just(role1));
                                 })
                                 .onErrorResumeNext(ex -> {
                                     if (ex instanceof AbstractManagementException) {
@@ -477,4 +485,11 @@ public class RoleServiceImpl implements RoleService {
 
         return role;
     }
+
+    private void invalidatePermissions() {
+        // the permission cache of the other nodes is invalidated by the role event
+        if (permissionCache != null) {
+            permissionCache.invalidateAll();
+        }
+    }
 }
@@ -18,7 +18,6 @@ package io.gravitee.am.service.impl;
 import io.gravitee.am.common.event.Action;
 import io.gravitee.am.common.event.Type;
 import io.gravitee.am.common.utils.RandomString;
-import io.gravitee.am.model.Group;
 import io.gravitee.am.model.ReferenceType;
 import io.gravitee.am.model.User;
 import io.gravitee.am.model.analytics.AnalyticsQuery;
@@ -34,6 +33,7 @@ import io.gravitee.am.service.exception.UserAlreadyExistsException;
 import io.gravitee.am.service.exception.UserNotFoundException;
 import io.gravitee.am.service.model.NewUser;
 import io.gravitee.am.service.model.UpdateUser;
+import io.gravitee.am.service.utils.UserEnhancer;
 import io.gravitee.am.service.validators.UserValidator;
 import io.reactivex.Completable;
 import io.reactivex.Maybe;
@@ -331,44 +331,7 @@ public class UserServiceImpl implements UserService {
 
     @Override
     public Single<User> enhance(User user) {
-        LOGGER.debug("Enhance user {}", user.getId());
-
-        // fetch user groups
-        return groupService.findByMember(user.getId())
-                .flatMap(groups -> {
-                    Set<String> roles = new HashSet<>();
-                    if (groups != null && !groups.isEmpty()) {
-                        // set groups
-                        user.setGroups(groups.stream().map(Group::getName).collect(Collectors.toList()));
-                        // set groups roles
-                        roles.addAll(groups
-                                .stream()
-                                .filter(group -> group.getRoles() != null && !group.getRoles().isEmpty())
-                                .flatMap(group -> group.getRoles().stream())
-                                .collect(Collectors.toSet()));
-                    }
-                    // get user roles
-                    if (user.getRoles() != null && !user.getRoles().isEmpty()) {
-                        roles.addAll(user.getRoles());
-                    }
-                    // fetch roles information and enhance user data
-                    if (!roles.isEmpty()) {
-                        return roleService.findByIdIn(new ArrayList<>(roles))
-                                .map(roles1 -> {
-                                    user.setRolesPermissions(roles1);
-                                    return user;
-                                });
-
-                    }
-                    return Single.just(user);
-                })
-                .onErrorResumeNext(ex -> {
-                    if (ex instanceof AbstractManagementException) {
-                        return Single.error(ex);
-                    }
-                    LOGGER.error("An error occurs while trying to enhance user {}", user.getId(), ex);
-                    return Single.error(new TechnicalManagementException(String.format("An error occurs while trying to enhance user %s", user.getId()), ex));
-                });
+        return UserEnhancer.enhance(user, groupService::findByMember, roleService::findByIdIn);
     }
 
     @Override
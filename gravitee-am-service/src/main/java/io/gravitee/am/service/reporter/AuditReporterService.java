@@ -18,6 +18,8 @@ package io.gravitee.am.service.reporter;
 
 import io.gravitee.am.reporter.api.Reportable;
 
+import java.util.List;
+
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
@@ -25,4 +27,11 @@ import io.gravitee.am.reporter.api.Reportable;
 public interface AuditReporterService {
 
     void report(Reportable reportable);
+
+    /**
+     * Report a batch of reportable elements at once.
+     *
+     * @param reportables reportable elements to report
+     */
+    void report(List<Reportable> reportables);
 }
@@ -0,0 +1,279 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.reporter.impl;
+
+import io.gravitee.am.service.reporter.builder.AuditBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Bounded queue of audits to report, the audits are built and dispatched in batches by a limited number of drain tasks.
+ * When the queue is full, the audits are dropped according to the {@link OverflowPolicy}, the caller (which is an event
+ * loop thread on the gateway) is never blocked.
+ *
+ * The drain tasks of all the pipelines run on a shared pool sized to the number of processors, the pool is shut down
+ * once the last pipeline using it has been closed.
+ *
+ * @author GraviteeSource Team
+ */
+public class AuditPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditPipeline.class);
+    private static final int MAX_BATCHES_PER_DRAIN = 10;
+    private static final long DROP_LOG_INTERVAL = 10000;
+    private static final long CLOSE_POLL_INTERVAL = 10;
+    private static ExecutorService sharedExecutor;
+    private static int sharedExecutorUsers;
+
+    public enum OverflowPolicy {
+        /**
+         * Remove the oldest queued audit to enqueue the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Discard the new audit.
+         */
+        DROP_NEWEST
+    }
+
+    private final BlockingQueue<Entry> queue;
+    private final int batchSize;
+    private final int consumers;
+    private final OverflowPolicy overflowPolicy;
+    private final Consumer<List<AuditBuilder>> dispatcher;
+    private final Executor executor;
+    private final boolean sharedExecutorOwner;
+    private final AtomicInteger drainers = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong lastLatency = new AtomicLong();
+    private final AtomicLong maxLatency = new AtomicLong();
+    private volatile boolean closed;
+
+    public AuditPipeline(int capacity, int batchSize, int consumers, OverflowPolicy overflowPolicy, Consumer<List<AuditBuilder>> dispatcher) {
+        this(capacity, batchSize, consumers, overflowPolicy, dispatcher, acquireSharedExecutor(), true);
+    }
+
+    AuditPipeline(int capacity, int batchSize, int consumers, OverflowPolicy overflowPolicy, Consumer<List<AuditBuilder>> dispatcher, Executor executor) {
+        this(capacity, batchSize, consumers, overflowPolicy, dispatcher, executor, false);
+    }
+
+    private AuditPipeline(int capacity, int batchSize, int consumers, OverflowPolicy overflowPolicy, Consumer<List<AuditBuilder>> dispatcher,
+                          Executor executor, boolean sharedExecutorOwner) {
+        // linked queue so that the memory is not allocated up-front for each security domain
+        this.queue = new LinkedBlockingQueue<>(capacity);
+        this.batchSize = Math.max(1, batchSize);
+        this.consumers = Math.max(1, consumers);
+        this.overflowPolicy = overflowPolicy;
+        this.dispatcher = dispatcher;
+        this.executor = executor;
+        this.sharedExecutorOwner = sharedExecutorOwner;
+    }
+
+    /**
+     * Enqueue an audit to report.
+     *
+     * @param auditBuilder audit to report
+     * @return <code>false</code> if the audit has been dropped
+     */
+    public boolean offer(AuditBuilder auditBuilder) {
+        if (closed) {
+            drop();
+            return false;
+        }
+
+        Entry entry = new Entry(auditBuilder);
+        boolean enqueued;
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                while (!queue.offer(entry)) {
+                    if (queue.poll() != null) {
+                        drop();
+                    }
+                }
+                enqueued = true;
+                break;
+            default:
+                enqueued = queue.offer(entry);
+        }
+
+        if (!enqueued) {
+            drop();
+            return false;
+        }
+        schedule();
+        return true;
+    }
+
+    /**
+     * Stop accepting audits and wait for the queued ones to be dispatched.
+     *
+     * @param timeout maximum time to wait in milliseconds
+     */
+    public synchronized void close(long timeout) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        long deadline = System.currentTimeMillis() + timeout;
+        try {
+            while ((!queue.isEmpty() || drainers.get() > 0) && System.currentTimeMillis() < deadline) {
+                schedule();
+                Thread.sleep(CLOSE_POLL_INTERVAL);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!queue.isEmpty()) {
+            logger.warn("{} audits have not been reported before the shutdown", queue.size());
+            queue.clear();
+        }
+
+        if (sharedExecutorOwner) {
+            releaseSharedExecutor();
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    public long getDispatched() {
+        return dispatched.get();
+    }
+
+    /**
+     * @return time in milliseconds between the enqueuing and the dispatch of the last audit
+     */
+    public long getLastLatency() {
+        return lastLatency.get();
+    }
+
+    /**
+     * @return maximum time in milliseconds between the enqueuing and the dispatch of an audit
+     */
+    public long getMaxLatency() {
+        return maxLatency.get();
+    }
+
+    private void schedule() {
+        int active;
+        while ((active = drainers.get()) < consumers) {
+            if (drainers.compareAndSet(active, active + 1)) {
+                executor.execute(this::drain);
+                return;
+            }
+        }
+    }
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+        try {
+            // limit the batches per task so that the busy pipelines do not starve the other ones
+            for (int i = 0; i < MAX_BATCHES_PER_DRAIN && queue.drainTo(batch, batchSize) > 0; i++) {
+                dispatch(batch);
+                batch.clear();
+            }
+        } finally {
+            drainers.decrementAndGet();
+        }
+
+        // audits may have been enqueued after the last batch
+        if (!queue.isEmpty()) {
+            schedule();
+        }
+    }
+
+    private void dispatch(List<Entry> batch) {
+        List<AuditBuilder> auditBuilders = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            auditBuilders.add(entry.auditBuilder);
+        }
+
+        try {
+            dispatcher.accept(auditBuilders);
+            dispatched.addAndGet(batch.size());
+        } catch (Exception ex) {
+            logger.error("Unable to report {} audits", batch.size(), ex);
+        }
+
+        // the oldest audit of the batch gives the maximum latency
+        long now = System.nanoTime();
+        lastLatency.set(TimeUnit.NANOSECONDS.toMillis(now - batch.get(batch.size() - 1).enqueuedAt));
+        maxLatency.accumulateAndGet(TimeUnit.NANOSECONDS.toMillis(now - batch.get(0).enqueuedAt), Math::max);
+    }
+
+    private static synchronized Executor acquireSharedExecutor() {
+        if (sharedExecutor == null) {
+            sharedExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), new ThreadFactory());
+        }
+        sharedExecutorUsers++;
+        return sharedExecutor;
+    }
+
+    private static synchronized void releaseSharedExecutor() {
+        if (--sharedExecutorUsers == 0) {
+            sharedExecutor.shutdown();
+            sharedExecutor = null;
+        }
+    }
+
+    private void drop() {
+        long count = dropped.incrementAndGet();
+        if (count % DROP_LOG_INTERVAL == 1) {
+            logger.warn("{} audits have been dropped so far, the audit queue is full or closed", count);
+        }
+    }
+
+    private static class Entry {
+
+        private final AuditBuilder auditBuilder;
+        private final long enqueuedAt = System.nanoTime();
+
+        private Entry(AuditBuilder auditBuilder) {
+            this.auditBuilder = auditBuilder;
+        }
+    }
+
+    private static class ThreadFactory implements java.util.concurrent.ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "audit-pipeline-" + counter.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
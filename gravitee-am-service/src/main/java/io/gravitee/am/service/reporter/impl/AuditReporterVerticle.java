@@ -17,14 +17,16 @@ package io.gravitee.am.service.reporter.impl;
 
 import io.gravitee.am.reporter.api.Reportable;
 import io.gravitee.am.service.reporter.AuditReporterService;
+import io.gravitee.am.service.reporter.vertx.EventBusReporterWrapper;
 import io.gravitee.node.reporter.vertx.eventbus.ReportableMessageCodec;
 import io.vertx.core.eventbus.DeliveryOptions;
 import io.vertx.reactivex.core.AbstractVerticle;
-import io.vertx.reactivex.core.eventbus.MessageProducer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * @author Titouan COMPIEGNE (titouan.compiegne at graviteesource.com)
  * @author GraviteeSource Team
@@ -33,30 +35,39 @@ import org.springframework.stereotype.Component;
 public class AuditReporterVerticle extends AbstractVerticle implements AuditReporterService {
 
     public static final Logger LOGGER = LoggerFactory.getLogger(AuditReporterVerticle.class);
-    private static final String EVENT_BUS_ADDRESS = "node:audits";
-    private MessageProducer<Reportable> producer;
+    private volatile DeliveryOptions deliveryOptions;
 
     @Override
     public void start() throws Exception {
-        producer = vertx.eventBus()
-                .<Reportable>publisher(
-                        EVENT_BUS_ADDRESS,
-                        new DeliveryOptions()
-                                .setCodecName(ReportableMessageCodec.CODEC_NAME))
-                .exceptionHandler(
-                        throwable -> LOGGER.error("Unexpected error while sending a reportable element", throwable));
+        deliveryOptions = new DeliveryOptions().setCodecName(ReportableMessageCodec.CODEC_NAME);
     }
 
     @Override
     public void stop() throws Exception {
-        if (producer != null) {
-            producer.close();
-        }
+        deliveryOptions = null;
     }
 
     public void report(Reportable reportable) {
-        if (producer != null) {
-            producer.write(reportable);
+        final DeliveryOptions deliveryOptions = this.deliveryOptions;
+        if (deliveryOptions != null) {
+            publish(reportable, deliveryOptions);
+        }
+    }
+
+    @Override
+    public void report(List<Reportable> reportables) {
+        final DeliveryOptions deliveryOptions = this.deliveryOptions;
+        if (deliveryOptions != null) {
+            reportables.forEach(reportable -> publish(reportable, deliveryOptions));
+        }
+    }
+
+    private void publish(Reportable reportable, DeliveryOptions deliveryOptions) {
+        try {
+            // publish on the address of the reference so that only its reporters receive the reportable element
+            vertx.eventBus().publish(EventBusReporterWrapper.address(reportable.getReferenceType(), reportable.getReferenceId()), reportable, deliveryOptions);
+        } catch (Exception ex) {
+            LOGGER.error("Unexpected error while sending a reportable element", ex);
         }
     }
 }
@@ -63,6 +63,21 @@ public class EventBusReporterWrapper implements Reporter, Handler<Message<Report
         this.reporter = reporter;
     }
 
+    /**
+     * Event bus address of the reportable elements of a given reference.
+     * Domain reportable elements are published on a dedicated address so that they only reach the reporters of their domain.
+     *
+     * @param referenceType type of the reference
+     * @param referenceId id of the reference
+     * @return the event bus address to publish or consume the reportable elements
+     */
+    public static String address(ReferenceType referenceType, String referenceId) {
+        if (referenceType == ReferenceType.DOMAIN) {
+            return EVENT_BUS_ADDRESS + ':' + referenceId;
+        }
+        return EVENT_BUS_ADDRESS;
+    }
+
     @Override
     public void handle(Message<Reportable> reportableMsg) {
         Reportable reportable = reportableMsg.body();
@@ -121,7 +136,7 @@ public class EventBusReporterWrapper implements Reporter, Handler<Message<Report
             }
         }, event -> {
             if (event.succeeded()) {
-                messageConsumer = vertx.eventBus().consumer(EVENT_BUS_ADDRESS, EventBusReporterWrapper.this);
+                messageConsumer = vertx.eventBus().consumer(address(referenceType, referenceId), EventBusReporterWrapper.this);
             }
         });
 
@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.utils;
+
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.event.Payload;
+import io.gravitee.am.repository.management.api.search.LoginAttemptCriteria;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Convert the login attempt criteria to and from the payload of the login attempt events,
+ * these events notify the gateways when an account is locked or its login attempts are reset.
+ *
+ * @author GraviteeSource Team
+ */
+public class LoginAttemptPayloadUtils {
+
+    private static final String CLIENT = "client";
+    private static final String IDENTITY_PROVIDER = "identityProvider";
+    private static final String USERNAME = "username";
+    private static final String EXPIRE_AT = "expireAt";
+    private static final String ORIGIN = "origin";
+
+    private LoginAttemptPayloadUtils() {
+    }
+
+    public static Payload create(LoginAttemptCriteria criteria, Action action) {
+        Payload payload = new Payload(id(criteria), ReferenceType.DOMAIN, criteria.domain(), action);
+        payload.put(CLIENT, criteria.client());
+        payload.put(IDENTITY_PROVIDER, criteria.identityProvider());
+        payload.put(USERNAME, criteria.username());
+        return payload;
+    }
+
+    public static Payload create(LoginAttemptCriteria criteria, Action action, long expireAt, String origin) {
+        Payload payload = create(criteria, action);
+        payload.put(EXPIRE_AT, expireAt);
+        payload.put(ORIGIN, origin);
+        return payload;
+    }
+
+    /**
+     * The gateways only keep the latest event by type and payload id, the id identifies the account so that the events
+     * of different accounts are not collapsed while the latest event of an account prevails.
+     *
+     * @return a name based identifier of the account targeted by the criteria
+     */
+    public static String id(LoginAttemptCriteria criteria) {
+        final String account = criteria.domain() + '\u0000' + criteria.client() + '\u0000' + criteria.identityProvider() + '\u0000' + criteria.username();
+        return UUID.nameUUIDFromBytes(account.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    public static LoginAttemptCriteria criteria(Payload payload) {
+        return new LoginAttemptCriteria.Builder()
+                .domain(payload.getReferenceId())
+                .client((String) payload.get(CLIENT))
+                .identityProvider((String) payload.get(IDENTITY_PROVIDER))
+                .username((String) payload.get(USERNAME))
+                .build();
+    }
+
+    /**
+     * @return the end of the account lock in milliseconds, 0 if unknown
+     */
+    public static long expireAt(Payload payload) {
+        Object expireAt = payload.get(EXPIRE_AT);
+        return expireAt instanceof Number ? ((Number) expireAt).longValue() : 0L;
+    }
+
+    /**
+     * @return the identifier of the gateway component which has published the event
+     */
+    public static String origin(Payload payload) {
+        return (String) payload.get(ORIGIN);
+    }
+}
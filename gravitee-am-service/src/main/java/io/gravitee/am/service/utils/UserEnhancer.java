@@ -0,0 +1,93 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.utils;
+
+import io.gravitee.am.model.Group;
+import io.gravitee.am.model.Role;
+import io.gravitee.am.model.User;
+import io.gravitee.am.service.exception.AbstractManagementException;
+import io.gravitee.am.service.exception.TechnicalManagementException;
+import io.reactivex.Single;
+import io.reactivex.functions.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Set the groups and the roles of a user, the management API resolves them from the repositories and the gateway
+ * from the domain caches.
+ *
+ * @author GraviteeSource Team
+ */
+public final class UserEnhancer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(UserEnhancer.class);
+
+    private UserEnhancer() {
+    }
+
+    /**
+     * @param user the user to enhance
+     * @param groupsByMember lookup of the groups the user is member of
+     * @param rolesByIds lookup of the roles by their identifiers
+     * @return the user with its groups and the permissions of its roles and the roles of its groups
+     */
+    public static Single<User> enhance(User user,
+                                       Function<String, Single<List<Group>>> groupsByMember,
+                                       Function<List<String>, Single<Set<Role>>> rolesByIds) {
+        LOGGER.debug("Enhance user {}", user.getId());
+
+        return Single.defer(() -> groupsByMember.apply(user.getId()))
+                .flatMap(groups -> {
+                    Set<String> roles = new HashSet<>();
+                    if (groups != null && !groups.isEmpty()) {
+                        // set groups
+                        user.setGroups(groups.stream().map(Group::getName).collect(Collectors.toList()));
+                        // set groups roles
+                        roles.addAll(groups
+                                .stream()
+                                .filter(group -> group.getRoles() != null && !group.getRoles().isEmpty())
+                                .flatMap(group -> group.getRoles().stream())
+                                .collect(Collectors.toSet()));
+                    }
+                    // get user roles
+                    if (user.getRoles() != null && !user.getRoles().isEmpty()) {
+                        roles.addAll(user.getRoles());
+                    }
+                    // fetch roles information and enhance user data
+                    if (!roles.isEmpty()) {
+                        return rolesByIds.apply(new ArrayList<>(roles))
+                                .map(roles1 -> {
+                                    user.setRolesPermissions(roles1);
+                                    return user;
+                                });
+                    }
+                    return Single.just(user);
+                })
+                .onErrorResumeNext(ex -> {
+                    if (ex instanceof AbstractManagementException) {
+                        return Single.error(ex);
+                    }
+                    LOGGER.error("An error occurs while trying to enhance user {}", user.getId(), ex);
+                    return Single.error(new TechnicalManagementException(String.format("An error occurs while trying to enhance user %s", user.getId()), ex));
+                });
+    }
+}
@@ -67,6 +67,9 @@ public class GroupServiceTest {
     @Mock
     private EventService eventService;
 
+    @Mock
+    private PermissionCache permissionCache;
+
     private final static String DOMAIN = "domain1";
 
     @Test
@@ -214,6 +217,7 @@ public class GroupServiceTest {
 
         verify(groupRepository, times(1)).findById(ReferenceType.DOMAIN, DOMAIN, "my-group");
         verify(groupRepository, times(1)).update(any(Group.class));
+        verify(permissionCache, times(1)).invalidateAll();
     }
 
     @Test
@@ -253,6 +257,7 @@ public class GroupServiceTest {
         testObserver.assertNoErrors();
 
         verify(groupRepository, times(1)).delete("my-group");
+        verify(permissionCache, times(1)).invalidateAll();
     }
 
     @Test
@@ -298,6 +303,7 @@ public class GroupServiceTest {
         when(groupRepository.findById(eq(ReferenceType.DOMAIN), eq(DOMAIN), eq("group-id"))).thenReturn(Maybe.just(group));
         when(roleService.findByIdIn(rolesIds)).thenReturn(Single.just(roles));
         when(groupRepository.update(any())).thenReturn(Single.just(new Group()));
+        when(eventService.create(any())).thenReturn(Single.just(new Event()));
 
         TestObserver testObserver = groupService.assignRoles(ReferenceType.DOMAIN, DOMAIN, group.getId(), rolesIds).test();
         testObserver.assertComplete();
@@ -347,6 +353,7 @@ public class GroupServiceTest {
         when(groupRepository.findById(eq(ReferenceType.DOMAIN), eq(DOMAIN), eq("group-id"))).thenReturn(Maybe.just(group));
         when(roleService.findByIdIn(rolesIds)).thenReturn(Single.just(roles));
         when(groupRepository.update(any())).thenReturn(Single.just(new Group()));
+        when(eventService.create(any())).thenReturn(Single.just(new Event()));
 
         TestObserver testObserver = groupService.revokeRoles(ReferenceType.DOMAIN, DOMAIN, group.getId(), rolesIds).test();
         testObserver.assertComplete();
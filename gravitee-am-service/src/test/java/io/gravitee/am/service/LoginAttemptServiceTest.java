@@ -15,11 +15,15 @@
  */
 package io.gravitee.am.service;
 
+import io.gravitee.am.common.event.Action;
+import io.gravitee.am.common.event.Type;
 import io.gravitee.am.model.LoginAttempt;
 import io.gravitee.am.model.account.AccountSettings;
+import io.gravitee.am.model.common.event.Event;
 import io.gravitee.am.repository.management.api.LoginAttemptRepository;
 import io.gravitee.am.repository.management.api.search.LoginAttemptCriteria;
 import io.gravitee.am.service.impl.LoginAttemptServiceImpl;
+import io.reactivex.Completable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
 import io.reactivex.observers.TestObserver;
@@ -29,6 +33,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -44,6 +51,9 @@ public class LoginAttemptServiceTest {
     @Mock
     private LoginAttemptRepository loginAttemptRepository;
 
+    @Mock
+    private EventService eventService;
+
     @Test
     public void shouldCreateUser_accountLockFirstConnection() {
         final LoginAttemptCriteria loginAttemptCriteria = new LoginAttemptCriteria.Builder()
@@ -93,4 +103,23 @@ public class LoginAttemptServiceTest {
         testObserver.awaitTerminalEvent();
         testObserver.assertNoErrors();
     }
+
+    @Test
+    public void shouldReset_notifyGateways() {
+        final LoginAttemptCriteria loginAttemptCriteria = new LoginAttemptCriteria.Builder()
+                .domain("domain-1")
+                .username("user-1")
+                .build();
+
+        when(loginAttemptRepository.delete(loginAttemptCriteria)).thenReturn(Completable.complete());
+        when(eventService.create(any())).thenReturn(Single.just(new Event()));
+
+        TestObserver testObserver = loginAttemptService.reset(loginAttemptCriteria).test();
+        testObserver.awaitTerminalEvent();
+        testObserver.assertNoErrors();
+
+        verify(eventService).create(argThat(event -> event.getType() == Type.LOGIN_ATTEMPT
+                && event.getPayload().getAction() == Action.DELETE
+                && "domain-1".equals(event.getPayload().getReferenceId())));
+    }
 }
@@ -22,6 +22,7 @@ import io.gravitee.am.model.permissions.SystemRole;
 import io.gravitee.am.repository.management.api.MembershipRepository;
 import io.gravitee.am.service.exception.*;
 import io.gravitee.am.service.impl.MembershipServiceImpl;
+import io.reactivex.Completable;
 import io.reactivex.Flowable;
 import io.reactivex.Maybe;
 import io.reactivex.Single;
@@ -33,6 +34,7 @@ import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 /**
@@ -66,6 +68,9 @@ public class MembershipServiceTest {
     @Mock
     private MembershipRepository membershipRepository;
 
+    @Mock
+    private PermissionCache permissionCache;
+
     @Test
     public void shouldCreate_userMembership() {
 
@@ -89,7 +94,46 @@ public class MembershipServiceTest {
         when(userService.findById(ReferenceType.ORGANIZATION, ORGANIZATION_ID, membership.getMemberId())).thenReturn(Single.just(user));
         when(roleService.findById(role.getId())).thenReturn(Maybe.just(role));
         when(membershipRepository.findByReferenceAndMember(membership.getReferenceType(), membership.getReferenceId(), membership.getMemberType(), membership.getMemberId())).thenReturn(Maybe.empty());
-        when(membershipRepository.create(any())).thenReturn(Single.just(new Membership()));
+        when(membershipRepository.create(any())).thenReturn(Single.just(membership));
+        when(eventService.create(any())).thenReturn(Single.just(new Event()));
+
+        TestObserver testObserver = membershipService.addOrUpdate(ORGANIZATION_ID, membership).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+
+        verify(permissionCache, times(1)).invalidate(ReferenceType.DOMAIN, DOMAIN_ID);
+    }
+
+    @Test
+    public void shouldUpdate_userMembership() {
+
+        Membership membership = new Membership();
+        membership.setReferenceId(DOMAIN_ID);
+        membership.setReferenceType(ReferenceType.DOMAIN);
+        membership.setMemberId("user-id");
+        membership.setMemberType(MemberType.USER);
+        membership.setRoleId("role-id");
+
+        Membership existingMembership = new Membership(membership);
+        existingMembership.setId("membership-id");
+        existingMembership.setRoleId("old-role-id");
+
+        User user = new User();
+        user.setReferenceId(ORGANIZATION_ID);
+        user.setReferenceType(ReferenceType.ORGANIZATION);
+
+        Role role = new Role();
+        role.setId("role-id");
+        role.setReferenceId(DOMAIN_ID);
+        role.setReferenceType(ReferenceType.DOMAIN);
+        role.setAssignableType(ReferenceType.DOMAIN);
+
+        when(userService.findById(ReferenceType.ORGANIZATION, ORGANIZATION_ID, membership.getMemberId())).thenReturn(Single.just(user));
+        when(roleService.findById(role.getId())).thenReturn(Maybe.just(role));
+        when(membershipRepository.findByReferenceAndMember(membership.getReferenceType(), membership.getReferenceId(), membership.getMemberType(), membership.getMemberId())).thenReturn(Maybe.just(existingMembership));
+        when(membershipRepository.update(argThat(m -> "role-id".equals(m.getRoleId())))).thenReturn(Single.just(membership));
         when(eventService.create(any())).thenReturn(Single.just(new Event()));
 
         TestObserver testObserver = membershipService.addOrUpdate(ORGANIZATION_ID, membership).test();
@@ -97,6 +141,32 @@ public class MembershipServiceTest {
 
         testObserver.assertComplete();
         testObserver.assertNoErrors();
+
+        verify(permissionCache, times(1)).invalidate(ReferenceType.DOMAIN, DOMAIN_ID);
+    }
+
+    @Test
+    public void shouldDelete() {
+
+        Membership membership = new Membership();
+        membership.setId("membership-id");
+        membership.setReferenceId(DOMAIN_ID);
+        membership.setReferenceType(ReferenceType.DOMAIN);
+        membership.setMemberId("user-id");
+        membership.setMemberType(MemberType.USER);
+        membership.setRoleId("role-id");
+
+        when(membershipRepository.findById(membership.getId())).thenReturn(Maybe.just(membership));
+        when(membershipRepository.delete(membership.getId())).thenReturn(Completable.complete());
+        when(eventService.create(any())).thenReturn(Single.just(new Event()));
+
+        TestObserver testObserver = membershipService.delete(membership.getId()).test();
+        testObserver.awaitTerminalEvent();
+
+        testObserver.assertComplete();
+        testObserver.assertNoErrors();
+
+        verify(permissionCache, times(1)).invalidate(ReferenceType.DOMAIN, DOMAIN_ID);
     }
 
     @Test
@@ -195,6 +265,7 @@ public class MembershipServiceTest {
         testObserver.assertError(UserNotFoundException.class);
 
         verify(membershipRepository, never()).create(any());
+        verify(permissionCache, never()).invalidate(any(), any());
     }
 
     @Test
@@ -69,6 +69,9 @@ public class RoleServiceTest {
     @Mock
     private EventService eventService;
 
+    @Mock
+    private PermissionCache permissionCache;
+
     private final static String DOMAIN = "domain1";
 
     @Test
@@ -220,6 +223,7 @@ public class RoleServiceTest {
         verify(roleRepository, times(1)).findById(ReferenceType.DOMAIN, DOMAIN, "my-role");
         verify(roleRepository, times(1)).findAll(ReferenceType.DOMAIN, DOMAIN);
         verify(roleRepository, times(1)).update(any(Role.class));
+        verify(permissionCache, times(1)).invalidateAll();
     }
 
     @Test
@@ -407,5 +411,6 @@ public class RoleServiceTest {
         testObserver.assertNoErrors();
 
         verify(roleRepository, times(1)).delete("my-role");
+        verify(permissionCache, times(1)).invalidateAll();
     }
 }
@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.authentication.crypto.password;
+
+import io.gravitee.am.service.authentication.crypto.password.argon2.Argon2PasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.bcrypt.BCryptPasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.pbkdf2.Pbkdf2PasswordEncoder;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class PasswordEncodersTest {
+
+    private static final String PASSWORD = "s3cr3tP@ssword";
+
+    @Test
+    public void shouldEncodeAndMatch_pbkdf2() {
+        PasswordEncoder passwordEncoder = new Pbkdf2PasswordEncoder(1000);
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        Assert.assertTrue(encodedPassword.startsWith(Pbkdf2PasswordEncoder.PREFIX));
+        Assert.assertNotEquals(encodedPassword, passwordEncoder.encode(PASSWORD));
+        Assert.assertTrue(passwordEncoder.matches(PASSWORD, encodedPassword));
+        Assert.assertFalse(passwordEncoder.matches("wrong", encodedPassword));
+        Assert.assertFalse(passwordEncoder.matches(PASSWORD, "$pbkdf2-sha256$invalid"));
+    }
+
+    @Test
+    public void shouldEncodeAndMatch_argon2id() {
+        PasswordEncoder passwordEncoder = new Argon2PasswordEncoder(1024, 1, 1);
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        Assert.assertTrue(encodedPassword.startsWith(Argon2PasswordEncoder.PREFIX + "v=19$m=1024,t=1,p=1$"));
+        Assert.assertTrue(passwordEncoder.matches(PASSWORD, encodedPassword));
+        Assert.assertFalse(passwordEncoder.matches("wrong", encodedPassword));
+        Assert.assertFalse(passwordEncoder.matches(PASSWORD, "$argon2id$invalid"));
+    }
+
+    @Test
+    public void shouldUpgradeEncoding_lowerCost() {
+        Assert.assertTrue(new BCryptPasswordEncoder(5).upgradeEncoding(new BCryptPasswordEncoder(4).encode(PASSWORD)));
+        Assert.assertFalse(new BCryptPasswordEncoder(4).upgradeEncoding(new BCryptPasswordEncoder(5).encode(PASSWORD)));
+
+        Assert.assertTrue(new Pbkdf2PasswordEncoder(2000).upgradeEncoding(new Pbkdf2PasswordEncoder(1000).encode(PASSWORD)));
+        Assert.assertFalse(new Pbkdf2PasswordEncoder(1000).upgradeEncoding(new Pbkdf2PasswordEncoder(1000).encode(PASSWORD)));
+
+        Assert.assertTrue(new Argon2PasswordEncoder(2048, 1, 1).upgradeEncoding(new Argon2PasswordEncoder(1024, 1, 1).encode(PASSWORD)));
+        Assert.assertFalse(new Argon2PasswordEncoder(1024, 1, 1).upgradeEncoding(new Argon2PasswordEncoder(1024, 1, 1).encode(PASSWORD)));
+    }
+
+    @Test
+    public void shouldMatchLegacyHashes_andRequestRehash() {
+        PasswordEncoder passwordEncoder = new MigratingPasswordEncoder(new Argon2PasswordEncoder(1024, 1, 1));
+        String bcryptPassword = new BCryptPasswordEncoder(4).encode(PASSWORD);
+        String pbkdf2Password = new Pbkdf2PasswordEncoder(1000).encode(PASSWORD);
+
+        Assert.assertTrue(passwordEncoder.matches(PASSWORD, bcryptPassword));
+        Assert.assertTrue(passwordEncoder.upgradeEncoding(bcryptPassword));
+        Assert.assertTrue(passwordEncoder.matches(PASSWORD, pbkdf2Password));
+        Assert.assertTrue(passwordEncoder.upgradeEncoding(pbkdf2Password));
+
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        Assert.assertTrue(encodedPassword.startsWith(Argon2PasswordEncoder.PREFIX));
+        Assert.assertTrue(passwordEncoder.matches(PASSWORD, encodedPassword));
+        Assert.assertFalse(passwordEncoder.upgradeEncoding(encodedPassword));
+    }
+
+    @Test
+    public void shouldCreatePasswordEncoder() {
+        Assert.assertTrue(((MigratingPasswordEncoder) PasswordEncoders.create(PasswordEncoders.BCRYPT, 4, null)).getPasswordEncoder() instanceof BCryptPasswordEncoder);
+        Assert.assertTrue(((MigratingPasswordEncoder) PasswordEncoders.create(PasswordEncoders.PBKDF2, 1000, null)).getPasswordEncoder() instanceof Pbkdf2PasswordEncoder);
+        Assert.assertTrue(((MigratingPasswordEncoder) PasswordEncoders.create(PasswordEncoders.ARGON2ID, 1, 1024)).getPasswordEncoder() instanceof Argon2PasswordEncoder);
+        Assert.assertSame(NoOpPasswordEncoder.getInstance(), PasswordEncoders.create(PasswordEncoders.NONE, null, null));
+        Assert.assertSame(NoOpPasswordEncoder.getInstance(), PasswordEncoders.create(null, null, null));
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.authentication.crypto.password;
+
+import io.gravitee.am.service.authentication.crypto.password.argon2.Argon2PasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.bcrypt.BCryptPasswordEncoder;
+import io.gravitee.am.service.authentication.crypto.password.pbkdf2.Pbkdf2PasswordEncoder;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Measure the password hashing throughput of each algorithm with its default cost and the login latency
+ * under a sustained load of 1000 logins per second.
+ * Only run with the <code>benchmark</code> profile: <code>mvn test -Pbenchmark</code>
+ *
+ * @author GraviteeSource Team
+ */
+public class PasswordHashingBenchmarkTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PasswordHashingBenchmarkTest.class);
+    private static final String PASSWORD = "s3cr3tP@ssword";
+    private static final int ITERATIONS = 200;
+    private static final int LOGINS_PER_SECOND = 1_000;
+    private static final int DURATION_SECONDS = Integer.getInteger("benchmark.duration", 60);
+
+    private PasswordHashingExecutor executor;
+
+    @Before
+    public void setUp() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        executor = new PasswordHashingExecutor(processors, processors * 32);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldMeasureThroughputPerAlgorithm() {
+        Map<String, PasswordEncoder> passwordEncoders = new LinkedHashMap<>();
+        passwordEncoders.put("BCrypt", new BCryptPasswordEncoder());
+        passwordEncoders.put("PBKDF2", new Pbkdf2PasswordEncoder());
+        passwordEncoders.put("Argon2id", new Argon2PasswordEncoder());
+
+        passwordEncoders.forEach((name, passwordEncoder) -> {
+            String encodedPassword = passwordEncoder.encode(PASSWORD);
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                Assert.assertTrue(passwordEncoder.matches(PASSWORD, encodedPassword));
+            }
+            long elapsed = System.nanoTime() - start;
+            LOGGER.info("{} : {} ops/s, {} µs/op", name,
+                    ITERATIONS * TimeUnit.SECONDS.toNanos(1) / elapsed,
+                    TimeUnit.NANOSECONDS.toMicros(elapsed / ITERATIONS));
+        });
+    }
+
+    @Test
+    public void shouldKeepLatencyBoundedUnderLoad() throws Exception {
+        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        int logins = LOGINS_PER_SECOND * DURATION_SECONDS;
+        long interval = TimeUnit.SECONDS.toNanos(1) / LOGINS_PER_SECOND;
+        long[] latencies = new long[logins];
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger shed = new AtomicInteger();
+        CountDownLatch latch = new CountDownLatch(logins);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < logins; i++) {
+            // pace the logins
+            LockSupport.parkNanos(start + i * interval - System.nanoTime());
+            long submittedAt = System.nanoTime();
+            executor.matches(passwordEncoder, PASSWORD, encodedPassword).subscribe(
+                    matches -> {
+                        latencies[completed.getAndIncrement()] = System.nanoTime() - submittedAt;
+                        latch.countDown();
+                    },
+                    error -> {
+                        shed.incrementAndGet();
+                        latch.countDown();
+                    });
+        }
+        Assert.assertTrue(latch.await(60, TimeUnit.SECONDS));
+
+        long[] sorted = Arrays.copyOf(latencies, completed.get());
+        Arrays.sort(sorted);
+        LOGGER.info("{} logins/s during {}s : {} completed, {} shed, p50 {} µs, p99 {} µs, max queue wait {} ms",
+                LOGINS_PER_SECOND, DURATION_SECONDS, sorted.length, shed.get(),
+                TimeUnit.NANOSECONDS.toMicros(percentile(sorted, 50)),
+                TimeUnit.NANOSECONDS.toMicros(percentile(sorted, 99)),
+                executor.getMaxQueueWait());
+        Assert.assertEquals(logins, sorted.length + shed.get());
+    }
+
+    private static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)];
+    }
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.authentication.crypto.password;
+
+import io.gravitee.am.common.exception.authentication.InternalAuthenticationServiceException;
+import io.gravitee.am.service.authentication.crypto.password.pbkdf2.Pbkdf2PasswordEncoder;
+import io.reactivex.observers.TestObserver;
+import io.vertx.core.Vertx;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class PasswordHashingExecutorTest {
+
+    private static final String PASSWORD = "s3cr3tP@ssword";
+
+    private PasswordHashingExecutor executor;
+
+    @Before
+    public void setUp() {
+        executor = new PasswordHashingExecutor(1, 1);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldMatchOnWorkerThread() {
+        PasswordEncoder passwordEncoder = new Pbkdf2PasswordEncoder(1000) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                Assert.assertTrue(Thread.currentThread().getName().startsWith("password-hashing-"));
+                return super.matches(rawPassword, encodedPassword);
+            }
+        };
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        TestObserver<Boolean> observer = executor.matches(passwordEncoder, PASSWORD, encodedPassword).test();
+        observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        observer.assertValue(true);
+        Assert.assertEquals(1, executor.getExecuted());
+    }
+
+    @Test
+    public void shouldResumeOnCallerContext() throws Exception {
+        PasswordEncoder passwordEncoder = new Pbkdf2PasswordEncoder(1000);
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+        Vertx vertx = Vertx.vertx();
+        try {
+            CompletableFuture<String> resumedOn = new CompletableFuture<>();
+            vertx.runOnContext(v -> executor.matches(passwordEncoder, PASSWORD, encodedPassword)
+                    .observeOn(PasswordHashingExecutor.callerScheduler())
+                    .subscribe(matches -> resumedOn.complete(Thread.currentThread().getName()), resumedOn::completeExceptionally));
+
+            Assert.assertTrue(resumedOn.get(5, TimeUnit.SECONDS).startsWith("vert.x-eventloop-thread-"));
+        } finally {
+            vertx.close();
+        }
+    }
+
+    @Test
+    public void shouldEncodeOnWorkerThread() {
+        PasswordEncoder passwordEncoder = new Pbkdf2PasswordEncoder(1000);
+
+        TestObserver<String> observer = executor.encode(passwordEncoder, PASSWORD).test();
+        observer.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        observer.assertValue(encodedPassword -> passwordEncoder.matches(PASSWORD, encodedPassword));
+    }
+
+    @Test
+    public void shouldRejectWhenQueueIsFull() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new Pbkdf2PasswordEncoder(1000) {
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return true;
+            }
+        };
+
+        // one running operation and one queued operation
+        TestObserver<Boolean> running = executor.matches(blockingEncoder, PASSWORD, "").test();
+        Assert.assertTrue(started.await(5, TimeUnit.SECONDS));
+        TestObserver<Boolean> queued = executor.matches(blockingEncoder, PASSWORD, "").test();
+
+        // the next operation is shed
+        TestObserver<Boolean> rejected = executor.matches(blockingEncoder, PASSWORD, "").test();
+        rejected.assertError(InternalAuthenticationServiceException.class);
+        Assert.assertEquals(1, executor.getRejected());
+
+        release.countDown();
+        running.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        running.assertValue(true);
+        queued.awaitTerminalEvent(5, TimeUnit.SECONDS);
+        queued.assertValue(true);
+    }
+
+    @Test
+    public void shouldNotOffloadNoOpEncoder() {
+        TestObserver<Boolean> observer = executor.matches(NoOpPasswordEncoder.getInstance(), PASSWORD, PASSWORD).test();
+        observer.assertValue(true);
+        Assert.assertEquals(0, executor.getExecuted());
+    }
+}
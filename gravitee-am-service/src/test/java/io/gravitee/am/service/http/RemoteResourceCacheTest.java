@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.http;
+
+import io.reactivex.Single;
+import io.reactivex.observers.TestObserver;
+import io.reactivex.subjects.SingleSubject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * @author GraviteeSource Team
+ */
+@RunWith(JUnit4.class)
+public class RemoteResourceCacheTest {
+
+    private static final String KEY = "http://idp/jwks";
+
+    @Test
+    public void shouldFetchOnce_concurrentCalls() {
+        RemoteResourceCache<String> cache = new RemoteResourceCache<>("test");
+        AtomicInteger calls = new AtomicInteger();
+        SingleSubject<RemoteResourceCache.Resource<String>> response = SingleSubject.create();
+
+        TestObserver<String> first = cache.get(KEY, () -> {
+            calls.incrementAndGet();
+            return response;
+        }).test();
+        TestObserver<String> second = cache.get(KEY, () -> {
+            calls.incrementAndGet();
+            return response;
+        }).test();
+
+        first.assertNotComplete();
+        response.onSuccess(RemoteResourceCache.Resource.of("keys", "max-age=3600"));
+
+        first.assertResult("keys");
+        second.assertResult("keys");
+        assertEquals(1, calls.get());
+        assertEquals(1, cache.getFetches());
+    }
+
+    @Test
+    public void shouldServeFromCache_maxAge() {
+        RemoteResourceCache<String> cache = new RemoteResourceCache<>("test");
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get(KEY, () -> Single.just(RemoteResourceCache.Resource.of("keys-" + calls.incrementAndGet(), "public, max-age=3600"))).test().assertResult("keys-1");
+        cache.get(KEY, () -> Single.just(RemoteResourceCache.Resource.of("keys-" + calls.incrementAndGet(), "public, max-age=3600"))).test().assertResult("keys-1");
+
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+    }
+
+    @Test
+    public void shouldServeStale_fetchError() throws Exception {
+        RemoteResourceCache<String> cache = new RemoteResourceCache<>("test", 10, 0, 1000, 60000, 60000);
+
+        cache.get(KEY, () -> Single.just(RemoteResourceCache.Resource.of("keys", null))).test().assertResult("keys");
+        Thread.sleep(20);
+        cache.get(KEY, () -> Single.error(new IllegalStateException("unavailable"))).test().assertResult("keys");
+
+        assertEquals(1, cache.getFetchErrors());
+        assertEquals(1, cache.getStaleHits());
+    }
+
+    @Test
+    public void shouldNotCacheErrors() {
+        RemoteResourceCache<String> cache = new RemoteResourceCache<>("test");
+
+        cache.get(KEY, () -> Single.error(new IllegalStateException("unavailable"))).test().assertError(IllegalStateException.class);
+        cache.get(KEY, () -> Single.just(RemoteResourceCache.Resource.of("keys", null))).test().assertResult("keys");
+    }
+
+    @Test
+    public void shouldThrottleForcedRefresh() {
+        RemoteResourceCache<String> cache = new RemoteResourceCache<>("test");
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get(KEY, () -> Single.just(RemoteResourceCache.Resource.of("keys-" + calls.incrementAndGet(), null))).test().assertResult("keys-1");
+        cache.refresh(KEY, () -> Single.just(RemoteResourceCache.Resource.of("keys-" + calls.incrementAndGet(), null))).test().assertResult("keys-2");
+        cache.refresh(KEY, () -> Single.just(RemoteResourceCache.Resource.of("keys-" + calls.incrementAndGet(), null))).test().assertResult("keys-2");
+
+        assertEquals(2, calls.get());
+        assertEquals(1, cache.getThrottledRefreshes());
+    }
+
+    @Test
+    public void shouldParseCacheControl() {
+        assertEquals(-1, RemoteResourceCache.Resource.of("keys", null).getMaxAge());
+        assertEquals(600000, RemoteResourceCache.Resource.of("keys", "public, max-age=600").getMaxAge());
+        assertEquals(0, RemoteResourceCache.Resource.of("keys", "no-store").getMaxAge());
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.reporter.impl;
+
+import io.gravitee.am.service.reporter.builder.AuditBuilder;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class AuditPipelineTest {
+
+    private final List<AuditBuilder> dispatched = Collections.synchronizedList(new ArrayList<>());
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final Executor executor = tasks::add;
+
+    @Test
+    public void shouldDropNewest() {
+        AuditPipeline pipeline = new AuditPipeline(2, 10, 1, AuditPipeline.OverflowPolicy.DROP_NEWEST, dispatched::addAll, executor);
+        AuditBuilder audit1 = mock(AuditBuilder.class);
+        AuditBuilder audit2 = mock(AuditBuilder.class);
+        AuditBuilder audit3 = mock(AuditBuilder.class);
+
+        Assert.assertTrue(pipeline.offer(audit1));
+        Assert.assertTrue(pipeline.offer(audit2));
+        Assert.assertFalse(pipeline.offer(audit3));
+        Assert.assertEquals(2, pipeline.getQueueDepth());
+        Assert.assertEquals(1, pipeline.getDropped());
+
+        runTasks();
+        Assert.assertEquals(Arrays.asList(audit1, audit2), dispatched);
+        Assert.assertEquals(0, pipeline.getQueueDepth());
+        Assert.assertEquals(2, pipeline.getDispatched());
+    }
+
+    @Test
+    public void shouldDropOldest() {
+        AuditPipeline pipeline = new AuditPipeline(2, 10, 1, AuditPipeline.OverflowPolicy.DROP_OLDEST, dispatched::addAll, executor);
+        AuditBuilder audit1 = mock(AuditBuilder.class);
+        AuditBuilder audit2 = mock(AuditBuilder.class);
+        AuditBuilder audit3 = mock(AuditBuilder.class);
+
+        Assert.assertTrue(pipeline.offer(audit1));
+        Assert.assertTrue(pipeline.offer(audit2));
+        Assert.assertTrue(pipeline.offer(audit3));
+        Assert.assertEquals(1, pipeline.getDropped());
+
+        runTasks();
+        Assert.assertEquals(Arrays.asList(audit2, audit3), dispatched);
+    }
+
+    @Test
+    public void shouldLimitDrainTasks() {
+        AuditPipeline pipeline = new AuditPipeline(1000, 10, 2, AuditPipeline.OverflowPolicy.DROP_NEWEST, dispatched::addAll, executor);
+        for (int i = 0; i < 500; i++) {
+            pipeline.offer(mock(AuditBuilder.class));
+        }
+        Assert.assertEquals(2, tasks.size());
+
+        runTasks();
+        Assert.assertEquals(500, dispatched.size());
+        Assert.assertEquals(0, pipeline.getQueueDepth());
+    }
+
+    @Test
+    public void shouldDispatchBatches() {
+        List<Integer> batches = new ArrayList<>();
+        AuditPipeline pipeline = new AuditPipeline(1000, 100, 1, AuditPipeline.OverflowPolicy.DROP_NEWEST, auditBuilders -> {
+            batches.add(auditBuilders.size());
+            dispatched.addAll(auditBuilders);
+        }, executor);
+        for (int i = 0; i < 250; i++) {
+            pipeline.offer(mock(AuditBuilder.class));
+        }
+
+        runTasks();
+        Assert.assertEquals(Arrays.asList(100, 100, 50), batches);
+        Assert.assertEquals(250, pipeline.getDispatched());
+    }
+
+    @Test
+    public void shouldDispatchNextAudits_dispatchError() {
+        AuditBuilder audit1 = mock(AuditBuilder.class);
+        AuditBuilder audit2 = mock(AuditBuilder.class);
+        AuditPipeline pipeline = new AuditPipeline(10, 1, 1, AuditPipeline.OverflowPolicy.DROP_NEWEST, auditBuilders -> {
+            if (auditBuilders.contains(audit1)) {
+                throw new IllegalStateException();
+            }
+            dispatched.addAll(auditBuilders);
+        }, executor);
+
+        pipeline.offer(audit1);
+        pipeline.offer(audit2);
+        runTasks();
+
+        Assert.assertEquals(Collections.singletonList(audit2), dispatched);
+        Assert.assertEquals(1, pipeline.getDispatched());
+    }
+
+    @Test
+    public void shouldFlushOnClose() {
+        AuditPipeline pipeline = new AuditPipeline(10000, 100, 1, AuditPipeline.OverflowPolicy.DROP_NEWEST, dispatched::addAll);
+        for (int i = 0; i < 1000; i++) {
+            pipeline.offer(mock(AuditBuilder.class));
+        }
+
+        pipeline.close(10000);
+
+        Assert.assertEquals(1000, dispatched.size());
+        Assert.assertEquals(0, pipeline.getQueueDepth());
+        Assert.assertFalse(pipeline.offer(mock(AuditBuilder.class)));
+        Assert.assertEquals(1, pipeline.getDropped());
+    }
+
+    private void runTasks() {
+        // the drain tasks reschedule themselves while audits remain
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (C) 2015 The Gravitee team (http://gravitee.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.gravitee.am.service.reporter.vertx;
+
+import io.gravitee.am.common.analytics.Type;
+import io.gravitee.am.model.Platform;
+import io.gravitee.am.model.ReferenceType;
+import io.gravitee.am.model.common.Page;
+import io.gravitee.am.reporter.api.audit.model.Audit;
+import io.gravitee.am.reporter.api.provider.ReportableCriteria;
+import io.gravitee.am.reporter.api.provider.Reporter;
+import io.gravitee.am.service.reporter.impl.AuditReporterVerticle;
+import io.gravitee.common.service.AbstractService;
+import io.gravitee.node.reporter.vertx.eventbus.ReportableMessageCodec;
+import io.gravitee.reporter.api.Reportable;
+import io.reactivex.Maybe;
+import io.reactivex.Single;
+import io.vertx.reactivex.core.Vertx;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author GraviteeSource Team
+ */
+public class EventBusReporterWrapperTest {
+
+    private Vertx vertx;
+    private AuditReporterVerticle auditReporterVerticle;
+
+    @Before
+    public void setUp() {
+        vertx = Vertx.vertx();
+        auditReporterVerticle = deployAuditReporterVerticle(vertx);
+    }
+
+    @After
+    public void tearDown() {
+        vertx.close();
+    }
+
+    @Test
+    public void shouldReportAuditToItsDomainReportersOnly() throws Exception {
+        CountingReporter domain1Reporter = new CountingReporter();
+        CountingReporter domain2Reporter = new CountingReporter();
+        CountingReporter platformReporter = new CountingReporter();
+        new EventBusReporterWrapper(vertx, "domain-1", domain1Reporter).start();
+        new EventBusReporterWrapper(vertx, "domain-2", domain2Reporter).start();
+        new EventBusReporterWrapper(vertx, platformReporter).start();
+        awaitRegistration(auditReporterVerticle, Arrays.asList(domain1Reporter, domain2Reporter), Arrays.asList("domain-1", "domain-2"));
+        awaitRegistration(auditReporterVerticle, platformReporter, ReferenceType.PLATFORM, Platform.DEFAULT);
+
+        auditReporterVerticle.report(audit(ReferenceType.DOMAIN, "domain-1"));
+        auditReporterVerticle.report(audit(ReferenceType.DOMAIN, "domain-1"));
+        auditReporterVerticle.report(audit(ReferenceType.PLATFORM, Platform.DEFAULT));
+
+        awaitCount(domain1Reporter, 2);
+        awaitCount(platformReporter, 1);
+        Assert.assertEquals(0, domain2Reporter.count());
+    }
+
+    @Test
+    public void shouldPublishOnReferenceAddress() {
+        Assert.assertEquals("node:audits:domain-1", EventBusReporterWrapper.address(ReferenceType.DOMAIN, "domain-1"));
+        Assert.assertEquals("node:audits", EventBusReporterWrapper.address(ReferenceType.PLATFORM, Platform.DEFAULT));
+        Assert.assertEquals("node:audits", EventBusReporterWrapper.address(ReferenceType.ORGANIZATION, "DEFAULT"));
+    }
+
+    private static AuditReporterVerticle deployAuditReporterVerticle(Vertx vertx) {
+        vertx.eventBus().getDelegate().registerCodec(new ReportableMessageCodec());
+        AuditReporterVerticle auditReporterVerticle = new AuditReporterVerticle();
+        vertx.rxDeployVerticle(auditReporterVerticle).blockingGet();
+        return auditReporterVerticle;
+    }
+
+    private static Audit audit(ReferenceType referenceType, String referenceId) {
+        Audit audit = new Audit();
+        audit.setReferenceType(referenceType);
+        audit.setReferenceId(referenceId);
+        return audit;
+    }
+
+    /**
+     * The consumers are registered once the reporters are started, report audits until each reporter received one.
+     */
+    private static void awaitRegistration(AuditReporterVerticle verticle, List<CountingReporter> reporters, List<String> domains) throws InterruptedException {
+        for (int attempt = 0; attempt < 500; attempt++) {
+            boolean registered = true;
+            for (int i = 0; i < reporters.size(); i++) {
+                if (reporters.get(i).count() == 0) {
+                    registered = false;
+                    verticle.report(audit(ReferenceType.DOMAIN, domains.get(i)));
+                }
+            }
+            if (registered) {
+                reporters.forEach(CountingReporter::reset);
+                return;
+            }
+            Thread.sleep(10);
+        }
+        Assert.fail("Reporters have not been registered");
+    }
+
+    private static void awaitRegistration(AuditReporterVerticle verticle, CountingReporter reporter, ReferenceType referenceType, String referenceId) throws InterruptedException {
+        for (int attempt = 0; attempt < 500 && reporter.count() == 0; attempt++) {
+            verticle.report(audit(referenceType, referenceId));
+            Thread.sleep(10);
+        }
+        Assert.assertTrue("Reporter has not been registered", reporter.count() > 0);
+        reporter.reset();
+    }
+
+    private static void awaitCount(CountingReporter reporter, long expected) throws InterruptedException {
+        for (int attempt = 0; attempt < 1000 && reporter.count() < expected; attempt++) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(expected, reporter.count());
+    }
+
+    private static class CountingReporter extends AbstractService implements Reporter {
+
+        private final AtomicLong count = new AtomicLong();
+
+        @Override
+        public void report(Reportable reportable) {
+            count.incrementAndGet();
+        }
+
+        @Override
+        public Single<Page> search(ReferenceType referenceType, String referenceId, ReportableCriteria criteria, int page, int size) {
+            return Single.just(new Page(Collections.emptyList(), 0, 0));
+        }
+
+        @Override
+        public Single<Map<Object, Object>> aggregate(ReferenceType referenceType, String referenceId, ReportableCriteria criteria, Type analyticsType) {
+            return Single.just(Collections.emptyMap());
+        }
+
+        @Override
+        public Maybe findById(ReferenceType referenceType, String referenceId, String id) {
+            return Maybe.empty();
+        }
+
+        long count() {
+            return count.get();
+        }
+
+        void reset() {
+            count.set(0);
+        }
+    }
+}